@@ -0,0 +1,87 @@
+package com.IndieAn.GoFundIndie.Benchmark;
+
+import com.IndieAn.GoFundIndie.GoFundIndieApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 JVM 마다 한 번 애플리케이션을 띄운다. (web 포함, 임의 포트)
+// 카탈로그는 규모별 H2 파일 DB 에 DataGenerator 로 만들어 두고, 다음 fork / 실행에서는 다시 만들지 않는다.
+// (유저 : comment 10 개당 1 명, like / rating : comment 수 만큼)
+// 위치 : -Djmh.db.dir (기본 build/jmh-db)
+public final class CatalogContext {
+    private static ConfigurableApplicationContext context;
+    private static String scale;
+
+    private CatalogContext() {}
+
+    public static synchronized ConfigurableApplicationContext start(int boards, int comments) {
+        String requested = boards + "-" + comments;
+        if(context != null) {
+            if(requested.equals(scale)) return context;
+            context.close();
+        }
+
+        File dir = new File(System.getProperty("jmh.db.dir", "build/jmh-db"), "datagen-" + requested);
+        String url = "jdbc:h2:file:" + new File(dir, "catalog").getAbsolutePath() +
+                ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+        // 처음에는 스키마를 만들고 채운다. 이미 채워져 있으면 generator 는 건너뛴다.
+        List<String> args = args(url, dir, seeded(url) ? "none" : "create");
+        args.addAll(List.of(
+                "--gofundindie.datagen.enabled=true",
+                "--gofundindie.datagen.boards=" + boards,
+                "--gofundindie.datagen.users=" + Math.max(1000, comments / 10),
+                "--gofundindie.datagen.comments=" + comments,
+                "--gofundindie.datagen.likes=" + comments,
+                "--gofundindie.datagen.ratings=" + comments,
+                "--logging.level.com.IndieAn.GoFundIndie.Config.DataGenerator=INFO"));
+
+        context = SpringApplication.run(GoFundIndieApplication.class, args.toArray(new String[0]));
+        scale = requested;
+        return context;
+    }
+
+    public static synchronized void stop() {
+        if(context != null) context.close();
+        context = null;
+        scale = null;
+    }
+
+    private static boolean seeded(String url) {
+        try(Connection connection = DriverManager.getConnection(url + ";IFEXISTS=TRUE", "sa", "");
+            ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM comment")) {
+            return rs.next() && rs.getLong(1) > 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static List<String> args(String url, File dir, String ddlAuto) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.address=127.0.0.1", "--server.port=0", "--server.ssl.enabled=false",
+                "--gofundindie.server.address=127.0.0.1", "--gofundindie.server.port=0", "--gofundindie.management.port=0",
+                "--server.ssl.key-store=", "--server.ssl.key-store-type=PKCS12", "--server.ssl.key-store-password=",
+                "--gofundindie.info.location=classpath:info-placeholder.properties",
+                "--gofundindie.s3.region=ap-northeast-2",
+                "--gofundindie.s3.max-file-size=10MB", "--gofundindie.s3.max-request-size=10MB",
+                "--spring.jpa.database=h2", "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--db.url=" + url, "--db.username=sa", "--db.password=",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--spring.jpa.properties.hibernate.hbm2ddl.import_files=",
+                "--spring.jpa.show-sql=false",
+                "--gofundindie.like.write-behind=true",
+                "--gofundindie.like.log-dir=" + new File(dir, "board-like-log").getAbsolutePath(),
+                "--logging.level.root=WARN",
+                "--logging.level.com.IndieAn.GoFundIndie.Benchmark=INFO"));
+        return args;
+    }
+}
@@ -0,0 +1,168 @@
+package com.IndieAn.GoFundIndie.Benchmark;
+
+import com.IndieAn.GoFundIndie.Common.HangulChosungIndex;
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Repository.BoardIdSampler;
+import com.IndieAn.GoFundIndie.Repository.BoardRepository;
+import com.IndieAn.GoFundIndie.Repository.UserRepository;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.SearchBoardDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.WrappingRandomBoardsDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.WrappingSearchBoardDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.WrappingViewBoardDTO;
+import com.IndieAn.GoFundIndie.Resolvers.Querys.BoardQuery;
+import com.IndieAn.GoFundIndie.Resolvers.Querys.BoardSearchQuery;
+import com.IndieAn.GoFundIndie.Service.CommentService;
+import com.IndieAn.GoFundIndie.Service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 조회 hot path 기준선 : resolver / service 를 요청 처리 때와 같은 bean 으로 직접 부른다. (HTTP / GraphQL 파싱 제외)
+// 규모 : -p boards=10000 -p comments=1000000 (기본값)
+// 랜덤 추천 id 샘플링 / 초성 색인은 DB 없이 메모리 구조만 잰다. (-p approvedIds=100000 -p titles=100000)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-Dfile.encoding=UTF-8" })
+public class HotPathBenchmark {
+    private static final String[] SEARCH_WORDS = { "가", "하", "봄빛", "ㅎ", "ㅅㅇ", "별", "은하", "ㄱㄴ", "해" };
+    private static final String[] CHOSUNG_WORDS = { "ㄱ", "ㅎ", "ㅅㅇ", "ㄱㄴ", "ㅂㅂㅈ", "가ㄴ", "하ㄴㄷ" };
+
+    // seed 된 H2 카탈로그를 띄운 앱
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        @Param("10000")
+        public int boards;
+
+        @Param("1000000")
+        public int comments;
+
+        private BoardQuery boardQuery;
+        private BoardSearchQuery boardSearchQuery;
+        private CommentService commentService;
+        private UserService userService;
+        private BoardRepository boardRepository;
+
+        private String accessToken;
+        private final Map<Long, Board> commentBoards = new ConcurrentHashMap<>();
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            ConfigurableApplicationContext context = CatalogContext.start(boards, comments);
+            boardQuery = context.getBean(BoardQuery.class);
+            boardSearchQuery = context.getBean(BoardSearchQuery.class);
+            commentService = context.getBean(CommentService.class);
+            userService = context.getBean(UserService.class);
+            boardRepository = context.getBean(BoardRepository.class);
+
+            accessToken = userService.CreateToken(
+                    context.getBean(UserRepository.class).FindUserByEmail("user2@gofundindie.com"), 60 * 24);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            CatalogContext.stop();
+        }
+
+        private long randomBoardId() {
+            return 1 + ThreadLocalRandom.current().nextInt(boards);
+        }
+    }
+
+    // 승인된 board id 배열 (BoardIdSampler 가 들고 있는 것과 같은 형태)
+    @State(Scope.Benchmark)
+    public static class ApprovedIds {
+        @Param("100000")
+        public int approvedIds;
+
+        private long[] ids;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            ids = LongStream.rangeClosed(1, approvedIds).toArray();
+        }
+    }
+
+    // 임의의 한글 제목으로 만든 초성 색인
+    @State(Scope.Benchmark)
+    public static class ChosungTitles {
+        @Param("100000")
+        public int titles;
+
+        private HangulChosungIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            List<SearchBoardDTO> boards = new ArrayList<>(titles);
+            for(int i = 1 ; i <= titles ; i++) boards.add(new SearchBoardDTO(i, randomTitle(random), null));
+            index = new HangulChosungIndex(boards);
+        }
+    }
+
+    @Benchmark
+    public WrappingViewBoardDTO findBoardId(Catalog catalog) {
+        return catalog.boardQuery.FindBoardId(catalog.randomBoardId(), null);
+    }
+
+    @Benchmark
+    public WrappingRandomBoardsDTO findRandomBoard(Catalog catalog) {
+        return catalog.boardQuery.FindRandomBoard(5, null);
+    }
+
+    @Benchmark
+    public WrappingSearchBoardDTO searchBoardName(Catalog catalog) {
+        return catalog.boardSearchQuery.SearchBoardName(SEARCH_WORDS[ThreadLocalRandom.current().nextInt(SEARCH_WORDS.length)]);
+    }
+
+    @Benchmark
+    public Object getCommentPage(Catalog catalog) {
+        long boardId = catalog.randomBoardId();
+        Board board = catalog.commentBoards.computeIfAbsent(boardId, catalog.boardRepository::findBoardId);
+        return catalog.commentService.GetCommentPage(board, null, "pop", 1 + ThreadLocalRandom.current().nextInt(3));
+    }
+
+    @Benchmark
+    public Map<String, Object> checkToken(Catalog catalog) {
+        return catalog.userService.CheckToken(catalog.accessToken);
+    }
+
+    // 랜덤 추천 한 section 의 id 뽑기 (FindRandomBoard 의 limit)
+    @Benchmark
+    public long[] sampleApprovedIds(ApprovedIds state) {
+        return BoardIdSampler.sample(state.ids, 5, ThreadLocalRandom.current());
+    }
+
+    // 자동완성 (BoardSearchQuery 의 limit)
+    @Benchmark
+    public List<SearchBoardDTO> searchChosung(ChosungTitles state) {
+        return state.index.search(CHOSUNG_WORDS[ThreadLocalRandom.current().nextInt(CHOSUNG_WORDS.length)], 10);
+    }
+
+    // board 하나가 바뀌었을 때 새 색인 만들기 (BoardSearchIndex.reindexNow)
+    @Benchmark
+    public HangulChosungIndex replaceChosung(ChosungTitles state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long boardId = 1 + random.nextInt(state.titles);
+        return state.index.replace(Collections.singleton(boardId),
+                Collections.singletonList(new SearchBoardDTO(boardId, randomTitle(random), null)));
+    }
+
+    // 완성형 한글 2 ~ 10 글자
+    private static String randomTitle(Random random) {
+        int length = 2 + random.nextInt(9);
+        StringBuilder sb = new StringBuilder(length);
+        for(int i = 0 ; i < length ; i++) sb.append((char) (0xAC00 + random.nextInt(11172)));
+        return sb.toString();
+    }
+}
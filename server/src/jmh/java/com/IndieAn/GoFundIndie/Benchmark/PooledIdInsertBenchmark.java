@@ -0,0 +1,87 @@
+package com.IndieAn.GoFundIndie.Benchmark;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.Still;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+// pooled_id (pooled-lo + isolated pool) 로 still 100k 행을 insert 하는 속도. 점수는 초당 행 수다.
+// 요청 처리 때와 같은 EntityManagerFactory / transaction manager 를 쓴다. (JDBC batch 설정 포함)
+// 1000 행마다 flush / clear 하고, 한 번 돌 때마다 넣은 행을 지운다. (지우는 시간은 재지 않는다)
+// 카탈로그는 앱을 띄우는 데만 쓰므로 작은 규모로 둔다. (-p boards=100 -p comments=1000)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g", "-Dfile.encoding=UTF-8" })
+@State(Scope.Benchmark)
+public class PooledIdInsertBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int CHUNK = 1000;
+
+    @Param("100")
+    public int boards;
+
+    @Param("1000")
+    public int comments;
+
+    private EntityManager entityManager;
+    private TransactionTemplate tx;
+    private long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ConfigurableApplicationContext context = CatalogContext.start(boards, comments);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        boardId = tx.execute(status -> {
+            Board board = new Board();
+            board.setInfoCountry("TEMP");
+            entityManager.persist(board);
+            return board.getId();
+        });
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteRows() {
+        tx.executeWithoutResult(status -> entityManager
+                .createQuery("DELETE FROM Still s WHERE s.boardId.id = :boardId")
+                .setParameter("boardId", boardId)
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tx.executeWithoutResult(status -> entityManager
+                .createQuery("DELETE FROM Board b WHERE b.id = :boardId")
+                .setParameter("boardId", boardId)
+                .executeUpdate());
+        CatalogContext.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertStills() {
+        tx.executeWithoutResult(status -> {
+            for(int i = 0 ; i < ROWS ; i++) {
+                Still still = new Still();
+                still.setImage("still/" + i + ".png");
+                still.setBoardId(entityManager.getReference(Board.class, boardId));
+                entityManager.persist(still);
+
+                if((i + 1) % CHUNK == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// comment 테이블 규모(scales) 마다 그 규모의 합성 데이터로 앱을 띄워 POST /comment 응답 시간을 잰다.
+// 가장 작은 규모보다 thresholds 의 growth 기준 이상 느려지면 (테이블이 커질수록 쓰기가 느려지면) exit code 1
+// 규모마다 DB 를 따로 만들어야 하므로 target 없이 (앱을 같이 띄워서) 만 돈다.
+@Slf4j
+public class CommentWriteScaling {
+    private static final String OPERATION = "comment";
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = new Settings(args);
+        if(!settings.get("target").isEmpty()) throw new IllegalArgumentException("comment write scaling boots its own app per scale, target is not supported");
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        Map<String, Map<String, Object>> scales = new LinkedHashMap<>();
+        for(String scale : settings.get("scales").split(",")) {
+            Settings atScale = settings.with("comments", scale.trim());
+            KakaoStub stub = new KakaoStub(atScale.getInt("kakao-port"), atScale.getInt("kakao-latency-ms"), 64);
+            ConfigurableApplicationContext app = null;
+            try {
+                app = EmbeddedApp.start(atScale, stub.url());
+                scales.put(scale.trim(), run(atScale, EmbeddedApp.url(app), mapper));
+            } finally {
+                if(app != null) app.close();
+                stub.close();
+            }
+        }
+
+        Map<String, Map<String, Object>> byRows = new LinkedHashMap<>();
+        scales.forEach((scale, summary) -> byRows.put(OPERATION + "@" + scale, summary));
+        LoadTest.print(byRows, settings.getInt("duration") * scales.size());
+
+        Thresholds thresholds = new Thresholds(settings.get("thresholds"));
+        List<String> failures = new ArrayList<>();
+        scales.values().forEach(summary -> failures.addAll(thresholds.check(Map.of(OPERATION, summary))));
+        failures.addAll(thresholds.growth(OPERATION, scales));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings.asMap());
+        report.put("scales", scales);
+        report.put("failures", failures);
+        File out = new File(settings.get("report"));
+        out.getParentFile().mkdirs();
+        mapper.writeValue(out, report);
+
+        if(failures.isEmpty()) {
+            System.out.println("PASSED (report : " + out + ")");
+            System.exit(0);
+        }
+        System.out.println("FAILED (report : " + out + ")");
+        failures.forEach(failure -> System.out.println("  " + failure));
+        System.exit(1);
+    }
+
+    private static Map<String, Object> run(Settings settings, String target, ObjectMapper mapper) throws InterruptedException {
+        int vus = settings.getInt("vus");
+        OperationStats stats = new OperationStats(OPERATION);
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        ExecutorService pool = Executors.newFixedThreadPool(vus);
+        for(int i = 0 ; i < vus ; i++) {
+            pool.submit(new CommentWriter(i, run, settings.get("password"), target, http, mapper, stats,
+                    settings.getInt("boards"), vus, running::get));
+        }
+
+        log.info("comment write : {} comments, {} vus, warmup {} s, duration {} s",
+                settings.get("comments"), vus, settings.get("warmup"), settings.get("duration"));
+        TimeUnit.SECONDS.sleep(settings.getInt("warmup"));
+        stats.reset();
+
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(settings.getInt("duration"));
+        running.set(false);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        pool.shutdown();
+        if(!pool.awaitTermination(60, TimeUnit.SECONDS)) pool.shutdownNow();
+        return stats.summary(seconds);
+    }
+}
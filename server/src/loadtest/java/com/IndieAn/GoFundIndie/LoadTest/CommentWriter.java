@@ -0,0 +1,114 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+// comment 쓰기만 반복하는 가상 유저 (CommentWriteScaling)
+// 새로 가입한 유저로 board 를 차례로 돌며 쓰므로 4004 (이미 쓴 comment) 없이 매번 insert 가 일어난다.
+// board 를 한 바퀴 다 돌면 다시 가입한다. POST /comment 만 기록한다.
+public class CommentWriter implements Runnable {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final int id;
+    private final String run;
+    private final String password;
+    private final String base;
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final OperationStats stats;
+    private final int boards;
+    private final int firstBoard;
+    private final BooleanSupplier running;
+
+    private String accessToken;
+    private int account;
+    private int written;
+
+    public CommentWriter(int id, String run, String password, String base, HttpClient http, ObjectMapper mapper,
+                         OperationStats stats, int boards, int writers, BooleanSupplier running) {
+        this.id = id;
+        this.run = run;
+        this.password = password;
+        this.base = base;
+        this.http = http;
+        this.mapper = mapper;
+        this.stats = stats;
+        this.boards = boards;
+        this.firstBoard = (int) ((long) boards * id / writers);
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        while(running.getAsBoolean()) {
+            if(accessToken == null || written == boards) {
+                if(!signUp()) return;
+            }
+            long boardId = 1 + (firstBoard + written++) % boards;
+            ObjectNode comment = mapper.createObjectNode()
+                    .put("rating", 1 + (written % 10))
+                    .put("boardId", boardId)
+                    .put("donation", 0)
+                    .put("commentBody", "쓰기 부하 테스트 " + id)
+                    .put("spoiler", false);
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = http.send(post("/comment", comment).header("accesstoken", accessToken).build(),
+                        HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+                stats.record(System.nanoTime() - start, code(response) == 2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                stats.record(System.nanoTime() - start, false);
+            }
+        }
+    }
+
+    // writer-{run}-{id}-{account}@gofundindie.com 으로 가입하고 로그인한다.
+    private boolean signUp() {
+        String email = "writer-" + run + "-" + id + "-" + account++ + "@gofundindie.com";
+        try {
+            ObjectNode signUp = mapper.createObjectNode()
+                    .put("email", email).put("password", password).put("nickname", "writer" + id).put("adAgree", false);
+            if(code(http.send(post("/signup", signUp).build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))) != 2000) {
+                return false;
+            }
+
+            ObjectNode signIn = mapper.createObjectNode().put("email", email).put("password", password);
+            HttpResponse<String> response = http.send(post("/signin", signIn).build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            accessToken = mapper.readTree(response.body()).path("data").path("accessToken").asText(null);
+            written = 0;
+            return accessToken != null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(base + path)).timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private int code(HttpResponse<String> response) {
+        try {
+            return mapper.readTree(response.body()).path("code").asInt();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.IndieAn.GoFundIndie.GoFundIndieApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// target 을 주지 않았을 때 부하 대상으로 같이 띄우는 앱 (임의 포트, Kakao 호출은 stub 으로)
+// 데이터는 규모별 H2 파일 DB 에 DataGenerator 로 한 번 만들고, 다음 실행에서는 그대로 쓴다. (새 테이블 / 컬럼만 update 로 더한다)
+public final class EmbeddedApp {
+    private EmbeddedApp() {}
+
+    public static ConfigurableApplicationContext start(Settings settings, String kakaoUrl) {
+        String scale = settings.get("boards") + "-" + settings.get("comments") + "-" + settings.get("users");
+        File dir = new File(System.getProperty("loadtest.db.dir", "build/loadtest-db"), "datagen-" + scale);
+        String url = "jdbc:h2:file:" + new File(dir, "catalog").getAbsolutePath() +
+                ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+
+        List<String> args = new ArrayList<>(List.of(
+                "--server.address=127.0.0.1", "--server.port=0", "--server.ssl.enabled=false",
+                "--gofundindie.server.address=127.0.0.1", "--gofundindie.server.port=0", "--gofundindie.management.port=0",
+                "--server.ssl.key-store=", "--server.ssl.key-store-type=PKCS12", "--server.ssl.key-store-password=",
+                "--gofundindie.info.location=classpath:info-placeholder.properties",
+                "--gofundindie.s3.region=ap-northeast-2",
+                "--gofundindie.s3.max-file-size=10MB", "--gofundindie.s3.max-request-size=10MB",
+                "--spring.jpa.database=h2", "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--db.url=" + url, "--db.username=sa", "--db.password=",
+                "--spring.jpa.hibernate.ddl-auto=" + (seeded(url) ? "update" : "create"),
+                "--spring.jpa.properties.hibernate.hbm2ddl.import_files=",
+                "--spring.jpa.show-sql=false",
+                "--gofundindie.like.write-behind=true",
+                "--gofundindie.like.log-dir=" + new File(dir, "board-like-log").getAbsolutePath(),
+                "--gofundindie.kakao.api-host=" + kakaoUrl,
+                "--gofundindie.kakao.auth-host=" + kakaoUrl,
+                "--gofundindie.datagen.enabled=true",
+                "--gofundindie.datagen.boards=" + settings.get("boards"),
+                "--gofundindie.datagen.comments=" + settings.get("comments"),
+                "--gofundindie.datagen.users=" + settings.get("users"),
+                "--gofundindie.datagen.likes=" + settings.get("comments"),
+                "--gofundindie.datagen.ratings=" + settings.get("comments"),
+                "--gofundindie.datagen.password=" + settings.get("password"),
+                "--logging.level.root=WARN",
+                "--logging.level.com.IndieAn.GoFundIndie.Config.DataGenerator=INFO"));
+
+        ConfigurableApplicationContext context = SpringApplication.run(GoFundIndieApplication.class, args.toArray(new String[0]));
+        // 지난 실행에서 로그아웃하지 못한 refresh token 이 남아 있으면 다시 로그인할 수 없다.
+        context.getBean(JdbcTemplate.class).update("DELETE FROM refresh_token");
+        return context;
+    }
+
+    public static String url(ConfigurableApplicationContext context) {
+        return "http://127.0.0.1:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static boolean seeded(String url) {
+        try(Connection connection = DriverManager.getConnection(url + ";IFEXISTS=TRUE", "sa", "");
+            ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM comment")) {
+            return rs.next() && rs.getLong(1) > 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
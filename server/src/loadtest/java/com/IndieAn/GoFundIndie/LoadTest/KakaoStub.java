@@ -0,0 +1,116 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// kapi.kakao.com / kauth.kakao.com 대신 응답하는 로컬 서버
+// 결제 준비 / 승인, 로그인(token, 내 정보), 로그아웃만 흉내 낸다. latencyMs 만큼 늦게 응답해서 느린 Kakao 도 재현할 수 있다.
+// 단독 실행 : java ... KakaoStub [port] [latencyMs]
+@Slf4j
+public class KakaoStub implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final AtomicLong sequence = new AtomicLong();
+    // 실행마다 다른 tid 를 주도록 시작 시각을 붙인다. (DB 를 다음 실행에서도 쓰므로)
+    private final long started = System.currentTimeMillis();
+
+    public KakaoStub(int port, long latencyMs, int threads) throws IOException {
+        this.latencyMs = latencyMs;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 256);
+        this.executor = Executors.newFixedThreadPool(threads);
+
+        server.createContext("/v1/payment/ready", exchange -> respond(exchange, ready(form(exchange))));
+        server.createContext("/v1/payment/approve", exchange -> respond(exchange, approve(form(exchange))));
+        server.createContext("/oauth/token", exchange -> respond(exchange, token(form(exchange))));
+        server.createContext("/v2/user/me", exchange -> respond(exchange, me(exchange.getRequestHeaders().getFirst("Authorization"))));
+        server.createContext("/v1/user/logout", exchange -> respond(exchange, "{\"id\":1}"));
+        server.setExecutor(executor);
+        server.start();
+        log.info("kakao stub listening on {} (latency {} ms)", url(), latencyMs);
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private String ready(Map<String, String> form) {
+        String tid = "T" + started + "-" + sequence.incrementAndGet();
+        return "{\"tid\":\"" + tid + "\"," +
+                "\"next_redirect_pc_url\":\"" + url() + "/pay/" + tid + "\"," +
+                "\"created_at\":" + System.currentTimeMillis() + "}";
+    }
+
+    private String approve(Map<String, String> form) {
+        String total = form.getOrDefault("total_amount", "0");
+        long now = System.currentTimeMillis();
+        return "{\"aid\":\"A" + sequence.incrementAndGet() + "\",\"tid\":\"" + form.getOrDefault("tid", "") + "\"," +
+                "\"cid\":\"TC0ONETIME\",\"partner_order_id\":\"partner_order_id\",\"partner_user_id\":\"partner_user_id\"," +
+                "\"payment_method_type\":\"MONEY\",\"item_name\":\"Movie Donation\",\"quantity\":1," +
+                "\"amount\":{\"total\":" + total + ",\"tax_free\":0,\"vat\":0,\"point\":0,\"discount\":0}," +
+                "\"created_at\":" + now + ",\"approved_at\":" + now + "}";
+    }
+
+    // 인가 코드를 그대로 access token 으로 돌려주고, 내 정보에서 그 코드로 email 을 만든다.
+    private String token(Map<String, String> form) {
+        String code = form.getOrDefault("code", "anonymous");
+        return "{\"access_token\":\"" + code + "\",\"refresh_token\":\"refresh-" + code + "\",\"token_type\":\"bearer\",\"expires_in\":21599}";
+    }
+
+    private String me(String authorization) {
+        String code = authorization == null ? "anonymous" : authorization.replace("Bearer ", "");
+        return "{\"id\":" + Math.abs(code.hashCode()) + "," +
+                "\"properties\":{\"nickname\":\"카카오 " + code + "\",\"profile_image\":\"https://gofundindie.example/kakao/" + code + ".jpg\"}," +
+                "\"kakao_account\":{\"email\":\"kakao-" + code + "@gofundindie.com\"}}";
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        try {
+            if(latencyMs > 0) Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> form(HttpExchange exchange) throws IOException {
+        Map<String, String> form = new HashMap<>();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for(String pair : body.split("&")) {
+            int eq = pair.indexOf('=');
+            if(eq <= 0) continue;
+            form.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return form;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18090;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        new KakaoStub(port, latencyMs, 64);
+    }
+}
@@ -0,0 +1,157 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.IndieAn.GoFundIndie.Common.ZipfSampler;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 로그인, 홈 피드, board 상세, comment 페이지, 좋아요, 입력 중 검색, 결제(/pay/ready -> /pay/approve), 카카오 로그인을
+// mix 비율로 섞어 vus 명이 duration 초 동안 보내고, operation 별 처리량 / 응답 시간 분위수를 리포트로 남긴다.
+// thresholds 를 넘거나 baseline 보다 느려지면 exit code 1
+@Slf4j
+public class LoadTest {
+    private static final String[] OPERATIONS = {
+            "signin", "signout", "feed", "detail", "comments", "search", "like", "comment", "payReady", "payApprove", "kakao"
+    };
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = new Settings(args);
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        KakaoStub stub = null;
+        ConfigurableApplicationContext app = null;
+        Map<String, Object> report;
+        try {
+            String target = settings.get("target");
+            if(target.isEmpty()) {
+                stub = new KakaoStub(settings.getInt("kakao-port"), settings.getInt("kakao-latency-ms"), 64);
+                app = EmbeddedApp.start(settings, stub.url());
+                target = EmbeddedApp.url(app);
+            }
+            report = run(settings, target, mapper);
+        } finally {
+            if(app != null) app.close();
+            if(stub != null) stub.close();
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) report.get("operations");
+        print(operations, ((Number) report.get("duration-seconds")).doubleValue());
+
+        Thresholds thresholds = new Thresholds(settings.get("thresholds"));
+        List<String> failures = new ArrayList<>(thresholds.check(operations));
+
+        File baseline = new File(settings.get("baseline").isEmpty()
+                ? new File(settings.get("report")).getParentFile() + "/baseline.json" : settings.get("baseline"));
+        if(!settings.get("baseline").isEmpty()) {
+            Map<String, Object> previous = mapper.readValue(baseline, new TypeReference<Map<String, Object>>() {});
+            @SuppressWarnings("unchecked")
+            Map<String, Map<String, Object>> before = (Map<String, Map<String, Object>>) previous.get("operations");
+            failures.addAll(thresholds.regressions(operations, before));
+        }
+        report.put("failures", failures);
+
+        File out = new File(settings.get("report"));
+        out.getParentFile().mkdirs();
+        mapper.writeValue(out, report);
+        if(settings.getBoolean("save-baseline")) {
+            baseline.getParentFile().mkdirs();
+            mapper.writeValue(baseline, report);
+        }
+
+        if(failures.isEmpty()) {
+            System.out.println("PASSED (report : " + out + ")");
+            System.exit(0);
+        }
+        System.out.println("FAILED (report : " + out + ")");
+        failures.forEach(failure -> System.out.println("  " + failure));
+        System.exit(1);
+    }
+
+    private static Map<String, Object> run(Settings settings, String target, ObjectMapper mapper) throws InterruptedException {
+        int vus = settings.getInt("vus");
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        for(String operation : OPERATIONS) stats.put(operation, new OperationStats(operation));
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        SplittableRandom random = new SplittableRandom(Long.parseLong(settings.get("seed")));
+        ZipfSampler boards = new ZipfSampler(settings.getInt("boards"), 1.0, random.split());
+
+        // 가상 유저마다 스레드 하나 (HTTP 호출은 blocking)
+        Flag running = new Flag();
+        ExecutorService pool = Executors.newFixedThreadPool(vus);
+        for(int i = 0 ; i < vus ; i++) {
+            int userId = settings.getInt("user-offset") + i;
+            pool.submit(new VirtualUser(i, "user" + userId + "@gofundindie.com", settings.get("password"), target,
+                    http, mapper, stats, boards, settings.mix(), settings.getInt("think-ms"), running::get, random.split()));
+        }
+
+        log.info("load test : {} vus against {}, warmup {} s, duration {} s", vus, target, settings.get("warmup"), settings.get("duration"));
+        TimeUnit.SECONDS.sleep(settings.getInt("warmup"));
+        stats.values().forEach(OperationStats::reset);
+
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(settings.getInt("duration"));
+        running.stop();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        pool.shutdown();
+        if(!pool.awaitTermination(60, TimeUnit.SECONDS)) pool.shutdownNow();
+
+        Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+        for(OperationStats operation : stats.values()) {
+            Map<String, Object> summary = operation.summary(seconds);
+            if(((Number) summary.get("count")).longValue() > 0) operations.put(operation.getName(), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", target);
+        report.put("settings", settings.asMap());
+        report.put("duration-seconds", Math.round(seconds * 10) / 10.0);
+        report.put("operations", operations);
+        return report;
+    }
+
+    static void print(Map<String, Map<String, Object>> operations, double seconds) {
+        System.out.printf("%n%-11s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "rps", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        long total = 0;
+        for(Map.Entry<String, Map<String, Object>> entry : operations.entrySet()) {
+            Map<String, Object> s = entry.getValue();
+            total += ((Number) s.get("count")).longValue();
+            System.out.printf("%-11s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    s.get("count"), s.get("errors"), s.get("rps"), s.get("p50-ms"), s.get("p90-ms"),
+                    s.get("p95-ms"), s.get("p99-ms"), s.get("max-ms"));
+        }
+        System.out.printf("%-11s %9d %7s %9.1f%n%n", "total", total, "", total / seconds);
+    }
+
+    private static final class Flag {
+        private volatile boolean value = true;
+
+        boolean get() {
+            return value;
+        }
+
+        void stop() {
+            value = false;
+        }
+    }
+}
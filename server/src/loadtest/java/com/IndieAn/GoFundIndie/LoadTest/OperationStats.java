@@ -0,0 +1,65 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// operation 하나의 응답 시간 분포 (µs, 유효숫자 3 자리) 와 오류 수
+public class OperationStats {
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private volatile Histogram histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(long nanos, boolean ok) {
+        histogram.recordValue(Math.min(MAX_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos))));
+        if(!ok) errors.increment();
+    }
+
+    // warmup 이 끝나면 그때까지 쌓인 값을 버린다.
+    public void reset() {
+        histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+        errors.reset();
+    }
+
+    // ms 단위 요약 (count, errors, error-rate, rps, p50 ~ max)
+    public Map<String, Object> summary(double seconds) {
+        Histogram snapshot = histogram.copy();
+        long count = snapshot.getTotalCount();
+        long errorCount = errors.sum();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("errors", errorCount);
+        summary.put("error-rate", count == 0 ? 0.0 : round((double) errorCount / count, 4));
+        summary.put("rps", round(count / seconds, 1));
+        summary.put("p50-ms", millis(snapshot.getValueAtPercentile(50)));
+        summary.put("p90-ms", millis(snapshot.getValueAtPercentile(90)));
+        summary.put("p95-ms", millis(snapshot.getValueAtPercentile(95)));
+        summary.put("p99-ms", millis(snapshot.getValueAtPercentile(99)));
+        summary.put("max-ms", millis(snapshot.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0, 2);
+    }
+
+    private static double round(double value, int digits) {
+        double scale = Math.pow(10, digits);
+        return Math.round(value * scale) / scale;
+    }
+}
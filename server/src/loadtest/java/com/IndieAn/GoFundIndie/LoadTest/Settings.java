@@ -0,0 +1,93 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// key=value 인자 (./gradlew loadTest -PloadArgs="vus=32 duration=60")
+//   target            : 이미 떠 있는 서버 주소 (비우면 Kakao stub + H2 로 앱을 같이 띄운다)
+//   vus               : 동시에 도는 가상 유저 수 (유저마다 user{user-offset + i}@gofundindie.com 으로 로그인)
+//   duration / warmup : 측정 / warmup 시간 (초), warmup 구간의 기록은 버린다.
+//   think-ms          : 가상 유저가 operation 사이에 쉬는 시간
+//   mix               : operation 비율 (feed:30,detail:25,...)
+//   boards / comments / users : 같이 띄우는 앱의 합성 데이터 규모 (DataGenerator)
+//   scales            : CommentWriteScaling 이 차례로 띄울 comment 규모 (10000,100000,1000000)
+//   kakao-latency-ms  : Kakao stub 응답 지연
+//   thresholds / baseline / save-baseline / report : 판정 기준, 비교할 이전 리포트, 이번 리포트를 기준으로 저장, 리포트 위치
+public class Settings {
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("target", "");
+        DEFAULTS.put("vus", "4");
+        DEFAULTS.put("duration", "60");
+        DEFAULTS.put("warmup", "15");
+        DEFAULTS.put("think-ms", "0");
+        DEFAULTS.put("mix", "feed:30,detail:25,comments:15,search:12,like:8,pay:5,signin:4,kakao:1");
+        DEFAULTS.put("boards", "2000");
+        DEFAULTS.put("comments", "100000");
+        DEFAULTS.put("users", "");
+        DEFAULTS.put("scales", "10000,100000,1000000");
+        DEFAULTS.put("user-offset", "2");
+        DEFAULTS.put("password", "1111");
+        DEFAULTS.put("kakao-port", "0");
+        DEFAULTS.put("kakao-latency-ms", "50");
+        DEFAULTS.put("thresholds", "");
+        DEFAULTS.put("baseline", "");
+        DEFAULTS.put("save-baseline", "false");
+        DEFAULTS.put("report", "build/loadtest/report.json");
+        DEFAULTS.put("seed", "42");
+    }
+
+    private final Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+
+    private final String[] args;
+
+    public Settings(String[] args) {
+        this.args = args;
+        for(String arg : args) {
+            int eq = arg.indexOf('=');
+            if(eq <= 0) throw new IllegalArgumentException("expected key=value : " + arg);
+            String key = arg.substring(0, eq);
+            if(!DEFAULTS.containsKey(key)) throw new IllegalArgumentException("unknown setting : " + key + " (known : " + DEFAULTS.keySet() + ")");
+            values.put(key, arg.substring(eq + 1));
+        }
+        if(get("users").isEmpty()) {
+            values.put("users", String.valueOf(Math.max(getInt("vus") + getInt("user-offset") + 100, getInt("comments") / 10)));
+        }
+    }
+
+    // key 하나만 바꾼 설정 (users 처럼 다른 값에서 정해지는 기본값은 다시 계산한다)
+    public Settings with(String key, String value) {
+        String[] changed = Arrays.copyOf(args, args.length + 1);
+        changed[args.length] = key + "=" + value;
+        return new Settings(changed);
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(values.get(key));
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(values.get(key));
+    }
+
+    // mix=feed:30,detail:25 -> {feed=30, detail=25}
+    public Map<String, Integer> mix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for(String part : get("mix").split(",")) {
+            String[] kv = part.trim().split(":");
+            if(kv.length != 2) throw new IllegalArgumentException("mix entry must be name:weight : " + part);
+            mix.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        return mix;
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+}
@@ -0,0 +1,102 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// thresholds.properties 로 operation 별 요약을 판정한다.
+//   <operation | *>.<p50-ms | p90-ms | p95-ms | p99-ms | max-ms | error-rate>=상한, <operation | *>.min-rps=하한
+//   (operation 이름으로 준 값이 * 보다 우선)
+//   regression.metric / regression.max-ratio / regression.slack-ms : baseline 리포트보다 max-ratio 배 + slack-ms 넘게 느려지면 실패
+//   growth.metric / growth.max-ratio / growth.slack-ms : 데이터 규모별 요약에서 가장 작은 규모보다 max-ratio 배 + slack-ms 넘게 느려지면 실패
+public class Thresholds {
+    private static final String[] UPPER = { "p50-ms", "p90-ms", "p95-ms", "p99-ms", "max-ms", "error-rate" };
+
+    private final Properties properties = new Properties();
+
+    public Thresholds(String path) throws IOException {
+        if(path == null || path.isEmpty()) {
+            try(InputStream in = Thresholds.class.getResourceAsStream("/thresholds.properties")) {
+                if(in != null) properties.load(in);
+            }
+        } else {
+            try(InputStream in = Files.newInputStream(Path.of(path))) {
+                properties.load(in);
+            }
+        }
+    }
+
+    public List<String> check(Map<String, Map<String, Object>> operations) {
+        List<String> violations = new ArrayList<>();
+        for(Map.Entry<String, Map<String, Object>> entry : operations.entrySet()) {
+            String operation = entry.getKey();
+            Map<String, Object> summary = entry.getValue();
+
+            for(String metric : UPPER) {
+                Double limit = limit(operation, metric);
+                double value = ((Number) summary.get(metric)).doubleValue();
+                if(limit != null && value > limit) {
+                    violations.add(operation + " " + metric + " " + value + " > " + limit);
+                }
+            }
+            Double minRps = limit(operation, "min-rps");
+            double rps = ((Number) summary.get("rps")).doubleValue();
+            if(minRps != null && rps < minRps) {
+                violations.add(operation + " rps " + rps + " < " + minRps);
+            }
+        }
+        return violations;
+    }
+
+    public List<String> regressions(Map<String, Map<String, Object>> operations, Map<String, Map<String, Object>> baseline) {
+        String metric = properties.getProperty("regression.metric", "p95-ms");
+        double ratio = Double.parseDouble(properties.getProperty("regression.max-ratio", "1.3"));
+        double slack = Double.parseDouble(properties.getProperty("regression.slack-ms", "5"));
+
+        List<String> regressions = new ArrayList<>();
+        for(Map.Entry<String, Map<String, Object>> entry : operations.entrySet()) {
+            Map<String, Object> before = baseline.get(entry.getKey());
+            if(before == null || !before.containsKey(metric)) continue;
+
+            double was = ((Number) before.get(metric)).doubleValue();
+            double now = ((Number) entry.getValue().get(metric)).doubleValue();
+            if(now > was * ratio + slack) {
+                regressions.add(entry.getKey() + " " + metric + " " + was + " -> " + now +
+                        " (limit " + ratio + "x + " + slack + " ms)");
+            }
+        }
+        return regressions;
+    }
+
+    // scales : 규모 순서대로 (첫 번째가 기준) 같은 operation 의 요약
+    public List<String> growth(String operation, Map<String, Map<String, Object>> scales) {
+        String metric = properties.getProperty("growth.metric", "p95-ms");
+        double ratio = Double.parseDouble(properties.getProperty("growth.max-ratio", "1.5"));
+        double slack = Double.parseDouble(properties.getProperty("growth.slack-ms", "5"));
+
+        List<String> growths = new ArrayList<>();
+        String smallest = null;
+        double was = 0;
+        for(Map.Entry<String, Map<String, Object>> entry : scales.entrySet()) {
+            double now = ((Number) entry.getValue().get(metric)).doubleValue();
+            if(smallest == null) {
+                smallest = entry.getKey();
+                was = now;
+            } else if(now > was * ratio + slack) {
+                growths.add(operation + " " + metric + " " + was + " at " + smallest + " -> " + now + " at " + entry.getKey() +
+                        " (limit " + ratio + "x + " + slack + " ms)");
+            }
+        }
+        return growths;
+    }
+
+    private Double limit(String operation, String metric) {
+        String value = properties.getProperty(operation + "." + metric, properties.getProperty("*." + metric));
+        return value == null ? null : Double.valueOf(value);
+    }
+}
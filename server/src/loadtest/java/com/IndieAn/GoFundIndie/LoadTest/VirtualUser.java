@@ -0,0 +1,233 @@
+package com.IndieAn.GoFundIndie.LoadTest;
+
+import com.IndieAn.GoFundIndie.Common.ZipfSampler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+// 가상 유저 하나 : 로그인한 다음 mix 비율대로 operation 을 골라 끝날 때까지 반복한다. (closed model)
+// operation 성공 기준 : HTTP 5xx / 연결 오류 / GraphQL errors 가 아니면 성공, 로그인 / 결제 / 카카오 로그인은 code 2000 이어야 성공
+public class VirtualUser implements Runnable {
+    // 한 글자씩 치면서 검색한다. (초성 검색 포함)
+    private static final String[] TYPED = { "여름의 바다", "마지막 편지", "고양이", "푸른 새벽", "서울", "은하", "ㅇㄹ", "ㅂㄷ" };
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final int id;
+    private final String email;
+    private final String password;
+    private final String base;
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final Map<String, OperationStats> stats;
+    private final ZipfSampler boards;
+    private final String[] operations;
+    private final int[] cumulative;
+    private final long thinkMs;
+    private final BooleanSupplier running;
+    private final SplittableRandom random;
+
+    private String accessToken;
+    private String refreshToken;
+    private long payBoard;
+    private boolean commented;
+
+    public VirtualUser(int id, String email, String password, String base, HttpClient http, ObjectMapper mapper,
+                       Map<String, OperationStats> stats, ZipfSampler boards, Map<String, Integer> mix,
+                       long thinkMs, BooleanSupplier running, SplittableRandom random) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.base = base;
+        this.http = http;
+        this.mapper = mapper;
+        this.stats = stats;
+        this.boards = boards;
+        this.thinkMs = thinkMs;
+        this.running = running;
+        this.random = random;
+
+        operations = mix.keySet().toArray(new String[0]);
+        cumulative = new int[operations.length];
+        int sum = 0;
+        for(int i = 0 ; i < operations.length ; i++) cumulative[i] = sum += mix.get(operations[i]);
+        payBoard = boards.sample(random);
+    }
+
+    @Override
+    public void run() {
+        signIn();
+        while(running.getAsBoolean()) {
+            String operation = pick();
+            switch(operation) {
+                case "feed": feed(); break;
+                case "detail": detail(); break;
+                case "comments": comments(); break;
+                case "search": search(); break;
+                case "like": like(); break;
+                case "pay": pay(); break;
+                case "signin": signOut(); signIn(); break;
+                case "kakao": kakao(); break;
+                default: throw new IllegalArgumentException("unknown operation in mix : " + operation);
+            }
+            if(thinkMs > 0) {
+                try {
+                    Thread.sleep(thinkMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void signIn() {
+        ObjectNode body = mapper.createObjectNode().put("email", email).put("password", password);
+        JsonNode json = send("signin", post("/signin", body), true);
+        if(json != null) {
+            accessToken = json.path("data").path("accessToken").asText(null);
+            refreshToken = json.path("data").path("refreshToken").asText(null);
+        }
+    }
+
+    private void signOut() {
+        if(accessToken == null) return;
+        HttpRequest.Builder request = post("/signout", mapper.createObjectNode());
+        if(refreshToken != null) request.header("refreshtoken", refreshToken);
+        send("signout", request, true);
+        accessToken = null;
+        refreshToken = null;
+    }
+
+    private void feed() {
+        graphql("feed", "{ FindRandomBoard(Limit: 5) { code data { phrase data { id title } } } }");
+    }
+
+    private void detail() {
+        graphql("detail", "{ FindBoardId(id: " + boards.sample(random) + ") { code data { id title commentAmount likeAmount } } }");
+    }
+
+    private void comments() {
+        int page = 1 + random.nextInt(3);
+        send("comments", get("/comment/" + boards.sample(random) + "?type=pop&page=" + page), false);
+    }
+
+    private void search() {
+        String word = TYPED[random.nextInt(TYPED.length)];
+        for(int length = 1 ; length <= word.length() && running.getAsBoolean() ; length++) {
+            String typed = word.substring(0, length);
+            if(typed.endsWith(" ")) continue;
+            graphql("search", "{ SearchBoardName(what: \"" + typed + "\") { code data { id title } } }");
+        }
+    }
+
+    private void like() {
+        graphql("like", "mutation { SwitchLikeBoard(boardId: " + boards.sample(random) + ") { code } }");
+    }
+
+    // 자기 comment 가 있는 board 에만 후원할 수 있으므로 처음 한 번 comment 를 쓴다.
+    private void pay() {
+        if(!commented) {
+            ObjectNode comment = mapper.createObjectNode()
+                    .put("rating", 1 + random.nextInt(10))
+                    .put("boardId", payBoard)
+                    .put("donation", 0)
+                    .put("commentBody", "부하 테스트 " + id)
+                    .put("spoiler", false);
+            JsonNode json = send("comment", post("/comment", comment), false);
+            int code = json == null ? 0 : json.path("code").asInt();
+            // 4004 : 이미 쓴 comment 가 있다.
+            if(code == 2000 || code == 4004) commented = true;
+            else {
+                payBoard = boards.sample(random);
+                return;
+            }
+        }
+
+        int amount = 1000 * (1 + random.nextInt(10));
+        JsonNode ready = send("payReady", get("/pay/ready?amount=" + amount + "&board_id=" + payBoard), true);
+        if(ready == null) return;
+
+        ObjectNode approve = mapper.createObjectNode()
+                .put("pg_token", "stub-" + id)
+                .put("boardId", payBoard)
+                .put("next_redirect_pc_url", ready.path("data").path("next_redirect_pc_url").asText());
+        send("payApprove", post("/pay/approve", approve), true);
+    }
+
+    private void kakao() {
+        send("kakao", get("/oauth_kakao?code=" + URLEncoder.encode("vu" + id, StandardCharsets.UTF_8)), true);
+    }
+
+    private void graphql(String operation, String query) {
+        send(operation, post("/graphql", mapper.createObjectNode().put("query", query)), false);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + path)).timeout(TIMEOUT);
+        if(accessToken != null) request.header("accesstoken", accessToken);
+        return request;
+    }
+
+    // 응답 시간을 기록하고 성공한 응답의 body 를 돌려준다. (실패하면 null)
+    private JsonNode send(String operation, HttpRequest.Builder request, boolean requireCode2000) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            long elapsed = System.nanoTime() - start;
+
+            JsonNode json = parse(response.body());
+            boolean ok = response.statusCode() < 500 && json != null && !json.has("errors");
+            if(ok && requireCode2000) ok = json.path("code").asInt() == 2000;
+            stats.get(operation).record(elapsed, ok);
+
+            // access token 이 만료되면 다시 로그인한다.
+            if(response.statusCode() == 401 && !"signin".equals(operation)) {
+                accessToken = null;
+                signIn();
+            }
+            return ok ? json : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            stats.get(operation).record(System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private JsonNode parse(String body) {
+        try {
+            return mapper.readTree(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String pick() {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        for(int i = 0 ; i < cumulative.length ; i++) {
+            if(roll < cumulative[i]) return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,175 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.SearchBoardDTO;
+
+import java.util.*;
+
+// 제목의 초성 key 를 정렬된 배열로 들고 있는 자동완성 색인 (immutable)
+// "ㄱㅅㅊ" 처럼 초성만 입력한 경우와 "유ㅇ" 처럼 마지막 글자가 자음인 경우를 모두 prefix 검색으로 처리한다.
+public class HangulChosungIndex {
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_JONG = 21 * 28;
+    private static final char[] CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    public static final HangulChosungIndex EMPTY = new HangulChosungIndex(Collections.emptyList());
+
+    // keys[i] 순으로 정렬, 같은 위치의 title / board 를 함께 들고 있다.
+    private final String[] keys;
+    private final String[] titles;
+    private final SearchBoardDTO[] boards;
+
+    public HangulChosungIndex(Collection<SearchBoardDTO> source) {
+        List<Row> rows = rows(source);
+        keys = new String[rows.size()];
+        titles = new String[rows.size()];
+        boards = new SearchBoardDTO[rows.size()];
+        for(int i = 0 ; i < rows.size() ; i++) {
+            keys[i] = rows.get(i).key;
+            titles[i] = rows.get(i).title;
+            boards[i] = rows.get(i).board;
+        }
+    }
+
+    private HangulChosungIndex(String[] keys, String[] titles, SearchBoardDTO[] boards) {
+        this.keys = keys;
+        this.titles = titles;
+        this.boards = boards;
+    }
+
+    // boardIds 의 행을 빼고 added 를 넣은 새 색인을 돌려준다. (이 색인은 그대로)
+    // 바뀐 board 만 key 를 만들어 정렬하고, 나머지는 이미 정렬된 배열을 그대로 합친다. O(N + k log k)
+    public HangulChosungIndex replace(Collection<Long> boardIds, Collection<SearchBoardDTO> added) {
+        Set<Long> removed = new HashSet<>(boardIds);
+        List<Row> rows = rows(added);
+
+        int capacity = keys.length + rows.size();
+        String[] nextKeys = new String[capacity];
+        String[] nextTitles = new String[capacity];
+        SearchBoardDTO[] nextBoards = new SearchBoardDTO[capacity];
+
+        int n = 0, r = 0;
+        for(int i = 0 ; i < keys.length ; i++) {
+            if(removed.contains(boards[i].getId())) continue;
+            for( ; r < rows.size() && rows.get(r).compareTo(keys[i], titles[i]) < 0 ; r++, n++) {
+                nextKeys[n] = rows.get(r).key;
+                nextTitles[n] = rows.get(r).title;
+                nextBoards[n] = rows.get(r).board;
+            }
+            nextKeys[n] = keys[i];
+            nextTitles[n] = titles[i];
+            nextBoards[n] = boards[i];
+            n++;
+        }
+        for( ; r < rows.size() ; r++, n++) {
+            nextKeys[n] = rows.get(r).key;
+            nextTitles[n] = rows.get(r).title;
+            nextBoards[n] = rows.get(r).board;
+        }
+
+        return new HangulChosungIndex(Arrays.copyOf(nextKeys, n), Arrays.copyOf(nextTitles, n),
+                Arrays.copyOf(nextBoards, n));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    // 한글 호환 자모 자음(ㄱ ~ ㅎ)이 들어있으면 초성 검색 대상
+    public static boolean hasConsonant(String str) {
+        if(str == null) return false;
+        for(int i = 0 ; i < str.length() ; i++) {
+            if(isConsonant(str.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    // 제목 순으로 최대 limit 개
+    public List<SearchBoardDTO> search(String query, int limit) {
+        String compactQuery = NGramTokenizer.compact(query);
+        if(compactQuery.isEmpty() || limit <= 0) return new ArrayList<>();
+
+        String prefix = chosungKey(compactQuery);
+        int from = lowerBound(prefix);
+
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1,
+                Comparator.comparing((Integer i) -> titles[i]).reversed());
+        for(int i = from ; i < keys.length && keys[i].startsWith(prefix) ; i++) {
+            if(!matches(titles[i], compactQuery)) continue;
+            top.add(i);
+            if(top.size() > limit) top.poll();
+        }
+
+        List<Integer> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparing((Integer i) -> titles[i]));
+
+        List<SearchBoardDTO> result = new ArrayList<>(hits.size());
+        for(Integer i : hits) result.add(boards[i]);
+        return result;
+    }
+
+    // 완성형 한글은 초성으로, 나머지 글자는 그대로
+    public static String chosungKey(String str) {
+        StringBuilder sb = new StringBuilder(str.length());
+        for(int i = 0 ; i < str.length() ; i++) {
+            char ch = str.charAt(i);
+            sb.append(isSyllable(ch) ? CHOSUNG[(ch - HANGUL_BASE) / JUNG_JONG] : ch);
+        }
+        return sb.toString();
+    }
+
+    // key prefix 가 같은 후보 중, 검색어에 완성된 글자는 그 글자와 정확히 같아야 한다.
+    private static boolean matches(String title, String query) {
+        for(int i = 0 ; i < query.length() ; i++) {
+            char q = query.charAt(i);
+            if(isSyllable(q) && title.charAt(i) != q) return false;
+        }
+        return true;
+    }
+
+    // key, title 순으로 정렬된 행
+    private static List<Row> rows(Collection<SearchBoardDTO> source) {
+        List<Row> rows = new ArrayList<>(source.size());
+        for(SearchBoardDTO el : source) {
+            String title = NGramTokenizer.compact(el.getTitle());
+            if(!title.isEmpty()) rows.add(new Row(chosungKey(title), title, el));
+        }
+        rows.sort((a, b) -> a.compareTo(b.key, b.title));
+        return rows;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0, hi = keys.length;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(keys[mid].compareTo(prefix) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= HANGUL_BASE && ch <= HANGUL_LAST;
+    }
+
+    private static boolean isConsonant(char ch) {
+        return Arrays.binarySearch(CHOSUNG, ch) >= 0;
+    }
+
+    private static final class Row {
+        private final String key;
+        private final String title;
+        private final SearchBoardDTO board;
+
+        private Row(String key, String title, SearchBoardDTO board) {
+            this.key = key;
+            this.title = title;
+            this.board = board;
+        }
+
+        private int compareTo(String otherKey, String otherTitle) {
+            int c = key.compareTo(otherKey);
+            return c != 0 ? c : title.compareTo(otherTitle);
+        }
+    }
+}
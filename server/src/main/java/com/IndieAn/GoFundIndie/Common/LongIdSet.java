@@ -0,0 +1,38 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// 정렬된 long[] 로 들고 있는 id 집합 (immutable)
+// 한 페이지 안의 "이 유저가 누른 id" 처럼 작은 집합을 boxing 없이 확인할 때 쓴다.
+public class LongIdSet {
+    public static final LongIdSet EMPTY = new LongIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private LongIdSet(long[] sorted) {
+        this.ids = sorted;
+    }
+
+    public static LongIdSet of(Collection<? extends Number> source) {
+        if(source == null || source.isEmpty()) return EMPTY;
+
+        long[] arr = new long[source.size()];
+        int i = 0;
+        for(Number el : source) arr[i++] = el.longValue();
+        Arrays.sort(arr);
+        return new LongIdSet(arr);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+}
@@ -0,0 +1,84 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ... 를 rowsPerStatement 행씩 묶어 보낸다.
+// 같은 크기의 statement 는 한 번만 prepare 해서 다시 쓰고, 남은 행은 close() 에서 보낸다.
+// commitRows 마다 commit 한다. (connection 은 autoCommit=false 상태로 넘긴다)
+public class MultiRowInsert implements AutoCloseable {
+    private static final int MAX_PARAMETERS = 60_000;
+
+    private final Connection connection;
+    private final String prefix;
+    private final String rowPlaceholder;
+    private final int columns;
+    private final int rowsPerStatement;
+    private final int commitRows;
+
+    private final Object[] buffer;
+    private int buffered;
+    private long written;
+    private PreparedStatement full;
+
+    public MultiRowInsert(Connection connection, String table, String[] columnNames, int rowsPerStatement, int commitRows) {
+        this.connection = connection;
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columnNames) + ") VALUES ";
+        this.rowPlaceholder = "(" + "?, ".repeat(columnNames.length - 1) + "?)";
+        this.columns = columnNames.length;
+        // MySQL 은 statement 하나에 placeholder 를 65535 개까지 받는다.
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, MAX_PARAMETERS / columnNames.length));
+        this.commitRows = Math.max(this.rowsPerStatement, commitRows);
+        this.buffer = new Object[this.rowsPerStatement * columns];
+    }
+
+    public void row(Object... values) throws SQLException {
+        if(values.length != columns) {
+            throw new IllegalArgumentException("expected " + columns + " values, got " + values.length);
+        }
+        System.arraycopy(values, 0, buffer, buffered * columns, columns);
+        if(++buffered == rowsPerStatement) {
+            if(full == null) full = connection.prepareStatement(sql(rowsPerStatement));
+            send(full, rowsPerStatement);
+        }
+    }
+
+    public long written() {
+        return written;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if(buffered > 0) {
+                try(PreparedStatement tail = connection.prepareStatement(sql(buffered))) {
+                    send(tail, buffered);
+                }
+            }
+            connection.commit();
+        } finally {
+            if(full != null) full.close();
+        }
+    }
+
+    private void send(PreparedStatement ps, int rows) throws SQLException {
+        for(int i = 0 ; i < rows * columns ; i++) ps.setObject(i + 1, buffer[i]);
+        ps.executeUpdate();
+
+        long before = written;
+        written += rows;
+        buffered = 0;
+        if(before / commitRows != written / commitRows) connection.commit();
+    }
+
+    private String sql(int rows) {
+        StringBuilder sb = new StringBuilder(prefix.length() + rows * (rowPlaceholder.length() + 2));
+        sb.append(prefix);
+        for(int i = 0 ; i < rows ; i++) {
+            if(i > 0) sb.append(", ");
+            sb.append(rowPlaceholder);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,63 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.text.Normalizer;
+import java.util.*;
+
+// 검색용 n-gram 토크나이저
+// 한글은 형태소 분석 없이도 음절 bigram 으로 부분 일치를 찾을 수 있다.
+public class NGramTokenizer {
+    private NGramTokenizer() {}
+
+    // 소문자 + NFC, 글자 / 숫자 외의 문자는 공백으로 바꾼다.
+    public static String normalize(String text) {
+        if(text == null) return "";
+
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for(int i = 0 ; i < nfc.length() ; i++) {
+            char ch = nfc.charAt(i);
+            sb.append(Character.isLetterOrDigit(ch) ? ch : ' ');
+        }
+        return sb.toString().trim();
+    }
+
+    // 공백을 뺀 비교용 문자열
+    public static String compact(String text) {
+        return normalize(text).replace(" ", "");
+    }
+
+    // 색인용 토큰 : 단어별 bigram (+ 짧은 필드는 unigram)
+    public static Set<String> tokens(String text, boolean withUnigram) {
+        Set<String> result = new HashSet<>();
+        for(String term : terms(text)) {
+            addGrams(term, withUnigram, result);
+        }
+        return result;
+    }
+
+    // 검색어 토큰 : 단어별로 bigram, 한 글자 단어는 unigram
+    public static Set<String> queryTokens(String query) {
+        Set<String> result = new HashSet<>();
+        for(String term : terms(query)) {
+            addGrams(term, term.length() == 1, result);
+        }
+        return result;
+    }
+
+    public static List<String> terms(String text) {
+        String normalized = normalize(text);
+        if(normalized.isEmpty()) return Collections.emptyList();
+        return Arrays.asList(normalized.split(" +"));
+    }
+
+    private static void addGrams(String term, boolean withUnigram, Set<String> out) {
+        if(withUnigram) {
+            for(int i = 0 ; i < term.length() ; i++) {
+                out.add(term.substring(i, i + 1));
+            }
+        }
+        for(int i = 0 ; i + 2 <= term.length() ; i++) {
+            out.add(term.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// keyset pagination cursor : "정렬 기준 tag:정렬 key:id" 를 base64url 로 감싼다.
+// 정렬 key 는 숫자(commentAmount, id) 또는 날짜의 epoch millis.
+public class PageCursor {
+    // 목록(정렬 기준) 별 tag. 다른 정렬 기준의 cursor 는 받지 않는다.
+    public static final String COMMENT = "comment";
+    public static final String NEW = "new";
+    public static final String ID = "id";
+    public static final String SEOUL2020 = "seoul";
+    public static final String LIKE = "like";
+    public static final String DONATION = "donation";
+    public static final String COMMENT_POP = "comment-pop";
+    public static final String COMMENT_NEW = "comment-new";
+
+    private final String tag;
+    private final long key;
+    private final long id;
+
+    public PageCursor(String tag, long key, long id) {
+        this.tag = tag;
+        this.key = key;
+        this.id = id;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        return encode(tag, key, id);
+    }
+
+    public static String encode(String tag, long key, long id) {
+        String raw = tag + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null 이면 첫 페이지. 형식이 잘못됐거나 다른 목록의 cursor 면 IllegalArgumentException
+    public static PageCursor decode(String cursor, String tag) {
+        if(cursor == null || cursor.isEmpty()) return null;
+
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+        if(parts.length != 3 || !parts[0].equals(tag)) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        return new PageCursor(tag, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+    }
+}
@@ -0,0 +1,110 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 한 줄 단위 append-only 로그. 파일은 "<prefix>-<순번>.log" segment 로 나뉜다.
+// rotate() 로 새 segment 를 열고, DB 반영이 끝난 이전 segment 는 delete() 로 지운다.
+// 재시작하면 남아있는 segment 를 순서대로 다시 읽을 수 있다. (마지막 줄이 잘려 있으면 버린다)
+public class SegmentedAppendLog implements AutoCloseable {
+    private final Path dir;
+    private final String prefix;
+    private final boolean fsync;
+
+    private FileChannel current;
+    private Path currentPath;
+    private long sequence;
+
+    public SegmentedAppendLog(Path dir, String prefix, boolean fsync) {
+        this.dir = dir;
+        this.prefix = prefix;
+        this.fsync = fsync;
+    }
+
+    // 남아있는 segment 를 오래된 순으로 읽고, 그 다음 순번으로 새 segment 를 연다.
+    public synchronized void open(Consumer<String> replay) throws IOException {
+        Files.createDirectories(dir);
+
+        for(Path path : segments()) {
+            sequence = Math.max(sequence, sequenceOf(path));
+            byte[] bytes = Files.readAllBytes(path);
+
+            // 마지막 '\n' 이후는 쓰다가 끊긴 줄이다.
+            int end = bytes.length - 1;
+            while(end >= 0 && bytes[end] != '\n') end--;
+            if(end < 0) continue;
+
+            for(String el : new String(bytes, 0, end, StandardCharsets.UTF_8).split("\n")) {
+                if(!el.isEmpty()) replay.accept(el);
+            }
+        }
+        openNext();
+    }
+
+    public synchronized void append(String line) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while(buffer.hasRemaining()) current.write(buffer);
+            if(fsync) current.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 새 segment 를 열고, 현재 segment 를 제외한 모든 segment 를 돌려준다.
+    public synchronized List<Path> rotate() throws IOException {
+        current.force(false);
+        current.close();
+        openNext();
+
+        return segments().stream()
+                .filter(el -> !el.equals(currentPath))
+                .collect(Collectors.toList());
+    }
+
+    public synchronized boolean hasClosedSegments() throws IOException {
+        return segments().size() > 1;
+    }
+
+    public void delete(List<Path> segments) throws IOException {
+        for(Path path : segments) Files.deleteIfExists(path);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if(current != null && current.isOpen()) {
+            current.force(false);
+            current.close();
+        }
+    }
+
+    private void openNext() throws IOException {
+        sequence++;
+        currentPath = dir.resolve(String.format("%s-%012d.log", prefix, sequence));
+        current = FileChannel.open(currentPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                    .filter(el -> el.getFileName().toString().matches(prefix + "-\\d+\\.log"))
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length() + 1, name.length() - ".log".length()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.util.SplittableRandom;
+
+// 합성 데이터용 한국어 제목 / 이름 / 줄거리 / 코멘트
+// 검색(n-gram, 초성) 이 실제처럼 겹치도록 적은 단어 목록을 조합한다.
+public final class SyntheticText {
+    private static final String[] ADJECTIVES = {
+            "마지막", "첫", "작은", "낯선", "푸른", "조용한", "뜨거운", "긴", "사라진", "잃어버린",
+            "오래된", "보통의", "우리들의", "이상한", "다정한", "고요한", "늦은", "하얀", "검은", "붉은"
+    };
+    private static final String[] NOUNS = {
+            "여름", "겨울", "봄", "가을", "바다", "기억", "소년", "소녀", "편지", "도시", "우리", "그림자",
+            "정원", "골목", "달", "별", "바람", "섬", "기차", "사진", "노래", "하루", "이웃", "엄마", "아버지",
+            "친구", "시간", "연애", "고양이", "유령", "파도", "안개", "창문", "계절", "불꽃", "서울", "부산",
+            "새벽", "오후", "꿈", "거짓말", "약속", "은하", "빛", "숲", "강", "집", "길", "방", "선물"
+    };
+    private static final String[] SURNAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권" };
+    private static final String GIVEN = "민서지현수우연준예하도윤은진영성호혜원재희태나경아선유빈";
+    private static final String[] STORY = {
+            "오랜만에 고향으로 돌아온 %s 앞에 뜻밖의 손님이 나타난다.",
+            "%s 은(는) 매일 같은 시간에 같은 버스를 탄다.",
+            "작은 동네 사진관을 지키는 %s 의 마지막 여름.",
+            "헤어진 지 십 년 만에 %s 에게서 편지가 도착한다.",
+            "%s 은(는) 아무도 모르는 비밀을 하나 가지고 있다.",
+            "서로 다른 두 사람이 %s 에서 하루를 함께 보낸다."
+    };
+    private static final String[] COMMENTS = {
+            "정말 좋았어요", "배우들 연기가 인상적이었습니다", "영상미가 아름다워요", "여운이 오래 남네요",
+            "생각보다 지루했어요", "음악이 너무 좋아요", "다음 작품도 기대할게요", "결말이 조금 아쉬워요",
+            "친구에게 추천했어요", "두 번 봤습니다", "독립영화의 힘을 느꼈어요", "짧지만 강렬했어요"
+    };
+    private static final String[] COMPANIES = { "필름", "픽쳐스", "스튜디오", "영화사", "컴퍼니", "프로덕션" };
+    private static final String[] COUNTRIES = { "한국", "한국", "한국", "한국", "한국", "한국", "한국", "일본", "대만", "프랑스" };
+
+    private SyntheticText() {}
+
+    public static String title(SplittableRandom random) {
+        String noun = pick(NOUNS, random);
+        switch(random.nextInt(6)) {
+            case 0:
+                return noun;
+            case 1:
+                return noun + "의 " + pick(NOUNS, random);
+            case 2:
+                return noun + and(noun) + " " + pick(NOUNS, random);
+            case 3:
+                return pick(ADJECTIVES, random) + " " + noun + " " + (2 + random.nextInt(8));
+            default:
+                return pick(ADJECTIVES, random) + " " + noun;
+        }
+    }
+
+    public static String personName(SplittableRandom random) {
+        return pick(SURNAMES, random) + GIVEN.charAt(random.nextInt(GIVEN.length())) + GIVEN.charAt(random.nextInt(GIVEN.length()));
+    }
+
+    public static String company(SplittableRandom random) {
+        return pick(NOUNS, random) + pick(COMPANIES, random);
+    }
+
+    public static String country(SplittableRandom random) {
+        return pick(COUNTRIES, random);
+    }
+
+    public static String story(SplittableRandom random) {
+        return String.format(pick(STORY, random), personName(random)) + " " + String.format(pick(STORY, random), pick(NOUNS, random));
+    }
+
+    public static String comment(SplittableRandom random) {
+        return random.nextInt(3) == 0
+                ? pick(COMMENTS, random) + ". " + pick(COMMENTS, random)
+                : pick(COMMENTS, random);
+    }
+
+    // 받침이 있으면 "과", 없으면 "와"
+    private static String and(String word) {
+        char last = word.charAt(word.length() - 1);
+        boolean batchim = last >= 0xAC00 && last <= 0xD7A3 && (last - 0xAC00) % 28 != 0;
+        return batchim ? "과" : "와";
+    }
+
+    private static String pick(String[] words, SplittableRandom random) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,52 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 1 ~ n 의 id 중 하나를 Zipf 분포로 뽑는다. (rank k 가 뽑힐 확률 ∝ 1 / k^exponent)
+// rank -> id 는 섞어 두므로 인기 id 가 앞 번호에 몰리지 않는다.
+// 누적 분포(double[n]) 를 들고 이진 탐색하므로 n 이 수백만까지는 메모리 / 속도 모두 문제 없다.
+public class ZipfSampler {
+    private final double[] cdf;
+    private final int[] ids;
+
+    public ZipfSampler(int n, double exponent, SplittableRandom random) {
+        if(n < 1) throw new IllegalArgumentException("n must be positive : " + n);
+
+        cdf = new double[n];
+        double sum = 0;
+        for(int rank = 0 ; rank < n ; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for(int rank = 0 ; rank < n ; rank++) cdf[rank] /= sum;
+        cdf[n - 1] = 1.0;
+
+        ids = new int[n];
+        for(int i = 0 ; i < n ; i++) ids[i] = i + 1;
+        for(int i = n - 1 ; i > 0 ; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        return ids[rankOf(random.nextDouble())];
+    }
+
+    // 0-based rank 에 해당하는 id (rank 0 이 가장 인기 있는 id)
+    public int idAt(int rank) {
+        return ids[rank];
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private int rankOf(double u) {
+        int found = Arrays.binarySearch(cdf, u);
+        return found >= 0 ? found : Math.min(-found - 1, cdf.length - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 홈 피드 section 조회를 병렬로 실행하는 bounded executor
+// 각 작업은 별도 스레드의 read-only transaction 안에서 실행된다. (요청의 read-your-writes 상태를 이어받는다)
+// 큐가 가득 차면 거절하고, 제한 시간을 넘긴 작업은 취소한다. 요청 스레드는 제한 시간 이상 기다리지 않는다.
+@Component
+public class BoardFeedExecutor implements DisposableBean {
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTx;
+
+    public BoardFeedExecutor(PlatformTransactionManager transactionManager, ReplicaStickiness stickiness,
+                             @Value("${gofundindie.feed.pool-size:8}") int poolSize,
+                             @Value("${gofundindie.feed.queue-capacity:64}") int queueCapacity,
+                             @Value("${gofundindie.feed.section-timeout-ms:1000}") long sectionTimeoutMs) {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("board-feed-");
+        this.executor.setTaskDecorator(stickiness::wrap);
+        // 큐가 가득 차면 거절 -> 그 section 은 빠진다. (요청 스레드에서 대신 실행하면 제한 시간이 의미 없어진다)
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        this.executor.initialize();
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        // 취소된 작업의 query 도 제한 시간 안에 끝나도록 (초 단위, 최소 1초)
+        this.readOnlyTx.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+    }
+
+    // timeoutMs 안에 끝나지 않으면 TimeoutException 으로 끝나고, 큐에 있거나 실행 중인 작업은 취소(interrupt)된다.
+    // executor 가 가득 차서 거절되면 TaskRejectedException 으로 끝난다.
+    public <T> CompletableFuture<T> supplyReadOnly(Supplier<T> supplier, long timeoutMs) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(readOnlyTx.execute(status -> supplier.get()));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, e) -> {
+            if(e instanceof TimeoutException) task.cancel(true);
+        });
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
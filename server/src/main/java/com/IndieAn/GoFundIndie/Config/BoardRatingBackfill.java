@@ -0,0 +1,25 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Board.rating_sum / rating_count 를 기존 comment 데이터로 채운다.
+// 컬럼 추가 후 한 번만 gofundindie.backfill.board-rating=true 로 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gofundindie.backfill.board-rating", havingValue = "true")
+public class BoardRatingBackfill implements ApplicationRunner {
+    private final CommentRepository commentRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = commentRepository.RecountBoardRating();
+        log.info("board rating backfill : {} boards", updated);
+    }
+}
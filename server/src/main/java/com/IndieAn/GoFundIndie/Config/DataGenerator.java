@@ -0,0 +1,422 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Common.MultiRowInsert;
+import com.IndieAn.GoFundIndie.Common.SyntheticText;
+import com.IndieAn.GoFundIndie.Common.ZipfSampler;
+import com.IndieAn.GoFundIndie.Service.BoardFeedService;
+import com.IndieAn.GoFundIndie.Service.BoardSearchIndex;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 운영 규모의 합성 데이터를 빈 DB 에 넣는다. (import.sql 대신)
+// 실행 : --spring.profiles.active=info,datagen (application-datagen.properties 참고), 개수 / 분포는 gofundindie.datagen.*
+// 1) comment / like / rating 을 메모리에서 먼저 뽑아 카운터(comment_amount, like_amount, rating_*, donation_amount, like, total_donation) 를 계산하고
+// 2) FK 순서대로 multi-row INSERT 로 쓴다. board 인기와 유저 활동량은 Zipf 분포를 따른다.
+// board 테이블에 이미 행이 있으면 아무것도 하지 않는다.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConfigurationProperties("gofundindie.datagen")
+@ConditionalOnProperty(name = "gofundindie.datagen.enabled", havingValue = "true")
+public class DataGenerator implements ApplicationRunner {
+    private static final String[] GENRES = {
+            "드라마", "공포", "로멘스", "판타지", "스릴러", "다큐멘터리", "가족",
+            "범죄", "코미디", "애니메이션", "액션", "SF", "뮤지컬"
+    };
+    private static final int[] DONATIONS = { 1000, 1000, 1000, 3000, 3000, 5000, 10000, 30000, 50000 };
+    // 이만큼 Zipf 로 뽑아도 겹치면 (인기 board 에 유저가 다 찬 경우) 균등 분포로 뽑는다.
+    private static final int ZIPF_ATTEMPTS = 8;
+    private static final int MAX_ATTEMPTS = 1000;
+
+    private final DataSource dataSource;
+    private final IdSequenceSync idSequenceSync;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardFeedService boardFeedService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConfigurableApplicationContext context;
+
+    @Setter private int users = 100_000;
+    @Setter private int boards = 10_000;
+    @Setter private int genres = GENRES.length;
+    @Setter private int castingsPerBoard = 4;
+    @Setter private int stillsPerBoard = 4;
+    @Setter private int comments = 1_000_000;
+    @Setter private int likes = 1_000_000;
+    @Setter private int ratings = 2_000_000;
+    @Setter private double boardExponent = 1.0;
+    @Setter private double userExponent = 0.8;
+    @Setter private int days = 730;
+    @Setter private String password = "1111";
+    @Setter private long seed = 42;
+    @Setter private int statementRows = 1000;
+    @Setter private int commitRows = 50_000;
+    @Setter private boolean exit = false;
+
+    // 스키마를 hibernate 가 만든 다음 쓰므로 INSERT 는 instrument 하지 않은 primary pool 로 바로 보낸다.
+    public DataGenerator(@Qualifier("primaryDataSource") DataSource dataSource, IdSequenceSync idSequenceSync,
+                         BoardSearchIndex boardSearchIndex, BoardFeedService boardFeedService,
+                         EntityManagerFactory entityManagerFactory, ConfigurableApplicationContext context) {
+        this.dataSource = dataSource;
+        this.idSequenceSync = idSequenceSync;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardFeedService = boardFeedService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        boolean generated;
+        try(Connection connection = dataSource.getConnection()) {
+            generated = !hasRows(connection, "board");
+            if(generated) generate(connection);
+            else log.info("datagen : board table is not empty, skipped");
+        }
+
+        if(generated) {
+            // 생성 전에 만들어 둔 id / 검색 색인 / 피드 / 2차 캐시를 새 데이터로 맞춘다.
+            idSequenceSync.Sync();
+            entityManagerFactory.getCache().evictAll();
+            boardSearchIndex.rebuild();
+            boardFeedService.refresh();
+        }
+        if(exit) System.exit(SpringApplication.exit(context));
+    }
+
+    private void generate(Connection connection) throws SQLException {
+        validate();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        long start = System.currentTimeMillis();
+        Plan plan = plan(random.split());
+        log.info("datagen : sampled {} comments, {} likes, {} ratings in {} ms",
+                comments, likes, ratings, System.currentTimeMillis() - start);
+
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            // 빈 테이블에 쓰는 동안은 FK / unique 검사를 끈다. (pool 로 돌아가기 전에 다시 켠다)
+            if(mysql) execute(connection, "SET foreign_key_checks = 0, unique_checks = 0");
+            write(connection, plan, random.split());
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            if(mysql) execute(connection, "SET foreign_key_checks = 1, unique_checks = 1");
+            connection.setAutoCommit(autoCommit);
+        }
+
+        log.info("datagen : {} users, {} boards, {} comments, {} likes, {} ratings written in {} s",
+                users, boards, comments, likes, ratings,
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start));
+    }
+
+    private void validate() {
+        if(users < 1 || boards < 1 || genres < 1) {
+            throw new IllegalArgumentException("datagen : users, boards and genres must be positive");
+        }
+        if(comments > (long) users * boards || likes > (long) users * boards) {
+            throw new IllegalArgumentException("datagen : comments / likes cannot exceed users * boards (one per user and board)");
+        }
+        if(ratings > (long) users * comments) {
+            throw new IllegalArgumentException("datagen : ratings cannot exceed users * comments (one per user and comment)");
+        }
+    }
+
+    // 카운터를 INSERT 에 바로 넣을 수 있도록 관계 행은 전부 먼저 뽑는다. (행 하나당 int 몇 개)
+    private static final class Plan {
+        float[] boardQuality;
+        int[] boardComments;
+        long[] boardRatingSum;
+        int[] boardLikes;
+        long[] boardDonation;
+        long[] userDonation;
+
+        int[] commentBoard;
+        int[] commentUser;
+        byte[] commentRating;
+        int[] commentDonation;
+        int[] commentLike;
+
+        int[] likeBoard;
+        int[] likeUser;
+
+        int[] ratingComment;
+        int[] ratingUser;
+    }
+
+    private Plan plan(SplittableRandom random) {
+        ZipfSampler boardPopularity = new ZipfSampler(boards, boardExponent, random);
+        ZipfSampler userActivity = new ZipfSampler(users, userExponent, random);
+        long width = users + 1L;
+
+        Plan plan = new Plan();
+        plan.boardQuality = new float[boards + 1];
+        for(int board = 1 ; board <= boards ; board++) plan.boardQuality[board] = 4f + 5f * (float) random.nextDouble();
+        plan.boardComments = new int[boards + 1];
+        plan.boardRatingSum = new long[boards + 1];
+        plan.boardLikes = new int[boards + 1];
+        plan.boardDonation = new long[boards + 1];
+        plan.userDonation = new long[users + 1];
+
+        plan.commentBoard = new int[comments];
+        plan.commentUser = new int[comments];
+        plan.commentRating = new byte[comments];
+        plan.commentDonation = new int[comments];
+        plan.commentLike = new int[comments];
+        Roaring64Bitmap seen = new Roaring64Bitmap();
+        for(int i = 0 ; i < comments ; i++) {
+            long key = uniquePair(boardPopularity, userActivity, seen, random);
+            int board = (int) (key / width), user = (int) (key % width);
+            // board 마다 평균 점수를 두고 그 주변으로 흩어지게 한다.
+            double noise = random.nextDouble() + random.nextDouble() + random.nextDouble() - 1.5;
+            int rating = (int) Math.max(1, Math.min(10, Math.round(plan.boardQuality[board] + noise * 2)));
+            int donation = random.nextInt(100) < 8 ? DONATIONS[random.nextInt(DONATIONS.length)] : 0;
+
+            plan.commentBoard[i] = board;
+            plan.commentUser[i] = user;
+            plan.commentRating[i] = (byte) rating;
+            plan.commentDonation[i] = donation;
+            plan.boardComments[board]++;
+            plan.boardRatingSum[board] += rating;
+            plan.boardDonation[board] += donation;
+            plan.userDonation[user] += donation;
+        }
+
+        plan.likeBoard = new int[likes];
+        plan.likeUser = new int[likes];
+        seen = new Roaring64Bitmap();
+        for(int i = 0 ; i < likes ; i++) {
+            long key = uniquePair(boardPopularity, userActivity, seen, random);
+            plan.likeBoard[i] = (int) (key / width);
+            plan.likeUser[i] = (int) (key % width);
+            plan.boardLikes[plan.likeBoard[i]]++;
+        }
+
+        planRatings(plan, boardPopularity, userActivity, random);
+        return plan;
+    }
+
+    // 인기 board 의 comment 가, 그 안에서는 앞쪽 comment 가 좋아요를 더 많이 받는다.
+    private void planRatings(Plan plan, ZipfSampler boardPopularity, ZipfSampler userActivity, SplittableRandom random) {
+        // board 별 comment 목록 (board 순서로 정렬한 comment index + 시작 위치)
+        int[] offsets = new int[boards + 2];
+        for(int i = 0 ; i < comments ; i++) offsets[plan.commentBoard[i] + 1]++;
+        for(int board = 1 ; board <= boards + 1 ; board++) offsets[board] += offsets[board - 1];
+        int[] byBoard = new int[comments];
+        int[] next = offsets.clone();
+        for(int i = 0 ; i < comments ; i++) byBoard[next[plan.commentBoard[i]]++] = i;
+
+        long width = users + 1L;
+        plan.ratingComment = new int[ratings];
+        plan.ratingUser = new int[ratings];
+        Roaring64Bitmap seen = new Roaring64Bitmap();
+        for(int i = 0 ; i < ratings ; i++) {
+            for(int attempt = 0 ; ; attempt++) {
+                if(attempt == MAX_ATTEMPTS) throw new IllegalStateException("datagen : no unused (comment, user) pair left");
+                boolean zipf = attempt < ZIPF_ATTEMPTS;
+
+                int comment;
+                if(zipf) {
+                    int board = boardPopularity.sample(random);
+                    int from = offsets[board], to = offsets[board + 1];
+                    if(from == to) continue;
+                    double u = random.nextDouble();
+                    comment = byBoard[from + (int) ((to - from) * u * u)];
+                } else {
+                    comment = random.nextInt(comments);
+                }
+                int user = zipf ? userActivity.sample(random) : 1 + random.nextInt(users);
+
+                long key = comment * width + user;
+                if(seen.contains(key)) continue;
+                seen.addLong(key);
+                plan.ratingComment[i] = comment;
+                plan.ratingUser[i] = user;
+                plan.commentLike[comment]++;
+                break;
+            }
+        }
+    }
+
+    // (left, right) 가 겹치지 않는 쌍을 left * (right.size + 1) + right 로 돌려준다.
+    private static long uniquePair(ZipfSampler left, ZipfSampler right, Roaring64Bitmap seen, SplittableRandom random) {
+        long width = right.size() + 1L;
+        for(int attempt = 0 ; attempt < MAX_ATTEMPTS ; attempt++) {
+            boolean zipf = attempt < ZIPF_ATTEMPTS;
+            int a = zipf ? left.sample(random) : 1 + random.nextInt(left.size());
+            int b = zipf ? right.sample(random) : 1 + random.nextInt(right.size());
+            long key = a * width + b;
+            if(!seen.contains(key)) {
+                seen.addLong(key);
+                return key;
+            }
+        }
+        throw new IllegalStateException("datagen : no unused pair left, raise users or lower the row count");
+    }
+
+    private void write(Connection connection, Plan plan, SplittableRandom random) throws SQLException {
+        long now = System.currentTimeMillis();
+        long from = now - TimeUnit.DAYS.toMillis(days);
+        long span = now - from;
+
+        try(MultiRowInsert insert = insert(connection, "`user`",
+                "id", "admin_role", "banned", "email", "password", "nickname", "created_at", "total_donation", "ad_agree")) {
+            for(int user = 1 ; user <= users ; user++) {
+                insert.row((long) user, user == 1, false,
+                        user == 1 ? "admin@gofundindie.com" : "user" + user + "@gofundindie.com", password,
+                        SyntheticText.personName(random) + user,
+                        new Timestamp(from + span * (user - 1) / users),
+                        (int) Math.min(Integer.MAX_VALUE, plan.userDonation[user]), random.nextInt(10) < 7);
+            }
+        }
+        log.info("datagen : users done");
+
+        try(MultiRowInsert insert = insert(connection, "genre", "id", "name")) {
+            for(int genre = 1 ; genre <= genres ; genre++) {
+                insert.row((long) genre, genre <= GENRES.length ? GENRES[genre - 1] : "장르 " + genre);
+            }
+        }
+
+        // board id 는 만든 순서 (created_at 오름차순)
+        try(MultiRowInsert insert = insert(connection, "board",
+                "id", "user_id", "is_approve", "title", "producer", "distributor", "poster_img", "view_link",
+                "info_country", "info_created_year", "info_created_date", "info_time", "info_limit", "info_story",
+                "info_subtitle", "created_at", "comment_amount", "like_amount", "rating_sum", "rating_count", "donation_amount")) {
+            for(int board = 1 ; board <= boards ; board++) {
+                int year = 2000 + random.nextInt(22);
+                insert.row((long) board, owner(random), random.nextInt(20) != 0,
+                        SyntheticText.title(random), SyntheticText.company(random),
+                        random.nextInt(3) == 0 ? null : SyntheticText.company(random),
+                        "https://gofundindie.example/poster/" + board + ".jpg",
+                        "https://gofundindie.example/watch/" + board,
+                        SyntheticText.country(random), String.valueOf(year),
+                        String.format("%d-%02d-%02d", year, 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                        10 + random.nextInt(140), random.nextInt(4) * 6, SyntheticText.story(random),
+                        random.nextInt(10) < 3, boardTime(board, from, span),
+                        plan.boardComments[board], plan.boardLikes[board],
+                        plan.boardRatingSum[board], plan.boardComments[board],
+                        (int) Math.min(Integer.MAX_VALUE, plan.boardDonation[board]));
+            }
+        }
+        log.info("datagen : boards done");
+
+        writeBoardChildren(connection, random);
+
+        try(MultiRowInsert insert = insert(connection, "comment",
+                "id", "rating", "user_id", "board_id", "donation", "body", "created_at", "spoiler", "`like`")) {
+            for(int i = 0 ; i < comments ; i++) {
+                int board = plan.commentBoard[i];
+                insert.row(i + 1L, (int) plan.commentRating[i], (long) plan.commentUser[i], (long) board,
+                        plan.commentDonation[i], SyntheticText.comment(random),
+                        afterBoard(board, from, span, now, random), random.nextInt(50) == 0, plan.commentLike[i]);
+            }
+        }
+        log.info("datagen : comments done");
+
+        try(MultiRowInsert insert = insert(connection, "board_like", "id", "user_id", "board_id", "created_at")) {
+            for(int i = 0 ; i < likes ; i++) {
+                insert.row(i + 1L, (long) plan.likeUser[i], (long) plan.likeBoard[i],
+                        afterBoard(plan.likeBoard[i], from, span, now, random));
+            }
+        }
+        log.info("datagen : likes done");
+
+        try(MultiRowInsert insert = insert(connection, "comment_rating", "id", "user_id", "comment_id")) {
+            for(int i = 0 ; i < ratings ; i++) {
+                insert.row(i + 1L, (long) plan.ratingUser[i], plan.ratingComment[i] + 1L);
+            }
+        }
+        log.info("datagen : ratings done");
+    }
+
+    // board 마다 genre 1~3 개 (genre 도 Zipf), casting / still 은 평균 castingsPerBoard / stillsPerBoard 개
+    private void writeBoardChildren(Connection connection, SplittableRandom random) throws SQLException {
+        ZipfSampler genrePopularity = new ZipfSampler(genres, 0.7, random);
+        long genreId = 0, castingId = 0, stillId = 0;
+
+        try(MultiRowInsert genre = insert(connection, "board_genre", "id", "board_id", "genre_id");
+            MultiRowInsert casting = insert(connection, "casting", "id", "name", "`position`", "image", "board_id");
+            MultiRowInsert still = insert(connection, "still", "id", "image", "board_id")) {
+            for(int board = 1 ; board <= boards ; board++) {
+                int first = genrePopularity.sample(random);
+                int count = Math.min(genres, 1 + random.nextInt(3));
+                for(int g = 0 ; g < count ; g++) {
+                    genre.row(++genreId, (long) board, (long) (1 + (first - 1 + g) % genres));
+                }
+
+                int castings = around(castingsPerBoard, random);
+                for(int position = 1 ; position <= castings ; position++) {
+                    castingId++;
+                    casting.row(castingId, SyntheticText.personName(random), position,
+                            "https://gofundindie.example/casting/" + castingId + ".jpg", (long) board);
+                }
+
+                int stills = around(stillsPerBoard, random);
+                for(int s = 0 ; s < stills ; s++) {
+                    stillId++;
+                    still.row(stillId, "https://gofundindie.example/still/" + stillId + ".jpg", (long) board);
+                }
+            }
+        }
+        log.info("datagen : board genres / castings / stills done");
+    }
+
+    private MultiRowInsert insert(Connection connection, String table, String... columns) {
+        return new MultiRowInsert(connection, table, columns, statementRows, commitRows);
+    }
+
+    // user 1 (관리자) 를 빼고 고른다.
+    private long owner(SplittableRandom random) {
+        return users == 1 ? 1L : 2L + random.nextInt(users - 1);
+    }
+
+    private Timestamp boardTime(int board, long from, long span) {
+        return new Timestamp(from + span * (board - 1) / boards);
+    }
+
+    private Timestamp afterBoard(int board, long from, long span, long now, SplittableRandom random) {
+        long created = from + span * (board - 1) / boards;
+        return new Timestamp(created + (long) ((now - created) * random.nextDouble()));
+    }
+
+    // 평균이 average 인 0 ~ 2 * average 사이 값
+    private static int around(int average, SplittableRandom random) {
+        return average <= 0 ? 0 : random.nextInt(2 * average + 1);
+    }
+
+    private static boolean hasRows(Connection connection, String table) throws SQLException {
+        try(Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery("SELECT 1 FROM " + table + " LIMIT 1")) {
+            return rs.next();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try(Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
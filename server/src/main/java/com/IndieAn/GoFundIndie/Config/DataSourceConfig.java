@@ -0,0 +1,108 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.listener.logging.SLF4JSlowQueryListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+// primary(쓰기) / replica(읽기) connection pool 과 둘 사이를 고르는 routing DataSource
+// replica 주소를 따로 주지 않으면 같은 DB 를 가리키는 읽기 전용 pool 을 만든다.
+// (피드 / 검색 같은 읽기가 결제 같은 쓰기와 connection 을 두고 다투지 않는다)
+// 각 pool 은 datasource-proxy 로 감싸서 statement 실행 시간을 기록하고, 느린 query 는 bind 값의 type 과 함께 로그로 남긴다.
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("gofundindie.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${gofundindie.datasource.replica.url:${spring.datasource.url}}") String url,
+                                              @Value("${gofundindie.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${gofundindie.datasource.replica.password:${spring.datasource.password}}") String password) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    // 이미 connection 을 쥔 스레드가 하나 더 필요할 때 쓰는 작은 pool (RoutingDataSource 참고)
+    @Bean
+    @ConfigurationProperties("gofundindie.datasource.isolated.hikari")
+    public HikariDataSource isolatedDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(@Value("${gofundindie.datasource.replica.sticky-ms:3000}") long stickyMs,
+                                               @Value("${gofundindie.datasource.replica.sticky-max-clients:100000}") long maxClients) {
+        return new ReplicaStickiness(stickyMs, maxClients);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 @Qualifier("isolatedDataSource") DataSource isolated,
+                                 ReplicaStickiness stickiness,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${gofundindie.jdbc.slow-query-ms:500}") long slowQueryMs) {
+        return new LazyConnectionDataSourceProxy(new RoutingDataSource(
+                instrument(RoutingDataSource.PRIMARY, primary, meterRegistry, slowQueryMs),
+                instrument(RoutingDataSource.REPLICA, replica, meterRegistry, slowQueryMs),
+                instrument(RoutingDataSource.ISOLATED, isolated, meterRegistry, slowQueryMs),
+                stickiness));
+    }
+
+    // spring boot 기본 설정과 같고, replica 로 가는 readOnly transaction 만 캐시에 올리지 않는 dialect 를 쓴다. (ReplicaCacheJpaDialect)
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties, ReplicaStickiness stickiness) {
+        HibernateJpaDialect jpaDialect = new ReplicaCacheJpaDialect(stickiness);
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return jpaDialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if(properties.getDatabase() != null) adapter.setDatabase(properties.getDatabase());
+        if(properties.getDatabasePlatform() != null) adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+
+    private static DataSource instrument(String name, DataSource dataSource, MeterRegistry meterRegistry, long slowQueryMs) {
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(name, dataSource)
+                .listener(new JdbcMetricsListener(meterRegistry, name));
+        // slow-query-ms 이상 걸리는 statement 는 끝나기 전에 query 와 bind 값의 type 을 WARN 으로 남긴다. (0 이면 끈다)
+        if(slowQueryMs > 0) {
+            SLF4JSlowQueryListener slowQuery = new SLF4JSlowQueryListener(slowQueryMs, TimeUnit.MILLISECONDS);
+            slowQuery.setLogLevel(SLF4JLogLevel.WARN);
+            slowQuery.setLogger("gofundindie.jdbc.slow-query");
+            slowQuery.setQueryLogEntryCreator(new MaskedQueryLogEntryCreator());
+            builder.listener(slowQuery);
+        }
+        return builder.build();
+    }
+}
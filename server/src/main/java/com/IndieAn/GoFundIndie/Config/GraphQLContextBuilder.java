@@ -0,0 +1,42 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Resolvers.DataLoaders.BoardDataLoaders;
+import graphql.kickstart.execution.context.DefaultGraphQLContext;
+import graphql.kickstart.execution.context.GraphQLContext;
+import graphql.kickstart.servlet.context.DefaultGraphQLServletContext;
+import graphql.kickstart.servlet.context.DefaultGraphQLWebSocketContext;
+import graphql.kickstart.servlet.context.GraphQLServletContextBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+
+@Component
+@RequiredArgsConstructor
+public class GraphQLContextBuilder implements GraphQLServletContextBuilder {
+    private final BoardDataLoaders boardDataLoaders;
+
+    @Override
+    public GraphQLContext build(HttpServletRequest request, HttpServletResponse response) {
+        return DefaultGraphQLServletContext.createServletContext(boardDataLoaders.registry(), null)
+                .with(request)
+                .with(response)
+                .build();
+    }
+
+    @Override
+    public GraphQLContext build(Session session, HandshakeRequest handshakeRequest) {
+        return DefaultGraphQLWebSocketContext.createWebSocketContext(boardDataLoaders.registry(), null)
+                .with(session)
+                .with(handshakeRequest)
+                .build();
+    }
+
+    @Override
+    public GraphQLContext build() {
+        return new DefaultGraphQLContext(boardDataLoaders.registry(), null);
+    }
+}
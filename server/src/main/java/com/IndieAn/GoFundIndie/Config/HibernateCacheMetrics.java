@@ -0,0 +1,40 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Repository.EntityManagerExtend;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+
+// Hibernate 2차 캐시 / query 캐시 region 별 hit, miss, put, eviction 을 cache.* metric 으로 내보낸다.
+// (application.conf (caffeine.jcache) 에서 monitoring.statistics 가 켜져 있어야 값이 나온다)
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics {
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void Bind() {
+        CacheImplementor cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+        RegionFactory regionFactory = cache.getRegionFactory();
+        if(!(regionFactory instanceof JCacheRegionFactory)) return;
+
+        // 이름을 붙인 query cache region 은 처음 쓸 때 만들어지므로 미리 만들어 둔다.
+        cache.getQueryResultsCache(EntityManagerExtend.BOARD_DETAIL_QUERY_REGION);
+
+        CacheManager cacheManager = ((JCacheRegionFactory) regionFactory).getCacheManager();
+        for(String name : cacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(name), Tags.of("layer", "hibernate"));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+
+// id_sequence 의 값을 각 테이블의 MAX(id) 이상으로 맞춘다. (다음 id 가 MAX(id) + 1 부터 나온다)
+// import.sql 이나 직접 넣은 데이터가 있어도 pooled id 가 겹치지 않게, 요청 / 스케줄이 시작되기 전에 한 번 실행한다.
+@Slf4j
+@Component
+public class IdSequenceSync {
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTx;
+
+    public IdSequenceSync(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void Sync() {
+        writeTx.executeWithoutResult(status -> {
+            SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class);
+            // 기본값(true) 이면 테이블에는 마지막으로 쓴 값이, false 면 다음 값이 들어있다.
+            boolean storeLastUsed = !"false".equals(String.valueOf(
+                    sessionFactory.getProperties().get(AvailableSettings.TABLE_GENERATOR_STORE_LAST_USED)));
+
+            for(EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+                if(!(persister.getIdentifierGenerator() instanceof TableGenerator)) continue;
+                TableGenerator generator = (TableGenerator) persister.getIdentifierGenerator();
+
+                Number max = entityManager.createQuery(
+                        "SELECT MAX(e." + persister.getIdentifierPropertyName() + ") FROM " + persister.getEntityName() + " e",
+                        Number.class).getSingleResult();
+                if(max == null) continue;
+
+                long next = max.longValue() + 1;
+                long stored = storeLastUsed ? max.longValue() : next;
+                String table = generator.getTableName();
+                String segmentColumn = generator.getSegmentColumnName();
+                String valueColumn = generator.getValueColumnName();
+
+                int updated = entityManager.createNativeQuery(
+                        "UPDATE " + table + " SET " + valueColumn + " = :stored " +
+                        "WHERE " + segmentColumn + " = :segment AND " + valueColumn + " < :stored")
+                        .setParameter("stored", stored)
+                        .setParameter("segment", generator.getSegmentValue())
+                        .executeUpdate();
+                if(updated == 0 && !segmentExists(table, segmentColumn, generator.getSegmentValue())) {
+                    entityManager.createNativeQuery(
+                            "INSERT INTO " + table + " (" + segmentColumn + ", " + valueColumn + ") VALUES (:segment, :stored)")
+                            .setParameter("segment", generator.getSegmentValue())
+                            .setParameter("stored", stored)
+                            .executeUpdate();
+                    updated = 1;
+                }
+                if(updated > 0) log.info("id sequence {} starts at {}", generator.getSegmentValue(), next);
+            }
+        });
+    }
+
+    private boolean segmentExists(String table, String segmentColumn, String segment) {
+        return !entityManager.createNativeQuery(
+                "SELECT 1 FROM " + table + " WHERE " + segmentColumn + " = :segment")
+                .setParameter("segment", segment)
+                .getResultList()
+                .isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// JDBC statement 실행 시간을 gofundindie.jdbc.query timer 로 기록한다.
+// tag : pool=primary | replica, type=select | insert | update | delete | other, batch=true | false
+public class JdbcMetricsListener implements QueryExecutionListener {
+    private static final String METRIC = "gofundindie.jdbc.query";
+    private static final String[] TYPES = { "select", "insert", "update", "delete" };
+
+    private final MeterRegistry meterRegistry;
+    private final String pool;
+
+    // type / batch 조합마다 timer 를 한 번만 만든다. (statement 마다 builder 로 registry 를 찾지 않는다)
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public JdbcMetricsListener(MeterRegistry meterRegistry, String pool) {
+        this.meterRegistry = meterRegistry;
+        this.pool = pool;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String type = queryInfoList.isEmpty() ? "other" : type(queryInfoList.get(0).getQuery());
+        boolean batch = execInfo.isBatch();
+
+        timers.computeIfAbsent(batch ? type + ":batch" : type, key -> timer(type, batch))
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+    }
+
+    private Timer timer(String type, boolean batch) {
+        return Timer.builder(METRIC)
+                .description("JDBC statement execution time")
+                .tag("pool", pool)
+                .tag("type", type)
+                .tag("batch", String.valueOf(batch))
+                .register(meterRegistry);
+    }
+
+    // 앞의 공백을 건너뛰고 첫 단어만 본다.
+    private static String type(String sql) {
+        int start = 0;
+        while(start < sql.length() && Character.isWhitespace(sql.charAt(start))) start++;
+
+        for(String type : TYPES) {
+            if(sql.regionMatches(true, start, type, 0, type.length())) return type;
+        }
+        return "other";
+    }
+}
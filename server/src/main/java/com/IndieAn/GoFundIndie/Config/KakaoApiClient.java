@@ -0,0 +1,139 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Kakao API 호출에 같이 쓰는 HTTP client
+// keep-alive connection pool 과 connect / read timeout 을 두고, 동시 호출 수(bulkhead)를 제한하고,
+// 실패나 느린 응답이 이어지면 circuit breaker 를 열어 한동안 바로 거절한다.
+// Kakao 가 느려져도 Tomcat 스레드가 timeout 까지 쌓이지 않는다.
+@Slf4j
+@Component
+public class KakaoApiClient implements DisposableBean {
+    public static final String NAME = "kakao";
+
+    private final String host;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public KakaoApiClient(MeterRegistry meterRegistry,
+                          @Value("${gofundindie.kakao.api-host:https://kapi.kakao.com}") String host,
+                          @Value("${gofundindie.kakao.max-connections:50}") int maxConnections,
+                          @Value("${gofundindie.kakao.connect-timeout-ms:1000}") int connectTimeoutMs,
+                          @Value("${gofundindie.kakao.read-timeout-ms:5000}") int readTimeoutMs,
+                          @Value("${gofundindie.kakao.idle-timeout-ms:30000}") long idleTimeoutMs,
+                          @Value("${gofundindie.kakao.max-concurrent-calls:20}") int maxConcurrentCalls,
+                          @Value("${gofundindie.kakao.max-wait-ms:100}") long maxWaitMs,
+                          @Value("${gofundindie.kakao.failure-rate-threshold:50}") float failureRateThreshold,
+                          @Value("${gofundindie.kakao.slow-call-ms:3000}") long slowCallMs,
+                          @Value("${gofundindie.kakao.sliding-window-size:20}") int slidingWindowSize,
+                          @Value("${gofundindie.kakao.open-ms:10000}") long openMs) {
+        this.host = host;
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        // 오래 쉰 connection 은 꺼내기 전에 살아 있는지 확인한다.
+        connectionManager.setValidateAfterInactivity(2000);
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMs)
+                        .setSocketTimeout(readTimeoutMs)
+                        .setConnectionRequestTimeout(connectTimeoutMs)
+                        .build())
+                .evictIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS)
+                // 결제 요청은 멱등이 아니므로 다시 보내지 않는다.
+                .disableAutomaticRetries()
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build());
+        // 4xx 는 요청 쪽 문제 (잘못된 pg_token 등) 라서 Kakao 장애로 세지 않는다.
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallMs))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.max(1, slidingWindowSize / 2))
+                .waitDurationInOpenState(Duration.ofMillis(openMs))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("kakao circuit breaker : {}", event.getStateTransition()));
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+    }
+
+    // form 을 POST 하고 응답 JSON 을 type 으로 받는다.
+    // Kakao 가 응답하지 않거나 (timeout, 5xx) 동시 호출이 가득 찼거나 circuit breaker 가 열려 있으면 UnavailableException
+    public <T> T post(String path, String authorization, MultiValueMap<String, String> form, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", authorization);
+        headers.add("Content-Type", MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=UTF-8");
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(form, headers);
+
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker,
+                    () -> restTemplate.postForObject(host + path, request, type))).get();
+        } catch (BulkheadFullException | CallNotPermittedException | ResourceAccessException | HttpServerErrorException e) {
+            log.warn("kakao {} unavailable : {}", path, e.getMessage());
+            throw new UnavailableException(path, e);
+        }
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+    }
+
+    public static class UnavailableException extends RuntimeException {
+        public UnavailableException(String path, Throwable cause) {
+            super("kakao " + path + " unavailable", cause);
+        }
+    }
+}
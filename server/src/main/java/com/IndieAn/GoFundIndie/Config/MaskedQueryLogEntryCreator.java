@@ -0,0 +1,15 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+// 느린 query 로그에 bind 값 대신 값의 type 만 남긴다. (비밀번호 / token 같은 값이 로그에 남지 않게)
+// setNull 은 그대로 NULL(sql type) 으로 남는다.
+public class MaskedQueryLogEntryCreator extends DefaultQueryLogEntryCreator {
+
+    @Override
+    public String getDisplayValue(ParameterSetOperation param) {
+        Object value = param.getArgs()[1];
+        return value == null ? "null" : value.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,16 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+
+import java.io.Serializable;
+
+// id_sequence 테이블을 읽고 올리는 hibernate TableGenerator
+// id 블록을 받을 때 hibernate 는 insert 중인 connection 과 별도로 connection 을 하나 더 가져온다. (isolated work)
+// 같은 pool 에서 가져오면 insert 하는 요청이 pool 크기만큼 몰렸을 때 서로를 기다리며 멈추므로 isolated pool 에서 받는다.
+public class PooledIdGenerator extends TableGenerator {
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object obj) {
+        return RoutingDataSource.isolated(() -> super.generate(session, obj));
+    }
+}
@@ -1,19 +1,21 @@
 package com.IndieAn.GoFundIndie.Config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 
 @Configuration
 public class PropertyConfig {
 
+    // 기본은 commit 하지 않는 classpath:info.properties. (벤치마크 / 부하 테스트는 commit 된 placeholder 파일을 준다)
     @Bean(name = "info")
-    public PropertiesFactoryBean propertiesFactoryBean() throws Exception {
+    public PropertiesFactoryBean propertiesFactoryBean(
+            @Value("${gofundindie.info.location:classpath:info.properties}") Resource location) throws Exception {
         PropertiesFactoryBean propertiesFactoryBean = new PropertiesFactoryBean();
-        ClassPathResource classPathResource = new ClassPathResource("info.properties");
 
-        propertiesFactoryBean.setLocation(classPathResource);
+        propertiesFactoryBean.setLocation(location);
 
         return propertiesFactoryBean;
     }
@@ -0,0 +1,64 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+// replica 로 가는 readOnly transaction 은 2차 캐시 / query 캐시를 읽기만 한다. (CacheMode.GET, storeMode BYPASS)
+// 쓰기 직후 evict 된 board 를 복제 지연 동안의 예전 값으로 다시 채우지 않는다.
+// transaction 이 끝나면 session 의 cache mode 를 되돌린다. (OSIV 로 같은 session 이 다음 transaction 에도 쓰인다)
+public class ReplicaCacheJpaDialect extends HibernateJpaDialect {
+    // EntityManager.find 는 session 의 cache mode 대신 이 property 로 cache mode 를 정한다.
+    private static final String STORE_MODE = "javax.persistence.cache.storeMode";
+
+    private final ReplicaStickiness stickiness;
+
+    public ReplicaCacheJpaDialect(ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // transaction 이 아직 시작되기 전이므로 definition 으로 판단한다. (RoutingDataSource 와 같은 기준)
+        if(!definition.isReadOnly() || stickiness.isSticky()) return transactionData;
+
+        Session session = getSession(entityManager);
+        ReplicaTransactionData data = new ReplicaTransactionData(transactionData, session,
+                session.getCacheMode(), session.getProperties().get(STORE_MODE));
+        session.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        session.setCacheMode(CacheMode.GET);
+        return data;
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if(transactionData instanceof ReplicaTransactionData) {
+            ReplicaTransactionData data = (ReplicaTransactionData) transactionData;
+            data.session.setProperty(STORE_MODE, data.previousStoreMode != null ? data.previousStoreMode : CacheStoreMode.USE);
+            data.session.setCacheMode(data.previousCacheMode);
+            transactionData = data.target;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static final class ReplicaTransactionData {
+        private final Object target;
+        private final Session session;
+        private final CacheMode previousCacheMode;
+        private final Object previousStoreMode;
+
+        private ReplicaTransactionData(Object target, Session session, CacheMode previousCacheMode, Object previousStoreMode) {
+            this.target = target;
+            this.session = session;
+            this.previousCacheMode = previousCacheMode;
+            this.previousStoreMode = previousStoreMode;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+// read-your-writes : 쓰기를 한 클라이언트의 읽기는 잠시 동안 primary 로 보낸다. (replica 복제 지연 동안 예전 값을 보지 않게)
+// 클라이언트는 요청의 accesstoken 으로 구분하고, 같은 요청 안에서 쓴 뒤의 읽기는 토큰이 없어도 primary 로 간다.
+public class ReplicaStickiness {
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    // clientKey -> 마지막 쓰기. sticky-ms 가 지나면 사라진다.
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaStickiness(long stickyMs, long maxClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyMs, TimeUnit.MILLISECONDS)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    // 요청 시작 / 끝 (ReplicaStickinessFilter)
+    public void begin(String clientKey) {
+        CURRENT.set(new Context(clientKey));
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    // 다른 스레드에서 실행되는 작업도 요청의 상태를 그대로 쓴다. (TaskDecorator)
+    public Runnable wrap(Runnable task) {
+        Context context = CURRENT.get();
+        if(context == null) return task;
+
+        return () -> {
+            Context before = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if(before == null) CURRENT.remove();
+                else CURRENT.set(before);
+            }
+        };
+    }
+
+    public boolean isSticky() {
+        Context context = CURRENT.get();
+        if(context == null) return false;
+        return context.wrote || (context.clientKey != null && recentWriters.getIfPresent(context.clientKey) != null);
+    }
+
+    // 지금 transaction 의 읽기가 replica 로 가는지 (RoutingDataSource 와 같은 기준)
+    // replica 에서 읽은 값은 복제 지연만큼 예전 값일 수 있으므로 캐시에 올리지 않는 데 쓴다.
+    public boolean readsReplica() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !isSticky();
+    }
+
+    // primary 에 쓰기 transaction 을 연 경우
+    public void markWrite() {
+        Context context = CURRENT.get();
+        if(context == null) return;
+
+        context.wrote = true;
+        if(context.clientKey != null) recentWriters.put(context.clientKey, Boolean.TRUE);
+    }
+
+    private static class Context {
+        private final String clientKey;
+        private volatile boolean wrote;
+
+        private Context(String clientKey) {
+            this.clientKey = clientKey;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+// 요청마다 read-your-writes 상태를 연다. 클라이언트는 accesstoken 으로 구분한다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ReplicaStickinessFilter implements Filter {
+    private final ReplicaStickiness stickiness;
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        stickiness.begin(((HttpServletRequest) req).getHeader("accesstoken"));
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            stickiness.end();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// repository 메소드마다 실행 시간을 gofundindie.repository timer 로 기록한다.
+// tag : method=BoardRepository.findBoardsByGenre, exception=none | 예외 클래스 이름
+// (같은 repository 안에서 부르는 메소드는 proxy 를 거치지 않으므로 부른 쪽 시간에 포함된다)
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryTimingAspect {
+    private static final String METRIC = "gofundindie.repository";
+
+    private final MeterRegistry meterRegistry;
+
+    // 성공한 호출의 timer 는 메소드마다 한 번만 만든다.
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(com.IndieAn.GoFundIndie.Repository..*) && @within(org.springframework.stereotype.Repository)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.computeIfAbsent(method, key -> timer(key, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(method, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String method, String exception) {
+        return Timer.builder(METRIC)
+                .description("repository method execution time")
+                .tag("method", method)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// readOnly transaction 은 replica, 나머지(쓰기 transaction, transaction 밖의 실행)는 primary 로 보낸다.
+// transaction 의 readOnly 여부는 connection 을 실제로 가져올 때 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+// connection 을 쥔 채로 하나 더 필요한 작업(id 테이블 읽기, 요청 중의 REQUIRES_NEW)은 isolated(...) 로 감싸서 isolated pool 에서 받는다.
+// 같은 pool 에서 두 번째를 기다리면 요청이 pool 크기만큼 몰렸을 때 서로를 기다리며 멈춘다. (pool locking)
+public class RoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+    public static final String ISOLATED = "isolated";
+
+    private final ReplicaStickiness stickiness;
+    private final DataSource isolated;
+
+    // isolated(...) 안에서 가져가는 connection 은 isolated pool 에서 준다. (try / finally 로 닫으므로 스레드에 남지 않는다)
+    private static final ThreadLocal<AtomicInteger> ISOLATED_WORK = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public RoutingDataSource(DataSource primary, DataSource replica, DataSource isolated, ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+        this.isolated = isolated;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.put(REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(!TransactionSynchronizationManager.isActualTransactionActive()) return PRIMARY;
+
+        if(TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return stickiness.isSticky() ? PRIMARY : REPLICA;
+        }
+
+        stickiness.markWrite();
+        return PRIMARY;
+    }
+
+    // 이미 connection 을 쥔 채로 잠깐 하나 더 필요한 작업 (hibernate id 테이블 작업, 요청 스레드의 REQUIRES_NEW)
+    public static <T> T isolated(Supplier<T> work) {
+        AtomicInteger depth = ISOLATED_WORK.get();
+        depth.incrementAndGet();
+        try {
+            return work.get();
+        } finally {
+            depth.decrementAndGet();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if(ISOLATED_WORK.get().get() > 0) return isolated.getConnection();
+        return super.getConnection();
+    }
+}
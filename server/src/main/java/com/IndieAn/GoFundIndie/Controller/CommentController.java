@@ -20,7 +20,6 @@ public class CommentController {
     private final CommentRatingService commentRatingService;
     private final UserService userService;
     private final BoardService boardService;
-    private HashMap<String, Object> body = new HashMap<>();
 
     @Autowired
     public CommentController(CommentService commentService, UserService userService,
@@ -47,7 +46,7 @@ public class CommentController {
         // 영화 보드에 작성된 댓글들을 불러오는 메소드
         // 해당 board가 존재하지 않으면 404 응답을 한다.
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             String email = null;
             // 헤더에 access token이 있다면 회원으로 보는 것이다.
             if(requestHeader.get("accesstoken") != null) {
@@ -74,6 +73,38 @@ public class CommentController {
         }
     }
 
+    @GetMapping(value = "/comment/{boardId}/feed")
+    public ResponseEntity<?> GetCommentFeed(@PathVariable long boardId, @RequestParam(required = false) String type,
+                                            @RequestParam(required = false) String cursor, @RequestHeader Map<String, String> requestHeader) {
+        // 영화 보드에 작성된 댓글들을 cursor 로 이어서 불러오는 메소드
+        // 해당 board가 존재하지 않으면 404 응답을 한다.
+        try {
+            HashMap<String, Object> body = new HashMap<>();
+            String email = null;
+            // 헤더에 access token이 있다면 회원으로 보는 것이다.
+            if(requestHeader.get("accesstoken") != null) {
+                // 헤더에 존재하는 토큰을 가지고 유효성 검증을 한다.
+                Map<String, Object> checkToken = userService.CheckToken(requestHeader.get("accesstoken"));
+                // 검증이 되지 않는다면 응답 오류를 보낸다.
+                if(checkToken.get("email") == null) {
+                    return ResponseEntity.status(401).body(checkToken);
+                }
+                email = (String)checkToken.get("email");
+            }
+
+            // Board id로 board를 찾고, 없을 때의 응답을 추가한다.
+            Board board = boardService.FindBoardId(boardId);
+            if(board == null) {
+                body.put("code", 4401);
+                return ResponseEntity.status(404).body(body);
+            }
+            body = commentService.GetCommentFeed(board, email, type, cursor);
+            return ResponseEntity.status(body.get("data") == null ? 400 : 200).body(body);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("err");
+        }
+    }
+
     @PutMapping(value = "/comment")
     public ResponseEntity<?> ModifyComment(@RequestBody CommentModifyDTO commentModifyDTO, @RequestHeader Map<String, String> requestHeader){
         // 작성된 댓글을 수정하는 기능
@@ -90,7 +121,7 @@ public class CommentController {
         // 작성된 댓글을 삭제하는 기능
         // 해당 id를 가진 comment가 존재하지 않으면 404 응답을 한다.
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // 헤더에 accesstoken이 없으면 4000 응답을 한다.
             if(requestHeader.get("accesstoken") == null) {
                 body.put("code", 4000);
@@ -124,7 +155,7 @@ public class CommentController {
     public ResponseEntity<?> RatingComment(@RequestBody RatingInputDTO commentId, @RequestHeader Map<String, String> requestHeader) {
         // 댓글 좋아요 기능
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // 헤더에 accesstoken이 없으면 4000 응답을 한다.
             if(requestHeader.get("accesstoken") == null) {
                 body.put("code", 4000);
@@ -12,7 +12,6 @@ import org.springframework.web.multipart.MultipartException;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.persistence.EntityManager;
-import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
@@ -22,8 +21,6 @@ public class ImageController {
     private final ImageService imageService;
     private final EntityManager entityManager;
 
-    private final HashMap<String, Object> body = new HashMap<>();
-
     @PostMapping(value = {"/image/{path}/{path_id}", "/image/{path}"})
     public ResponseEntity<?> UploadImage(@RequestHeader Map<String, String> header,
                                          @PathVariable(value = "path") String path,
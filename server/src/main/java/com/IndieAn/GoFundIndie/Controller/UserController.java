@@ -23,8 +23,6 @@ public class UserController {
     private final static Integer ACCESS_TIME = 30;
     // refreshToken 유효 시간
     private final static Integer REFRESH_TIME = 30 * 24;
-    private HashMap<String, Object> body = new HashMap<>();
-    private HashMap<String, Object> data = new HashMap<>();
 
     @Autowired
     public UserController(UserService userService) {
@@ -35,7 +33,7 @@ public class UserController {
     public ResponseEntity<?> CheckDuplicate(@RequestParam(name = "type") String type, @RequestParam(name = "query") String query) {
         // email이나 nickname의 중복체크를 위한 api
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // type이 email일 경우
             if(type.equals("email")) {
                 User user = userService.FindUserUseEmail(query);
@@ -65,7 +63,7 @@ public class UserController {
     @PostMapping(value = "/signup")
     public ResponseEntity<?> UserSignUp(@RequestBody UserSignUpDTO  userSignUpDTO) {
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // DB에 해당 email이 존재하는지 확인한다. 반환 값이 null이라면 이미 존재하는 email이다.
             User user = userService.CreateUserData(userSignUpDTO);
 
@@ -84,8 +82,8 @@ public class UserController {
     @PostMapping(value = "/signin")
     public ResponseEntity<?> UserLogin(@RequestBody UserSIgnInDTO userSIgnInDTO) {
         try {
-            body.clear();
-            data.clear();
+            HashMap<String, Object> body = new HashMap<>();
+            HashMap<String, Object> data = new HashMap<>();
             // id와 password 를 기준으로 DB에 일치하는 유저 데이터를 불러온다.
             // 유저 데이터에 email을 토큰에 담아 accesstoken과 refreshToken을 생성한다.
             // accessToken은 클라이언트에서 관리할 수 있게 body에, refreshToken은 쿠키에 담겨 전달한다.
@@ -128,7 +126,7 @@ public class UserController {
         // 토큰 유효성 검사 후 유저를 로그아웃 시킨다.
         // access token 이 유효하면 모든 토큰을 만료시킨다.
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // 헤더에 access token이 없거나 refresh token이 없으면 응답코드 400을 응답한다.
             if(requestHeader.get("accesstoken") == null || requestHeader.get("refreshtoken") == null) {
                 body.put("code", 4000);
@@ -174,8 +172,8 @@ public class UserController {
         // access token이 유효하면 DB에서 동일한 email값을 가진 유저 데이터를 찾아 응답한다.
         // 헤더에 토큰이 없으면 응답코드 400을 응답한다.
         try {
-            body.clear();
-            data.clear();
+            HashMap<String, Object> body = new HashMap<>();
+            HashMap<String, Object> data = new HashMap<>();
 
             if(requestHeader.get("accesstoken") == null) {
                 body.put("code", 4000);
@@ -211,8 +209,8 @@ public class UserController {
         // access token이 유효하면 DB에서 동일한 email값을 가진 유저 데이터를 찾아 데이터 수정 후 응답한다.
         // 헤더에 토큰이 없으면 응답코드 400을 응답한다.
         try {
-            body.clear();
-            data.clear();
+            HashMap<String, Object> body = new HashMap<>();
+            HashMap<String, Object> data = new HashMap<>();
 
             if(requestHeader.get("accesstoken") == null) {
                 body.put("code", 4000);
@@ -255,7 +253,7 @@ public class UserController {
         // 토큰 유효성 검사 후 해당 유저의 데이터를 전달한다.
         // access token이 유효하면 DB에서 동일한 email값을 가진 유저 데이터를 찾아 DB 데이터 삭제 후 응답한다.
         try {
-            body.clear();
+            HashMap<String, Object> body = new HashMap<>();
             // 헤더에 access token이 없거나 refresh token이 없으면 응답코드 400을 응답한다.
             if(requestHeader.get("accesstoken") == null || requestHeader.get("refreshtoken") == null) {
                 body.put("code", 4000);
@@ -300,8 +298,8 @@ public class UserController {
     public ResponseEntity<?> ReissueAccessToken(@RequestHeader Map<String, String> requestHeader) {
         // access token이 만료됐을 때, refresh token을 검증해 새로운 access token을 발급받는다.
         try {
-            body.clear();
-            data.clear();
+            HashMap<String, Object> body = new HashMap<>();
+            HashMap<String, Object> data = new HashMap<>();
 
             // 쿠키에 refresh token이 없으면 응답코드 400을 응답한다.
             if(requestHeader.get("refreshtoken") == null) {
@@ -0,0 +1,28 @@
+package com.IndieAn.GoFundIndie.Domain.DTO;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 검색 색인에 올리는 승인된 board 한 건
+@Data
+public class BoardSearchDocumentDTO {
+    private long id;
+    private String title;
+    private String posterImg;
+    private String producer;
+    private String distributor;
+    private String infoStory;
+    private List<String> castings = new ArrayList<>();
+
+    public BoardSearchDocumentDTO(long id, String title, String posterImg,
+                                  String producer, String distributor, String infoStory) {
+        this.id = id;
+        this.title = title;
+        this.posterImg = posterImg;
+        this.producer = producer;
+        this.distributor = distributor;
+        this.infoStory = infoStory;
+    }
+}
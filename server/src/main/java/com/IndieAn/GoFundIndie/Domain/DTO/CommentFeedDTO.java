@@ -0,0 +1,19 @@
+package com.IndieAn.GoFundIndie.Domain.DTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+// cursor 로 이어 읽는 comment 목록. 다음 페이지가 없으면 nextCursor 는 null
+@Data
+public class CommentFeedDTO {
+    private List<CommentOutputDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CommentFeedDTO(List<CommentOutputDTO> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,11 @@
+package com.IndieAn.GoFundIndie.Domain.DTO;
+
+import lombok.Data;
+
+@Data
+public class KakaoPayOrderVO {
+    //response (/v1/payment/order)
+    private String tid, cid, status;
+    private String partner_order_id, partner_user_id, payment_method_type;
+    private AmountVO amount;
+}
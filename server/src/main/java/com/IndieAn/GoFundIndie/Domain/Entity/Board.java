@@ -1,14 +1,25 @@
 package com.IndieAn.GoFundIndie.Domain.Entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_board_approve_comment_amount", columnList = "is_approve, comment_amount, id"),
+        @Index(name = "idx_board_approve_created_at", columnList = "is_approve, created_at, id")
+})
 public class Board {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooled_id")
     private long id;
 
     @ManyToOne(targetEntity = User.class)
@@ -58,8 +69,9 @@ public class Board {
     @Column(name = "info_subtitle", columnDefinition = "boolean default false")
     private boolean infoSubtitle;
 
+    //    시각까지 저장한다. (keyset paging 정렬 / cursor 에 쓴다)
     @Column(name = "created_at", columnDefinition = "datetime default now()")
-    @Temporal(TemporalType.DATE)
+    @Temporal(TemporalType.TIMESTAMP)
     private Date createdAt;
 
     @Column(name = "comment_amount", columnDefinition = "integer default 0")
@@ -68,6 +80,17 @@ public class Board {
     @Column(name = "like_amount", columnDefinition = "integer default 0")
     private int likeAmount;
 
+    //    comment rating 합계 / 개수 (평균 평점 계산용)
+    @Column(name = "rating_sum", columnDefinition = "bigint default 0")
+    private long ratingSum;
+
+    @Column(name = "rating_count", columnDefinition = "integer default 0")
+    private int ratingCount;
+
+    //    정산된 후원 금액 합계 (DonationSettlementService 가 반영한다)
+    @Column(name = "donation_amount", columnDefinition = "integer default 0")
+    private int donationAmount;
+
     @OneToMany(mappedBy = "boardId", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<BoardLike> boardLikes = new ArrayList<>();
 
@@ -232,6 +255,30 @@ public class Board {
         this.likeAmount = likeAmount;
     }
 
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public int getRatingCount() {
+        return ratingCount;
+    }
+
+    public void setRatingCount(int ratingCount) {
+        this.ratingCount = ratingCount;
+    }
+
+    public int getDonationAmount() {
+        return donationAmount;
+    }
+
+    public void setDonationAmount(int donationAmount) {
+        this.donationAmount = donationAmount;
+    }
+
     public List<BoardLike> getBoardLikes() {
         return boardLikes;
     }
@@ -5,7 +5,7 @@ import javax.persistence.*;
 @Entity
 public class BoardGenre {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooled_id")
     private long id;
 
     @ManyToOne(targetEntity = Board.class)
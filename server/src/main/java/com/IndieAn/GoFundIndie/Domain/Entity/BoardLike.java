@@ -4,9 +4,12 @@ import javax.persistence.*;
 import java.util.Date;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_like_user_created_at", columnList = "user_id, created_at, id")
+})
 public class BoardLike {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooled_id")
     private long id;
 
     @ManyToOne(targetEntity = User.class)
@@ -17,8 +20,9 @@ public class BoardLike {
     @JoinColumn(name = "board_id", nullable = false)
     private Board boardId;
 
+    //    시각까지 저장한다. (keyset paging 정렬 / cursor 에 쓴다)
     @Column(name = "created_at", columnDefinition = "datetime default now()")
-    @Temporal(TemporalType.DATE)
+    @Temporal(TemporalType.TIMESTAMP)
     private Date createdAt;
 
     public BoardLike() {}
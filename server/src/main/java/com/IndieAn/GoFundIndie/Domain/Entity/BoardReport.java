@@ -8,7 +8,7 @@ import javax.persistence.*;
 @Entity
 public class BoardReport {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooled_id")
     private long id;
 
     @ManyToOne(targetEntity = User.class)
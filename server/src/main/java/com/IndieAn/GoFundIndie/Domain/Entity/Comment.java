@@ -1,14 +1,24 @@
 package com.IndieAn.GoFundIndie.Domain.Entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_comment_board_user", columnNames = {"board_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_comment_user_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_comment_board_like", columnList = "board_id, like, id"),
+        @Index(name = "idx_comment_board_id", columnList = "board_id, id")
+})
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "pooled_id")
     private long id;
 
     @Column(nullable = false, columnDefinition = "TINYINT")
@@ -0,0 +1,110 @@
+package com.IndieAn.GoFundIndie.Domain.Entity;
+
+import javax.persistence.*;
+import java.util.Date;
+
+// 승인된 후원 한 건 (outbox)
+// 결제 승인 요청에서는 이 행만 쓰고, comment / user / board 의 후원 금액은 DonationSettlementService 가 나중에 반영한다.
+// idempotency_key 는 Kakao 결제 고유 번호(tid) 라서 같은 결제가 두 번 기록되지 않는다.
+// settled_at 이 null 이면 아직 반영하지 않은 행이다.
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_donation_ledger_key", columnNames = {"idempotency_key"})
+}, indexes = {
+        @Index(name = "idx_donation_ledger_settled_at", columnList = "settled_at, id")
+})
+public class DonationLedger {
+    @Id
+    @GeneratedValue(generator = "pooled_id")
+    private long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    //    comment 나 board 가 지워져도 기록은 남도록 연관관계 없이 id 만 둔다.
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "board_id", nullable = false)
+    private long boardId;
+
+    @Column(nullable = false)
+    private int amount;
+
+    @Column(name = "created_at", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date createdAt;
+
+    @Column(name = "settled_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date settledAt;
+
+    public DonationLedger() {}
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+
+    public long getBoardId() {
+        return boardId;
+    }
+
+    public void setBoardId(long boardId) {
+        this.boardId = boardId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public void setAmount(int amount) {
+        this.amount = amount;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getSettledAt() {
+        return settledAt;
+    }
+
+    public void setSettledAt(Date settledAt) {
+        this.settledAt = settledAt;
+    }
+}
@@ -0,0 +1,17 @@
+// 모든 엔티티의 id 는 id_sequence 테이블에서 50개씩 미리 받아 쓴다. (pooled-lo)
+// IDENTITY 와 달리 insert 전에 id 를 알 수 있으므로 insert 가 JDBC batch 로 나간다.
+// segment 는 엔티티 테이블 이름이고, 시작값은 IdSequenceSync 가 기존 id 보다 크게 맞춘다.
+// id 테이블은 isolated pool 의 connection 으로 읽는다. (PooledIdGenerator)
+@GenericGenerator(
+        name = "pooled_id",
+        strategy = "com.IndieAn.GoFundIndie.Config.PooledIdGenerator",
+        parameters = {
+                @Parameter(name = "table_name", value = "id_sequence"),
+                @Parameter(name = "prefer_entity_table_as_segment_value", value = "true"),
+                @Parameter(name = "increment_size", value = "50"),
+                @Parameter(name = "optimizer", value = "pooled-lo")
+        })
+package com.IndieAn.GoFundIndie.Domain.Entity;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
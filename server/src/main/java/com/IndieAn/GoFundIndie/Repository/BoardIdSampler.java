@@ -0,0 +1,117 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 승인된 board id 를 long[] 로 들고 있다가 랜덤 추천에 필요한 만큼만 뽑는다.
+// 주기적으로 다시 읽고, 승인 / 삭제 시에는 commit 이후 다음 조회에서 다시 읽는다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BoardIdSampler {
+    private final EntityManager entityManager;
+
+    // invalidate 할 때마다 올리고, 읽기에 성공하면 읽기 시작할 때의 값을 loaded 에 남긴다.
+    // 읽는 도중에 들어온 invalidate 는 잃지 않고 다음 조회에서 다시 읽는다.
+    private final AtomicLong invalidated = new AtomicLong();
+    private volatile long loaded = -1;
+    private volatile long[] approvedIds;
+
+    public long[] sample(int limit) {
+        long[] ids = approvedIds;
+        if(ids == null || loaded != invalidated.get()) {
+            try {
+                ids = refreshIfStale();
+            } catch (RuntimeException e) {
+                // 이전 배열이 있으면 그걸로 답하고 다음 조회에서 다시 읽는다.
+                if(ids == null) throw e;
+                log.warn("approved board id refresh failed, using previous ids", e);
+            }
+        }
+        return sample(ids, limit, ThreadLocalRandom.current());
+    }
+
+    public void invalidate() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidated.incrementAndGet();
+                }
+            });
+        } else {
+            invalidated.incrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gofundindie.board.random-refresh-ms:60000}")
+    public synchronized void refresh() {
+        long version = invalidated.get();
+        List<Long> ids = entityManager.createQuery(
+                "SELECT b.id FROM Board b WHERE b.isApprove = true", Long.class)
+                .getResultList();
+
+        long[] arr = new long[ids.size()];
+        for(int i = 0 ; i < arr.length ; i++) arr[i] = ids.get(i);
+        // 배열을 먼저 바꾸고, 성공했을 때만 읽은 버전을 남긴다.
+        approvedIds = arr;
+        loaded = version;
+    }
+
+    // 먼저 기다리던 스레드가 이미 다시 읽었으면 그 결과를 쓴다.
+    private synchronized long[] refreshIfStale() {
+        if(approvedIds == null || loaded != invalidated.get()) refresh();
+        return approvedIds;
+    }
+
+    // ids 에서 중복 없이 최대 limit 개를 뽑는다. ids 는 수정하지 않는다. (HotPathBenchmark 에서도 부른다)
+    public static long[] sample(long[] ids, int limit, Random random) {
+        int n = ids.length;
+        int k = Math.max(0, Math.min(limit, n));
+
+        if(k * 2 > n) {
+            // 절반 이상 뽑을 때 : 복사본에서 partial Fisher-Yates
+            long[] copy = ids.clone();
+            for(int i = 0 ; i < k ; i++) {
+                int j = i + random.nextInt(n - i);
+                long tmp = copy[i];
+                copy[i] = copy[j];
+                copy[j] = tmp;
+            }
+            long[] result = new long[k];
+            System.arraycopy(copy, 0, result, 0, k);
+            return result;
+        }
+
+        // 적게 뽑을 때 : Floyd 알고리즘으로 index 만 k 개 고른다. O(k)
+        Set<Integer> picked = new HashSet<>(k * 2);
+        long[] result = new long[k];
+        int idx = 0;
+        for(int j = n - k ; j < n ; j++) {
+            int t = random.nextInt(j + 1);
+            int pick = picked.add(t) ? t : j;
+            if(pick == j) picked.add(j);
+            result[idx++] = ids[pick];
+        }
+        // Floyd 는 뒤쪽 index 가 끝에 몰리므로 순서를 섞는다.
+        for(int i = k - 1 ; i > 0 ; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = result[i];
+            result[i] = result[j];
+            result[j] = tmp;
+        }
+        return result;
+    }
+}
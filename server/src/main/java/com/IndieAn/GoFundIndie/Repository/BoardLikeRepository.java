@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import java.io.UncheckedIOException;
 import java.util.Date;
 import java.util.List;
 
@@ -18,37 +19,49 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardLikeRepository extends EntityManagerExtend{
     private final EntityManager entityManager;
+    private final CounterRepository counterRepository;
+    private final BoardLikeStore boardLikeStore;
+    private final LikeMembershipRepository likeMembershipRepository;
 
     public boolean isLikedBoard(User user, Board board) {
-        return entityManager.createQuery(
-            "SELECT bl " +
-                    "FROM BoardLike bl " +
-                    "WHERE bl.userId = " + user.getId() + " " +
-                    "AND bl.boardId = " + board.getId() + "", BoardLike.class
-        ).getResultList().size() > 0;
+        // 아직 DB 에 반영되지 않은 찜 / 취소가 있으면 그 상태로 답한다.
+        Boolean pendingLiked = boardLikeStore.PendingLiked(user.getId(), board.getId());
+        if(pendingLiked != null) return pendingLiked;
+
+        return likeMembershipRepository.IsBoardLiked(user.getId(), board.getId());
     }
 
     public void LikeBoardSwitch(User user, Board board) {
+        // write-behind : 메모리 + append log 에 남기고, DB 에는 BoardLikeStore 가 모아서 반영한다.
+        if(boardLikeStore.isEnabled()) {
+            try {
+                boardLikeStore.Toggle(user.getId(), board.getId());
+                return;
+            } catch (UncheckedIOException e) {
+                log.warn("board like log append failed, write to DB directly", e);
+            }
+        }
+
         List<BoardLike> list = entityManager.createQuery(
         "SELECT bl " +
                 "FROM BoardLike bl " +
                 "WHERE bl.userId = " + user.getId() + " " +
                 "AND bl.boardId = " + board.getId() + "", BoardLike.class
         ).getResultList();
+        boolean liked = list.size() == 0;
 
-        if(list.size() == 0) {
+        if(liked) {
             BoardLike bl = new BoardLike();
             bl.setBoardId(board);
             bl.setUserId(user);
             bl.setCreatedAt(new Date());
-            board.setLikeAmount(board.getLikeAmount() + 1);
-            entityManager.persist(board);
             singlePersist(bl, entityManager);
+            counterRepository.AddBoardLike(board.getId(), 1);
         } else {
-            board.setLikeAmount(board.getLikeAmount() - list.size());
-            entityManager.persist(board);
             listRemove(list, entityManager);
+            counterRepository.AddBoardLike(board.getId(), -list.size());
         }
+        likeMembershipRepository.SetBoardLikedAfterCommit(user.getId(), board.getId(), liked);
     }
 }
 
@@ -0,0 +1,274 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Common.SegmentedAppendLog;
+import com.IndieAn.GoFundIndie.Config.RoutingDataSource;
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.BoardLike;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// board 찜 write-behind 저장소
+// 찜 / 취소는 메모리의 (userId, boardId) -> 찜 상태 에 먼저 기록하고 append log 에 남긴 뒤 바로 응답한다.
+// 주기적으로 바뀐 상태만 모아 BoardLike 에 batch 로 반영하고, 반영이 끝난 log segment 를 지운다.
+// 서버가 죽으면 재시작할 때 남은 log 를 다시 읽어서 반영한다.
+// 반영 전까지 찜 목록(My) 에는 보이지 않고, isLiked 는 메모리 상태로 바로 답한다.
+@Slf4j
+@Repository
+public class BoardLikeStore {
+    private static final int STRIPES = 64;
+
+    private final EntityManager entityManager;
+    private final CounterRepository counterRepository;
+    private final LikeMembershipRepository likeMembershipRepository;
+    private final TransactionTemplate writeTx;
+    private final TransactionTemplate readTx;
+
+    private final boolean enabled;
+    private final int flushBatchSize;
+    private final SegmentedAppendLog appendLog;
+
+    private final Map<LikeKey, LikeState> pending = new ConcurrentHashMap<>();
+    private final Object[] stripes = new Object[STRIPES];
+
+    public BoardLikeStore(EntityManager entityManager, CounterRepository counterRepository,
+                          LikeMembershipRepository likeMembershipRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${gofundindie.like.write-behind:false}") boolean enabled,
+                          @Value("${gofundindie.like.flush-batch-size:500}") int flushBatchSize,
+                          @Value("${gofundindie.like.log-dir:}") String logDir,
+                          @Value("${gofundindie.like.log-fsync:false}") boolean fsync) {
+        this.entityManager = entityManager;
+        this.counterRepository = counterRepository;
+        this.likeMembershipRepository = likeMembershipRepository;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.writeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+        // 작업 디렉터리에 따라 log 위치가 바뀌면 재시작할 때 남은 찜을 읽지 못한다.
+        if(enabled && (logDir.isEmpty() || !Paths.get(logDir).isAbsolute())) {
+            throw new IllegalStateException("gofundindie.like.log-dir must be an absolute path when write-behind is enabled : '" + logDir + "'");
+        }
+        this.appendLog = enabled ? new SegmentedAppendLog(Paths.get(logDir), "board-like", fsync) : null;
+        for(int i = 0 ; i < STRIPES ; i++) stripes[i] = new Object();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 지난 실행에서 반영하지 못한 log 를 다시 읽는다. (같은 key 는 나중 기록이 이긴다)
+    // 깨진 줄은 건너뛴다. (한 줄 때문에 서버가 뜨지 못하면 안 된다)
+    @PostConstruct
+    public void Open() throws IOException {
+        if(!enabled) return;
+
+        appendLog.open(line -> {
+            String[] parts = line.split(",");
+            try {
+                if(parts.length != 4) throw new NumberFormatException("expected 4 fields");
+                pending.put(new LikeKey(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                        new LikeState(parts[2].equals("1"), Long.parseLong(parts[3])));
+            } catch (NumberFormatException e) {
+                log.warn("board like log line skipped : '{}' ({})", line, e.getMessage());
+            }
+        });
+        if(!pending.isEmpty()) log.info("board like log replayed : {} pending", pending.size());
+    }
+
+    // 반영 전 상태가 있으면 그 상태, 없으면 null -> DB 확인
+    public Boolean PendingLiked(long userId, long boardId) {
+        LikeState state = pending.get(new LikeKey(userId, boardId));
+        return state == null ? null : state.liked;
+    }
+
+    // 찜 상태를 뒤집고 바뀐 상태를 돌려준다.
+    public boolean Toggle(long userId, long boardId) {
+        LikeKey key = new LikeKey(userId, boardId);
+
+        synchronized (stripe(key)) {
+            LikeState before = pending.get(key);
+            boolean liked = before == null ? !likedInDb(userId, boardId) : !before.liked;
+            LikeState after = new LikeState(liked, System.currentTimeMillis());
+
+            pending.put(key, after);
+            try {
+                appendLog.append(userId + "," + boardId + "," + (liked ? 1 : 0) + "," + after.at);
+            } catch (UncheckedIOException e) {
+                // log 를 남길 수 없으면 메모리에 두지 않고 예외를 넘긴다. (호출한 쪽에서 바로 DB 에 쓴다)
+                if(before == null) pending.remove(key, after);
+                else pending.replace(key, after, before);
+                throw e;
+            }
+            likeMembershipRepository.SetBoardLiked(userId, boardId, liked);
+            return liked;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gofundindie.like.flush-ms:1000}")
+    public synchronized void Flush() {
+        if(!enabled) return;
+
+        try {
+            if(pending.isEmpty() && !appendLog.hasClosedSegments()) return;
+
+            // 새 segment 를 연 다음의 찜은 새 segment 에 남으므로, 이전 segment 는 아래 반영이 끝나면 지울 수 있다.
+            List<Path> closed = appendLog.rotate();
+            List<Map.Entry<LikeKey, LikeState>> snapshot = new ArrayList<>(pending.entrySet());
+
+            for(int from = 0 ; from < snapshot.size() ; from += flushBatchSize) {
+                List<Map.Entry<LikeKey, LikeState>> batch =
+                        snapshot.subList(from, Math.min(from + flushBatchSize, snapshot.size()));
+                writeTx.executeWithoutResult(status -> apply(batch));
+
+                // 반영하기 전에 읽어둔 membership bitmap 도 반영한 상태로 맞춘 뒤 메모리에서 뺀다.
+                // 반영하는 동안 다시 바뀐 key 는 남겨둔다. Toggle 과 같은 stripe lock 안에서 빼야
+                // Toggle 이 메모리 상태를 놓친 뒤 DB 를 읽는 사이에 끼어들지 않는다.
+                batch.forEach(el -> {
+                    synchronized (stripe(el.getKey())) {
+                        if(pending.remove(el.getKey(), el.getValue())) {
+                            likeMembershipRepository.SetBoardLiked(el.getKey().userId, el.getKey().boardId, el.getValue().liked);
+                        }
+                    }
+                });
+            }
+
+            appendLog.delete(closed);
+        } catch (IOException | RuntimeException e) {
+            // 실패하면 log segment 를 남겨두고 다음 주기에 다시 반영한다. (반영은 몇 번 해도 결과가 같다)
+            log.warn("board like flush failed : {} pending", pending.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void Close() throws IOException {
+        if(!enabled) return;
+        Flush();
+        appendLog.close();
+    }
+
+    // 찜 상태를 그대로 맞춘다. 없는 board / user 는 건너뛴다.
+    private void apply(List<Map.Entry<LikeKey, LikeState>> batch) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> boardIds = new HashSet<>();
+        batch.forEach(el -> {
+            userIds.add(el.getKey().userId);
+            boardIds.add(el.getKey().boardId);
+        });
+
+        Set<Long> existingUsers = new HashSet<>(entityManager.createQuery(
+                "SELECT u.id FROM User u WHERE u.id IN :ids", Long.class)
+                .setParameter("ids", userIds)
+                .getResultList());
+        Set<Long> existingBoards = new HashSet<>(entityManager.createQuery(
+                "SELECT b.id FROM Board b WHERE b.id IN :ids", Long.class)
+                .setParameter("ids", boardIds)
+                .getResultList());
+
+        Set<LikeKey> liked = new HashSet<>();
+        entityManager.createQuery(
+                "SELECT l.userId.id, l.boardId.id FROM BoardLike l " +
+                "WHERE l.userId.id IN :userIds AND l.boardId.id IN :boardIds", Object[].class)
+                .setParameter("userIds", userIds)
+                .setParameter("boardIds", boardIds)
+                .getResultList()
+                .forEach(row -> liked.add(new LikeKey((Long) row[0], (Long) row[1])));
+
+        Map<Long, Long> likeDelta = new HashMap<>();
+        for(Map.Entry<LikeKey, LikeState> el : batch) {
+            LikeKey key = el.getKey();
+            LikeState state = el.getValue();
+
+            if(state.liked && !liked.contains(key)) {
+                if(!existingUsers.contains(key.userId) || !existingBoards.contains(key.boardId)) continue;
+
+                BoardLike bl = new BoardLike();
+                bl.setUserId(entityManager.getReference(User.class, key.userId));
+                bl.setBoardId(entityManager.getReference(Board.class, key.boardId));
+                bl.setCreatedAt(new Date(state.at));
+                entityManager.persist(bl);
+                likeDelta.merge(key.boardId, 1L, Long::sum);
+            } else if(!state.liked && liked.contains(key)) {
+                int removed = entityManager.createQuery(
+                        "DELETE FROM BoardLike l WHERE l.userId.id = :userId AND l.boardId.id = :boardId")
+                        .setParameter("userId", key.userId)
+                        .setParameter("boardId", key.boardId)
+                        .executeUpdate();
+                likeDelta.merge(key.boardId, (long) -removed, Long::sum);
+            }
+        }
+
+        entityManager.flush();
+        likeDelta.forEach((boardId, delta) -> {
+            if(delta != 0) counterRepository.AddBoardLike(boardId, delta);
+        });
+    }
+
+    // 호출한 쪽의 transaction 은 flush 가 commit 하기 전의 snapshot 을 볼 수 있으므로 (REPEATABLE READ)
+    // 새 transaction 으로 primary 를 읽는다. 요청이 이미 connection 을 쥐고 있으므로 isolated pool 에서 받는다.
+    private boolean likedInDb(long userId, long boardId) {
+        return RoutingDataSource.isolated(() -> readTx.execute(status -> !entityManager.createQuery(
+                "SELECT l.id FROM BoardLike l WHERE l.userId.id = :userId AND l.boardId.id = :boardId", Long.class)
+                .setParameter("userId", userId)
+                .setParameter("boardId", boardId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty()));
+    }
+
+    private Object stripe(LikeKey key) {
+        return stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static final class LikeKey {
+        private final long userId;
+        private final long boardId;
+
+        private LikeKey(long userId, long boardId) {
+            this.userId = userId;
+            this.boardId = boardId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) return true;
+            if(!(o instanceof LikeKey)) return false;
+            LikeKey other = (LikeKey) o;
+            return userId == other.userId && boardId == other.boardId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(userId) * 31 + Long.hashCode(boardId);
+        }
+    }
+
+    // equals 를 두지 않는다. (flush 중에 바뀌었는지 identity 로 확인한다)
+    private static final class LikeState {
+        private final boolean liked;
+        private final long at;
+
+        private LikeState(boolean liked, long at) {
+            this.liked = liked;
+            this.at = at;
+        }
+    }
+}
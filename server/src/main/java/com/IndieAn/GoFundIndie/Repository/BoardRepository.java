@@ -1,5 +1,6 @@
 package com.IndieAn.GoFundIndie.Repository;
 
+import com.IndieAn.GoFundIndie.Common.PageCursor;
 import com.IndieAn.GoFundIndie.Common.SearchTypes;
 import com.IndieAn.GoFundIndie.Domain.Entity.*;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.*;
@@ -9,11 +10,10 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BoardRepository extends EntityManagerExtend{
     private final EntityManager entityManager;
+    private final BoardIdSampler boardIdSampler;
 
     private final String SELECT_BoardGraphQLDTO = "SELECT new com.IndieAn.GoFundIndie.Resolvers.DTO.Board.BoardGraphQLDTO" +
                                                   "(b.id, b.isApprove, b.title, b.posterImg, b.infoCountry, b.infoCreatedYear, b.infoCreatedDate, b.infoTime, b.infoLimit) ";
@@ -69,7 +70,7 @@ public class BoardRepository extends EntityManagerExtend{
     public List<LikeBoardGraphQLDTO> findBoardsMyLike(User user, int limit) {
         return entityManager.createQuery(
             "SELECT new com.IndieAn.GoFundIndie.Resolvers.DTO.Board.LikeBoardGraphQLDTO" +
-                    "(b, b.isApprove, b.title, b.posterImg, b.infoCountry, b.infoCreatedYear, b.infoCreatedDate, b.infoTime, b.infoLimit, b.infoStory) " +
+                    "(b.id, b.isApprove, b.title, b.posterImg, b.infoCountry, b.infoCreatedYear, b.infoCreatedDate, b.infoTime, b.infoLimit, b.infoStory) " +
                     "FROM BoardLike l " +
                     "JOIN l.boardId b " +
                     "ON l.userId = " + user.getId() + " " +
@@ -126,10 +127,23 @@ public class BoardRepository extends EntityManagerExtend{
                 .setMaxResults(limit).getResultList();
     }
 
+    // 승인된 board id 중 limit 개만 뽑아서 조회한다. (전체 목록을 읽어 섞지 않는다)
     public List<BoardGraphQLDTO> findBoardsRandom(int limit) {
-        List<BoardGraphQLDTO> list = findBoards(true, Integer.MAX_VALUE - 1);
-        Collections.shuffle(list);
-        return list.subList(0, limit);
+        long[] ids = boardIdSampler.sample(limit);
+        if(ids.length == 0) return new ArrayList<>();
+
+        List<Long> idList = Arrays.stream(ids).boxed().collect(Collectors.toList());
+        Map<Long, BoardGraphQLDTO> found = entityManager.createQuery(
+            SELECT_BoardGraphQLDTO +
+                    "FROM Board b " +
+                    "WHERE b.id IN :ids " +
+                    "AND b.isApprove = true", BoardGraphQLDTO.class)
+                .setParameter("ids", idList)
+                .getResultStream()
+                .collect(Collectors.toMap(BoardGraphQLDTO::getId, Function.identity()));
+
+        // 뽑은 순서를 유지한다.
+        return idList.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     public List<BoardGraphQLDTO> findBoardsSeoul2020(int limit) {
@@ -142,6 +156,167 @@ public class BoardRepository extends EntityManagerExtend{
         ).setMaxResults(limit).getResultList();
     }
 
+    // ---- keyset paging ----
+    // 정렬 key + id 로 다음 페이지 위치를 잡고, 다음 페이지 여부를 알기 위해 size + 1 개까지 읽는다.
+    private final String SELECT_BoardColumns = "SELECT b.id, b.isApprove, b.title, b.posterImg, b.infoCountry, b.infoCreatedYear, b.infoCreatedDate, b.infoTime, b.infoLimit";
+
+    //   - 댓글 많은 순
+    public List<BoardEdgeDTO> findBoardsPage(boolean isApprove, PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM Board b WHERE b.isApprove = :isApprove",
+                "b.commentAmount", "b.id", PageCursor.COMMENT, after, size,
+                Collections.singletonMap("isApprove", isApprove)), PageCursor.COMMENT);
+    }
+
+    public List<BoardEdgeDTO> findBoardsPageByGenre(SearchTypes type, PageCursor after, int size) {
+        long genreId = Arrays.asList(SearchTypes.values()).indexOf(type) + 1;
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM BoardGenre g JOIN g.boardId b WHERE g.genreId.id = :genreId AND b.isApprove = true",
+                "b.commentAmount", "b.id", PageCursor.COMMENT, after, size,
+                Collections.singletonMap("genreId", genreId)), PageCursor.COMMENT);
+    }
+
+    //   - 최근 승인된 순
+    public List<BoardEdgeDTO> findBoardsPageNew(PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM Board b WHERE b.isApprove = true",
+                "b.createdAt", "b.id", PageCursor.NEW, after, size,
+                Collections.emptyMap()), PageCursor.NEW);
+    }
+
+    public List<BoardEdgeDTO> findAllBoardsPage(PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM Board b WHERE 1 = 1",
+                "b.id", "b.id", PageCursor.ID, after, size,
+                Collections.emptyMap()), PageCursor.ID);
+    }
+
+    public List<BoardEdgeDTO> findBoardsPageSeoul2020(PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM Board b WHERE b.id < 81 AND b.id > 74",
+                "b.id", "b.id", PageCursor.SEOUL2020, after, size,
+                Collections.emptyMap(), true), PageCursor.SEOUL2020);
+    }
+
+    //   - 찜한 순 (BoardLike id 로 같은 날짜를 구분한다)
+    public List<BoardEdgeDTO> findBoardsPageLike(User user, PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM BoardLike l JOIN l.boardId b WHERE l.userId.id = :userId AND b.isApprove = true",
+                "l.createdAt", "l.id", PageCursor.LIKE, after, size,
+                Collections.singletonMap("userId", user.getId())), PageCursor.LIKE);
+    }
+
+    public List<LikeBoardEdgeDTO> findBoardsPageMyLike(User user, PageCursor after, int size) {
+        return keysetRows(SELECT_BoardColumns + ", b.infoStory",
+                "FROM BoardLike l JOIN l.boardId b WHERE l.userId.id = :userId AND b.isApprove = true",
+                "l.createdAt", "l.id", PageCursor.LIKE, after, size,
+                Collections.singletonMap("userId", user.getId()))
+                .stream()
+                .map(row -> LikeBoardEdgeDTO.builder()
+                        .cursor(cursorOf(row, PageCursor.LIKE))
+                        .node(LikeBoardGraphQLDTO.builder()
+                                .id((Long) row[0])
+                                .isApprove((Boolean) row[1])
+                                .title((String) row[2])
+                                .posterImg((String) row[3])
+                                .infoCountry((String) row[4])
+                                .infoCreatedYear((String) row[5])
+                                .infoCreatedDate((String) row[6])
+                                .infoTime((Integer) row[7])
+                                .infoLimit((Integer) row[8])
+                                .infoStory((String) row[9])
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    //   - 후원한 순 (Comment id 로 같은 시각을 구분한다)
+    public List<BoardEdgeDTO> findBoardsPageDonation(User user, PageCursor after, int size) {
+        return boardEdges(keysetRows(SELECT_BoardColumns,
+                "FROM Comment c JOIN c.boardId b WHERE c.userId.id = :userId AND c.donation > 0",
+                "c.createdAt", "c.id", PageCursor.DONATION, after, size,
+                Collections.singletonMap("userId", user.getId())), PageCursor.DONATION);
+    }
+
+    public List<DonationBoardEdgeDTO> findBoardsPageMyDonation(User user, PageCursor after, int size) {
+        return keysetRows("SELECT b.id, b.isApprove, b.title, b.posterImg, b.infoCreatedYear, b.infoCreatedDate, c.donation",
+                "FROM Comment c JOIN c.boardId b WHERE c.userId.id = :userId AND c.donation > 0",
+                "c.createdAt", "c.id", PageCursor.DONATION, after, size,
+                Collections.singletonMap("userId", user.getId()))
+                .stream()
+                .map(row -> DonationBoardEdgeDTO.builder()
+                        .cursor(cursorOf(row, PageCursor.DONATION))
+                        .node(DonationBoardGraphQLDTO.builder()
+                                .id((Long) row[0])
+                                .isApprove((Boolean) row[1])
+                                .title((String) row[2])
+                                .posterImg((String) row[3])
+                                .infoCreatedYear((String) row[4])
+                                .infoCreatedDate((String) row[5])
+                                .donationAmount((Integer) row[6])
+                                .donationCreatedAt((Date) row[7])
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<Object[]> keysetRows(String select, String from, String key, String id, String tag,
+                                      PageCursor after, int size, Map<String, Object> params) {
+        return keysetRows(select, from, key, id, tag, after, size, params, false);
+    }
+
+    // select 뒤에 정렬 key, id 를 붙여서 읽는다. key 와 id 가 같으면 id 만으로 정렬한다.
+    // asc 는 id 만으로 정렬할 때만 쓴다. (Seoul2020)
+    private List<Object[]> keysetRows(String select, String from, String key, String id, String tag,
+                                      PageCursor cursor, int size, Map<String, Object> params, boolean asc) {
+        boolean idOnly = key.equals(id);
+
+        StringBuilder jpql = new StringBuilder()
+                .append(select).append(", ").append(key).append(", ").append(id).append(" ")
+                .append(from).append(" ");
+        if(cursor != null) {
+            if(idOnly) jpql.append("AND ").append(id).append(asc ? " > :afterId " : " < :afterId ");
+            else jpql.append("AND (").append(key).append(" < :afterKey OR (")
+                    .append(key).append(" = :afterKey AND ").append(id).append(" < :afterId)) ");
+        }
+        jpql.append("ORDER BY ");
+        if(!idOnly) jpql.append(key).append(" DESC, ");
+        jpql.append(id).append(asc ? " ASC" : " DESC");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        params.forEach(query::setParameter);
+        if(cursor != null) {
+            query.setParameter("afterId", cursor.getId());
+            if(!idOnly) {
+                if(key.contains("createdAt")) query.setParameter("afterKey", new Date(cursor.getKey()));
+                else query.setParameter("afterKey", (int) cursor.getKey());
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.setMaxResults(size + 1).getResultList();
+        return rows;
+    }
+
+    private List<BoardEdgeDTO> boardEdges(List<Object[]> rows, String tag) {
+        return rows.stream()
+                .map(row -> BoardEdgeDTO.builder()
+                        .cursor(cursorOf(row, tag))
+                        .node(new BoardGraphQLDTO((Long) row[0], (Boolean) row[1], (String) row[2],
+                                (String) row[3], (String) row[4], (String) row[5], (String) row[6],
+                                (Integer) row[7], (Integer) row[8]))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 마지막 두 column 이 정렬 key, id
+    private String cursorOf(Object[] row, String tag) {
+        Object key = row[row.length - 2];
+        long id = ((Number) row[row.length - 1]).longValue();
+        long keyValue = key == null ? 0 : key instanceof Date ? ((Date) key).getTime() : ((Number) key).longValue();
+        return PageCursor.encode(tag, keyValue, id);
+    }
+
     // Upload or Update poster image
     public void updateBoardImg(Board board, String img) {
         board.setPosterImg(img);
@@ -220,13 +395,16 @@ public class BoardRepository extends EntityManagerExtend{
         board.setCreatedAt(new Date());
 
         singlePersist(board, entityManager);
+        boardIdSampler.invalidate();
     }
 
     public void DeleteBoard(Board board) {
         singleRemove(board, entityManager);
+        boardIdSampler.invalidate();
     }
 
     public void DeleteBoards(List<Board> boards) {
         listRemove(boards, entityManager);
+        boardIdSampler.invalidate();
     }
 }
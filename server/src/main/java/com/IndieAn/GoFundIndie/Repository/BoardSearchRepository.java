@@ -1,5 +1,6 @@
 package com.IndieAn.GoFundIndie.Repository;
 
+import com.IndieAn.GoFundIndie.Domain.DTO.BoardSearchDocumentDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.SearchBoardDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,7 +8,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
-import java.util.List;
+import javax.persistence.TypedQuery;
+import java.util.*;
 
 @Slf4j
 @Repository
@@ -53,4 +55,35 @@ public class BoardSearchRepository {
                     "ORDER BY b.commentAmount", SearchBoardDTO.class
         ).setMaxResults(limit).getResultList();
     }
+
+    // 검색 색인용 : 승인된 board 와 출연진 이름. boardIds 가 null 이면 전체
+    public List<BoardSearchDocumentDTO> FindSearchDocuments(Collection<Long> boardIds) {
+        if(boardIds != null && boardIds.isEmpty()) return new ArrayList<>();
+
+        TypedQuery<BoardSearchDocumentDTO> boardQuery = entityManager.createQuery(
+                "SELECT new com.IndieAn.GoFundIndie.Domain.DTO.BoardSearchDocumentDTO" +
+                        "(b.id, b.title, b.posterImg, b.producer, b.distributor, b.infoStory) " +
+                        "FROM Board b " +
+                        "WHERE b.isApprove = true" +
+                        (boardIds == null ? "" : " AND b.id IN :boardIds"), BoardSearchDocumentDTO.class);
+        TypedQuery<Object[]> castingQuery = entityManager.createQuery(
+                "SELECT c.boardId.id, c.name " +
+                        "FROM Casting c " +
+                        "WHERE c.boardId.isApprove = true" +
+                        (boardIds == null ? "" : " AND c.boardId.id IN :boardIds"), Object[].class);
+        if(boardIds != null) {
+            boardQuery.setParameter("boardIds", boardIds);
+            castingQuery.setParameter("boardIds", boardIds);
+        }
+
+        Map<Long, BoardSearchDocumentDTO> docs = new LinkedHashMap<>();
+        for(BoardSearchDocumentDTO doc : boardQuery.getResultList()) docs.put(doc.getId(), doc);
+
+        for(Object[] row : castingQuery.getResultList()) {
+            BoardSearchDocumentDTO doc = docs.get((Long) row[0]);
+            if(doc != null && row[1] != null) doc.getCastings().add((String) row[1]);
+        }
+
+        return new ArrayList<>(docs.values());
+    }
 }
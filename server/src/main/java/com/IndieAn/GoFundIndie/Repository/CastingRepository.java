@@ -8,11 +8,12 @@ import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.PutCastingDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Comment.CommentGraphQLDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
@@ -88,8 +89,32 @@ public class CastingRepository extends EntityManagerExtend{
                         "(c.id, c.name, c.position, c.image) " +
                         "FROM Casting c " +
                         "JOIN c.boardId b " +
-                        "ON c.boardId = " + boardId + " " +
-                        "ORDER BY c.position", CastingGraphQLDTO.class
-        ).getResultList();
+                        "ON c.boardId.id = :boardId " +
+                        "ORDER BY c.position", CastingGraphQLDTO.class)
+                .setParameter("boardId", boardId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList();
+    }
+
+    // DataLoader batch : board id -> castings
+    public Map<Long, List<CastingGraphQLDTO>> findCastingByBoards(Collection<Long> boardIds) {
+        Map<Long, List<CastingGraphQLDTO>> result = new HashMap<>();
+        if(boardIds.isEmpty()) return result;
+
+        entityManager.createQuery(
+                "SELECT c.boardId.id, c.id, c.name, c.position, c.image " +
+                        "FROM Casting c " +
+                        "WHERE c.boardId.id IN :boardIds " +
+                        "ORDER BY c.position", Object[].class)
+                // id 순서를 고정해서 같은 board 묶음이면 같은 query cache key 가 되게 한다.
+                .setParameter("boardIds", new TreeSet<>(boardIds))
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList()
+                .forEach(row -> result
+                        .computeIfAbsent((Long) row[0], k -> new ArrayList<>())
+                        .add(new CastingGraphQLDTO((Long) row[1], (String) row[2], (Integer) row[3], (String) row[4])));
+        return result;
     }
 }
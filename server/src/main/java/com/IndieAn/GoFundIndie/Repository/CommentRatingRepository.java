@@ -1,5 +1,6 @@
 package com.IndieAn.GoFundIndie.Repository;
 
+import com.IndieAn.GoFundIndie.Common.LongIdSet;
 import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
 import com.IndieAn.GoFundIndie.Domain.Entity.CommentRating;
 import com.IndieAn.GoFundIndie.Domain.Entity.User;
@@ -8,16 +9,22 @@ import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @Transactional
 public class CommentRatingRepository extends EntityManagerExtend{
     private final EntityManager entityManager;
+    private final CounterRepository counterRepository;
+    private final LikeMembershipRepository likeMembershipRepository;
 
     @Autowired
-    public CommentRatingRepository(EntityManager entityManager) {
+    public CommentRatingRepository(EntityManager entityManager, CounterRepository counterRepository,
+                                   LikeMembershipRepository likeMembershipRepository) {
         this.entityManager = entityManager;
+        this.counterRepository = counterRepository;
+        this.likeMembershipRepository = likeMembershipRepository;
     }
 
     public CommentRating FindRatingByUserAndComment(long userId, long commentId) {
@@ -30,12 +37,24 @@ public class CommentRatingRepository extends EntityManagerExtend{
     }
 
     public boolean commentRatedCheck(long userId, long commentId) {
-        return entityManager.createQuery(
-                "SELECT cr " +
+        return likeMembershipRepository.IsCommentRated(userId, commentId);
+    }
+
+    // 여러 코멘트 중 해당 유저가 좋아요한 코멘트 id를 찾는다. (membership 캐시를 끄면 한 번의 쿼리로 찾는다)
+    public LongIdSet findRatedCommentIds(long userId, Collection<Long> commentIds) {
+        if(commentIds.isEmpty()) return LongIdSet.EMPTY;
+
+        LongIdSet cached = likeMembershipRepository.RatedCommentIds(userId, commentIds);
+        if(cached != null) return cached;
+
+        return LongIdSet.of(entityManager.createQuery(
+                "SELECT cr.commentId.id " +
                         "FROM CommentRating cr " +
-                        "WHERE cr.userId = " + userId + " " +
-                        "AND cr.commentId = " + commentId + "", CommentRating.class
-        ).getResultList().size() != 0;
+                        "WHERE cr.userId.id = :userId " +
+                        "AND cr.commentId.id IN :commentIds", Long.class)
+                .setParameter("userId", userId)
+                .setParameter("commentIds", commentIds)
+                .getResultList());
     }
 
     // DB CommentRating 테이블에 userId와 commentId를 사용해 CommentRating 정보를 저장한다.
@@ -43,12 +62,13 @@ public class CommentRatingRepository extends EntityManagerExtend{
         CommentRating commentRating = new CommentRating();
         User user = entityManager.find(User.class, userId);
         Comment comment = entityManager.find(Comment.class, commentId);
-        comment.setLike(comment.getLike()+1);
 
         commentRating.setUserId(user);
         commentRating.setCommentId(comment);
 
         entityManager.persist(commentRating);
+        counterRepository.AddCommentLike(commentId, 1);
+        likeMembershipRepository.SetCommentRatedAfterCommit(userId, commentId, true);
 
         end(entityManager);
 
@@ -58,9 +78,10 @@ public class CommentRatingRepository extends EntityManagerExtend{
     // DB CommentRating 테이블에 id를 사용해 CommentRating 정보를 삭제한다.
     public CommentRating DeleteRating(long id) {
         CommentRating deleteRating = entityManager.find(CommentRating.class, id);
-        Comment comment = entityManager.find(Comment.class, deleteRating.getCommentId().getId());
-        comment.setLike(comment.getLike()-1);
         entityManager.remove(deleteRating);
+        counterRepository.AddCommentLike(deleteRating.getCommentId().getId(), -1);
+        likeMembershipRepository.SetCommentRatedAfterCommit(
+                deleteRating.getUserId().getId(), deleteRating.getCommentId().getId(), false);
 
         end(entityManager);
 
@@ -1,7 +1,9 @@
 package com.IndieAn.GoFundIndie.Repository;
 
+import com.IndieAn.GoFundIndie.Common.PageCursor;
 import com.IndieAn.GoFundIndie.Domain.DTO.CommentInputDTO;
 import com.IndieAn.GoFundIndie.Domain.DTO.CommentModifyDTO;
+import com.IndieAn.GoFundIndie.Domain.DTO.CommentOutputDTO;
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
 import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
 import com.IndieAn.GoFundIndie.Domain.Entity.User;
@@ -10,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
 import java.util.Date;
 import java.util.List;
@@ -18,10 +21,12 @@ import java.util.List;
 @Transactional
 public class CommentRepository extends EntityManagerExtend{
     private final EntityManager entityManager;
+    private final CounterRepository counterRepository;
 
     @Autowired
-    public CommentRepository(EntityManager entityManager) {
+    public CommentRepository(EntityManager entityManager, CounterRepository counterRepository) {
         this.entityManager = entityManager;
+        this.counterRepository = counterRepository;
     }
 
     // DB Comment 테이블의 모든 comment 정보를 리턴한다.
@@ -35,6 +40,19 @@ public class CommentRepository extends EntityManagerExtend{
 //        return entityManager.createQuery("SELECT c FROM Comment as c where c.id = '"+ commentId +"'", Comment.class).getResultList().get(0);
     }
 
+    // board id 와 user id 로 작성한 comment 의 id 를 찾는다. 없으면 null (uk_comment_board_user 인덱스 사용)
+    public Long FindCommentIdByBoardAndUser(long boardId, long userId) {
+        List<Long> ids = entityManager.createQuery(
+                "SELECT c.id FROM Comment c " +
+                "WHERE c.boardId.id = :boardId AND c.userId.id = :userId", Long.class)
+                .setParameter("boardId", boardId)
+                .setParameter("userId", userId)
+                .setMaxResults(1)
+                .getResultList();
+        if(ids.size() == 0) return null;
+        return ids.get(0);
+    }
+
     // DB Comment 테이블에 매개변수 commentInputDTO의 데이터를 사용하여 Comment 정보를 저장한다.
     public void AddComment(CommentInputDTO commentInputDTO, User user) {
         Comment comment = new Comment();
@@ -48,10 +66,8 @@ public class CommentRepository extends EntityManagerExtend{
         comment.setCreatedAt(new Date());
         comment.setSpoiler(commentInputDTO.isSpoiler());
 
-        board.setCommentAmount(board.getCommentAmount() + 1);
-
         entityManager.persist(comment);
-        entityManager.persist(board);
+        counterRepository.AddBoardComment(board.getId(), 1, comment.getRating(), 1);
 
         end(entityManager);
     }
@@ -60,7 +76,11 @@ public class CommentRepository extends EntityManagerExtend{
     public void ModifyComment(CommentModifyDTO commentModifyDTO, long commentId) {
         Comment modifyComment = entityManager.find(Comment.class, commentId);
 
-        if(commentModifyDTO.getRating() != null) modifyComment.setRating(commentModifyDTO.getRating());
+        if(commentModifyDTO.getRating() != null) {
+            counterRepository.AddBoardComment(modifyComment.getBoardId().getId(), 0,
+                    commentModifyDTO.getRating() - modifyComment.getRating(), 0);
+            modifyComment.setRating(commentModifyDTO.getRating());
+        }
         if(commentModifyDTO.getCommentBody() != null) modifyComment.setBody(commentModifyDTO.getCommentBody());
         modifyComment.setSpoiler(commentModifyDTO.isSpoiler());
 
@@ -70,12 +90,11 @@ public class CommentRepository extends EntityManagerExtend{
     // DB Comment 테이블에 매개변수 commentId를 사용하여 Comment 정보를 삭제한다.
     public void DeleteComment(long commentId) {
         Comment deleteComment = entityManager.find(Comment.class, commentId);
-        Board board = deleteComment.getBoardId();
-
-        board.setCommentAmount(board.getCommentAmount() - 1);
+        long boardId = deleteComment.getBoardId().getId();
+        int rating = deleteComment.getRating();
 
-        entityManager.persist(board);
         entityManager.remove(deleteComment);
+        counterRepository.AddBoardComment(boardId, -1, -rating, -1);
 
         end(entityManager);
     }
@@ -100,11 +119,39 @@ public class CommentRepository extends EntityManagerExtend{
         }
     }
 
-    // 후원을 했을 경우 DB에서 댓글을 찾아 후원 금액을 수정한다.
-    public void ModifyDonation(long commentId, Integer total) {
-        Comment comment = entityManager.find(Comment.class, commentId);
-        comment.setDonation(comment.getDonation() + total);
+    // board 의 comment 를 cursor 다음부터 size + 1 개 읽는다. (다음 페이지 여부 확인용 1 개 포함)
+    // 인기순은 (like, id), 최신순은 id 내림차순. count 쿼리 없이 인덱스 순서대로 읽는다.
+    public List<CommentOutputDTO> FindCommentFeed(long boardId, boolean pop, PageCursor after, int size) {
+        StringBuilder query = new StringBuilder(
+                "SELECT new com.IndieAn.GoFundIndie.Domain.DTO.CommentOutputDTO" +
+                "(c.id, c.rating, u.id, u.nickname, u.profilePicture, c.donation, c.body, c.spoiler, c.like, false) " +
+                "FROM Comment c " +
+                "JOIN c.userId u " +
+                "WHERE c.boardId.id = :boardId ");
+        if(after != null) {
+            if(pop) query.append("AND (c.like < :afterLike OR (c.like = :afterLike AND c.id < :afterId)) ");
+            else query.append("AND c.id < :afterId ");
+        }
+        query.append(pop ? "ORDER BY c.like DESC, c.id DESC" : "ORDER BY c.id DESC");
+
+        TypedQuery<CommentOutputDTO> typedQuery = entityManager.createQuery(query.toString(), CommentOutputDTO.class)
+                .setParameter("boardId", boardId);
+        if(after != null) {
+            typedQuery.setParameter("afterId", after.getId());
+            if(pop) typedQuery.setParameter("afterLike", (int) after.getKey());
+        }
+        return typedQuery.setMaxResults(size + 1).getResultList();
+    }
+
+    // Board 의 rating_sum / rating_count 를 comment 테이블 기준으로 다시 계산한다. (backfill)
+    public int RecountBoardRating() {
+        int updated = entityManager.createQuery(
+                "UPDATE Board b SET " +
+                "b.ratingSum = COALESCE((SELECT SUM(c.rating) FROM Comment c WHERE c.boardId = b), 0), " +
+                "b.ratingCount = (SELECT COUNT(c) FROM Comment c WHERE c.boardId = b)")
+                .executeUpdate();
 
         end(entityManager);
+        return updated;
     }
 }
@@ -0,0 +1,235 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// board / comment / user 의 누적 값(like_amount, comment_amount, rating, like, donation, total_donation)을
+// 엔티티를 읽고 고쳐 쓰지 않고 "x = x + :delta" UPDATE 한 번으로 바꾼다.
+// coalesce 가 켜져 있으면 좋아요 수는 commit 이후 메모리에 모았다가 주기적으로 한 번에 반영한다.
+// board 는 2차 캐시에 있으므로 native UPDATE 후 해당 board 만 캐시에서 뺀다. (HQL bulk UPDATE 는 board region 전체를 비운다)
+@Slf4j
+@Repository
+public class CounterRepository {
+    private static final String BOARD_COUNTER_SPACE = "board_counter";
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTx;
+
+    private final boolean coalesce;
+    private final int flushBatchSize;
+
+    // id -> 아직 반영하지 않은 증감 (Reconcile 이 새 map 으로 바꾼다)
+    private volatile Map<Long, Long> pendingBoardLikes = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> pendingCommentLikes = new ConcurrentHashMap<>();
+
+    public CounterRepository(EntityManager entityManager, PlatformTransactionManager transactionManager,
+                             @Value("${gofundindie.counter.coalesce:false}") boolean coalesce,
+                             @Value("${gofundindie.counter.flush-batch-size:200}") int flushBatchSize) {
+        this.entityManager = entityManager;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.writeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.coalesce = coalesce;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    // ---- board ----
+    public void AddBoardLike(long boardId, long delta) {
+        if(coalesce) afterCommit(() -> pendingBoardLikes.merge(boardId, delta, Long::sum));
+        else addBoardLikeNow(boardId, delta);
+    }
+
+    // comment 작성 / 수정 / 삭제. comment 수와 평점은 바로 반영한다.
+    public void AddBoardComment(long boardId, int commentDelta, long ratingSumDelta, int ratingCountDelta) {
+        boardCounterUpdate(
+                "UPDATE board SET " +
+                "comment_amount = comment_amount + :commentDelta, " +
+                "rating_sum = rating_sum + :ratingSumDelta, " +
+                "rating_count = rating_count + :ratingCountDelta " +
+                "WHERE id = :id")
+                .setParameter("commentDelta", commentDelta)
+                .setParameter("ratingSumDelta", ratingSumDelta)
+                .setParameter("ratingCountDelta", ratingCountDelta)
+                .setParameter("id", boardId)
+                .executeUpdate();
+        evictBoard(boardId);
+    }
+
+    // 후원 금액 정산 (DonationSettlementService 가 batch 로 부른다)
+    public void AddBoardDonation(long boardId, int amount) {
+        boardCounterUpdate("UPDATE board SET donation_amount = donation_amount + :amount WHERE id = :id")
+                .setParameter("amount", amount)
+                .setParameter("id", boardId)
+                .executeUpdate();
+        evictBoard(boardId);
+    }
+
+    // ---- user ----
+    public void AddUserDonation(long userId, int amount) {
+        entityManager.createQuery(
+                "UPDATE User u SET u.totalDonation = u.totalDonation + :amount WHERE u.id = :id")
+                .setParameter("amount", amount)
+                .setParameter("id", userId)
+                .executeUpdate();
+    }
+
+    // ---- comment ----
+    public void AddCommentLike(long commentId, long delta) {
+        if(coalesce) afterCommit(() -> pendingCommentLikes.merge(commentId, delta, Long::sum));
+        else addCommentLikeNow(commentId, delta);
+    }
+
+    // 후원 금액은 모으지 않고 바로 반영한다. (ledger 가 이미 batch 로 모아서 부른다)
+    public void AddCommentDonation(long commentId, int amount) {
+        entityManager.createQuery(
+                "UPDATE Comment c SET c.donation = c.donation + :amount WHERE c.id = :id")
+                .setParameter("amount", amount)
+                .setParameter("id", commentId)
+                .executeUpdate();
+    }
+
+    private void addBoardLikeNow(long boardId, long delta) {
+        boardCounterUpdate("UPDATE board SET like_amount = like_amount + :delta WHERE id = :id")
+                .setParameter("delta", (int) delta)
+                .setParameter("id", boardId)
+                .executeUpdate();
+        evictBoard(boardId);
+    }
+
+    private void addCommentLikeNow(long commentId, long delta) {
+        entityManager.createQuery(
+                "UPDATE Comment c SET c.like = c.like + :delta WHERE c.id = :id")
+                .setParameter("delta", (int) delta)
+                .setParameter("id", commentId)
+                .executeUpdate();
+    }
+
+    // 다른 엔티티 / query 캐시를 건드리지 않도록 board 캐시와 겹치지 않는 query space 로 실행한다.
+    private Query boardCounterUpdate(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(BOARD_COUNTER_SPACE);
+        return query;
+    }
+
+    // 지금 빼고, commit 이후 한 번 더 뺀다. (그 사이 다른 요청이 예전 값을 다시 올렸을 수 있다)
+    private void evictBoard(long boardId) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(Board.class, boardId);
+        afterCommit(() -> cache.evict(Board.class, boardId));
+    }
+
+    // rollback 된 좋아요는 모으지 않는다.
+    private void afterCommit(Runnable task) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // ---- flush ----
+    @Scheduled(fixedDelayString = "${gofundindie.counter.flush-ms:1000}")
+    public synchronized void Flush() {
+        flush(pendingBoardLikes, this::addBoardLikeNow, "board like");
+        flush(pendingCommentLikes, this::addCommentLikeNow, "comment like");
+    }
+
+    @PreDestroy
+    public void FlushOnShutdown() {
+        if(coalesce) Flush();
+    }
+
+    private void flush(Map<Long, Long> pending, CounterUpdate update, String name) {
+        while(!pending.isEmpty()) {
+            // key 단위로 꺼내므로 꺼낸 뒤에 들어온 증감은 다음 batch / 주기에 반영된다.
+            List<long[]> batch = new ArrayList<>(flushBatchSize);
+            for(Long id : pending.keySet()) {
+                Long delta = pending.remove(id);
+                if(delta != null && delta != 0) batch.add(new long[] {id, delta});
+                if(batch.size() >= flushBatchSize) break;
+            }
+            if(batch.isEmpty()) return;
+
+            try {
+                writeTx.executeWithoutResult(status -> batch.forEach(el -> update.apply(el[0], el[1])));
+            } catch (RuntimeException e) {
+                // 실패한 batch 는 다시 모아두고 다음 주기에 시도한다.
+                batch.forEach(el -> pending.merge(el[0], el[1], Long::sum));
+                log.warn("{} counter flush failed : {} rows", name, batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    // ---- 정합성 확인 ----
+    // 실제 행 수와 다른 카운터만 다시 계산한다.
+    // 모아둔 증감은 commit 이 끝난 행의 것이므로 다시 센 값에 이미 들어있다. 다시 세기 직전에 새 map 으로 바꾸고 버린다.
+    // (먼저 반영하고 다시 세면, 그 사이에 모인 증감이 다음 Flush 에서 한 번 더 더해진다)
+    // Flush 와 같은 lock 을 잡아서 바꾸기 전 map 을 반영하는 중에 다시 세지 않는다.
+    @Scheduled(cron = "${gofundindie.counter.reconcile-cron:0 30 4 * * *}")
+    public synchronized void Reconcile() {
+        Map<Long, Long> discardedBoardLikes = pendingBoardLikes;
+        Map<Long, Long> discardedCommentLikes = pendingCommentLikes;
+        pendingBoardLikes = new ConcurrentHashMap<>();
+        pendingCommentLikes = new ConcurrentHashMap<>();
+
+        try {
+            int[] fixed = writeTx.execute(status -> new int[] {
+                    entityManager.createQuery(
+                            "UPDATE Board b SET b.likeAmount = (SELECT COUNT(l) FROM BoardLike l WHERE l.boardId = b) " +
+                            "WHERE b.likeAmount <> (SELECT COUNT(l) FROM BoardLike l WHERE l.boardId = b)")
+                            .executeUpdate(),
+                    entityManager.createQuery(
+                            "UPDATE Board b SET " +
+                            "b.commentAmount = (SELECT COUNT(c) FROM Comment c WHERE c.boardId = b), " +
+                            "b.ratingCount = (SELECT COUNT(c) FROM Comment c WHERE c.boardId = b), " +
+                            "b.ratingSum = COALESCE((SELECT SUM(c.rating) FROM Comment c WHERE c.boardId = b), 0) " +
+                            "WHERE b.commentAmount <> (SELECT COUNT(c) FROM Comment c WHERE c.boardId = b) " +
+                            "OR b.ratingCount <> (SELECT COUNT(c) FROM Comment c WHERE c.boardId = b) " +
+                            "OR b.ratingSum <> COALESCE((SELECT SUM(c.rating) FROM Comment c WHERE c.boardId = b), 0)")
+                            .executeUpdate(),
+                    entityManager.createQuery(
+                            "UPDATE Comment c SET c.like = (SELECT COUNT(r) FROM CommentRating r WHERE r.commentId = c) " +
+                            "WHERE c.like <> (SELECT COUNT(r) FROM CommentRating r WHERE r.commentId = c)")
+                            .executeUpdate()
+            });
+
+            if(fixed[0] + fixed[1] + fixed[2] > 0) {
+                log.warn("counter reconcile fixed : board like {}, board comment {}, comment like {}",
+                        fixed[0], fixed[1], fixed[2]);
+            }
+        } catch (RuntimeException e) {
+            // 다시 세지 못했으면 버린 증감을 되돌려 둔다.
+            discardedBoardLikes.forEach((id, delta) -> pendingBoardLikes.merge(id, delta, Long::sum));
+            discardedCommentLikes.forEach((id, delta) -> pendingCommentLikes.merge(id, delta, Long::sum));
+            log.warn("counter reconcile failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CounterUpdate {
+        void apply(long id, long delta);
+    }
+}
@@ -0,0 +1,71 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.DonationLedger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+@Transactional
+public class DonationLedgerRepository extends EntityManagerExtend {
+    private final EntityManager entityManager;
+
+    @Autowired
+    public DonationLedgerRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // 승인된 후원을 기록한다. 같은 idempotency key 가 이미 있으면 기록하지 않고 false
+    public boolean CreateDonation(String idempotencyKey, Long commentId, long userId, long boardId, int amount) {
+        if(FindDonationByKey(idempotencyKey) != null) return false;
+
+        DonationLedger ledger = new DonationLedger();
+        ledger.setIdempotencyKey(idempotencyKey);
+        ledger.setCommentId(commentId);
+        ledger.setUserId(userId);
+        ledger.setBoardId(boardId);
+        ledger.setAmount(amount);
+        ledger.setCreatedAt(new Date());
+
+        entityManager.persist(ledger);
+        end(entityManager);
+        return true;
+    }
+
+    public DonationLedger FindDonationByKey(String idempotencyKey) {
+        List<DonationLedger> ledgers = entityManager.createQuery(
+                "SELECT l FROM DonationLedger l WHERE l.idempotencyKey = :key", DonationLedger.class)
+                .setParameter("key", idempotencyKey)
+                .getResultList();
+        if(ledgers.size() == 0) return null;
+        return ledgers.get(0);
+    }
+
+    // 아직 반영하지 않은 후원을 오래된 순서로 (idx_donation_ledger_settled_at 인덱스 사용)
+    public List<DonationLedger> FindPendingDonations(int limit) {
+        return entityManager.createQuery(
+                "SELECT l FROM DonationLedger l WHERE l.settledAt IS NULL ORDER BY l.id", DonationLedger.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public long CountPendingDonations() {
+        return entityManager.createQuery(
+                "SELECT COUNT(l) FROM DonationLedger l WHERE l.settledAt IS NULL", Long.class)
+                .getSingleResult();
+    }
+
+    // 아직 반영되지 않은 행만 반영 완료로 바꾸고, 바꾼 행 수를 돌려준다.
+    // 다른 인스턴스가 먼저 가져간 행은 세지 않으므로 ids 개수보다 작으면 그 batch 는 되돌려야 한다.
+    public int ModifySettled(List<Long> ids, Date settledAt) {
+        return entityManager.createQuery(
+                "UPDATE DonationLedger l SET l.settledAt = :settledAt WHERE l.id IN :ids AND l.settledAt IS NULL")
+                .setParameter("settledAt", settledAt)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+}
@@ -1,17 +1,27 @@
 package com.IndieAn.GoFundIndie.Repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.persistence.EntityManager;
 import java.util.List;
 
+// repository 는 persist / remove 만 하고, flush 는 transaction commit 때 한 번 한다. (unit of work)
+// 한 mutation 안의 insert / update / delete 가 commit 때 모여서 JDBC batch 로 나간다.
+// gofundindie.jpa.flush-each-operation=true 면 예전처럼 repository 메소드마다 flush 한다.
+// (shared EntityManager 의 close() 는 아무 일도 하지 않으므로 부르지 않는다)
 @Component
 @RequiredArgsConstructor
 public class EntityManagerExtend {
+    // board 상세의 genre / casting / still 목록 query cache region (application.conf (caffeine.jcache))
+    public static final String BOARD_DETAIL_QUERY_REGION = "board-detail-query";
+
+    @Value("${gofundindie.jpa.flush-each-operation:false}")
+    private boolean flushEachOperation;
+
     public void end(EntityManager em) {
-        em.flush();
-        em.close();
+        if(flushEachOperation) em.flush();
     }
 
     public void singlePersist(Object e, EntityManager em) {
@@ -33,4 +43,4 @@ public class EntityManagerExtend {
         eList.forEach(em::remove);
         end(em);
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,12 @@ package com.IndieAn.GoFundIndie.Repository;
 import com.IndieAn.GoFundIndie.Domain.Entity.Genre;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
-import java.util.List;
+import java.util.*;
 
 @Repository
 @Transactional
@@ -49,7 +50,31 @@ public class GenreRepository extends EntityManagerExtend{
                         "(g.id, g.name) " +
                         "FROM BoardGenre bg " +
                         "JOIN bg.genreId g " +
-                        "ON bg.boardId = " + boardId + " ", GenreGraphQLDTO.class
-        ).getResultList();
+                        "ON bg.boardId.id = :boardId", GenreGraphQLDTO.class)
+                .setParameter("boardId", boardId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList();
+    }
+
+    // DataLoader batch : board id -> genres
+    public Map<Long, List<GenreGraphQLDTO>> findGenreByBoards(Collection<Long> boardIds) {
+        Map<Long, List<GenreGraphQLDTO>> result = new HashMap<>();
+        if(boardIds.isEmpty()) return result;
+
+        entityManager.createQuery(
+                "SELECT bg.boardId.id, g.id, g.name " +
+                        "FROM BoardGenre bg " +
+                        "JOIN bg.genreId g " +
+                        "WHERE bg.boardId.id IN :boardIds", Object[].class)
+                // id 순서를 고정해서 같은 board 묶음이면 같은 query cache key 가 되게 한다.
+                .setParameter("boardIds", new TreeSet<>(boardIds))
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList()
+                .forEach(row -> result
+                        .computeIfAbsent((Long) row[0], k -> new ArrayList<>())
+                        .add(new GenreGraphQLDTO((Long) row[1], (String) row[2])));
+        return result;
     }
-}
\ No newline at end of file
+}
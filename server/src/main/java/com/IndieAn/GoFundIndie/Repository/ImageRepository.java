@@ -4,11 +4,12 @@ import com.IndieAn.GoFundIndie.Domain.Entity.Board;
 import com.IndieAn.GoFundIndie.Domain.Entity.Still;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Still.StillGraphQLDTO;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
-import java.util.List;
+import java.util.*;
 
 @Repository
 @Transactional
@@ -40,7 +41,30 @@ public class ImageRepository extends EntityManagerExtend{
             "SELECT new com.IndieAn.GoFundIndie.Resolvers.DTO.Still.StillGraphQLDTO" +
                     "(s.id, s.image) " +
                     "FROM Still s " +
-                    "WHERE s.boardId = " + boardId + " ", StillGraphQLDTO.class
-        ).getResultList();
+                    "WHERE s.boardId.id = :boardId", StillGraphQLDTO.class)
+                .setParameter("boardId", boardId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList();
+    }
+
+    // DataLoader batch : board id -> stills
+    public Map<Long, List<StillGraphQLDTO>> findStillByBoards(Collection<Long> boardIds) {
+        Map<Long, List<StillGraphQLDTO>> result = new HashMap<>();
+        if(boardIds.isEmpty()) return result;
+
+        entityManager.createQuery(
+                "SELECT s.boardId.id, s.id, s.image " +
+                        "FROM Still s " +
+                        "WHERE s.boardId.id IN :boardIds", Object[].class)
+                // id 순서를 고정해서 같은 board 묶음이면 같은 query cache key 가 되게 한다.
+                .setParameter("boardIds", new TreeSet<>(boardIds))
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, BOARD_DETAIL_QUERY_REGION)
+                .getResultList()
+                .forEach(row -> result
+                        .computeIfAbsent((Long) row[0], k -> new ArrayList<>())
+                        .add(new StillGraphQLDTO((Long) row[1], (String) row[2])));
+        return result;
     }
 }
@@ -1,14 +1,25 @@
 package com.IndieAn.GoFundIndie.Repository.JPAInterface;
 
+import com.IndieAn.GoFundIndie.Domain.DTO.CommentOutputDTO;
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
 import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 //
 @Repository
 public interface CommentJPAInterface extends JpaRepository<Comment, Long> {
     Page<Comment> findAll(Pageable pageable);
     Page<Comment> findByBoardId(Board boardId, Pageable pageable);
+
+    // 작성자 정보까지 한 번에 읽는 comment 페이지 (ratingChecked 는 false 로 채워서 나간다)
+    @Query(value = "SELECT new com.IndieAn.GoFundIndie.Domain.DTO.CommentOutputDTO" +
+            "(c.id, c.rating, u.id, u.nickname, u.profilePicture, c.donation, c.body, c.spoiler, c.like, false) " +
+            "FROM Comment c JOIN c.userId u " +
+            "WHERE c.boardId = :boardId",
+            countQuery = "SELECT count(c) FROM Comment c WHERE c.boardId = :boardId")
+    Page<CommentOutputDTO> findCommentPageByBoardId(@Param("boardId") Board boardId, Pageable pageable);
 }
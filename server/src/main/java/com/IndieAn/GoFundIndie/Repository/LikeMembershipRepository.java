@@ -0,0 +1,209 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Common.LongIdSet;
+import com.IndieAn.GoFundIndie.Config.ReplicaStickiness;
+import com.IndieAn.GoFundIndie.Config.RoutingDataSource;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 유저별 "찜한 board id" / "좋아요한 comment id" 집합 캐시 (RoaringBitmap)
+// 처음 확인할 때 유저의 id 를 한 번에 읽어 두고, 이후 liked / rated 확인은 DB 를 거치지 않는다.
+// bitmap 은 바꾸지 않고 복사해서 교체한다. (읽는 쪽은 lock 없이 읽는다)
+// 캐시 크기는 bitmap 의 byte 크기 합으로 제한하고, metric 으로 내보낸다.
+// int 범위를 넘는 id 는 bitmap 에 담을 수 없으므로 DB 에 바로 확인한다.
+// replica 로 가는 읽기는 캐시에 없는 유저를 올리지 않고 DB 에 바로 확인한다. (복제 지연 동안의 예전 값이 남지 않게)
+// bitmap 은 요청의 transaction 이 아닌 새 readOnly transaction 으로 읽는다.
+// 요청의 snapshot 은 다른 유저의 commit 보다 앞설 수 있고 (REPEATABLE READ), 쓰기 transaction 안에서는 rollback 될 행까지 보인다.
+@Repository
+public class LikeMembershipRepository {
+    // bitmap 외에 entry 하나가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final EntityManager entityManager;
+    private final ReplicaStickiness stickiness;
+    private final TransactionTemplate readTx;
+    private final boolean enabled;
+
+    private final LoadingCache<Long, RoaringBitmap> likedBoards;
+    private final LoadingCache<Long, RoaringBitmap> ratedComments;
+
+    public LikeMembershipRepository(EntityManager entityManager, ReplicaStickiness stickiness, MeterRegistry meterRegistry,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${gofundindie.membership.enabled:true}") boolean enabled,
+                                    @Value("${gofundindie.membership.max-bytes:33554432}") long maxBytes,
+                                    @Value("${gofundindie.membership.expire-minutes:30}") long expireMinutes) {
+        this.entityManager = entityManager;
+        this.stickiness = stickiness;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+
+        this.likedBoards = build(maxBytes, expireMinutes, userId -> load(
+                "SELECT l.boardId.id FROM BoardLike l WHERE l.userId.id = :userId", userId));
+        this.ratedComments = build(maxBytes, expireMinutes, userId -> load(
+                "SELECT cr.commentId.id FROM CommentRating cr WHERE cr.userId.id = :userId", userId));
+
+        bindMetrics(meterRegistry, likedBoards, "board-like");
+        bindMetrics(meterRegistry, ratedComments, "comment-rating");
+    }
+
+    // ---- board 찜 ----
+    public boolean IsBoardLiked(long userId, long boardId) {
+        RoaringBitmap liked = enabled && fits(boardId) ? cached(likedBoards, userId) : null;
+        if(liked == null) {
+            return exists("SELECT l.id FROM BoardLike l " +
+                    "WHERE l.userId.id = :userId AND l.boardId.id = :id", userId, boardId);
+        }
+        return liked.contains((int) boardId);
+    }
+
+    // 메모리(write-behind) 에서 바뀐 찜 상태는 바로 반영한다.
+    public void SetBoardLiked(long userId, long boardId, boolean liked) {
+        set(likedBoards, userId, boardId, liked);
+    }
+
+    // DB 에 바로 쓴 찜 상태는 commit 이후 반영한다.
+    public void SetBoardLikedAfterCommit(long userId, long boardId, boolean liked) {
+        afterCommit(() -> set(likedBoards, userId, boardId, liked));
+    }
+
+    // ---- comment 좋아요 ----
+    public boolean IsCommentRated(long userId, long commentId) {
+        RoaringBitmap rated = enabled && fits(commentId) ? cached(ratedComments, userId) : null;
+        if(rated == null) {
+            return exists("SELECT cr.id FROM CommentRating cr " +
+                    "WHERE cr.userId.id = :userId AND cr.commentId.id = :id", userId, commentId);
+        }
+        return rated.contains((int) commentId);
+    }
+
+    // commentIds 중 유저가 좋아요한 id. 캐시를 쓰지 않거나 replica 읽기에서 캐시에 없으면 null -> 호출한 쪽에서 한 번에 조회한다.
+    public LongIdSet RatedCommentIds(long userId, Collection<Long> commentIds) {
+        if(!enabled) return null;
+
+        RoaringBitmap rated = cached(ratedComments, userId);
+        if(rated == null) return null;
+
+        List<Long> result = new ArrayList<>();
+        for(Long id : commentIds) {
+            if(fits(id) ? rated.contains(id.intValue()) : IsCommentRated(userId, id)) result.add(id);
+        }
+        return LongIdSet.of(result);
+    }
+
+    public void SetCommentRatedAfterCommit(long userId, long commentId, boolean rated) {
+        afterCommit(() -> set(ratedComments, userId, commentId, rated));
+    }
+
+    // 탈퇴한 유저의 캐시를 비운다.
+    public void InvalidateUserAfterCommit(long userId) {
+        afterCommit(() -> {
+            likedBoards.invalidate(userId);
+            ratedComments.invalidate(userId);
+        });
+    }
+
+    // ---- 내부 ----
+    // replica 로 가는 읽기는 이미 올라온 bitmap 만 쓴다. (없으면 null)
+    private RoaringBitmap cached(LoadingCache<Long, RoaringBitmap> cache, long userId) {
+        return stickiness.readsReplica() ? cache.getIfPresent(userId) : cache.get(userId);
+    }
+
+    private LoadingCache<Long, RoaringBitmap> build(long maxBytes, long expireMinutes,
+                                                    CacheLoader<Long, RoaringBitmap> loader) {
+        // expireAfterWrite : 놓친 변경이 있어도 일정 시간이 지나면 DB 에서 다시 읽는다.
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long userId, RoaringBitmap bitmap) ->
+                        (int) Math.min(Integer.MAX_VALUE, bitmap.getLongSizeInBytes() + ENTRY_OVERHEAD_BYTES))
+                .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build(loader);
+    }
+
+    // 요청이 이미 connection 을 쥐고 있을 수 있으므로 isolated pool (primary) 에서 읽는다.
+    private RoaringBitmap load(String jpql, long userId) {
+        List<Long> ids = RoutingDataSource.isolated(() -> readTx.execute(status ->
+                entityManager.createQuery(jpql, Long.class)
+                        .setParameter("userId", userId)
+                        .getResultList()));
+
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(id -> {
+            if(fits(id)) bitmap.add(id.intValue());
+        });
+        bitmap.runOptimize();
+        bitmap.trim();
+        return bitmap;
+    }
+
+    // 올라와 있는 유저만 바꾼다. 읽어오는 중이면 다 읽은 뒤에 바뀐다. (같은 key 의 compute 는 순서대로 실행된다)
+    private static void set(LoadingCache<Long, RoaringBitmap> cache, long userId, long id, boolean member) {
+        if(!fits(id)) return;
+
+        cache.asMap().computeIfPresent(userId, (key, before) -> {
+            if(before.contains((int) id) == member) return before;
+
+            RoaringBitmap after = before.clone();
+            if(member) after.add((int) id);
+            else after.remove((int) id);
+            return after;
+        });
+    }
+
+    private boolean exists(String jpql, long userId, long id) {
+        return !entityManager.createQuery(jpql, Long.class)
+                .setParameter("userId", userId)
+                .setParameter("id", id)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    private static boolean fits(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    // rollback 된 변경은 반영하지 않는다.
+    private static void afterCommit(Runnable task) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static void bindMetrics(MeterRegistry registry, LoadingCache<Long, RoaringBitmap> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, "gofundindie.membership." + name);
+        Gauge.builder("gofundindie.membership.bytes", cache,
+                        el -> el.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .tag("type", name)
+                .description("estimated bytes held by per-user membership bitmaps")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -46,6 +46,17 @@ public class PayRepository extends EntityManagerExtend{
         end(entityManager);
     }
 
+    // 승인이 끝난 결제 요청만 지운다. (같은 유저가 다른 board 에 걸어둔 결제 요청은 남긴다)
+    // 같은 tid 의 승인이 동시에 끝나도 먼저 지운 쪽 외에는 0 을 돌려줄 뿐 예외가 나지 않는다.
+    public int DeletePayRequestByTid(String tid) {
+        int deleted = entityManager.createQuery("DELETE FROM PayRequest p WHERE p.tid = :tid")
+                .setParameter("tid", tid)
+                .executeUpdate();
+
+        end(entityManager);
+        return deleted;
+    }
+
     public PayRequest FindPayRequestByEmailandUrl(String email, String next_redirect_pc_url) {
         List<PayRequest> payRequestList = entityManager
                 .createQuery("SELECT p FROM PayRequest AS p WHERE p.email='" + email + "'" +
@@ -16,10 +16,12 @@ import java.util.List;
 @Transactional
 public class UserRepository extends EntityManagerExtend{
     private final EntityManager entityManager;
+    private final LikeMembershipRepository likeMembershipRepository;
 
     @Autowired
-    public UserRepository(EntityManager entityManager) {
+    public UserRepository(EntityManager entityManager, LikeMembershipRepository likeMembershipRepository) {
         this.entityManager = entityManager;
+        this.likeMembershipRepository = likeMembershipRepository;
     }
 
     // DB User 테이블에 모든 유저 정보를 리턴한다.
@@ -79,6 +81,7 @@ public class UserRepository extends EntityManagerExtend{
     public User DeleteUser(long userId) {
         User deleteUser = entityManager.find(User.class, userId);
         entityManager.remove(deleteUser);
+        likeMembershipRepository.InvalidateUserAfterCommit(userId);
 
         end(entityManager);
 
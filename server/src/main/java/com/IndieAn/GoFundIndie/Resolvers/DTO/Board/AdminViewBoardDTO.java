@@ -1,14 +1,12 @@
 package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
 
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.CastingGraphQLDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Comment.CommentGraphQLDTO;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Still.StillGraphQLDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.User.UserGraphQLDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import java.sql.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -33,9 +31,6 @@ public class AdminViewBoardDTO {
     private String createdAt;
     private int commentAmount;
     private int likeAmount;
-    private List<GenreGraphQLDTO> genre;
-    private List<CastingGraphQLDTO> casting;
-    private List<StillGraphQLDTO> still;
     private List<CommentGraphQLDTO> comment;
 
     public static AdminViewBoardDTO from(Board en) {
@@ -55,7 +50,8 @@ public class AdminViewBoardDTO {
                 .infoLimit(en.getInfoLimit())
                 .infoStory(en.getInfoStory())
                 .infoSubtitle(en.isInfoSubtitle())
-                .createdAt(en.getCreatedAt().toString())
+                // 날짜만 (yyyy-MM-dd)
+                .createdAt(new Date(en.getCreatedAt().getTime()).toString())
                 .commentAmount(en.getCommentAmount())
                 .likeAmount(en.getLikeAmount())
                 .build();
@@ -205,30 +201,6 @@ public class AdminViewBoardDTO {
         this.likeAmount = likeAmount;
     }
 
-    public List<GenreGraphQLDTO> getGenre() {
-        return genre;
-    }
-
-    public void setGenre(List<GenreGraphQLDTO> genre) {
-        this.genre = genre;
-    }
-
-    public List<CastingGraphQLDTO> getCasting() {
-        return casting;
-    }
-
-    public void setCasting(List<CastingGraphQLDTO> casting) {
-        this.casting = casting;
-    }
-
-    public List<StillGraphQLDTO> getStill() {
-        return still;
-    }
-
-    public void setStill(List<StillGraphQLDTO> still) {
-        this.still = still;
-    }
-
     public List<CommentGraphQLDTO> getComment() {
         return comment;
     }
@@ -0,0 +1,34 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+import java.util.List;
+
+public class BoardConnectionDTO {
+    private List<BoardEdgeDTO> edges;
+    private PageInfoDTO pageInfo;
+
+    public BoardConnectionDTO() {}
+
+    @Builder
+    public BoardConnectionDTO(List<BoardEdgeDTO> edges, PageInfoDTO pageInfo) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+    }
+
+    public List<BoardEdgeDTO> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<BoardEdgeDTO> edges) {
+        this.edges = edges;
+    }
+
+    public PageInfoDTO getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfoDTO pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+}
@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class BoardEdgeDTO {
+    private String cursor;
+    private BoardGraphQLDTO node;
+
+    public BoardEdgeDTO() {}
+
+    @Builder
+    public BoardEdgeDTO(String cursor, BoardGraphQLDTO node) {
+        this.cursor = cursor;
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public BoardGraphQLDTO getNode() {
+        return node;
+    }
+
+    public void setNode(BoardGraphQLDTO node) {
+        this.node = node;
+    }
+}
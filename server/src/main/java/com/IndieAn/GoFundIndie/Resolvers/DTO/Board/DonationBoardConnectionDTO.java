@@ -0,0 +1,34 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+import java.util.List;
+
+public class DonationBoardConnectionDTO {
+    private List<DonationBoardEdgeDTO> edges;
+    private PageInfoDTO pageInfo;
+
+    public DonationBoardConnectionDTO() {}
+
+    @Builder
+    public DonationBoardConnectionDTO(List<DonationBoardEdgeDTO> edges, PageInfoDTO pageInfo) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+    }
+
+    public List<DonationBoardEdgeDTO> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<DonationBoardEdgeDTO> edges) {
+        this.edges = edges;
+    }
+
+    public PageInfoDTO getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfoDTO pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+}
@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class DonationBoardEdgeDTO {
+    private String cursor;
+    private DonationBoardGraphQLDTO node;
+
+    public DonationBoardEdgeDTO() {}
+
+    @Builder
+    public DonationBoardEdgeDTO(String cursor, DonationBoardGraphQLDTO node) {
+        this.cursor = cursor;
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public DonationBoardGraphQLDTO getNode() {
+        return node;
+    }
+
+    public void setNode(DonationBoardGraphQLDTO node) {
+        this.node = node;
+    }
+}
@@ -0,0 +1,34 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+import java.util.List;
+
+public class LikeBoardConnectionDTO {
+    private List<LikeBoardEdgeDTO> edges;
+    private PageInfoDTO pageInfo;
+
+    public LikeBoardConnectionDTO() {}
+
+    @Builder
+    public LikeBoardConnectionDTO(List<LikeBoardEdgeDTO> edges, PageInfoDTO pageInfo) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+    }
+
+    public List<LikeBoardEdgeDTO> getEdges() {
+        return edges;
+    }
+
+    public void setEdges(List<LikeBoardEdgeDTO> edges) {
+        this.edges = edges;
+    }
+
+    public PageInfoDTO getPageInfo() {
+        return pageInfo;
+    }
+
+    public void setPageInfo(PageInfoDTO pageInfo) {
+        this.pageInfo = pageInfo;
+    }
+}
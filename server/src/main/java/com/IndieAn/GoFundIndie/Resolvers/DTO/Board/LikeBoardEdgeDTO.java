@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class LikeBoardEdgeDTO {
+    private String cursor;
+    private LikeBoardGraphQLDTO node;
+
+    public LikeBoardEdgeDTO() {}
+
+    @Builder
+    public LikeBoardEdgeDTO(String cursor, LikeBoardGraphQLDTO node) {
+        this.cursor = cursor;
+        this.node = node;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public LikeBoardGraphQLDTO getNode() {
+        return node;
+    }
+
+    public void setNode(LikeBoardGraphQLDTO node) {
+        this.node = node;
+    }
+}
@@ -1,13 +1,8 @@
 package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
 
-import com.IndieAn.GoFundIndie.Domain.Entity.Board;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
 import lombok.Builder;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class LikeBoardGraphQLDTO {
     private long id;
     private boolean isApprove;
@@ -19,19 +14,18 @@ public class LikeBoardGraphQLDTO {
     private Integer infoTime;
     private Integer infoLimit;
     private String infoStory;
-    private List<GenreGraphQLDTO> genre;
 
     public LikeBoardGraphQLDTO() {}
 
     @Builder
-    public LikeBoardGraphQLDTO(Board board, boolean isApprove, String title, String posterImg,
+    public LikeBoardGraphQLDTO(long id, boolean isApprove, String title, String posterImg,
                                String infoCountry, String infoCreatedYear,
                                String infoCreatedDate, Integer infoTime,
                                Integer infoLimit, String infoStory) {
         Assert.notNull(title, "title is not null");
         Assert.notNull(infoStory, "infoStory is not null");
 
-        this.id = board.getId();
+        this.id = id;
         this.isApprove = isApprove;
         this.title = title;
         this.posterImg = posterImg;
@@ -41,11 +35,6 @@ public class LikeBoardGraphQLDTO {
         this.infoTime = infoTime;
         this.infoLimit = infoLimit;
         this.infoStory = infoStory;
-
-        // TODO 쿼리 줄이기
-        List<GenreGraphQLDTO> list = new ArrayList<>();
-        board.getBoardGenres().forEach(el -> list.add(GenreGraphQLDTO.from(el.getGenreId())));
-        this.genre = list;
     }
 
     public long getId() {
@@ -127,12 +116,4 @@ public class LikeBoardGraphQLDTO {
     public void setInfoStory(String infoStory) {
         this.infoStory = infoStory;
     }
-
-    public List<GenreGraphQLDTO> getGenre() {
-        return genre;
-    }
-
-    public void setGenre(List<GenreGraphQLDTO> genre) {
-        this.genre = genre;
-    }
 }
@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class PageInfoDTO {
+    private boolean hasNextPage;
+    private String endCursor;
+
+    public PageInfoDTO() {}
+
+    @Builder
+    public PageInfoDTO(boolean hasNextPage, String endCursor) {
+        this.hasNextPage = hasNextPage;
+        this.endCursor = endCursor;
+    }
+
+    public boolean isHasNextPage() {
+        return hasNextPage;
+    }
+
+    public void setHasNextPage(boolean hasNextPage) {
+        this.hasNextPage = hasNextPage;
+    }
+
+    public String getEndCursor() {
+        return endCursor;
+    }
+
+    public void setEndCursor(String endCursor) {
+        this.endCursor = endCursor;
+    }
+}
@@ -1,14 +1,12 @@
 package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
 
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.CastingGraphQLDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Comment.CommentGraphQLDTO;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
-import com.IndieAn.GoFundIndie.Resolvers.DTO.Still.StillGraphQLDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.sql.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,11 +28,9 @@ public class ViewBoardDTO {
     private String createdAt;
     private int commentAmount;
     private int likeAmount;
+    private int donationAmount;
     private float averageRating;
     private boolean isLiked;
-    private List<GenreGraphQLDTO> genre;
-    private List<CastingGraphQLDTO> casting;
-    private List<StillGraphQLDTO> still;
     private List<CommentGraphQLDTO> comment;
 
     public ViewBoardDTO() {}
@@ -44,8 +40,8 @@ public class ViewBoardDTO {
                         String distributor, String posterImg, String viewLink,
                         String infoCountry, String infoCreatedYear, String infoCreatedDate,
                         int infoTime, int infoLimit, String infoStory, boolean infoSubtitle,
-                        String createdAt, int commentAmount, int likeAmount, float averageRating,
-                        boolean isLiked) {
+                        String createdAt, int commentAmount, int likeAmount, int donationAmount,
+                        float averageRating, boolean isLiked) {
         this.id = id;
         this.isApprove = isApprove;
         this.title = title;
@@ -63,6 +59,7 @@ public class ViewBoardDTO {
         this.createdAt = createdAt;
         this.commentAmount = commentAmount;
         this.likeAmount = likeAmount;
+        this.donationAmount = donationAmount;
         this.averageRating = averageRating;
         this.isLiked = isLiked;
     }
@@ -203,6 +200,14 @@ public class ViewBoardDTO {
         this.likeAmount = likeAmount;
     }
 
+    public int getDonationAmount() {
+        return donationAmount;
+    }
+
+    public void setDonationAmount(int donationAmount) {
+        this.donationAmount = donationAmount;
+    }
+
     public float getAverageRating() {
         return averageRating;
     }
@@ -219,30 +224,6 @@ public class ViewBoardDTO {
         isLiked = liked;
     }
 
-    public List<GenreGraphQLDTO> getGenre() {
-        return genre;
-    }
-
-    public void setGenre(List<GenreGraphQLDTO> genre) {
-        this.genre = genre;
-    }
-
-    public List<CastingGraphQLDTO> getCasting() {
-        return casting;
-    }
-
-    public void setCasting(List<CastingGraphQLDTO> casting) {
-        this.casting = casting;
-    }
-
-    public List<StillGraphQLDTO> getStill() {
-        return still;
-    }
-
-    public void setStill(List<StillGraphQLDTO> still) {
-        this.still = still;
-    }
-
     public List<CommentGraphQLDTO> getComment() {
         return comment;
     }
@@ -267,9 +248,11 @@ public class ViewBoardDTO {
                 .infoLimit(en.getInfoLimit())
                 .infoStory(en.getInfoStory())
                 .infoSubtitle(en.isInfoSubtitle())
-                .createdAt(en.getCreatedAt().toString())
+                // 날짜만 (yyyy-MM-dd)
+                .createdAt(new Date(en.getCreatedAt().getTime()).toString())
                 .commentAmount(en.getCommentAmount())
                 .likeAmount(en.getLikeAmount())
+                .donationAmount(en.getDonationAmount())
                 .build();
     }
 }
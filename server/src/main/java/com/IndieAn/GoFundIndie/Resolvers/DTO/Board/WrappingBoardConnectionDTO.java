@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class WrappingBoardConnectionDTO {
+    private int code;
+    private BoardConnectionDTO data;
+
+    public WrappingBoardConnectionDTO() {}
+
+    @Builder
+    public WrappingBoardConnectionDTO(int code, BoardConnectionDTO data) {
+        this.code = code;
+        this.data = data;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    public BoardConnectionDTO getData() {
+        return data;
+    }
+
+    public void setData(BoardConnectionDTO data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class WrappingDonationBoardConnectionDTO {
+    private int code;
+    private DonationBoardConnectionDTO data;
+
+    public WrappingDonationBoardConnectionDTO() {}
+
+    @Builder
+    public WrappingDonationBoardConnectionDTO(int code, DonationBoardConnectionDTO data) {
+        this.code = code;
+        this.data = data;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    public DonationBoardConnectionDTO getData() {
+        return data;
+    }
+
+    public void setData(DonationBoardConnectionDTO data) {
+        this.data = data;
+    }
+}
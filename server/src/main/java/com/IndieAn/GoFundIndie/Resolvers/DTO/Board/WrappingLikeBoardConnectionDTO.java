@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Resolvers.DTO.Board;
+
+import lombok.Builder;
+
+public class WrappingLikeBoardConnectionDTO {
+    private int code;
+    private LikeBoardConnectionDTO data;
+
+    public WrappingLikeBoardConnectionDTO() {}
+
+    @Builder
+    public WrappingLikeBoardConnectionDTO(int code, LikeBoardConnectionDTO data) {
+        this.code = code;
+        this.data = data;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    public LikeBoardConnectionDTO getData() {
+        return data;
+    }
+
+    public void setData(LikeBoardConnectionDTO data) {
+        this.data = data;
+    }
+}
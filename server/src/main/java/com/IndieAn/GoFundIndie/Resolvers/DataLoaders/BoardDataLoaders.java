@@ -0,0 +1,57 @@
+package com.IndieAn.GoFundIndie.Resolvers.DataLoaders;
+
+import com.IndieAn.GoFundIndie.Repository.CastingRepository;
+import com.IndieAn.GoFundIndie.Repository.GenreRepository;
+import com.IndieAn.GoFundIndie.Repository.ImageRepository;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Per request DataLoader registry
+// board id -> child collection, one IN (...) query per collection and request
+// batch 는 resolver 의 transaction 이 끝난 뒤 실행되므로 따로 read-only transaction 을 연다. (replica 로 간다)
+@Component
+public class BoardDataLoaders {
+    public static final String GENRE = "boardGenre";
+    public static final String CASTING = "boardCasting";
+    public static final String STILL = "boardStill";
+
+    private final GenreRepository genreRepository;
+    private final CastingRepository castingRepository;
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    public BoardDataLoaders(GenreRepository genreRepository, CastingRepository castingRepository,
+                            ImageRepository imageRepository, PlatformTransactionManager transactionManager) {
+        this.genreRepository = genreRepository;
+        this.castingRepository = castingRepository;
+        this.imageRepository = imageRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public DataLoaderRegistry registry() {
+        DataLoaderRegistry registry = new DataLoaderRegistry();
+        registry.register(GENRE, mapped(genreRepository::findGenreByBoards));
+        registry.register(CASTING, mapped(castingRepository::findCastingByBoards));
+        registry.register(STILL, mapped(imageRepository::findStillByBoards));
+        return registry;
+    }
+
+    private <V> DataLoader<Long, List<V>> mapped(Function<Set<Long>, Map<Long, List<V>>> batch) {
+        return DataLoader.newMappedDataLoader(keys -> {
+            Map<Long, List<V>> result = readOnlyTx.execute(status -> batch.apply(keys));
+            keys.forEach(key -> result.putIfAbsent(key, Collections.emptyList()));
+            return CompletableFuture.completedFuture(result);
+        });
+    }
+}
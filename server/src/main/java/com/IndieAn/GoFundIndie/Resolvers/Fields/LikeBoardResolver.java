@@ -0,0 +1,18 @@
+package com.IndieAn.GoFundIndie.Resolvers.Fields;
+
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.LikeBoardGraphQLDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DataLoaders.BoardDataLoaders;
+import graphql.kickstart.tools.GraphQLResolver;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class LikeBoardResolver implements GraphQLResolver<LikeBoardGraphQLDTO> {
+    public CompletableFuture<List<GenreGraphQLDTO>> getGenre(LikeBoardGraphQLDTO board, DataFetchingEnvironment env) {
+        return env.<Long, List<GenreGraphQLDTO>>getDataLoader(BoardDataLoaders.GENRE).load(board.getId());
+    }
+}
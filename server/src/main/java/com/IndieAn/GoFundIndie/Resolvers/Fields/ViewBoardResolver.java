@@ -0,0 +1,28 @@
+package com.IndieAn.GoFundIndie.Resolvers.Fields;
+
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.ViewBoardDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.CastingGraphQLDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Genre.GenreGraphQLDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Still.StillGraphQLDTO;
+import com.IndieAn.GoFundIndie.Resolvers.DataLoaders.BoardDataLoaders;
+import graphql.kickstart.tools.GraphQLResolver;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+public class ViewBoardResolver implements GraphQLResolver<ViewBoardDTO> {
+    public CompletableFuture<List<GenreGraphQLDTO>> getGenre(ViewBoardDTO board, DataFetchingEnvironment env) {
+        return env.<Long, List<GenreGraphQLDTO>>getDataLoader(BoardDataLoaders.GENRE).load(board.getId());
+    }
+
+    public CompletableFuture<List<CastingGraphQLDTO>> getCasting(ViewBoardDTO board, DataFetchingEnvironment env) {
+        return env.<Long, List<CastingGraphQLDTO>>getDataLoader(BoardDataLoaders.CASTING).load(board.getId());
+    }
+
+    public CompletableFuture<List<StillGraphQLDTO>> getStill(ViewBoardDTO board, DataFetchingEnvironment env) {
+        return env.<Long, List<StillGraphQLDTO>>getDataLoader(BoardDataLoaders.STILL).load(board.getId());
+    }
+}
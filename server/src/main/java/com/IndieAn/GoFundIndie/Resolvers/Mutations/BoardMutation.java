@@ -7,6 +7,8 @@ import com.IndieAn.GoFundIndie.Repository.BoardRepository;
 import com.IndieAn.GoFundIndie.Repository.UserRepository;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.*;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.GqlResponseCodeDTO;
+import com.IndieAn.GoFundIndie.Service.BoardFeedService;
+import com.IndieAn.GoFundIndie.Service.BoardSearchIndex;
 import com.IndieAn.GoFundIndie.Service.BoardService;
 import com.IndieAn.GoFundIndie.Service.GqlUserValidService;
 import com.IndieAn.GoFundIndie.Service.UserService;
@@ -26,6 +28,8 @@ public class BoardMutation {
     private final BoardLikeRepository boardLikeRepository;
 
     private final BoardService boardService;
+    private final BoardFeedService boardFeedService;
+    private final BoardSearchIndex boardSearchIndex;
     private final UserService userService;
     private final GqlUserValidService gqlUserValidService;
 
@@ -83,7 +87,7 @@ public class BoardMutation {
                             return WrappingCreateTempBoardDTO.builder()
                                     .code(2000)
                                     .data(CreateTempBoardDTO.builder()
-                                            .id(boardRepository.CompleteBoard(board, dto)).build())
+                                            .id(completeBoard(board, dto)).build())
                                     .build();
                         } catch (IllegalArgumentException e) {
                             return WrappingCreateTempBoardDTO.builder()
@@ -127,7 +131,7 @@ public class BoardMutation {
                     return WrappingCreateTempBoardDTO.builder()
                             .code(2000)
                             .data(CreateTempBoardDTO.builder()
-                                    .id(boardRepository.PutBoard(board, dto)).build())
+                                    .id(putBoard(board, dto)).build())
                             .build();
                 }
             } else {
@@ -154,6 +158,8 @@ public class BoardMutation {
                     return GqlResponseCodeDTO.bad(4300);
 
                 boardRepository.DeleteBoard(board);
+                boardFeedService.invalidate();
+                boardSearchIndex.reindex(id);
                 return GqlResponseCodeDTO.ok();
             } else {
                 // Token Invalid
@@ -179,6 +185,8 @@ public class BoardMutation {
                     return GqlResponseCodeDTO.bad(4300);
 
                 boardRepository.ApproveBoard(board, isApprove);
+                boardFeedService.invalidate();
+                boardSearchIndex.reindex(id);
                 return GqlResponseCodeDTO.ok();
             } else {
                 // Token Invalid
@@ -188,4 +196,19 @@ public class BoardMutation {
             return GqlResponseCodeDTO.bad(4000);
         }
     }
+
+    // 보드 내용이 바뀌면 홈 피드 snapshot 과 검색 색인도 다시 만든다.
+    private long completeBoard(Board board, CreateBoardCompleteDTO dto) {
+        long id = boardRepository.CompleteBoard(board, dto);
+        boardFeedService.invalidate();
+        boardSearchIndex.reindex(id);
+        return id;
+    }
+
+    private long putBoard(Board board, PutBoardDTO dto) {
+        long id = boardRepository.PutBoard(board, dto);
+        boardFeedService.invalidate();
+        boardSearchIndex.reindex(id);
+        return id;
+    }
 }
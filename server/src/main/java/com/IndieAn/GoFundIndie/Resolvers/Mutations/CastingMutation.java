@@ -11,6 +11,7 @@ import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.CreateTempCastingDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.PutCastingDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.WrappingCreateTempCastingDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.GqlResponseCodeDTO;
+import com.IndieAn.GoFundIndie.Service.BoardSearchIndex;
 import com.IndieAn.GoFundIndie.Service.GqlUserValidService;
 import com.IndieAn.GoFundIndie.Service.UserService;
 import graphql.schema.DataFetchingEnvironment;
@@ -30,6 +31,7 @@ public class CastingMutation {
 
     private final UserService userService;
     private final GqlUserValidService gqlUserValidService;
+    private final BoardSearchIndex boardSearchIndex;
 
     // TODO 보드가 승인나면 관리자만 할수 있게
     // 캐스팅 임시
@@ -88,7 +90,7 @@ public class CastingMutation {
 
                 return WrappingCreateTempCastingDTO.builder().code(2000)
                         .data(CreateTempCastingDTO.builder().id(
-                                castingRepository.CompleteCasting(casting, dto)
+                                completeCasting(casting, dto)
                         ).build())
                         .build();
             }
@@ -121,7 +123,7 @@ public class CastingMutation {
 
                 return WrappingCreateTempCastingDTO.builder().code(2000)
                         .data(CreateTempCastingDTO.builder().id(
-                                castingRepository.PutCasting(casting, dto)
+                                putCasting(casting, dto)
                         ).build())
                         .build();
             }
@@ -153,6 +155,7 @@ public class CastingMutation {
                     return GqlResponseCodeDTO.builder().code(4403).build();
 
                 castingRepository.RemoveCasting(casting);
+                boardSearchIndex.reindex(casting.getBoardId().getId());
                 return GqlResponseCodeDTO.builder().code(2000).build();
             }
 
@@ -164,4 +167,17 @@ public class CastingMutation {
             return GqlResponseCodeDTO.builder().code(4000).build();
         }
     }
+
+    // 출연진 이름이 바뀌면 검색 색인에 반영한다.
+    private long completeCasting(Casting casting, CreateCastingCompleteDTO dto) {
+        long id = castingRepository.CompleteCasting(casting, dto);
+        boardSearchIndex.reindex(casting.getBoardId().getId());
+        return id;
+    }
+
+    private long putCasting(Casting casting, PutCastingDTO dto) {
+        long id = castingRepository.PutCasting(casting, dto);
+        boardSearchIndex.reindex(casting.getBoardId().getId());
+        return id;
+    }
 }
\ No newline at end of file
@@ -21,10 +21,11 @@ import java.util.Objects;
 
 @Slf4j
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class Query implements GraphQLQueryResolver {
     private final BoardQuery boardQuery;
+    private final BoardPagingQuery boardPagingQuery;
     private final GenreQuery genreQuery;
     private final UserQuery userQuery;
     private final BoardReportQuery boardReportQuery;
@@ -85,6 +86,20 @@ public class Query implements GraphQLQueryResolver {
         return boardQuery.FindRandomBoard(Objects.requireNonNullElse(limit, limitMax), env);
     }
 
+    // ---- BOARD PAGING ----
+    //
+    public WrappingBoardConnectionDTO FindBoardsPage(SearchTypes type, Integer first, String after, DataFetchingEnvironment env) {
+        return boardPagingQuery.FindBoardsPage(type, first, after, env);
+    }
+
+    public WrappingLikeBoardConnectionDTO FindLikeBoardsPage(Integer first, String after, DataFetchingEnvironment env) {
+        return boardPagingQuery.FindLikeBoardsPage(first, after, env);
+    }
+
+    public WrappingDonationBoardConnectionDTO FindDonationBoardsPage(Integer first, String after, DataFetchingEnvironment env) {
+        return boardPagingQuery.FindDonationBoardsPage(first, after, env);
+    }
+
     // ---- BOARD REPORT ----
     //
     public WrappingBoardReportGraphQLDTO FindBoardReport(Long id, DataFetchingEnvironment env) {
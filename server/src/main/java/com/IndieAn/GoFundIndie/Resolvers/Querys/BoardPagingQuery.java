@@ -1,13 +1,180 @@
 package com.IndieAn.GoFundIndie.Resolvers.Querys;
 
+import com.IndieAn.GoFundIndie.Common.PageCursor;
+import com.IndieAn.GoFundIndie.Common.SearchTypes;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
 import com.IndieAn.GoFundIndie.Repository.BoardRepository;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.*;
+import com.IndieAn.GoFundIndie.Service.GqlUserValidService;
+import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.Function;
+
+// Relay 형식 (first / after) 의 board 목록
+// offset 없이 정렬 key + id 로 다음 페이지를 찾으므로, 페이지가 깊어져도 한 페이지 크기만큼만 읽는다.
 @Slf4j
 @Service
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class BoardPagingQuery {
     private final BoardRepository boardRepository;
+    private final GqlUserValidService gqlUserValidService;
+
+    @Value("${gofundindie.paging.default-size:20}")
+    private int defaultSize;
+
+    @Value("${gofundindie.paging.max-size:100}")
+    private int maxSize;
+
+    public WrappingBoardConnectionDTO FindBoardsPage(SearchTypes type, Integer first, String after,
+                                                     DataFetchingEnvironment env) {
+        User user = null;
+
+        //   - My, My_donation 은 로그인한 유저가 필요하다.
+        if(type == SearchTypes.SEARCH_TYPES_MY || type == SearchTypes.SEARCH_TYPES_MY_DONATION) {
+            try {
+                int code = gqlUserValidService.envValidCheck(env);
+                if(code != 0) return WrappingBoardConnectionDTO.builder().code(code).build();
+
+                user = gqlUserValidService.findUser(env);
+                if(user == null) return WrappingBoardConnectionDTO.builder().code(4400).build();
+            } catch (NullPointerException e) {
+                return WrappingBoardConnectionDTO.builder().code(4000).build();
+            }
+        }
+
+        //   - Random 은 순서가 없으므로 페이지로 나눌 수 없다.
+        if(type == SearchTypes.SEARCH_TYPES_RANDOM) {
+            return WrappingBoardConnectionDTO.builder().code(4009).build();
+        }
+
+        try {
+            int size = pageSize(first);
+            List<BoardEdgeDTO> edges = findBoardsPageByType(type, PageCursor.decode(after, cursorTag(type)), size, user);
+
+            return WrappingBoardConnectionDTO.builder()
+                    .code(2000)
+                    .data(BoardConnectionDTO.builder()
+                            .pageInfo(pageInfo(edges, size, BoardEdgeDTO::getCursor))
+                            .edges(edges)
+                            .build())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            //   - cursor invalid case :
+            return WrappingBoardConnectionDTO.builder().code(4000).build();
+        }
+    }
+
+    private List<BoardEdgeDTO> findBoardsPageByType(SearchTypes type, PageCursor after, int size, User user) {
+        if(type == null) return boardRepository.findBoardsPage(true, after, size);
+
+        switch (type) {
+            case SEARCH_TYPES_MY:
+                return boardRepository.findBoardsPageLike(user, after, size);
+            case SEARCH_TYPES_MY_DONATION:
+                return boardRepository.findBoardsPageDonation(user, after, size);
+            case SEARCH_TYPES_APPROVE_FALSE:
+                return boardRepository.findBoardsPage(false, after, size);
+            case SEARCH_TYPES_APPROVE_TRUE:
+                return boardRepository.findBoardsPage(true, after, size);
+            case SEARCH_TYPES_ALL:
+                return boardRepository.findAllBoardsPage(after, size);
+            case SEARCH_TYPES_NEW:
+                return boardRepository.findBoardsPageNew(after, size);
+            case SEARCH_TYPES_SEOUL2020:
+                return boardRepository.findBoardsPageSeoul2020(after, size);
+            default:
+                return boardRepository.findBoardsPageByGenre(type, after, size);
+        }
+    }
+
+    // type 별 정렬 기준 (findBoardsPageByType 과 같은 순서)
+    private static String cursorTag(SearchTypes type) {
+        if(type == null) return PageCursor.COMMENT;
+
+        switch (type) {
+            case SEARCH_TYPES_MY:
+                return PageCursor.LIKE;
+            case SEARCH_TYPES_MY_DONATION:
+                return PageCursor.DONATION;
+            case SEARCH_TYPES_ALL:
+                return PageCursor.ID;
+            case SEARCH_TYPES_NEW:
+                return PageCursor.NEW;
+            case SEARCH_TYPES_SEOUL2020:
+                return PageCursor.SEOUL2020;
+            default:
+                return PageCursor.COMMENT;
+        }
+    }
+
+    public WrappingLikeBoardConnectionDTO FindLikeBoardsPage(Integer first, String after, DataFetchingEnvironment env) {
+        try {
+            int code = gqlUserValidService.envValidCheck(env);
+            if(code != 0) return WrappingLikeBoardConnectionDTO.builder().code(code).build();
+
+            User user = gqlUserValidService.findUser(env);
+            if(user == null) return WrappingLikeBoardConnectionDTO.builder().code(4400).build();
+
+            int size = pageSize(first);
+            List<LikeBoardEdgeDTO> edges = boardRepository.findBoardsPageMyLike(user, PageCursor.decode(after, PageCursor.LIKE), size);
+
+            return WrappingLikeBoardConnectionDTO.builder()
+                    .code(2000)
+                    .data(LikeBoardConnectionDTO.builder()
+                            .pageInfo(pageInfo(edges, size, LikeBoardEdgeDTO::getCursor))
+                            .edges(edges)
+                            .build())
+                    .build();
+        } catch (NullPointerException | IllegalArgumentException e) {
+            return WrappingLikeBoardConnectionDTO.builder().code(4000).build();
+        }
+    }
+
+    public WrappingDonationBoardConnectionDTO FindDonationBoardsPage(Integer first, String after, DataFetchingEnvironment env) {
+        try {
+            int code = gqlUserValidService.envValidCheck(env);
+            if(code != 0) return WrappingDonationBoardConnectionDTO.builder().code(code).build();
+
+            User user = gqlUserValidService.findUser(env);
+            if(user == null) return WrappingDonationBoardConnectionDTO.builder().code(4400).build();
+
+            int size = pageSize(first);
+            List<DonationBoardEdgeDTO> edges = boardRepository.findBoardsPageMyDonation(user, PageCursor.decode(after, PageCursor.DONATION), size);
+
+            return WrappingDonationBoardConnectionDTO.builder()
+                    .code(2000)
+                    .data(DonationBoardConnectionDTO.builder()
+                            .pageInfo(pageInfo(edges, size, DonationBoardEdgeDTO::getCursor))
+                            .edges(edges)
+                            .build())
+                    .build();
+        } catch (NullPointerException | IllegalArgumentException e) {
+            return WrappingDonationBoardConnectionDTO.builder().code(4000).build();
+        }
+    }
+
+    // first 가 없으면 기본값, 최대 maxSize
+    private int pageSize(Integer first) {
+        if(first == null) return defaultSize;
+        if(first < 1) throw new IllegalArgumentException("first must be positive");
+        return Math.min(first, maxSize);
+    }
+
+    // repository 는 size + 1 개까지 읽는다. 넘친 한 개는 잘라내고 다음 페이지가 있다고 표시한다.
+    private static <T> PageInfoDTO pageInfo(List<T> edges, int size, Function<T, String> cursor) {
+        boolean hasNextPage = edges.size() > size;
+        if(hasNextPage) edges.subList(size, edges.size()).clear();
+
+        return PageInfoDTO.builder()
+                .hasNextPage(hasNextPage)
+                .endCursor(edges.isEmpty() ? null : cursor.apply(edges.get(edges.size() - 1)))
+                .build();
+    }
 }
@@ -1,40 +1,50 @@
 package com.IndieAn.GoFundIndie.Resolvers.Querys;
 
+import com.IndieAn.GoFundIndie.Common.LongIdSet;
 import com.IndieAn.GoFundIndie.Common.SearchTypes;
+import com.IndieAn.GoFundIndie.Config.BoardFeedExecutor;
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
 import com.IndieAn.GoFundIndie.Domain.Entity.User;
 import com.IndieAn.GoFundIndie.Repository.*;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.*;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Comment.CommentGraphQLDTO;
+import com.IndieAn.GoFundIndie.Service.BoardFeedService;
 import com.IndieAn.GoFundIndie.Service.GqlUserValidService;
 import com.IndieAn.GoFundIndie.Service.UserService;
 import graphql.kickstart.servlet.context.GraphQLServletContext;
 import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class BoardQuery {
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
-    private final CastingRepository castingRepository;
-    private final GenreRepository genreRepository;
-    private final ImageRepository imageRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final CommentRatingRepository commentRatingRepository;
 
     private final GqlUserValidService gqlUserValidService;
+    private final BoardFeedExecutor boardFeedExecutor;
+    private final BoardFeedService boardFeedService;
+
+    @Value("${gofundindie.feed.section-timeout-ms:1000}")
+    private long sectionTimeoutMs;
 
     public WrappingViewBoardDTO FindBoardId(Long id, DataFetchingEnvironment env) {
         try {
@@ -51,47 +61,26 @@ public class BoardQuery {
                 }
             }
 
-            List<CommentGraphQLDTO> commentList = commentRepository.findCommentByBoard(id, null);
+            List<CommentGraphQLDTO> commentTopFive = commentRepository.findCommentByBoard(id, 5);
 
+            // genre, casting, still : field resolver + DataLoader
             ViewBoardDTO dto = ViewBoardDTO.from(board);
-            dto.setCasting(castingRepository.findCastingByBoard(id));
-            dto.setGenre(genreRepository.findGenreByBoard(id));
-            dto.setStill(imageRepository.findStillByBoard(id));
-
-            if(commentList.size() > 0) {
-                List<CommentGraphQLDTO> commentTopFive = new ArrayList<>();
-
-                int listRange = 5;
-                if(commentList.size() < listRange) listRange = commentList.size();
-
-                for(int i = 0 ; i < listRange ; i++) {
-                    commentTopFive.add(commentList.get(i));
-                }
-
-                int a = 0;
-
-                // TODO Board 에 Comment rating 값도 저장 탐색 안해도 되게
-                for(CommentGraphQLDTO el : commentList) {
-                    a = a + el.getRating();
-                }
 
-                dto.setAverageRating(Math.round((a / commentList.size()) * 10) / 10);
-
-                if(envCheck) {
-                    long userId = user.getId();
-                    commentTopFive = commentTopFive.stream().map(el -> {
-                        el.setRatingChecked(
-                                commentRatingRepository.commentRatedCheck(userId, el.getId()));
-                        return el;
-                    }).collect(Collectors.toList());
-                }
-
-                dto.setComment(commentTopFive);
+            // 평균 평점은 Board 에 누적된 rating_sum / rating_count 로 계산
+            if(board.getRatingCount() > 0) {
+                dto.setAverageRating(Math.round(board.getRatingSum() * 10f / board.getRatingCount()) / 10f);
             } else {
-                dto.setComment(commentList);
                 dto.setAverageRating(0);
             }
 
+            if(envCheck && commentTopFive.size() > 0) {
+                LongIdSet rated = commentRatingRepository.findRatedCommentIds(user.getId(),
+                        commentTopFive.stream().map(CommentGraphQLDTO::getId).collect(Collectors.toList()));
+                commentTopFive.forEach(el -> el.setRatingChecked(rated.contains(el.getId())));
+            }
+
+            dto.setComment(commentTopFive);
+
             if(envCheck) {
                 dto.setLiked(boardLikeRepository
                         .isLikedBoard(user,board));
@@ -125,10 +114,7 @@ public class BoardQuery {
                 }
 
                 AdminViewBoardDTO dto = AdminViewBoardDTO.from(boardRepository.findBoardId(id));
-                dto.setCasting(castingRepository.findCastingByBoard(id));
                 dto.setComment(commentRepository.findCommentByBoard(id,5));
-                dto.setGenre(genreRepository.findGenreByBoard(id));
-                dto.setStill(imageRepository.findStillByBoard(id));
 
                 return WrappingAdminViewBoardDTO.builder()
                         .code(2000)
@@ -141,95 +127,26 @@ public class BoardQuery {
     }
 
     public WrappingBoardGraphQLsDTO FindBoards(SearchTypes type, int limit, DataFetchingEnvironment env) {
-        if(type == null){
+        User user = null;
+
+        //   - My, My_donation 은 로그인한 유저가 필요하다.
+        if(type == SearchTypes.SEARCH_TYPES_MY || type == SearchTypes.SEARCH_TYPES_MY_DONATION) {
+            try {
+                int code = gqlUserValidService.envValidCheck(env);
+                if(code != 0) return WrappingBoardGraphQLsDTO.builder().code(code).build();
+
+                user = gqlUserValidService.findUser(env);
+                if(user == null) return WrappingBoardGraphQLsDTO.builder().code(4400).build();
+            } catch (NullPointerException e) {
+                return WrappingBoardGraphQLsDTO.builder().code(4000).build();
+            }
+        }
+
+        try {
             return WrappingBoardGraphQLsDTO.builder()
                     .code(2000)
-                    .data(boardRepository.findBoards(true, limit))
+                    .data(findBoardsByType(type, limit, user))
                     .build();
-        }
-        try {
-            switch (type) {
-                //   - My = 내가 찜한 영화
-                case SEARCH_TYPES_MY:
-                    try {
-                        int code = gqlUserValidService.envValidCheck(env);
-
-                        if(code != 0) {
-                            return WrappingBoardGraphQLsDTO.builder().code(code).build();
-                        } else {
-                            User user = gqlUserValidService.findUser(env);
-                            if(user == null) return WrappingBoardGraphQLsDTO.builder().code(4400).build();
-
-                            return WrappingBoardGraphQLsDTO.builder()
-                                    .code(2000)
-                                    .data(boardRepository.findBoardsLike(user, limit))
-                                    .build();
-                        }
-                    } catch (NullPointerException e) {
-                        return WrappingBoardGraphQLsDTO.builder().code(4000).build();
-                    }
-                //   - My_donation = 내가 후원한 영화
-                case SEARCH_TYPES_MY_DONATION:
-                    try {
-                        int code = gqlUserValidService.envValidCheck(env);
-
-                        if(code != 0) {
-                            return WrappingBoardGraphQLsDTO.builder().code(code).build();
-                        } else {
-                            User user = gqlUserValidService.findUser(env);
-                            if(user == null) return WrappingBoardGraphQLsDTO.builder().code(4400).build();
-
-                            return WrappingBoardGraphQLsDTO.builder()
-                                    .code(2000)
-                                    .data(boardRepository.findBoardsDonation(user, limit))
-                                    .build();
-                        }
-                    } catch (NullPointerException e) {
-                        return WrappingBoardGraphQLsDTO.builder().code(4000).build();
-                    }
-                //   - Approve_false = 미승인 보드
-                case SEARCH_TYPES_APPROVE_FALSE:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoards(false, limit))
-                            .build();
-                //   - Approve_true = 승인된 보드
-                case SEARCH_TYPES_APPROVE_TRUE:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoards(true, limit))
-                            .build();
-                //   - All = 필터 없이 모든 보드
-                case SEARCH_TYPES_ALL:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findAllBoards(limit))
-                            .build();
-                //   - New = 최근 승인된 순으로 정렬
-                case SEARCH_TYPES_NEW:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoardsNew(limit))
-                            .build();
-                //   - Random = 승인된 보드들 중 랜덤 추천
-                case SEARCH_TYPES_RANDOM:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoardsRandom(limit))
-                            .build();
-                //   - SEOUL 2020
-                case SEARCH_TYPES_SEOUL2020:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoardsSeoul2020(limit))
-                            .build();
-                //   - Genre = 장르별 영화
-                default:
-                    return WrappingBoardGraphQLsDTO.builder()
-                            .code(2000)
-                            .data(boardRepository.findBoardsByGenre(type, limit))
-                            .build();
-            }
         } catch (RuntimeException e) {
             //   - type invalid case :
             return WrappingBoardGraphQLsDTO.builder()
@@ -238,6 +155,45 @@ public class BoardQuery {
         }
     }
 
+    // type 별 보드 목록. My, My_donation 은 user 가 null 이 아니어야 한다.
+    private List<BoardGraphQLDTO> findBoardsByType(SearchTypes type, int limit, User user) {
+        if(type == null) return boardRepository.findBoards(true, limit);
+
+        // 장르, New, Seoul2020 은 메모리에 만들어둔 목록을 쓴다.
+        List<BoardGraphQLDTO> cached = boardFeedService.find(type, limit);
+        if(cached != null) return cached;
+
+        switch (type) {
+            //   - My = 내가 찜한 영화
+            case SEARCH_TYPES_MY:
+                return boardRepository.findBoardsLike(user, limit);
+            //   - My_donation = 내가 후원한 영화
+            case SEARCH_TYPES_MY_DONATION:
+                return boardRepository.findBoardsDonation(user, limit);
+            //   - Approve_false = 미승인 보드
+            case SEARCH_TYPES_APPROVE_FALSE:
+                return boardRepository.findBoards(false, limit);
+            //   - Approve_true = 승인된 보드
+            case SEARCH_TYPES_APPROVE_TRUE:
+                return boardRepository.findBoards(true, limit);
+            //   - All = 필터 없이 모든 보드
+            case SEARCH_TYPES_ALL:
+                return boardRepository.findAllBoards(limit);
+            //   - New = 최근 승인된 순으로 정렬
+            case SEARCH_TYPES_NEW:
+                return boardRepository.findBoardsNew(limit);
+            //   - Random = 승인된 보드들 중 랜덤 추천
+            case SEARCH_TYPES_RANDOM:
+                return boardRepository.findBoardsRandom(limit);
+            //   - SEOUL 2020
+            case SEARCH_TYPES_SEOUL2020:
+                return boardRepository.findBoardsSeoul2020(limit);
+            //   - Genre = 장르별 영화
+            default:
+                return boardRepository.findBoardsByGenre(type, limit);
+        }
+    }
+
     public WrappingDonationBoardGraphQLDTO FindDonationBoards(int limit, DataFetchingEnvironment env) {
         try {
             int code = gqlUserValidService.envValidCheck(env);
@@ -278,25 +234,53 @@ public class BoardQuery {
         }
     }
 
+    // section 조회는 각 worker 의 transaction 에서 하므로, 요청 스레드는 connection 을 잡고 기다리지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WrappingRandomBoardsDTO FindRandomBoard(int limit, DataFetchingEnvironment env) {
-        List<RandomBoardDTO> list;
         List<SearchTypes> types;
+        User user = null;
 
+        // 유저 확인은 한 번만 하고, 각 section 조회에 같은 user 를 넘긴다.
         try {
-            int code = gqlUserValidService.envValidCheck(env);
-
-            if (code != 0) types = SearchTypes.getRandomType(limit, false);
-            else types = SearchTypes.getRandomType(limit, true);
+            if(gqlUserValidService.envValidCheck(env) == 0) user = gqlUserValidService.findUser(env);
         } catch (NullPointerException | IllegalArgumentException e) {
-            types = SearchTypes.getRandomType(limit, false);
+            user = null;
         }
 
-        list = types.stream().map(type -> RandomBoardDTO.builder()
-                .phrase(SearchTypes.getPhrase(type))
-
-                // TODO DTO 포장지 없애기
-                .data(FindBoards(type, 12, env).getData())
-                .build()).collect(Collectors.toList());
+        types = SearchTypes.getRandomType(limit, user != null);
+
+        // section 별 조회는 executor 에서 병렬로, 제한 시간을 넘긴 section 은 빠진다.
+        User sectionUser = user;
+        List<CompletableFuture<RandomBoardDTO>> futures = types.stream()
+                .map(type -> {
+                    // 메모리에 있는 section 은 바로 채운다.
+                    List<BoardGraphQLDTO> cached = boardFeedService.find(type, 12);
+                    if(cached != null) return CompletableFuture.completedFuture(RandomBoardDTO.builder()
+                            .phrase(SearchTypes.getPhrase(type))
+                            .data(cached)
+                            .build());
+
+                    return boardFeedExecutor
+                            .supplyReadOnly(() -> RandomBoardDTO.builder()
+                                    .phrase(SearchTypes.getPhrase(type))
+                                    .data(findBoardsByType(type, 12, sectionUser))
+                                    .build(), sectionTimeoutMs)
+                            .exceptionally(e -> {
+                                // 시간 초과 / executor 포화는 그 section 만 빠진다.
+                                if(e instanceof TimeoutException || e instanceof RejectedExecutionException) {
+                                    log.debug("FindRandomBoard section {} skipped : {}", type, e.toString());
+                                } else {
+                                    log.warn("FindRandomBoard section {} failed", type, e);
+                                }
+                                return null;
+                            });
+                })
+                .collect(Collectors.toList());
+
+        List<RandomBoardDTO> list = futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
         return WrappingRandomBoardsDTO.builder().code(2000).data(list).build();
     }
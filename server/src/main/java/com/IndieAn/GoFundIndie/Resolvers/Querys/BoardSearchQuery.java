@@ -1,8 +1,10 @@
 package com.IndieAn.GoFundIndie.Resolvers.Querys;
 
+import com.IndieAn.GoFundIndie.Common.HangulChosungIndex;
 import com.IndieAn.GoFundIndie.Repository.BoardSearchRepository;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.SearchBoardDTO;
 import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.WrappingSearchBoardDTO;
+import com.IndieAn.GoFundIndie.Service.BoardSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +17,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardSearchQuery {
     private final BoardSearchRepository boardSearchRepository;
+    private final BoardSearchIndex boardSearchIndex;
 
     private final char[] consonant = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
     private final char[] middWords = "가까나다따라마바빠사싸아자짜차카타파하".toCharArray();
@@ -48,31 +51,44 @@ public class BoardSearchQuery {
         return result;
     }
 
-    // TODO 검색 로직 Full Search Text 로 교체
     public WrappingSearchBoardDTO SearchBoardName(String str) {
         if(str == null || str.equals("") || str.equals(" ")) {
             return WrappingSearchBoardDTO.builder().code(2000)
                     .data(boardSearchRepository.SearchBoardsFromNull(10))
                     .build();
-        } else {
-            char lastWord = str.toCharArray()[str.length() - 1];
-
-            // case: korean consonant / 12593 'ㄱ' / 12622 'ㅎ'
-            if(lastWord > 12592 && lastWord < 12623) {
-                List<String> params = consonantMatch(lastWord);
-                String lastWordDeleted = str.substring(0, str.length() - 1);
+        }
 
+        // 초성 / 마지막 자음 자동완성 : 메모리 초성 색인
+        if(HangulChosungIndex.hasConsonant(str)) {
+            List<SearchBoardDTO> result = boardSearchIndex.searchChosung(str, 10);
+            if(result != null) {
                 return WrappingSearchBoardDTO.builder().code(2000)
-                        .data(boardSearchRepository.SearchBoardsConsonant(
-                                lastWordDeleted + params.get(0),
-                                lastWordDeleted + params.get(1),
-                                10))
-                        .build();
-            } else {
-                return WrappingSearchBoardDTO.builder().code(2000)
-                        .data(boardSearchRepository.SearchBoards(str, 10))
+                        .data(result)
                         .build();
             }
         }
+
+        char lastWord = str.toCharArray()[str.length() - 1];
+
+        // case: korean consonant / 12593 'ㄱ' / 12622 'ㅎ'
+        if(lastWord > 12592 && lastWord < 12623) {
+            List<String> params = consonantMatch(lastWord);
+            String lastWordDeleted = str.substring(0, str.length() - 1);
+
+            return WrappingSearchBoardDTO.builder().code(2000)
+                    .data(boardSearchRepository.SearchBoardsConsonant(
+                            lastWordDeleted + params.get(0),
+                            lastWordDeleted + params.get(1),
+                            10))
+                    .build();
+        } else {
+            // 메모리 역색인 검색, 색인이 아직 준비되지 않았으면 DB like 검색
+            List<SearchBoardDTO> result = boardSearchIndex.search(str, 10);
+            if(result == null) result = boardSearchRepository.SearchBoards(str, 10);
+
+            return WrappingSearchBoardDTO.builder().code(2000)
+                    .data(result)
+                    .build();
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.IndieAn.GoFundIndie.Common.SearchTypes;
+import com.IndieAn.GoFundIndie.Repository.BoardRepository;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.BoardGraphQLDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+// 로그인이 필요 없는 SearchTypes (장르, New, Seoul2020) 의 상위 N 개 보드를 메모리에 들고 있는다.
+// 주기적으로 다시 만들고, 보드 승인 / 수정 / 삭제, comment 작성 / 삭제 시에는 다음 확인 주기에 다시 만든다.
+@Slf4j
+@Service
+public class BoardFeedService {
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final int topN;
+    private final long refreshMs;
+
+    private volatile Map<SearchTypes, List<BoardGraphQLDTO>> sections = Collections.emptyMap();
+    private volatile long refreshedAt;
+    private volatile boolean dirty = true;
+
+    public BoardFeedService(BoardRepository boardRepository, PlatformTransactionManager transactionManager,
+                            @Value("${gofundindie.feed.cache-size:24}") int topN,
+                            @Value("${gofundindie.feed.refresh-ms:300000}") long refreshMs) {
+        this.boardRepository = boardRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.topN = topN;
+        this.refreshMs = refreshMs;
+    }
+
+    // 캐시에서 꺼낼 수 없으면 (개인화 type, limit 초과, 아직 비어있음) null -> DB 조회
+    public List<BoardGraphQLDTO> find(SearchTypes type, int limit) {
+        if(type == null || limit > topN) return null;
+
+        List<BoardGraphQLDTO> list = sections.get(type);
+        if(list == null) return null;
+
+        return new ArrayList<>(list.subList(0, Math.min(limit, list.size())));
+    }
+
+    public void invalidate() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty = true;
+                }
+            });
+        } else {
+            dirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gofundindie.feed.refresh-check-ms:5000}")
+    public void refreshIfNeeded() {
+        if(dirty || System.currentTimeMillis() - refreshedAt > refreshMs) refresh();
+    }
+
+    public synchronized void refresh() {
+        dirty = false;
+        try {
+            Map<SearchTypes, List<BoardGraphQLDTO>> next = readOnlyTx.execute(status -> {
+                Map<SearchTypes, List<BoardGraphQLDTO>> map = new EnumMap<>(SearchTypes.class);
+                for(SearchTypes type : SearchTypes.values()) {
+                    List<BoardGraphQLDTO> list = load(type);
+                    if(list != null) map.put(type, Collections.unmodifiableList(list));
+                }
+                return map;
+            });
+
+            sections = next;
+            refreshedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            // 실패하면 이전 snapshot 을 유지하고 다음 주기에 다시 시도한다.
+            dirty = true;
+            log.warn("board feed refresh failed", e);
+        }
+    }
+
+    private List<BoardGraphQLDTO> load(SearchTypes type) {
+        switch (type) {
+            case SEARCH_TYPES_NEW:
+                return boardRepository.findBoardsNew(topN);
+            case SEARCH_TYPES_SEOUL2020:
+                return boardRepository.findBoardsSeoul2020(topN);
+            //   - 개인화, 관리자, 랜덤 type 은 캐시하지 않는다.
+            case SEARCH_TYPES_RANDOM:
+            case SEARCH_TYPES_MY:
+            case SEARCH_TYPES_MY_DONATION:
+            case SEARCH_TYPES_APPROVE_FALSE:
+            case SEARCH_TYPES_APPROVE_TRUE:
+            case SEARCH_TYPES_ALL:
+                return null;
+            //   - Genre
+            default:
+                return boardRepository.findBoardsByGenre(type, topN);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.IndieAn.GoFundIndie.Common.HangulChosungIndex;
+import com.IndieAn.GoFundIndie.Common.NGramTokenizer;
+import com.IndieAn.GoFundIndie.Config.RoutingDataSource;
+import com.IndieAn.GoFundIndie.Domain.DTO.BoardSearchDocumentDTO;
+import com.IndieAn.GoFundIndie.Repository.BoardSearchRepository;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Board.SearchBoardDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 승인된 board 의 제목 / 제작 / 배급 / 출연진 / 줄거리 n-gram 역색인
+// board, casting 변경은 commit 이후 해당 board 만 다시 색인하고, 주기적으로 전체를 다시 만든다.
+// 초성 자동완성 색인(HangulChosungIndex)도 같은 문서로 함께 만든다.
+@Slf4j
+@Service
+public class BoardSearchIndex {
+    // 필드 가중치
+    private static final int WEIGHT_TITLE = 10;
+    private static final int WEIGHT_CASTING = 4;
+    private static final int WEIGHT_PRODUCER = 3;
+    private static final int WEIGHT_DISTRIBUTOR = 3;
+    private static final int WEIGHT_STORY = 1;
+
+    // 제목 일치 보너스 (기존 CASE 정렬 순서와 같다 : 완전 일치 > 앞부분 일치 > 포함)
+    private static final int BONUS_EXACT = 1000;
+    private static final int BONUS_PREFIX = 500;
+    private static final int BONUS_CONTAINS = 200;
+
+    private final BoardSearchRepository boardSearchRepository;
+    private final TransactionTemplate readTx;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Document> docs = new HashMap<>();
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private volatile HangulChosungIndex chosungIndex = HangulChosungIndex.EMPTY;
+    // 초성 색인 교체끼리 서로 덮어쓰지 않도록 (검색은 잡지 않는다)
+    private final Object chosungUpdate = new Object();
+    private volatile boolean ready = false;
+
+    // 전체 재색인 중에 들어온 board id. 재색인이 끝나면 다시 반영한다.
+    private Set<Long> touchedWhileRebuilding = null;
+
+    public BoardSearchIndex(BoardSearchRepository boardSearchRepository, PlatformTransactionManager transactionManager) {
+        this.boardSearchRepository = boardSearchRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.readTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 색인이 아직 준비되지 않았으면 null -> DB 검색
+    public List<SearchBoardDTO> search(String query, int limit) {
+        if(!ready) return null;
+
+        Set<String> tokens = NGramTokenizer.queryTokens(query);
+        if(tokens.isEmpty() || limit <= 0) return new ArrayList<>();
+        String compactQuery = NGramTokenizer.compact(query);
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(tokens.size());
+            for(String token : tokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                // 모든 토큰을 포함해야 한다.
+                if(posting == null) return new ArrayList<>();
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, Hit.ORDER.reversed());
+            Map<Long, Integer> smallest = lists.get(0);
+
+            candidate:
+            for(Map.Entry<Long, Integer> el : smallest.entrySet()) {
+                int score = el.getValue();
+                for(int i = 1 ; i < lists.size() ; i++) {
+                    Integer weight = lists.get(i).get(el.getKey());
+                    if(weight == null) continue candidate;
+                    score += weight;
+                }
+
+                Document doc = docs.get(el.getKey());
+                if(doc.compactTitle.equals(compactQuery)) score += BONUS_EXACT;
+                else if(doc.compactTitle.startsWith(compactQuery)) score += BONUS_PREFIX;
+                else if(doc.compactTitle.contains(compactQuery)) score += BONUS_CONTAINS;
+
+                top.add(new Hit(doc, score));
+                if(top.size() > limit) top.poll();
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Hit.ORDER);
+
+            List<SearchBoardDTO> result = new ArrayList<>(hits.size());
+            for(Hit hit : hits) result.add(hit.doc.toDTO());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 초성 / 마지막 자음 자동완성. 색인이 아직 준비되지 않았으면 null -> DB 검색
+    public List<SearchBoardDTO> searchChosung(String query, int limit) {
+        if(!ready) return null;
+        return chosungIndex.search(query, limit);
+    }
+
+    // board / casting 변경 후 호출. 트랜잭션 안이면 commit 이후에 반영한다.
+    public void reindex(long boardId) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reindexNow(Collections.singleton(boardId));
+                }
+            });
+        } else {
+            reindexNow(Collections.singleton(boardId));
+        }
+    }
+
+    private void reindexNow(Collection<Long> boardIds) {
+        try {
+            // 요청 스레드의 afterCommit 에서 불리므로 요청이 쥔 connection 과 다른 pool 에서 읽는다.
+            List<BoardSearchDocumentDTO> loaded = RoutingDataSource.isolated(() -> readTx.execute(status ->
+                    boardSearchRepository.FindSearchDocuments(boardIds)));
+
+            lock.writeLock().lock();
+            try {
+                if(touchedWhileRebuilding != null) touchedWhileRebuilding.addAll(boardIds);
+
+                // 승인 취소 / 삭제된 board 는 결과에 없으므로 제거만 된다.
+                for(Long id : boardIds) remove(docs, postings, id);
+                for(BoardSearchDocumentDTO el : loaded) add(docs, postings, el);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // 초성 색인은 바뀐 board 만 바꾼 새 색인으로 교체한다. (검색은 lock 없이 이전 색인을 계속 읽는다)
+            List<SearchBoardDTO> changed = new ArrayList<>(loaded.size());
+            for(BoardSearchDocumentDTO el : loaded) changed.add(new SearchBoardDTO(el.getId(), el.getTitle(), el.getPosterImg()));
+            synchronized (chosungUpdate) {
+                chosungIndex = chosungIndex.replace(boardIds, changed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("board search reindex failed : {}", boardIds, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gofundindie.search.rebuild-ms:1800000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedWhileRebuilding = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Set<Long> touched;
+        try {
+            List<BoardSearchDocumentDTO> loaded = readTx.execute(status ->
+                    boardSearchRepository.FindSearchDocuments(null));
+
+            Map<Long, Document> nextDocs = new HashMap<>(loaded.size() * 2);
+            Map<String, Map<Long, Integer>> nextPostings = new HashMap<>();
+            for(BoardSearchDocumentDTO el : loaded) add(nextDocs, nextPostings, el);
+            HangulChosungIndex nextChosung = buildChosungIndex(nextDocs);
+
+            lock.writeLock().lock();
+            try {
+                docs = nextDocs;
+                postings = nextPostings;
+                synchronized (chosungUpdate) {
+                    chosungIndex = nextChosung;
+                }
+                touched = touchedWhileRebuilding;
+                touchedWhileRebuilding = null;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("board search index rebuilt : {} boards, {} tokens", nextDocs.size(), nextPostings.size());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                touchedWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("board search index rebuild failed", e);
+            return;
+        }
+
+        if(!touched.isEmpty()) reindexNow(touched);
+    }
+
+    private static HangulChosungIndex buildChosungIndex(Map<Long, Document> docs) {
+        List<SearchBoardDTO> list = new ArrayList<>(docs.size());
+        for(Document doc : docs.values()) list.add(doc.toDTO());
+        return new HangulChosungIndex(list);
+    }
+
+    private static void add(Map<Long, Document> docs, Map<String, Map<Long, Integer>> postings,
+                            BoardSearchDocumentDTO el) {
+        Map<String, Integer> weights = new HashMap<>();
+        addField(weights, NGramTokenizer.tokens(el.getTitle(), true), WEIGHT_TITLE);
+        addField(weights, NGramTokenizer.tokens(el.getProducer(), true), WEIGHT_PRODUCER);
+        addField(weights, NGramTokenizer.tokens(el.getDistributor(), true), WEIGHT_DISTRIBUTOR);
+        addField(weights, NGramTokenizer.tokens(el.getInfoStory(), false), WEIGHT_STORY);
+
+        Set<String> castingTokens = new HashSet<>();
+        el.getCastings().forEach(name -> castingTokens.addAll(NGramTokenizer.tokens(name, true)));
+        addField(weights, castingTokens, WEIGHT_CASTING);
+
+        Document doc = new Document(el.getId(), el.getTitle(), el.getPosterImg(), weights.keySet());
+        docs.put(doc.id, doc);
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, k -> new HashMap<>()).put(doc.id, weight));
+    }
+
+    private static void addField(Map<String, Integer> weights, Set<String> tokens, int weight) {
+        for(String token : tokens) weights.merge(token, weight, Integer::sum);
+    }
+
+    private static void remove(Map<Long, Document> docs, Map<String, Map<Long, Integer>> postings, long id) {
+        Document doc = docs.remove(id);
+        if(doc == null) return;
+
+        for(String token : doc.tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if(posting == null) continue;
+            posting.remove(id);
+            if(posting.isEmpty()) postings.remove(token);
+        }
+    }
+
+    private static class Document {
+        private final long id;
+        private final String title;
+        private final String posterImg;
+        private final String compactTitle;
+        private final Set<String> tokens;
+
+        private Document(long id, String title, String posterImg, Set<String> tokens) {
+            this.id = id;
+            this.title = title;
+            this.posterImg = posterImg;
+            this.compactTitle = NGramTokenizer.compact(title);
+            this.tokens = tokens;
+        }
+
+        private SearchBoardDTO toDTO() {
+            return new SearchBoardDTO(id, title, posterImg);
+        }
+    }
+
+    private static class Hit {
+        // 점수 높은 순, 같으면 짧은 제목, id 순
+        private static final Comparator<Hit> ORDER = Comparator
+                .comparingInt((Hit h) -> -h.score)
+                .thenComparingInt(h -> h.doc.compactTitle.length())
+                .thenComparingLong(h -> h.doc.id);
+
+        private final Document doc;
+        private final int score;
+
+        private Hit(Document doc, int score) {
+            this.doc = doc;
+            this.score = score;
+        }
+    }
+}
@@ -13,7 +13,6 @@ import java.util.HashMap;
 public class CommentRatingService {
     private final CommentRatingRepository commentRatingRepository;
     private final CommentRepository commentRepository;
-    private HashMap<String, Object> body = new HashMap<>();
 
     @Autowired
     public CommentRatingService(CommentRatingRepository commentRatingRepository, CommentRepository commentRepository) {
@@ -22,7 +21,7 @@ public class CommentRatingService {
     }
 
     public HashMap<String, Object> addRating(User user, long commentId) {
-        body.clear();
+        HashMap<String, Object> body = new HashMap<>();
         // 존재하지 않는 코멘트id
         if(commentRepository.FindCommentById(commentId) == null) {
             body.put("code", 4405);
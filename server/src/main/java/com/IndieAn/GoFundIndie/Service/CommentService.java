@@ -1,5 +1,7 @@
 package com.IndieAn.GoFundIndie.Service;
 
+import com.IndieAn.GoFundIndie.Common.LongIdSet;
+import com.IndieAn.GoFundIndie.Common.PageCursor;
 import com.IndieAn.GoFundIndie.Domain.DTO.*;
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
 import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
@@ -11,6 +13,7 @@ import com.IndieAn.GoFundIndie.Repository.JPAInterface.CommentJPAInterface;
 import com.IndieAn.GoFundIndie.Repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,11 +22,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class CommentService {
+    private static final int COMMENT_PAGE_SIZE = 10;
+
     private final CommentRepository commentRepository;
     private final CommentJPAInterface commentJPAInterface;
     private final UserRepository userRepository;
@@ -31,13 +38,13 @@ public class CommentService {
     private final CommentReportRepository commentReportRepository;
     private final UserService userService;
     private final BoardService boardService;
-    private HashMap<String, Object> body;
+    private final BoardFeedService boardFeedService;
 
     @Autowired
     public CommentService(CommentRepository commentRepository, CommentJPAInterface commentJPAInterface,
                           UserRepository userRepository, CommentRatingRepository commentRatingRepository,
                           CommentReportRepository commentReportRepository, UserService userService,
-                          BoardService boardService) {
+                          BoardService boardService, BoardFeedService boardFeedService) {
         this.commentRepository = commentRepository;
         this.commentJPAInterface = commentJPAInterface;
         this.userRepository = userRepository;
@@ -45,11 +52,12 @@ public class CommentService {
         this.commentReportRepository = commentReportRepository;
         this.userService = userService;
         this.boardService = boardService;
+        this.boardFeedService = boardFeedService;
     }
 
     // Comment를 생성하는 기능을 하는 서비스 기능
     public ResponseEntity<?> WriteCommentData(Map<String, String> requestHeader, CommentInputDTO commentInputDTO) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 헤더에 accesstoken이 없으면 4000 응답을 한다.
         if(requestHeader.get("accesstoken") == null) {
             body.put("code", 4000);
@@ -73,15 +81,19 @@ public class CommentService {
                 return ResponseEntity.status(404).body(body);
             }
 
-            // comment들 중에 한 board id 에 한 user id가 있는지 확인한다. 있다면 이미 comment를 작성한 것이기 때문에 4004응답을 한다.
-            for(Comment c : commentRepository.FindCommentList()) {
-                if(c.getBoardId().getId() == commentInputDTO.getBoardId() && c.getUserId().getId() == user.getId()) {
-                    body.put("code", 4004);
-                    return ResponseEntity.badRequest().body(body);
-                }
+            // 한 board id 에 한 user id의 comment가 있는지 확인한다. 있다면 이미 comment를 작성한 것이기 때문에 4004응답을 한다.
+            if(commentRepository.FindCommentIdByBoardAndUser(commentInputDTO.getBoardId(), user.getId()) != null) {
+                body.put("code", 4004);
+                return ResponseEntity.badRequest().body(body);
+            }
+            // comment 작성을 한다. 동시 요청으로 unique 제약에 걸리면 마찬가지로 4004응답을 한다.
+            try {
+                commentRepository.AddComment(commentInputDTO, user);
+                boardFeedService.invalidate();
+            } catch (DataIntegrityViolationException e) {
+                body.put("code", 4004);
+                return ResponseEntity.badRequest().body(body);
             }
-            // comment 작성을 한다.
-            commentRepository.AddComment(commentInputDTO, user);
             body.put("code", 2000);
             return ResponseEntity.status(201).body(body);
         }
@@ -92,7 +104,7 @@ public class CommentService {
 
     // 각 보드에 대한 Comment들을 불러오는 서비스 기능
     public HashMap<String, Object> GetCommentPage(Board board, String email, String type, Integer page) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
 
         // email이 들어와 회원인 경우
         User user = null;
@@ -109,39 +121,70 @@ public class CommentService {
         if(type == null) type = "new";
         // 인기순이면 order가 like가 되고, 그 외에는 id로 최신순으로 정렬하도록 한다.
         String order = type.equals("pop") ? "like" : "id";
-        PageRequest pageable = PageRequest.of(page-1, 10, Sort.by(order).descending());
-        Page<Comment> comments = commentJPAInterface.findByBoardId(board, pageable);
-        User findUser = user;
-        Page<CommentOutputDTO> commentList = comments.map(
-                comment -> {
-                    boolean ratingChecked = false;
-                    if(findUser != null) {
-                        if(commentRatingRepository.FindRatingByUserAndComment(findUser.getId(), comment.getId()) != null) {
-                            ratingChecked = true;
-                        }
-                    }
-                    return new CommentOutputDTO(
-                            comment.getId(),
-                            comment.getRating(),
-                            comment.getUserId().getId(),
-                            comment.getUserId().getNickname(),
-                            comment.getUserId().getProfilePicture(),
-                            comment.getDonation(),
-                            comment.getBody(),
-                            comment.isSpoiler(),
-                            comment.getLike(),
-                            ratingChecked
-                    );
-                });
+        PageRequest pageable = PageRequest.of(page-1, COMMENT_PAGE_SIZE, Sort.by(order).descending());
+        // 작성자 정보는 comment 와 같은 쿼리에서, 좋아요 여부는 페이지의 comment id 로 한 번에 확인한다.
+        Page<CommentOutputDTO> commentList = commentJPAInterface.findCommentPageByBoardId(board, pageable);
+        markRatingChecked(commentList.getContent(), user);
 
         body.put("code", 2000);
         body.put("data", commentList);
         return body;
     }
 
+    // 각 보드에 대한 Comment들을 cursor 로 이어서 불러오는 서비스 기능 (전체 개수를 세지 않는다)
+    public HashMap<String, Object> GetCommentFeed(Board board, String email, String type, String cursor) {
+        HashMap<String, Object> body = new HashMap<>();
+
+        User user = null;
+        if(email != null) {
+            user = userRepository.FindUserByEmail(email);
+            // 토큰으로 찾은 email이 DB에 존재하지 않으면 4000응답을 한다.
+            if(user == null) {
+                body.put("code", 4000);
+                return body;
+            }
+        }
+
+        // 인기순이면 like, id 순이 되고, 그 외에는 id로 최신순으로 정렬하도록 한다.
+        boolean pop = "pop".equals(type);
+        String tag = pop ? PageCursor.COMMENT_POP : PageCursor.COMMENT_NEW;
+        PageCursor after;
+        try {
+            after = PageCursor.decode(cursor, tag);
+        } catch (IllegalArgumentException e) {
+            // cursor 가 잘못되면 4000 응답을 한다.
+            body.put("code", 4000);
+            return body;
+        }
+
+        List<CommentOutputDTO> comments = commentRepository.FindCommentFeed(board.getId(), pop, after, COMMENT_PAGE_SIZE);
+        boolean hasNext = comments.size() > COMMENT_PAGE_SIZE;
+        if(hasNext) comments = comments.subList(0, COMMENT_PAGE_SIZE);
+        markRatingChecked(comments, user);
+
+        String nextCursor = null;
+        if(hasNext) {
+            CommentOutputDTO last = comments.get(comments.size() - 1);
+            nextCursor = PageCursor.encode(tag, pop ? last.getLike() : last.getId(), last.getId());
+        }
+
+        body.put("code", 2000);
+        body.put("data", new CommentFeedDTO(comments, nextCursor, hasNext));
+        return body;
+    }
+
+    // 로그인한 유저가 좋아요한 comment 를 한 번의 쿼리로 표시한다.
+    private void markRatingChecked(List<CommentOutputDTO> comments, User user) {
+        if(user == null || comments.isEmpty()) return;
+
+        LongIdSet rated = commentRatingRepository.findRatedCommentIds(user.getId(),
+                comments.stream().map(CommentOutputDTO::getId).collect(Collectors.toList()));
+        comments.forEach(el -> el.setRatingChecked(rated.contains(el.getId())));
+    }
+
     // Comment를 수정하는 기능을 하는 서비스 기능
     public ResponseEntity<?> ModifyCommentData(CommentModifyDTO commentModifyDTO, Map<String, String> requestHeader) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 해당 보드가 존재하지 않으면 4401 응답을 낸다.
         Board board = boardService.FindBoardId(commentModifyDTO.getBoardId());
         if(board == null) {
@@ -165,15 +208,9 @@ public class CommentService {
                 body.put("code", 4000);
                 return ResponseEntity.badRequest().body(body);
             }
-            long commentId = -1;
-            for(Comment c : board.getComments()) {
-                if(c.getUserId().getId() == user.getId()) {
-                    commentId = c.getId();
-                    break;
-                }
-            }
-            // commentId가 바뀌지 않았다면 해당 보드에 작성한 코멘트가 없는 것이다. 그러므로 4106 응답.
-            if(commentId == -1) {
+            Long commentId = commentRepository.FindCommentIdByBoardAndUser(board.getId(), user.getId());
+            // commentId가 없다면 해당 보드에 작성한 코멘트가 없는 것이다. 그러므로 4106 응답.
+            if(commentId == null) {
                 body.put("code", 4016);
                 return ResponseEntity.badRequest().body(body);
             }
@@ -190,7 +227,7 @@ public class CommentService {
 
     // Comment를 삭제하는 기능을 하는 서비스 기능
     public HashMap<String, Object> DeleteComments(long commentId, User user) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         Comment comment = commentRepository.FindCommentById(commentId);
         // comment가 없다면 4405 응답을 한다.
         if(comment == null) {
@@ -209,6 +246,7 @@ public class CommentService {
 
         // 해당 id를 가진 comment가 있다면 삭제 과정을 수행한다.
         commentRepository.DeleteComment(commentId);
+        boardFeedService.invalidate();
         body.put("code", 2000);
 
         return body;
@@ -216,7 +254,7 @@ public class CommentService {
 
     // Comment를 신고하는 기능을 하는 서비스 기능
     public ResponseEntity<?> AddReport(CommentReportInputDTO commentReportInputDTO, Map<String, String> requestHeader) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 헤더에 accesstoken이 없으면 4000 응답을 한다.
         if(requestHeader.get("accesstoken") == null) {
             body.put("code", 4000);
@@ -258,7 +296,7 @@ public class CommentService {
 
     // 신고내역을 삭제하는 기능을 하는 서비스 기능
     public ResponseEntity<?> RemoveReport(CommentReportDeleteDTO commentReportDeleteDTO, Map<String, String> requestHeader) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 헤더에 accesstoken이 없으면 4000 응답을 한다.
         if(requestHeader.get("accesstoken") == null) {
             body.put("code", 4000);
@@ -0,0 +1,99 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.DonationLedger;
+import com.IndieAn.GoFundIndie.Repository.CounterRepository;
+import com.IndieAn.GoFundIndie.Repository.DonationLedgerRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 결제 승인 때 donation_ledger 에 쌓인 후원을 comment.donation / user.total_donation / board.donation_amount 에 반영한다.
+// batch 하나(batch-size 행)를 한 transaction 에서 처리한다.
+//   1) 반영하지 않은 행을 읽고 2) settled_at 을 채워 가져간 뒤 3) comment / user / board 별로 합쳐서 UPDATE
+// settled_at 과 금액이 같이 commit 되므로 한 행은 한 번만 반영된다. (여러 인스턴스가 같이 돌아도 먼저 가져간 쪽만 반영)
+// 실패한 batch 는 되돌려지고 다음 주기에 다시 시도한다.
+@Slf4j
+@Service
+public class DonationSettlementService {
+    private final DonationLedgerRepository donationLedgerRepository;
+    private final CounterRepository counterRepository;
+    private final TransactionTemplate writeTx;
+    private final int batchSize;
+    private final AtomicLong pending = new AtomicLong();
+
+    public DonationSettlementService(DonationLedgerRepository donationLedgerRepository, CounterRepository counterRepository,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                     @Value("${gofundindie.donation.batch-size:200}") int batchSize) {
+        this.donationLedgerRepository = donationLedgerRepository;
+        this.counterRepository = counterRepository;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        Gauge.builder("gofundindie.donation.pending", pending, AtomicLong::get)
+                .description("Approved donations not yet applied to comment / user / board totals")
+                .register(meterRegistry);
+    }
+
+    // 반영한 행 수를 돌려준다.
+    @Scheduled(fixedDelayString = "${gofundindie.donation.settle-ms:1000}")
+    public synchronized int Settle() {
+        int settled = 0;
+        try {
+            while(true) {
+                int count = writeTx.execute(status -> settleBatch());
+                settled += count;
+                if(count < batchSize) break;
+            }
+        } catch (RuntimeException e) {
+            log.warn("donation settlement failed after {} rows", settled, e);
+        }
+
+        pending.set(donationLedgerRepository.CountPendingDonations());
+        if(settled > 0) log.info("donation settlement : {} rows", settled);
+        return settled;
+    }
+
+    @PreDestroy
+    public void SettleOnShutdown() {
+        Settle();
+    }
+
+    private int settleBatch() {
+        List<DonationLedger> ledgers = donationLedgerRepository.FindPendingDonations(batchSize);
+        if(ledgers.isEmpty()) return 0;
+
+        List<Long> ids = new ArrayList<>(ledgers.size());
+        for(DonationLedger ledger : ledgers) ids.add(ledger.getId());
+        if(donationLedgerRepository.ModifySettled(ids, new Date()) != ids.size()) {
+            // 다른 인스턴스가 먼저 가져간 행이 있다. 이번 batch 는 되돌리고 다음 주기에 남은 행을 다시 읽는다.
+            throw new IllegalStateException("donation ledger rows were settled concurrently");
+        }
+
+        // id 순서로 UPDATE 해서 인스턴스끼리 lock 순서가 엇갈리지 않게 한다.
+        Map<Long, Integer> comments = new TreeMap<>();
+        Map<Long, Integer> users = new TreeMap<>();
+        Map<Long, Integer> boards = new TreeMap<>();
+        for(DonationLedger ledger : ledgers) {
+            if(ledger.getCommentId() != null) comments.merge(ledger.getCommentId(), ledger.getAmount(), Integer::sum);
+            users.merge(ledger.getUserId(), ledger.getAmount(), Integer::sum);
+            boards.merge(ledger.getBoardId(), ledger.getAmount(), Integer::sum);
+        }
+        comments.forEach(counterRepository::AddCommentDonation);
+        users.forEach(counterRepository::AddUserDonation);
+        boards.forEach(counterRepository::AddBoardDonation);
+        return ledgers.size();
+    }
+}
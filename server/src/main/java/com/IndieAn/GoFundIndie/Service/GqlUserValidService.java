@@ -1,6 +1,7 @@
 package com.IndieAn.GoFundIndie.Service;
 
 import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import com.IndieAn.GoFundIndie.Service.TokenUserCache.TokenUser;
 import graphql.kickstart.servlet.context.GraphQLServletContext;
 import graphql.schema.DataFetchingEnvironment;
 import lombok.RequiredArgsConstructor;
@@ -8,13 +9,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.Date;
 import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GqlUserValidService {
+    // 한 요청 안에서는 토큰 검증 결과(TokenUser 또는 에러 코드)를 request attribute 로 재사용한다.
+    private static final String AUTH_ATTRIBUTE = GqlUserValidService.class.getName() + ".auth";
+
     private final UserService userService;
+    private final TokenUserCache tokenUserCache;
 
     public int envValidCheck(DataFetchingEnvironment env) {
         if(env == null) {
@@ -22,19 +28,10 @@ public class GqlUserValidService {
         }
 
         try {
-            GraphQLServletContext context = env.getContext();
-            HttpServletRequest request = context.getHttpServletRequest();
-            String accessToken = request.getHeader("accesstoken");
-
-            // No token in the Header : 4000
-            if(accessToken == null) {
-                return 4000;
-            }
+            Object auth = resolve(env);
 
-            Map<String, Object> checkToken = userService.CheckToken(accessToken);
-
-            if(checkToken.get("email") == null) {
-                return Integer.parseInt(checkToken.get("code").toString());
+            if(auth instanceof Integer) {
+                return (Integer) auth;
             } else {
                 return 0;
             }
@@ -46,12 +43,50 @@ public class GqlUserValidService {
     }
 
     public User findUser(DataFetchingEnvironment env) {
+        Object auth = resolve(env);
+
+        // TODO 썩은 토큰일 경우 토큰 만료시킬수 있는지 연구
+        if(!(auth instanceof TokenUser) || ((TokenUser) auth).getUserId() == null) return null;
+        return userService.FindUserById(((TokenUser) auth).getUserId());
+    }
+
+    private Object resolve(DataFetchingEnvironment env) {
         GraphQLServletContext context = env.getContext();
         HttpServletRequest request = context.getHttpServletRequest();
 
-        // TODO 썩은 토큰일 경우 토큰 만료시킬수 있는지 연구
-        return userService.FindUserUseEmail(
-                userService.CheckToken(request.getHeader("accesstoken"))
-                        .get("email").toString());
+        Object auth = request.getAttribute(AUTH_ATTRIBUTE);
+        if(auth == null) {
+            auth = verify(request.getHeader("accesstoken"));
+            request.setAttribute(AUTH_ATTRIBUTE, auth);
+        }
+        return auth;
+    }
+
+    private Object verify(String accessToken) {
+        // No token in the Header : 4000
+        if(accessToken == null) {
+            return 4000;
+        }
+
+        TokenUser cached = tokenUserCache.get(accessToken);
+        if(cached != null) return cached;
+
+        Map<String, Object> checkToken = userService.CheckToken(accessToken);
+
+        if(checkToken.get("email") == null) {
+            return Integer.parseInt(checkToken.get("code").toString());
+        }
+
+        String email = checkToken.get("email").toString();
+        Date exp = (Date) checkToken.get("exp");
+        User user = userService.FindUserUseEmail(email);
+
+        // DB 에 없는 email 이면 캐시하지 않는다. (findUser -> null)
+        if(user == null) return new TokenUser(email, null, 0);
+
+        TokenUser tokenUser = new TokenUser(email, user.getId(),
+                exp == null ? Long.MAX_VALUE : exp.getTime());
+        tokenUserCache.put(accessToken, tokenUser);
+        return tokenUser;
     }
 }
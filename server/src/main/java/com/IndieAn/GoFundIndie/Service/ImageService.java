@@ -37,15 +37,11 @@ public class ImageService {
     private final ImageRepository imageRepository;
 
     private final UserService userService;
+    private final BoardSearchIndex boardSearchIndex;
 
     private final AmazonS3Client amazonS3Client;
     private final AmazonS3 amazonS3;
 
-    private final HashMap<String, Object> body = new HashMap<>();
-
-    private String result;
-    private String dir;
-
     @Value("#{info['gofundindie.s3.bucket']}")
     private String bucket;
 
@@ -164,7 +160,7 @@ public class ImageService {
      * </p>
      */
     private ResponseEntity<?> singlePut(int status, String key, Object value) {
-        body.clear();
+        HashMap<String, Object> body = new HashMap<>();
         body.put(key,value);
         return ResponseEntity.status(status).body(body);
     }
@@ -261,9 +257,9 @@ public class ImageService {
             if(code == 0) {
                 User user = userFindToHeader(header);
 
-                result = user.getProfilePicture();
+                String result = user.getProfilePicture();
 
-                dir = DIR_USER + "/" + user.getId();
+                String dir = DIR_USER + "/" + user.getId();
 
                 if(result != null){
                     delete(dir + "/" + result.substring(result.lastIndexOf("/") + 1));
@@ -312,9 +308,9 @@ public class ImageService {
                 else if(board.isApprove() && !user.isAdminRole())
                     return singlePut(403, "code", 4300);
 
-                dir = DIR_MOVIE + "/" + boardId + "/still";
+                String dir = DIR_MOVIE + "/" + boardId + "/still";
 
-                result = uploadStandBy(file, dir, UUID.randomUUID() + "-" + file.getOriginalFilename());
+                String result = uploadStandBy(file, dir, UUID.randomUUID() + "-" + file.getOriginalFilename());
 
                 //add DB still info
                 imageRepository.addStillInfo(board, result);
@@ -356,14 +352,14 @@ public class ImageService {
                     else if(board.isApprove() && !user.isAdminRole())
                         return singlePut(403, "code", 4300);
 
-                    dir = DIR_MOVIE + "/" + casting.getBoardId().getId() + "/casting";
+                    String dir = DIR_MOVIE + "/" + casting.getBoardId().getId() + "/casting";
 
-                    if(casting.getImage() != null){
-                        result = casting.getImage();
-                        delete(dir + "/" + result.substring(result.lastIndexOf("/") + 1));
+                    String image = casting.getImage();
+                    if(image != null){
+                        delete(dir + "/" + image.substring(image.lastIndexOf("/") + 1));
                     }
 
-                    result = uploadStandBy(file, dir, castingId + "-" + file.getOriginalFilename());
+                    String result = uploadStandBy(file, dir, castingId + "-" + file.getOriginalFilename());
 
                     //add DB casting info
                     castingRepository.updateCastingImage(casting, result);
@@ -397,7 +393,7 @@ public class ImageService {
             //board valid check fail
             if(board == null) return singlePut(400,"code",4401);
 
-            result = board.getPosterImg();
+            String result = board.getPosterImg();
 
             try {
                 User user = userFindToHeader(header);
@@ -407,7 +403,7 @@ public class ImageService {
                 else if(board.isApprove() && !user.isAdminRole())
                     return singlePut(403, "code", 4300);
 
-                dir = DIR_MOVIE + "/" + boardId;
+                String dir = DIR_MOVIE + "/" + boardId;
 
                 if(result != null){
                     delete(dir + "/" + result.substring(result.lastIndexOf("/") + 1));
@@ -419,6 +415,7 @@ public class ImageService {
                                     .substring(file.getContentType().lastIndexOf("/") + 1));
 
                     boardRepository.updateBoardImg(board, result);
+                    boardSearchIndex.reindex(board.getId());
 
                     return resultExport(result);
                 } catch (NullPointerException e) {
@@ -443,7 +440,7 @@ public class ImageService {
             if(code == 0) {
                 User user = userFindToHeader(header);
 
-                result = user.getProfilePicture();
+                String result = user.getProfilePicture();
 
                 if(result != null) {
                     delete(DIR_USER + "/" + user.getId() + "/" + result.substring(result.lastIndexOf("/") + 1));
@@ -486,8 +483,8 @@ public class ImageService {
                         return singlePut(403, "code", 4300);
 
                     //S3 delete
-                    dir = DIR_MOVIE + "/" + still.getBoardId().getId() + "/still/";
-                    result = still.getImage();
+                    String dir = DIR_MOVIE + "/" + still.getBoardId().getId() + "/still/";
+                    String result = still.getImage();
                     delete(dir + result.substring(result.lastIndexOf("/") + 1));
 
                     //DB delete
@@ -532,8 +529,8 @@ public class ImageService {
                         return singlePut(403, "code", 4300);
 
                     //S3 delete
-                    dir = DIR_MOVIE + "/" + casting.getBoardId().getId() + "/casting/";
-                    result = casting.getImage();
+                    String dir = DIR_MOVIE + "/" + casting.getBoardId().getId() + "/casting/";
+                    String result = casting.getImage();
 
                     if(result != null) {
                         delete(dir + result.substring(result.lastIndexOf("/") + 1));
@@ -575,13 +572,14 @@ public class ImageService {
                 else if(board.isApprove() && !user.isAdminRole())
                     return singlePut(403, "code", 4300);
 
-                result = board.getPosterImg();
+                String result = board.getPosterImg();
 
-                dir = DIR_MOVIE + "/" + id + "/";
+                String dir = DIR_MOVIE + "/" + id + "/";
 
                 if(result != null) {
                     delete(dir + result.substring(result.lastIndexOf("/") + 1));
                     boardRepository.updateBoardImg(board,null);
+                    boardSearchIndex.reindex(board.getId());
                 }
 
                 return singlePut(200, "code", 2000);
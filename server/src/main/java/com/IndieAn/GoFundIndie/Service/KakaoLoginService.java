@@ -21,12 +21,16 @@ import java.util.HashMap;
 @Service
 public class KakaoLoginService {
     private final UserRepository userRepository;
-    private HashMap<String, Object> body;
-    private HashMap<String, Object> data;
 
     @Value("#{info['gofund.kko.redirecturl']}")
     private String KKO_REDIRECT_URL;
 
+    @Value("${gofundindie.kakao.auth-host:https://kauth.kakao.com}")
+    private String KKO_AUTH_HOST;
+
+    @Value("${gofundindie.kakao.api-host:https://kapi.kakao.com}")
+    private String KKO_API_HOST;
+
     @Autowired
     public KakaoLoginService(UserRepository userRepository) {
         this.userRepository = userRepository;
@@ -34,11 +38,11 @@ public class KakaoLoginService {
 
     // Kakao Login과 함께 Access Token 받기
     public ResponseEntity<?> getAccessToken(String code) {
-        body = new HashMap<>();
-        data = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
+        HashMap<String, Object> data = new HashMap<>();
         String access_Token = "";
         String refresh_Token = "";
-        String reqURL = "https://kauth.kakao.com/oauth/token";
+        String reqURL = KKO_AUTH_HOST + "/oauth/token";
 
         try {
             URL url = new URL(reqURL);
@@ -118,7 +122,7 @@ public class KakaoLoginService {
     public HashMap<String, Object> getUserInfo (String access_Token) {
         // 요청하는 클라이언트마다 가진 정보가 다를 수 있기에 HashMap 타입으로 선언
         HashMap<String, Object> userInfo = new HashMap<>();
-        String reqURL = "https://kapi.kakao.com/v2/user/me";
+        String reqURL = KKO_API_HOST + "/v2/user/me";
         try {
             URL url = new URL(reqURL);
             HttpURLConnection conn = (HttpURLConnection) url.openConnection();
@@ -164,8 +168,8 @@ public class KakaoLoginService {
 
     // 카카오 로그아웃 서비스
     public ResponseEntity<?> Logout(String accesstoken) {
-        body = new HashMap<>();
-        String reqURL = "https://kapi.kakao.com/v1/user/logout";
+        HashMap<String, Object> body = new HashMap<>();
+        String reqURL = KKO_API_HOST + "/v1/user/logout";
         try {
             // 해당 url에 액세스 토큰을 통해서 로그아웃 POST 요청을 보낸다.
             URL url = new URL(reqURL);
@@ -1,41 +1,44 @@
 package com.IndieAn.GoFundIndie.Service;
 
+import com.IndieAn.GoFundIndie.Config.KakaoApiClient;
 import com.IndieAn.GoFundIndie.Domain.DTO.KakaoPayApproveInputDTO;
 import com.IndieAn.GoFundIndie.Domain.DTO.KakaoPayApproveVO;
+import com.IndieAn.GoFundIndie.Domain.DTO.KakaoPayOrderVO;
 import com.IndieAn.GoFundIndie.Domain.DTO.KakaoPayReadyVO;
 import com.IndieAn.GoFundIndie.Domain.Entity.Board;
-import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
 import com.IndieAn.GoFundIndie.Domain.Entity.PayRequest;
 import com.IndieAn.GoFundIndie.Domain.Entity.User;
 import com.IndieAn.GoFundIndie.Repository.CommentRepository;
+import com.IndieAn.GoFundIndie.Repository.DonationLedgerRepository;
 import com.IndieAn.GoFundIndie.Repository.PayRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class KakaoPayService {
-    private static final String HOST = "https://kapi.kakao.com";
+    // Kakao 결제 상태 : 승인 완료
+    private static final String SUCCESS_PAYMENT = "SUCCESS_PAYMENT";
+
     private final PayRepository payRepository;
     private final UserService userService;
     private final BoardService boardService;
     private final CommentRepository commentRepository;
-    private HashMap<String, Object> body;
+    private final KakaoApiClient kakaoApiClient;
+    private final DonationLedgerRepository donationLedgerRepository;
+    private final TransactionTemplate writeTx;
 
     @Value("#{info['gofund.kko.adminkey']}")
     private String KKO_ADMIN_KEY;
@@ -45,16 +48,21 @@ public class KakaoPayService {
 
     @Autowired
     public KakaoPayService(PayRepository payRepository, UserService userService,
-                           BoardService boardService, CommentRepository commentRepository) {
+                           BoardService boardService, CommentRepository commentRepository,
+                           KakaoApiClient kakaoApiClient, DonationLedgerRepository donationLedgerRepository,
+                           PlatformTransactionManager transactionManager) {
         this.payRepository = payRepository;
         this.userService = userService;
         this.boardService = boardService;
         this.commentRepository = commentRepository;
+        this.kakaoApiClient = kakaoApiClient;
+        this.donationLedgerRepository = donationLedgerRepository;
+        this.writeTx = new TransactionTemplate(transactionManager);
     }
 
     // 결제 요청 결과를 컨트롤러에 반환해주는 서비스
     public ResponseEntity<?> KakaoPayReadyRequest(int amount, long boardId, Map<String, String> requestHeader) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 해당 보드가 존재하지 않으면 4401 응답을 낸다.
         Board board = boardService.FindBoardId(boardId);
         if(board == null) {
@@ -80,20 +88,13 @@ public class KakaoPayService {
                 return ResponseEntity.badRequest().body(body);
             }
 
-            boolean isFind = false;
-            for(Comment c : board.getComments()) {
-                if(c.getUserId().getId() == user.getId()) {
-                    isFind = true;
-                    break;
-                }
-            }
-            if(!isFind) {
+            if(commentRepository.FindCommentIdByBoardAndUser(board.getId(), user.getId()) == null) {
                 body.put("code", 4016);
                 return ResponseEntity.badRequest().body(body);
             }
 
             body = KakaoPayReady(amount, (String)checkToken.get("email"));
-            return ResponseEntity.status(body.get("data") == null ? 400 : 200).body(body);
+            return ResponseEntity.status(status(body.get("code"))).body(body);
         }
         else {
             return ResponseEntity.status(401).body(checkToken);
@@ -102,7 +103,7 @@ public class KakaoPayService {
 
     // 결제 요청 결과를 컨트롤러에 반환해주는 서비스
     public ResponseEntity<?> KakaoPayApproval(KakaoPayApproveInputDTO kakaoPayApproveInputDTO, Map<String, String> requestHeader) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 해당 보드가 존재하지 않으면 4401 응답을 낸다.
         Board board = boardService.FindBoardId(kakaoPayApproveInputDTO.getBoardId());
         if(board == null) {
@@ -129,16 +130,10 @@ public class KakaoPayService {
                 return ResponseEntity.badRequest().body(body);
             }
 
-            long commentId = -1;
-            for(Comment c : board.getComments()) {
-                if(c.getUserId().getId() == user.getId()) {
-                    commentId = c.getId();
-                    break;
-                }
-            }
+            Long commentId = commentRepository.FindCommentIdByBoardAndUser(board.getId(), user.getId());
 
-            body = kakaoPayInfo(kakaoPayApproveInputDTO, (String)checkToken.get("email"), commentId);
-            return ResponseEntity.status(body.get("code").equals(2000) ? 200 : 400).body(body);
+            body = kakaoPayInfo(kakaoPayApproveInputDTO, user, board.getId(), commentId);
+            return ResponseEntity.status(status(body.get("code"))).body(body);
         }
         else {
             return ResponseEntity.status(401).body(checkToken);
@@ -147,7 +142,7 @@ public class KakaoPayService {
 
     // 카카오 페이 결제 요청 서비스
     public HashMap<String, Object> KakaoPayReady(Integer amount, String email) {
-        body = new HashMap<>();
+        HashMap<String, Object> body = new HashMap<>();
         // 해당 이메일을 가진 결제 요청이 존재한다면 오류 응답을 낸다.  <-- 이걸 없애야한다.
 //        if(payRepository.FindPayRequestByEmail(email) != null) {
 //            body.put("code", 4002);
@@ -156,12 +151,6 @@ public class KakaoPayService {
 //        }
 
         KakaoPayReadyVO kakaoPayReadyVO;
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 서버로 요청할 Header
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "KakaoAK " + KKO_ADMIN_KEY);
-        headers.add("Content-Type", MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=UTF-8");
 
         // 서버로 요청할 Body
         MultiValueMap<String, String> params = new LinkedMultiValueMap<String, String>();
@@ -176,10 +165,8 @@ public class KakaoPayService {
         params.add("cancel_url", KKO_REDIRECT_URL + "/approval");
         params.add("fail_url", KKO_REDIRECT_URL + "/approval");
 
-        HttpEntity<MultiValueMap<String, String>> postBody = new HttpEntity<MultiValueMap<String, String>>(params, headers);
-
         try {
-            kakaoPayReadyVO = restTemplate.postForObject(new URI(HOST + "/v1/payment/ready"), postBody, KakaoPayReadyVO.class);
+            kakaoPayReadyVO = kakaoApiClient.post("/v1/payment/ready", "KakaoAK " + KKO_ADMIN_KEY, params, KakaoPayReadyVO.class);
 
             log.info("" + kakaoPayReadyVO);
 
@@ -196,16 +183,20 @@ public class KakaoPayService {
             }
             return body;
 
-        } catch (URISyntaxException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-            return null;
+        } catch (KakaoApiClient.UnavailableException e) {
+            // Kakao 가 응답하지 않으면 5003 응답
+            body.put("code", 5003);
+            body.put("data", null);
+            return body;
         }
     }
 
     // 카카오페이 결제 승인 서비스
-    public HashMap<String, Object> kakaoPayInfo(KakaoPayApproveInputDTO kakaoPayApproveInputDTO, String email, long commentId) {
-        body = new HashMap<>();
+    // 승인되면 후원을 donation_ledger 에 기록하고 결제 요청을 지운 뒤 (한 transaction) 바로 응답한다.
+    // comment / user / board 의 후원 금액은 DonationSettlementService 가 나중에 반영한다.
+    public HashMap<String, Object> kakaoPayInfo(KakaoPayApproveInputDTO kakaoPayApproveInputDTO, User user, long boardId, Long commentId) {
+        HashMap<String, Object> body = new HashMap<>();
+        String email = user.getEmail();
         // 해당 이메일을 가진 결제 요청이 존재하지 않는다면 오류 응답을 낸다.
         PayRequest payRequest = payRepository.FindPayRequestByEmailandUrl(email, kakaoPayApproveInputDTO.getNext_redirect_pc_url());
         if(payRequest == null) {
@@ -213,18 +204,9 @@ public class KakaoPayService {
             body.put("data", null);
             return body;
         }
-        List<PayRequest> payRequestList = payRepository.FindPayRequestByEmail(email);
 
-        KakaoPayApproveVO kakaoPayApproveVO;
         log.info("KakaoPayInfoVO............................................");
 
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 서버로 요청할 Header
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "KakaoAK " + KKO_ADMIN_KEY);
-        headers.add("Content-Type", MediaType.APPLICATION_FORM_URLENCODED_VALUE + ";charset=UTF-8");
-
         // 서버로 요청할 Body
         MultiValueMap<String, String> params = new LinkedMultiValueMap<String, String>();
         params.add("cid", "TC0ONETIME");
@@ -234,28 +216,89 @@ public class KakaoPayService {
         params.add("pg_token", kakaoPayApproveInputDTO.getPg_token());
         params.add("total_amount", Integer.toString(payRequest.getAmount()));
 
-        HttpEntity<MultiValueMap<String, String>> postBody = new HttpEntity<MultiValueMap<String, String>>(params, headers);
-
         try {
-            // 승인 요청을 보내기 전에 결제 요청 정보를 삭제한다.
-            for(PayRequest pr : payRequestList) {
-                payRepository.DeletePayRequest(pr.getId());
-            }
-            kakaoPayApproveVO = restTemplate.postForObject(new URI(HOST + "/v1/payment/approve"), postBody, KakaoPayApproveVO.class);
+            KakaoPayApproveVO kakaoPayApproveVO = kakaoApiClient.post("/v1/payment/approve", "KakaoAK " + KKO_ADMIN_KEY, params, KakaoPayApproveVO.class);
             log.info("" + kakaoPayApproveVO);
 
-            body.put("code", 2000);
-            // 정상적으로 완료가 됐다면 해당 코멘트의 도네이션 정보를 바꿔준다.
-            if (kakaoPayApproveVO != null) {
-                commentRepository.ModifyDonation(commentId, kakaoPayApproveVO.getAmount().getTotal());
+            // 승인 응답이 비어 있으면 결과를 알 수 없으므로 결제 요청을 남기고 5003 응답 (다시 승인하면 결제 상태로 정리된다)
+            if(kakaoPayApproveVO == null || kakaoPayApproveVO.getAmount() == null) {
+                log.warn("kakao pay approve returned no amount : {}", payRequest.getTid());
+                body.put("code", 5003);
+                body.put("data", null);
+                return body;
             }
 
-        } catch (URISyntaxException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-            return null;
+            // 승인이 끝나면 결제 요청 정보를 삭제한다. (Kakao 가 응답하지 않았다면 남겨서 다시 승인할 수 있게 한다)
+            // 결제 고유 번호(tid) 를 idempotency key 로 쓰므로 같은 결제가 두 번 기록되지 않는다.
+            recordDonation(payRequest, user, boardId, commentId, kakaoPayApproveVO.getAmount().getTotal());
+
+            body.put("code", 2000);
+
+        } catch (KakaoApiClient.UnavailableException e) {
+            // Kakao 가 응답하지 않으면 5003 응답
+            body.put("code", 5003);
+            body.put("data", null);
+            return body;
+        } catch (HttpClientErrorException e) {
+            // 앞선 승인이 응답을 받지 못한 채 Kakao 에서는 끝났다면, 다시 승인할 때 4xx 가 온다.
+            return approvedOrRejected(payRequest, user, boardId, commentId, e);
+        }
+
+        return body;
+    }
+
+    // 승인이 4xx 로 거절되면 결제 상태를 확인한다.
+    // 이미 승인된 결제면 기록하고 2000 (tid 가 idempotency key 라서 두 번 기록되지 않는다), 아니면 4018 응답
+    private HashMap<String, Object> approvedOrRejected(PayRequest payRequest, User user, long boardId, Long commentId,
+                                                       HttpClientErrorException rejected) {
+        HashMap<String, Object> body = new HashMap<>();
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<String, String>();
+        params.add("cid", "TC0ONETIME");
+        params.add("tid", payRequest.getTid());
+
+        try {
+            KakaoPayOrderVO kakaoPayOrderVO = kakaoApiClient.post("/v1/payment/order", "KakaoAK " + KKO_ADMIN_KEY, params, KakaoPayOrderVO.class);
+
+            if(kakaoPayOrderVO != null && SUCCESS_PAYMENT.equals(kakaoPayOrderVO.getStatus())
+                    && kakaoPayOrderVO.getAmount() != null) {
+                recordDonation(payRequest, user, boardId, commentId, kakaoPayOrderVO.getAmount().getTotal());
+                body.put("code", 2000);
+                return body;
+            }
+        } catch (KakaoApiClient.UnavailableException e) {
+            body.put("code", 5003);
+            body.put("data", null);
+            return body;
+        } catch (HttpClientErrorException e) {
+            log.warn("kakao pay order lookup rejected : {} {}", e.getStatusCode(), e.getResponseBodyAsString());
         }
 
+        log.warn("kakao pay approve rejected : {} {}", rejected.getStatusCode(), rejected.getResponseBodyAsString());
+        body.put("code", 4018);
+        body.put("data", null);
         return body;
     }
+
+    // 승인된 결제를 기록하고 그 결제 요청을 지운다.
+    // id 는 미리 받아두므로 insert 는 commit 때 나간다. 같은 tid 의 승인이 동시에 들어오면 둘 다 기록이 없다고 보고
+    // commit 하다가 늦은 쪽이 unique 제약 (uk_donation_ledger_key) 에 걸린다. 그 tid 가 기록되어 있으면 이미 기록된 것으로 본다.
+    private void recordDonation(PayRequest payRequest, User user, long boardId, Long commentId, int amount) {
+        try {
+            writeTx.executeWithoutResult(status -> {
+                donationLedgerRepository.CreateDonation(payRequest.getTid(), commentId, user.getId(), boardId, amount);
+                payRepository.DeletePayRequestByTid(payRequest.getTid());
+            });
+        } catch (DataIntegrityViolationException e) {
+            if(donationLedgerRepository.FindDonationByKey(payRequest.getTid()) == null) throw e;
+            log.info("kakao pay donation already recorded : {}", payRequest.getTid());
+        }
+    }
+
+    // 응답 code 에 맞는 HTTP status
+    private static int status(Object code) {
+        if(Integer.valueOf(2000).equals(code)) return 200;
+        if(Integer.valueOf(5003).equals(code)) return 503;
+        return 400;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+// 검증이 끝난 access token -> (email, user id) 캐시
+// key 는 토큰 원문 대신 SHA-256 digest, 만료는 min(ttl, 토큰 exp)
+@Component
+public class TokenUserCache {
+    private final Cache<String, TokenUser> cache;
+
+    public TokenUserCache(@Value("${gofundindie.auth.token-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${gofundindie.auth.token-cache.max-size:10000}") long maxSize) {
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, TokenUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenUser value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(value.getExpiresAt() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenUser value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenUser value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public TokenUser get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, TokenUser tokenUser) {
+        cache.put(digest(token), tokenUser);
+    }
+
+    // 회원 정보 수정 / 탈퇴 / 로그아웃 시 해당 email 의 캐시를 모두 제거한다.
+    public void invalidateEmail(String email) {
+        if(email == null) return;
+        cache.asMap().values().removeIf(el -> email.equals(el.getEmail()));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for(byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16))
+                        .append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TokenUser {
+        private final String email;
+        private final Long userId;
+        private final long expiresAt;
+    }
+}
@@ -22,12 +22,14 @@ import java.util.Map;
 @Service
 public class UserService {
     private final UserRepository userRepository;
+    private final TokenUserCache tokenUserCache;
     @Value("#{info['gofundindie.signkey']}")
     private String SIGN_KEY;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TokenUserCache tokenUserCache) {
         this.userRepository = userRepository;
+        this.tokenUserCache = tokenUserCache;
     }
 
     // 유저 정보를 받아 회원가입을 진행하는 서비스 기능
@@ -42,11 +44,13 @@ public class UserService {
     public User ModifyUserData(UserModifyDTO userModifyDTO, String email) {
         User user = userRepository.FindUserByEmail(email);
         if(user == null) return null;
+        tokenUserCache.invalidateEmail(email);
         return userRepository.ModifyUser(userModifyDTO, user.getId());
     }
 
     // 유저 email을 통해 DB에 해당 email을 가진 엔티티를 삭제하는 서비스 기능
     public User DeleteUserData(String email) {
+        tokenUserCache.invalidateEmail(email);
         return userRepository.DeleteUser(userRepository.FindUserByEmail(email).getId());
     }
 
@@ -120,6 +124,7 @@ public class UserService {
                     .getBody();
 
             msg.put("email", claims.get("email"));
+            msg.put("exp", claims.getExpiration());
             return msg;
         } catch (ExpiredJwtException e) {
             msg.put("code", 4101);
@@ -166,6 +171,7 @@ public class UserService {
 
     // 해당 이메일과 refreshToken을 DB에 제거한다
     public RefreshToken DeleteRefreshToken(String email, String refreshToken) {
+        tokenUserCache.invalidateEmail(email);
         return userRepository.DeleteRefreshTokenDB(email, refreshToken);
     }
 
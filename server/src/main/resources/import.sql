@@ -1,21 +1,21 @@
 --Test Dummy Data
 --User
-INSERT INTO `user` (admin_role,banned,email,password,nickname) VALUES (true, false, "admin1@admin.com", "1234", "관리자 1호");
-INSERT INTO `user` (admin_role,banned,email,password,nickname) VALUES (true, false, "admin2@admin.com", "1234", "관리자 2호");
+INSERT INTO `user` (id, admin_role,banned,email,password,nickname) VALUES (1, true, false, "admin1@admin.com", "1234", "관리자 1호");
+INSERT INTO `user` (id, admin_role,banned,email,password,nickname) VALUES (2, true, false, "admin2@admin.com", "1234", "관리자 2호");
 
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("test1@gofundindie.com", "1111", "김하나", 100);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("test2@gofundindie.com", "2222", "이둘", 2000);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("test3@gofundindie.com", "3333", "박셋", 300);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("test4@gofundindie.com", "4444", "최넷", 0);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("test5@gofundindie.com", "5555", "한다섯", 0);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("askdjaskjd@gofundindie.com", "6666", "김여섯", 0);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("qwerasdf4567@gofundindie.com", "7777", "조일곱", 17000);
-INSERT INTO `user` (email,password,nickname,total_donation) VALUES ("mansoor@gofundindie.com", "8888", "만수르", 50000000);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (3, "test1@gofundindie.com", "1111", "김하나", 100);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (4, "test2@gofundindie.com", "2222", "이둘", 2000);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (5, "test3@gofundindie.com", "3333", "박셋", 300);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (6, "test4@gofundindie.com", "4444", "최넷", 0);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (7, "test5@gofundindie.com", "5555", "한다섯", 0);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (8, "askdjaskjd@gofundindie.com", "6666", "김여섯", 0);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (9, "qwerasdf4567@gofundindie.com", "7777", "조일곱", 17000);
+INSERT INTO `user` (id, email,password,nickname,total_donation) VALUES (10, "mansoor@gofundindie.com", "8888", "만수르", 50000000);
 
-INSERT INTO `user` (email,password,nickname) VALUES ("mansoor@gofundindie.com", "1234", "스포왕");
+INSERT INTO `user` (id, email,password,nickname) VALUES (11, "mansoor@gofundindie.com", "1234", "스포왕");
 
-INSERT INTO `user` (email,password,nickname,ad_agree) VALUES ("mansoor@gofundindie.com", "1234", "광고 거부맨", false);
-INSERT INTO `user` (email,password,nickname,ad_agree) VALUES ("mansoor@gofundindie.com", "1234", "광고 거부걸", false);
+INSERT INTO `user` (id, email,password,nickname,ad_agree) VALUES (12, "mansoor@gofundindie.com", "1234", "광고 거부맨", false);
+INSERT INTO `user` (id, email,password,nickname,ad_agree) VALUES (13, "mansoor@gofundindie.com", "1234", "광고 거부걸", false);
 
 
 --Genre
@@ -35,498 +35,498 @@ INSERT INTO `genre` (id, name) VALUES (13, "뮤지컬");
 
 -- 유월
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES (33, 3, true, "유월", "베프 (BEFF)", null, "https://cdn.notefolio.net/img/b9/93/b9938dc2e3873a124318f5275a94219112a61af429a0a3791357d9540ac363e7_v1.jpg", "https://www.youtube.com/watch?v=zOXFqZ9rGUo&t=1211s&ab_channel=TeamYuwol", "한국", "2019", null, "25", 0, "한시도 몸을 가만두지 않고 춤추는 소년 유월은 어느날 사립초등학교에 발발한 집단무용증(a.k.a. 댄스바이러스)의 원흉으로 지목당하며, 질서에 목매는 담임선생 혜림과 옆반 선생들에게 추격당하기 시작하는데… ", true)
-insert into `still` (image, board_id) values ("http://t1.daumcdn.net/movie/1c5dba172b234f069beb6fbe73697abb1541961065119", 33), ("http://t1.daumcdn.net/movie/ce9bcdab5d724c58b04ced12c506e20f1556290815564", 33), ("http://t1.daumcdn.net/movie/1baed4d6d11f4a7d8b698c77c6812b011561201162187", 33) ,( "http://t1.daumcdn.net/movie/501ac33768514f5d88bbd802ef05ba981556290815280",33) ,("http://t1.daumcdn.net/movie/486e5c921866477aaecf477fe6d4d9821541961066872",33),("http://t1.daumcdn.net/movie/26e2e96597ec417c95510b8cf58b14401562230555905",33);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (33,9);
-insert into `board_like` (user_id, board_id) values (7, 33);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이병윤", 1, "https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F8c4e537395c5c07aa1e37be376f2f93ce5cd223c", 33);
+insert into `still` (id, image, board_id) values (1, "http://t1.daumcdn.net/movie/1c5dba172b234f069beb6fbe73697abb1541961065119", 33), (2, "http://t1.daumcdn.net/movie/ce9bcdab5d724c58b04ced12c506e20f1556290815564", 33), (3, "http://t1.daumcdn.net/movie/1baed4d6d11f4a7d8b698c77c6812b011561201162187", 33) ,(4,  "http://t1.daumcdn.net/movie/501ac33768514f5d88bbd802ef05ba981556290815280",33) ,(5, "http://t1.daumcdn.net/movie/486e5c921866477aaecf477fe6d4d9821541961066872",33),(6, "http://t1.daumcdn.net/movie/26e2e96597ec417c95510b8cf58b14401562230555905",33);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (1, 33,9);
+insert into `board_like` (id, user_id, board_id) values (1, 7, 33);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (1, "이병윤", 1, "https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F8c4e537395c5c07aa1e37be376f2f93ce5cd223c", 33);
 
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(36,2,true,"죽기 좋은 날","손정은","HONG FRAME","http://t1.daumcdn.net/movie/42c97f27f8d648ccacb62eb4f78d5dfb1561867715397","https://youtu.be/JzBX1vz4ABY","한국","2018",null,13,1,"<p>남자친구의 배신으로 세상의 끝자락으로 몰린 고등학생 지은은</p><p>인터넷에서 만난 진호와 함께 다음 날 한 시 마포대교에서 투신을 하기로 계획한다.</p><p>2019년 제14회 부산국제어린이청소년영화제</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (36,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (2, 36,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(37,2,true,"시간보관소",null,null,"https://user-images.githubusercontent.com/45745049/141706420-ba17ff6a-76ea-4be4-86bb-e9557de9c788.png","https://youtu.be/_dApFdx_psg","한국","2020",null,10,1,"<p>슬럼프에 빠진 어느 가난한 화가가 시간보관소에 시간을 맡기게 되면서 벌어지는 이야기.</p><p> </p><p>2020. 10. 각색, 연출</p><p>2020 아시아 골목 영화제 최우수상 수상</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (37,12);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (3, 37,12);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(38,2,true,"감독님 연출하지 마세요","이대영",null,"https://img1.daumcdn.net/thumb/C400x572/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fb2afd087d729c71cb4cf018c3c72ca501d060c80","https://youtu.be/BxZdEtW5wRk","한국","2017",null,13,2,"<p>민경은 단편영화 주인공을 맡아 촬영에 임한다.</p><p>시간이 지날수록 현장이 꼬이고 감독과 미세한 균열이 일기 시작한다.</p><p>(2017년 제16회 미쟝센 단편영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (38,9);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (4, 38,9);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(39,2,true,"밀크","장유진",null,"https://user-images.githubusercontent.com/45745049/141706859-cbe83c70-eb85-483d-af3c-bcdacc0fc2df.png","https://youtu.be/zrsUszuLZ0I","한국","2018",null,23,1,"<p>태국 푸켓의 한 리조트에서 하우스 키퍼로 일하는 싸이(Sai).</p><p>가난한 아기엄마인 그녀는 손님으로 온 부잣집 아기엄마를 만나게 된다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (39,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (5, 39,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(40,2,true,"여름, 버스 ","조범식, 류진아",null,"https://an2-img.amz.wtchn.net/image/v2/4db9f74f79d91e8c41d5d0d61f2a30ec.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPalF3TUN3aWNHRjBhQ0k2SWk5Mk1TOTVjR0p5TUdKc2JuTmtiV1Z1T0doME5UVnhNeUlzSW5GMVlXeHBkSGtpT2pnd0xDSjNhV1IwYUNJNk1qZ3dmUS5KeDFDbXpVRmFxR1ZtZ242RW9OX3kyS2hrQmZWYjRjMG1rV0lMR0t4UEhn","https://youtu.be/-MliIE5PGrI","한국","2018",null,18,1,"<p>버스 안에서 일어나는 여름날의 소소하고 행복한 이야기</p><p>(2018년 제6회 서울구로국제어린이영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (40,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (6, 40,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(41,2,true,"9월이 지나면","고형동",null,"https://user-images.githubusercontent.com/45745049/141707436-f4160473-5ac9-4982-b622-6dd1e2d120dc.png","https://youtu.be/ui1RZ1Agk2Q?list=PLNPi9xvM1NrMzz18cUGwAfvRdr3_OKo77","한국","2013",null,23,1,"<p>공모전 설계도 제출을 하루 앞두고 선영의 설계도가 사라진다. 선영은 지연을 의심하고, 승조는 지연을 감싸준다.</p><p>(2013년 12회 미쟝센 단편영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (41,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (7, 41,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(42,2,true,"Curve","Tim Egan",null,"https://t1.daumcdn.net/cfile/tistory/99A68C475EECB8240F","https://youtu.be/2dD3Fawk4y0","호주","2016",null,9,3,"<p>어둡고 가파른 비탈 한가운데서 깨어난 여인.</p><p>잡을 것조차 없는 그곳에서 손바닥의 마찰 만으로 몸을 지탱해야만 한다.</p><p>필사적으로 버티는 그녀에게 이번엔 발 밑 어둠속에서 섬뜩한 소리가 들려오는데...</p><p>(2016년 제18회 쇼트쇼츠국제단편영화제)</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (42,2);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (8, 42,2);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(43,2,true,"Alternative Math","David Maddox",null,"https://m.media-amazon.com/images/M/MV5BZjFhN2FhMTQtNTA2OS00MjUxLWIwN2UtOGY2ZWQ4NWRmOWE4XkEyXkFqcGdeQXVyMjI3MTE4MjU@._V1_.jpg","https://youtu.be/Zh3Yz3PiXZw","미국","2017",null,9,1,null,true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (43,9);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (9, 43,9);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(44,2,true,"두개의 빛: 릴루미노","허진호",null,"http://t1.daumcdn.net/movie/f2498357e6717f12a7db19b031140b2dfea13f43","https://youtu.be/3y5zBY96Mio","한국","2017",null,31,1,"<p>시력을 차츰 잃어가고 있는 인수는 사진동호회에서 같은 시각장애를 가진 수영을 만난다. 잔뜩 움츠러든 자신과 달리 당당한 모습의 수영에게 호감을 느끼는 인수.</p><p>세 번의 출사, 다섯 번의 만남 속 그들은 서로의 빛이 될 수 있을까?</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (44,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (10, 44,3);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(45,2,true,"사회수업","이용훈",null,"https://user-images.githubusercontent.com/45745049/141708992-f9c2e2e5-4736-485e-9d21-d7f8e0973c48.png","https://youtu.be/oIws_PYoDqE","한국","2017",null,19,1,"<p>대학생 신해는 고교에서 교생실습중이다. 학교에 결원이 생겨서 임용의 가능성이 있지만 그녀를 가로막는 난관은 만만치 않다. 학교에 넌더리가 난 신해, 하지만 교생실습기간은 아직 많이 남았다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (45,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (11, 45,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(46,2,true,"야경꾼","노도연",null,"https://an2-img.amz.wtchn.net/image/v2/7e6383aa687830521ae242029ac59bba.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPamN3TUN3aWNHRjBhQ0k2SWk5Mk1TOXRlWFYxWTIxa2RXVTNhWGQxZDNVNWRXYzBPQ0lzSW5GMVlXeHBkSGtpT2pnd0xDSjNhV1IwYUNJNk5Ea3dmUS5Ka3ptcnBQc3NnQW9GbGdLcFhqeWtrbU1Icl95eVJJZ2NsRUZrMTBBdDZJ","https://youtu.be/na2hyI_SAPM","한국","2015",null,13,3,"<p>종합설비센터에서 일하는 남자는 자신의 가게 맞은편 약국의 약사를 관찰한다.</p><p>수상한 남자가 퇴근하는 약사를 쫓아가는 것을 목격한 주인공은 그녀가 위험에 빠졌음을 깨닫고 따라나서지만 오히려 자신이 스토커로 오해를 받는 상황에 처한다.</p><p>(2015년 제14회 미쟝센 단편영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (46,5);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (12, 46,5);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(47,2,true,"The Ballerina","Aaron Fradkin",null,"https://m.media-amazon.com/images/M/MV5BMWNmNTU1YWYtODM3NS00YjE4LWIwYTUtZjVkYzI1MTFiZjI5XkEyXkFqcGdeQXVyNjUzNTE5NjA@._V1_FMjpg_UX1000_.jpg","https://youtu.be/sTtmpFIaFqc","미국","2021",null,8,3,null,true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (47,2);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (13, 47,2);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(48,2,true,"Other Side of the Box","Caleb J. Phillips",null,"https://img1.daumcdn.net/thumb/R1280x0.fjpg/?fname=http://t1.daumcdn.net/brunch/service/user/1cnb/image/flNpjRA9coKsncRV3cR_tLzbrd0.jpg","https://youtu.be/OrOYvVf6tIMM","미국","2018",null,15,3,"<p>늦은 밤, 젊은 커플이 오랜 친구로부터 정체불명의 선물을 받게되는데..</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (48,2);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (14, 48,2);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(49,2,true,"The Wrong Rock","Michael Cawood",null,"https://user-images.githubusercontent.com/45745049/141709892-cb7d072f-f2af-43af-92ec-c5f04e9160eb.png","https://youtu.be/eDaNejmf-1A","미국","2018",null,13,1,null,true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (49,10);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (15, 49,10);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(50,2,true,"언니","김인욱",null,"https://image.tmdb.org/t/p/w500/rG98Zhee2oPY9HysOx0wpRzpqLR.jpg","https://youtu.be/mqh_fWDDzig","한국","2017",null,21,2,"<p>아파트에 살고있는 두 자매. 청소년인 동생이 한밤에 집을 나가고, 언니 혼자 남게된 집안에 괴한이 들어온다.</p><p>동생을 납치한 괴한으로 부터 동생을 구하기위한 언니의 처절한 이야기가 펼쳐진다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (50,8);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (16, 50,8);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(51,2,true,"원룸","이병진",null,"https://user-images.githubusercontent.com/45745049/141710189-4f2c509b-6a6a-40be-a70a-4217dcb62542.png","https://youtu.be/tyXxjw_SyxE","한국","2018",null,26,1,"<p>야근 때문에 자주 원룸을 비우는 일한은 원룸의 반나절 세입자를 구한다.</p><p>고교 자퇴생 준은 뮤지션의 꿈을 위해 서울로 상경하고 일한의 반나절 룸메이트가 된다.</p><p>두 사람의 예민한 반나절 동거에 준의 고향 친구 병두가 나타나는데...</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (51,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (17, 51,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(52,2,true,"가족",null, null,"https://user-images.githubusercontent.com/45745049/141710873-8ed5b60a-9c6b-4329-8a81-66ad4b506af4.png","https://youtu.be/NXPsKHqkuEM","한국","2016",null,5,1,"<p>반려동물의 시각에서 인간의 이기적인 (혹은 이중적인) 모습을 판타지적으로 표현한 작품. 보는 이들이 영화를 통해 반려동물에 대한 인식과 책임을 다시 한 번 생각해보도록 한다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (52,7);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (18, 52,7);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(53,2,true,"결백","김재식",null,"https://user-images.githubusercontent.com/45745049/141713974-95d4827f-7a88-4566-86f3-6a4c043d8b8a.png","https://youtu.be/wjLtkqYleqs?list=PL9WxTUjNNa_G0fNdRQQ794Mf0g-7o1p8Y","한국","2015",null,24,1,"<p>나름 큰 사고 없이 수년째 고등학교 교직생활을 성실히 해온 ‘혜원’에게 큰 위기가 찾아온다. 그것은 평소 관리에 신경 썼던 시험답지인 OMR카드를 분실하면서 시작된다. OMR카드를 가져간 사람으로 ‘혜원’의 반 우등생 ‘나영’이 거론되고 전교 1등 ‘나영’이 왜 그것을 가져갔는지에 ‘혜원’은 더 큰 관심이 생긴다. 방과 후 ‘나영’을 따로 불러 그 이유를 물어보는데 ‘나영’이로부터 생각지도 못한 이야기들이 나온다. (2015년 제17회 부산독립영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (53,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (19, 53,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(54,2,true,"철원에서","김혜정",null,"https://user-images.githubusercontent.com/45745049/141714122-a28d44e2-a3d0-4ba0-85e6-e19f17e50974.png","https://youtu.be/6OvDfaSJDIc?list=PL9WxTUjNNa_G0fNdRQQ794Mf0g-7o1p8Y","한국","2018",null,17,1,"<p>예술 강사인 남희는 강원도 철원으로 수업을 하러 떠나지만 어느 것 하나 순탄치가 않다. 일을 다 마친 남희는 집으로 돌아가기 위해 터미널로 향하지만 마지막 버스를 놓치게 된다. </p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (54,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (20, 54,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(55,2,true,"인싸","차경훈",null,"https://user-images.githubusercontent.com/45745049/141714312-f74f1eed-d51a-496b-bb06-8f0e2ac407f4.png","https://www.youtube.com/watch?v=P2X93az89y8&t=2s","한국","2020",null,9,2,"<p>많은 사람들의 관심과 사랑을 받는 인스타 스타 세영이 모두들 세영이의 화려한 일상을 부러워 한다. 하지만 보이는 것과는 조금 달라 보이는데 ...</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (55,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (21, 55,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(56,2,true,"사람하는 사랑","오선주",null,"https://user-images.githubusercontent.com/45745049/141715037-305b2116-32e7-413f-9bb6-d82b55256f9f.png","https://www.youtube.com/watch?v=jjDZge2tVHA","한국","2019",null,23,1,"<p>무엇과 하는 무엇을 사랑이라 할까.</p><p>어떻게 해야 서로에게 닿을 수 있을까.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (56,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (22, 56,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(57,2,true,"왜 독립영화 감독들은 DVD를 주지 않는가?","구교환",null,"http://t1.daumcdn.net/cfile/276B3D41535419CD2E","https://www.youtube.com/watch?v=j9QzZ5hwDhA","한국","2013",null,28,1,"<p>고기환(32세,남)은 다수의 독립영화에 출연한 배우다. 기환은 대부분의 독립영화 감독들로부터 자신의 출연작dvd를 받지 못했다. 직접 dvd를 받기 위해 과거 함께 작업했던 감독들과 재회하면서 기환은 뜻밖의 사실들을 알게 된다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (57,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (23, 57,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(58,2,true,"플라이 투 더 스카이","구교환, 이옥섭",null,"https://img1.daumcdn.net/thumb/R1280x0.fjpg/?fname=http://t1.daumcdn.net/brunch/service/user/kOf/image/rG2vEQA1HD9dKbMsJ-7UcE_068Q.jpg","https://www.youtube.com/watch?v=7y-eps3O-Ko","한국","2015",null,14,1,"<p>이태리에서 돌아온 성환이 교환과 재회한다. 성환은 한국에서 건설기계조종사 면허를 취득하려고 한다. 교환은 성환에게 우선 자동차 운전연습부터 시킨다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (58,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (24, 58,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(59,2,true,"평행소설","최승현, 고민시",null,"https://img1.daumcdn.net/thumb/C400x572/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fde593f8c8311a34e1346dae076f00768a8920bee","https://www.youtube.com/watch?v=Guc4QrdHUKY","한국","2016",null,3,1,"<p>작가는 연필로 소설을 쓰고 있다. 그의 소설 속 주인공 여자는 남자를 만나 사랑에 빠지고, 멀어지고, 이별하고, 결국 약을 먹고 자살을 하게 되는 때 작가의 연필이 부러진다. 소설은 중단되고 작가는 연필을 깎기 시작한다. 소설속 주인공은 가까스로 먹은 약을 토해서 살아난다. 그녀는 죽고 싶지 않다. 그녀는 살기 위해 주변을 필사적으로 찾다 노트와, 선물받은 만년필을 꺼내고 작가에 대한 소설을 쓰기 시작한다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (59,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (25, 59,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(60,2,true,"Mouse-X","Justin Tagg",null,"https://m.media-amazon.com/images/M/MV5BMjExMzU3OTI5OF5BMl5BanBnXkFtZTgwOTUzMjYzMTE@._V1_.jpg","https://www.youtube.com/watch?v=gJPlk6O8XMw","영국","2014",null,15,1,"<p>만약 타임머신이 있다면 무엇을 할까?</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (60,4);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (26, 60,4);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(61,2,true,"Scrap to the Future","michael formanski",null,"https://user-images.githubusercontent.com/45745049/141719734-c82d584c-c2f7-4e37-94ce-9d633f6f8a8d.png","https://www.youtube.com/watch?v=d2xhV3krRLU","미국","2015",null,19,1,"<p>스크랩 투 더 퓨쳐는 스크래퍼 펑크스타일의 단편영화로 두 스크래퍼가 스크랩핑 메탈로 만들어진 미래에서 살아남는 이야기이다. 시간여행을 하는 기계를 찾아내 과거로부터 메탈덩어리들을 가져오다 현실의 붕괴가 시작되고 만다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (61,12);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (27, 61,12);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(62,2,true,"얼음꽃","이민영",null,"https://user-images.githubusercontent.com/45745049/141719986-81e042ec-8ba0-4897-bceb-8712155f2136.png","https://www.youtube.com/watch?v=Z-cEHs9OTc8","한국","2016",null,14,3,"<p>남편에게 버림받고 임신초기인 지현은 얼굴도 모르는 오프라인 자살 카페 모임에서 만난 사람들(병우, 슬철)과 죽을 장소로 향한다. 지현은 승철과 병우와 자살을 시도하는데 죽는 것도 쉽지 않다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (62,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (28, 62,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(63,2,true,"도브맘","김아람",null,"https://www.indieground.kr/fileFolder/a6ac8334-3e1f-46ed-b820-c89d8e2b72ef_jpg",null,"한국","2021",null,29,1,"<p>김아람은 비둘기(Dove) 엄마(Mom)가 되길 자청한다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (63,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (29, 63,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(64,2,true,"가장 보통의 존재","김민지",null,"https://user-images.githubusercontent.com/45745049/141720156-cf108dc3-4379-47e4-8002-0401602c0414.png","https://www.moviebloc.com/detail/ct_11ea27879e34cd25a799025083dcaf84/ko","한국","2013",null,13,3,"<p>조금 여성스럽고 소심한 진우는 수진을 짝사랑하지만 그녀와 한마디도 못했다. 그러던 어느 날, 빈 강의실에 수진과 둘만 남게 된다. 진우의 친구 용철과 희준은 여성스러운 진우에 대해 온갖 상상을 하기 시작한다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (64,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (30, 64,3);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(65,2,true,"여름이 지나면","윤진",null,"https://nujhrcqkiwag1408085.cdn.ntruss.com/static/upload/movie_poster_images/280x400/movie_84191_1597020971.png","https://www.moviebloc.com/detail/ct_11ea2842cdedfceaa14b023f85d07bb2/ko","한국","2014",null,14,3,"<p>석호를 짝사랑하고 있는 슬기는 우연히 석호가 양호실에서 희선이의 가슴을 만지려는 걸 목격하게 된다. 석호의 비밀을 지켜주는 대신 슬기는 석호를 마음대로 부려먹기 시작하고 얼떨결에 데이트 아닌 데이트를 하게 된다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (65,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (31, 65,3);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(66,2,true,"죽어도 좋은날 ","변현아",null,"http://t1.daumcdn.net/cfile/1362383B5049F75B04","https://www.moviebloc.com/detail/ct_11ea284b1689a8d7a14b023f85d07bb2/ko","한국","2012",null,16,2,"<p>또래에 비해 초경이 빨리 찾아온 11살 소녀, 유정. 자신이 죽어가고 있다고 오해하게 된 유정은 친한 친구 승준에게만 이 사실을 털어놓는다.</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (66,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (32, 66,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(67,2,true,"내 이름 송병준! 이렇게 강할 리가 없어!!","박재현",null,"https://user-images.githubusercontent.com/45745049/141714844-525d8386-77bc-4263-b1b0-5c94b0072695.png","https://www.moviebloc.com/detail/ct_11ec253997d90b02a2e3025083dcaf84/ko","한국","2018",null,24,2,"<p>학교에서 조용히 지내는 오타쿠 송병준. 그에게는 그를 괴롭히는 용훈이 있다. 용훈은 병준이 만화부 선배에게 물려받은 소중한 시계를 부숴버린다. 분노에 가득 찬 병준. 만화부원들과 힘을 합쳐 무찌르기로 결정한다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (67,9);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (33, 67,9);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(68,2,true,"Lips","Team DADA",null,"https://blogfiles.pstatic.net/MjAxODExMDRfMjky/MDAxNTQxMzE2MzY5NDkw.wha3W2OvQan9AA2nbyD60oKQevfLoUsJ8G4kbtXP9lsg.VXnAcLgEZwZCGUUNn1U8qkA82yhG9whoemET68R-qd8g.JPEG.pon06023/2018-11-04_16%3B25%3B59.jpg","https://youtu.be/mB0FiOY1S3Q","한국","2018",null,6,1,"<p>소문은 언제 어디서 누가 시작했는지, 아무도 모른다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (68,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (34, 68,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(69,2,true,"꽃잠","박해정",null,"https://user-images.githubusercontent.com/45745049/141720836-772bcf0e-ff08-4a88-8f2d-5ffe224479fc.png","https://www.moviebloc.com/detail/ct_11ea26334e9e0d86a14b023f85d07bb2/ko","한국","2012",null,23,3,"<p>오랫동안 짝사랑해 오던 남자와 관계를 갖게 된 여자. 여자는 정서적 교감의 시작이라고 생각하지만, 여자 친구가 있는 남자는 그저 육체적인 욕망만을 채운다. 남자의 허울뿐인 섹스를 알게 되면서도 남자에 대한 자신의 욕망때문에 은밀한 관계를 유지해 가는 여자. 이 둘의 이율 배반적인 관계 속에서 수직적 결정에 대한 우위는 어떻게 흘러 갈 것인가.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (69,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (35, 69,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(70,2,true,"수선화","박종철",null,"https://img1.daumcdn.net/thumb/C400x572/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F147DC9364DB7CF1F0B","https://youtu.be/me0XmgTb8ig","한국","2010",null,33,1,"<p>종근은 인터넷으로 청바지를 산 뒤 밑단을 살리면서 기장을 줄이기 위해 동네 세탁소에 수선을 맡긴다.</p><p>그런데 수선이 끝난 바지는 재봉선이 뒤죽박죽 엉망으로 줄여져 있다.</p><p>세탁소 주인과 실랑이 끝에 종근은 5만 원 주고 산 바지로 15만 원을 받아낸다.</p><p>다시 같은 바지를 주문하여 다른 세탁소에 맡겨 보는데, 이번엔 주인과 더 큰 싸움만 일어날 뿐이다.</p><p>결국 전문 수선집을 알아내 바지를 맡기지만, 이곳 주인은 어이없게도 종근의 바지를 잃어버린다.</p><p>(2011년 제5회 시네마디지털서울 영화제)</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (70,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (36, 70,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(71,2,true,"방문","신미래",null,"https://github.com/JogiYo/practice1/blob/master/practice1/%EB%B0%A9%EB%AC%B8.png?raw=true","https://youtu.be/j3XW8gh_3cQ","한국","2016",null,18,2,"<p>아동학대를 받고 있다는 제보를 받은 사회복지사 동원은 어느 한가로운 시골마을로 조사를 나선다. 신고가 들어온 집을 방문한 동원은 아이들의 행동에 수상함을 느낀다. 무언가 미심쩍은 아이들에게 의구심을 품고 집으로 돌아가던 중 아이들의 다급한 연락을 받고 다시 그 집으로 돌아 가는데... 　</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (71,5);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (37, 71,5);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(72,2,true,"더 앵글러","장승욱",null,"https://www.indieground.kr/fileFolder/p031.jpg",null,"한국","2018",null,13,1,"<p>노아는 매일 물고기를 잡으려고 한다, 이유도 잊은 채. 마을의 점등사 이보는 묵묵히 등불을 밝히며 그를 살핀다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (72,10);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (38, 72,10);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(73,2,true,"레몬","이현지",null,"https://github.com/JogiYo/practice1/blob/master/practice1/%EB%A0%88%EB%AA%AC.png?raw=true","https://youtu.be/nvkhIuG7ias","한국","2017",null,7,1,"<p>롯데월드가 폭피하는 상상으로 사회적 불만을 해소한다는 내용의 단편 영화.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (73,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (39, 73,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(74,2,true,"부탁","유재선",null,"https://img1.daumcdn.net/thumb/C400x572/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F8eb68ab6f006b25f7e3d6f8b4903573291d78835","https://www.moviebloc.com/detail/ct_11ea287720bb5b43a799025083dcaf84/ko","한국","2018",null,17,3,"<p>곤히 잠든 아들을 깨우는 아빠. 주섬주섬 100만 원이 든 봉투를 내밀며 자다가 봉창 두드리는 부탁을 한다. 평범한 듯 평범하지 않은 부자의 특별하고도 웃고픈 사정</p>",true);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (74,7);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (40, 74,7);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(75,1,true,"실","이나연","필름다빈","https://www.indieground.kr/fileFolder/p049.png","https://play24.yes24.com/Main/Detail/S000009830","한국","2020",null,30,1,"<p>창신동 명선의 봉제 공장에 드나드는 사람들. 노동에 관한 저마다의 시선이 명선 주위를 맴돈다. 오랜 세월 함께해 온 이웃 현이 결국 창신동을 떠나게 되자, 명선은 고민에 빠진다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (75,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (41, 75,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(76,1,true,"실버택배","김나연","필름다빈","https://www.indieground.kr/fileFolder/8cea0c8c-9a34-44f3-b293-8d3229ccbaf0_jpg",null,"한국","2020",null,26,2,"<p>70세 신정숙씨는 지하철 택배원이다.</p><p>그녀는 어느 날 범죄에 관련된 통장을 운반하게 되고 경찰 조사를 받게 된다.</p><p>하지만 경찰 앞에서 거짓말만 늘어놓는 그녀.</p><p>결국 기록 일지를 모두 불태워 증거인멸을 하게 되는데…</p><p>초고령 사회가 도래하면서 노후 파산에 빠지는 사람들이 점점 늘어나고 있다.</p><p>나름대로의 최선을 다해 살아온 최정숙씨 또한 노후 파산을 피해갈 수만은 없다.</p><p>과연 그녀는 눈앞에 놓인 문제를 어떻게 해결해 나갈까? 그녀가 원하는 인생의 막을 내릴 수 있을까?</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (76,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (42, 76,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(77,1,true,"자매들의 밤","김보람","센트럴파크","https://www.indieground.kr/fileFolder/9740ac41-1786-4acf-a83a-e549551fd0b4_jpg",null,"한국","2020",null,22,2,"<p>어머니의 기일에 맞춰, 추모 예배를 드리기 위해 중년의 자매들이 첫째 혜정의 집에 모인다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (77,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (43, 77,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(78,1,true,"조금 부족한 여자","허수영","한국독립애니메이션협회","https://www.indieground.kr/fileFolder/297b8a98-925f-4e42-aec8-7147fbfac1ce_jpg",null,"한국","2020",null,10,2,"<p>중요한 시험을 앞두고, 뜻대로 되지 않는 자신의 몸에 실망한 머리가 누워서 침을 뱉고 가출한다. 이때다 싶었는지 오른팔과 상체도 나머지 몸에서 벗어난다. 잔인하고 엽기적이지만 그들의 여정을 함께 하다 보면, 토막난 채로 살아가도 나쁠 것 같지 않다. 종종 있는 일이라고도 하니까, 뭐. 시험 따위 망치면 어때! 그러고 보니 나도 손과 머리가 분리된 것 같다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (78,10);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (44, 78,10);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(79,1,true,"달팽이","김태양",null,"https://www.indieground.kr/fileFolder/b21dd63b-0446-4691-ac51-c9aea7e04e2b_jpg",null,"한국","2020",null,20,2,"<p>버스에서 잘못 내린 남자는 익숙한 길을 찾으려 거리를 걷는다. 그날 저녁, 우연히 같은 길을 다시 걷게 되는데, 무언가 달라졌다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (79,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (45, 79,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(80,1,true,"두 개의 물과 한 개의 라이터","조희영","필름다빈","https://www.indieground.kr/fileFolder/p033.png","https://play24.yes24.com/Main/Detail/S000009821","한국","2020",null,30,1,"<p>어제 낮잠을 잔 지원은 평소와 다르게 이른 아침에 눈이 떠졌다. 책을 좀 보다가 창가에서 담배를 피우는데 저 멀리 숲의 나무들이 눈에 들어온다. 가만히 멈춰 있는 것 같던 나무의 나뭇잎들을 자세히 보니 살살 움직이고 있다. 산책을 간 숲에서 오래 전 친했던 친구이자, 같은 사람을 좋아했던 혜영을 마주친다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (80,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (46, 80,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(81,1,true,"지리멸렬","한국영화아카데미","한국영화아카데미","http://t1.daumcdn.net/cfile/136DB110B12BC097E3",null,"한국","1994",null,30,2,"<p>'바퀴벌레'와 '골목 밖으로' '고통의 밤' '에필로그'라는 4의 에피소드로 이루어진 단편. 아침운동을 하면서 남의 문앞에 놓여있는 우유를 습관적으로 훔쳐먹는 신문사 논설위원, 만취해 길가에서 용변을 누려다가 경비원에게 들키게 되는 엘리트 검사, 그리고 도색잡지를 즐겨보다 여학생에게 들킬 뻔한 위기를 겪는 교수, 이들 세사람이 TV 프로그램에 출연하여 사회문제에 관한 대담을 나눈다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (81,9);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (47, 81,9);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(82,1,true,"서울 7000","김홍준, 황주호",null,"http://t1.daumcdn.net/movie/44faed4d26e7496180eedfb1936c09121573584199590",null,"한국","1976",null,8,1,"<p>서울의 하루를 8mm카메라로 담은 다큐멘터리, 80년대 영화운동이 본격화 되기 전 순수 영화의 유형을 볼 수 있는 귀중한 작품</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (82,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (48, 82,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(83,1,true,"작은 풀에도 이름 있으니","여성민우회","시네마달","https://www.indieground.kr/fileFolder/18293861-dcd5-4f4c-a167-99bc47eb77a7_jpg",null,"한국","1990",null,38,2,"<p>한국여성민우회와 여성영상집단 바리터가 공동기획제작한 16mm영화로 사무직 여성 노동자의 문제를 다루었다.</p><p>2부로 구성된 이 영화에서 1부는 회사 일과 가사노동 등 이중고에 시달리는 기혼사무직 여성 노동자를,</p><p>제2부는 미혼 사무직 여성 노동자들이 ‘직장의 꽃’에서 탈피하여 노동조합결성에 적극적으로 참여하면서 주인의식을 키워가는 과정을 그렸다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (83,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (49, 83,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(84,1,true,"증발","김성민",null,"https://www.indieground.kr/fileFolder/4366fb67-e686-4975-b0bb-18f366c6eeb7_jpg",null,"한국","2019",null,115,1,"<p>20여 년을 하루같이 딸의 행방을 쫓고 있는 용진씨.</p><p>세상은 벌써 준원이를 잊은 것 같지만 아빠에겐 포기란 없다.</p><p>드디어 장기실종 전담수사팀이 생기고 새 제보자까지 등장!</p><p>수사는 큰 전환점을 맞고, 용진 씨와 가족들은</p><p>다시 한번 희망의 끈을 부여잡는데…</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (84,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (50, 84,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(85,1,true,"누구는 알고 누구는 모르는","호우주의보","호우주의보","https://post-phinf.pstatic.net/MjAyMDA3MjdfMTEx/MDAxNTk1ODI4MzgyOTMy.Wbs-FpFlt1GV_Xa0B5s5KQHJrycCieT0xPmPTwdMiucg.nQN_XnkraAPpAJ04Baa5EAOCdh46yQzomY-bxHT4NJYg.PNG/%EC%A0%9C%EB%AA%A9_%EC%97%86%EC%9D%8C-1.png?type=w1200","https://purplay.co.kr/service/detail.php?id=178","한국","2019",null,38,1,"<p>안치연 할머니는 어린 시절 한글 교육을 받지 못했다. 나는 할머니를 따라 노인 한글학교로 갔고 그곳엔 여학생만 있었다. 문자로 기록하지 못하고 기억으로 감당해 온 여성들의 시간. 그 시간은 어디에 있을까.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (85,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (51, 85,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(86,1,true,"우리는 매일매일","영희야놀자","인디스토리","https://www.indieground.kr/fileFolder/f27d857a-9fd9-4840-bf20-5b665210bc05_jpg","https://www.indieartcinema.com/movie/detail?moviecd=016080","한국","2019",null,74,2,"<p>미투운동이 한창이던 어느 날, 옛 친구들이 떠올랐다</p><p>90년대 말 함께 페미니즘을 외쳤던 친구들은 지금 어떻게 살고 있을까.</p><p>삶터, 일터, 가족형태 모두 다른 친구들을 찾아가 던진 질문 하나.</p><p>˝한국사회에서 페미니스트로 산다는 건 뭘까?˝</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (86,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (52, 86,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(87,1,true,"남매의 여름밤","오누필름","그린나래미디어","https://www.indieground.kr/fileFolder/bcde0c7b-4641-4f9c-baf7-eac0dde569bc_jpg","https://serieson.naver.com/v2/movie/408452?isWebtoonAgreePopUp=true","한국","2019",null,104,1,"<p>방학 동안, 아빠와 함께 할아버지 집에서 지내게 된 남매 옥주와 동주, 그렇게 오래된 2층 양옥집에서의 여름이 시작되고 한동안 못 만났던 고모까지 합세하면서 기억에 남을 온 가족의 이야기가 펼쳐진다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (87,7);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (53, 87,7);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(88,1,true,"웰컴 투 X 월드","한태의","시네마달","https://www.indieground.kr/fileFolder/b5ffc4f0-accc-490a-96ea-ebbb2a817309_jpg","https://play24.yes24.com/Main/Detail/S000008946","한국","2019",null,81,1,"<p>엄마는 왜 아빠가 돌아가신 후에도</p><p>시월드에서 나오지 않는 걸까?</p><p>구로동 집에는 나, 엄마 그리고 친할아버지가 산다.</p><p>12년 전 아빠가 돌아가신 후에도</p><p>엄마는 시아버지를 모시고 산다.</p><p>희생하는 엄마를 보고 자란 나는 결혼이 싫다</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (88,7);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (54, 88,7);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(89,1,true,"가끔 구름","박송열",null,"https://www.indieground.kr/fileFolder/p001.jpg",null,"한국","2018",null,70,2,"<p>영화감독의 꿈을 꾸며 시나리오를 쓰는 명훈. 매번 오디션에서 떨어지는 무명 배우 선희. 둘은 서로의 존재를 위안삼아 연애를 하고 결혼도 다짐한다. 어느 날 명훈의 시나리오는 프로듀서인 선배의 눈에 들어오고 영화제작 기회를 얻는다. 하지만 며칠 후, 선배는 돌연 명훈의 시나리오는 가능성이 없다고 말한다. 실망한 명훈은 자신의 꿈과 현실을 돌아본다. 명훈은 선희에게 취직을 하는게 좋겠다고 말한다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (89,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (55, 89,3);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(90,1,true,"한강에게","박근영","인디스토리","https://www.indieground.kr/fileFolder/p019.jpg","https://play24.yes24.com/Main/Detail/S000005813","한국","2018",null,89,2,"<p>첫 시집을 준비하는 시인 ‘진아’. 오랜 연인 ‘길우’의 뜻밖의 사고 후 매일 비슷한 일상을 보내고 있다. 대학교에서 시 수업을 하고, 친구를 만나며 괜찮은 것 같지만 추억과 일상을 헤매며 써지지 않는 시를 붙잡고 있다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (90,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (56, 90,3);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(91,1,true,"방문","명소희","시네마달","https://www.indieground.kr/fileFolder/p009.jpg","https://purplay.co.kr/off/movie_introduction.php?fvCode=purplayindie&mvId=94","한국","2018",null,81,2,"<p>가을에 막 접어들 무렵에는 꼭 악몽을 꾸었다. 서울에 올라온 지 4년. 춘천을 떠나오면 끝날 것 같았던 악몽은 계속되었다. 이 악몽에서 깨고 싶었다. 그 때 문득, 춘천이 생각났다. 엄마가 생각났다. 참 오랜만에 나는 다시 춘천으로 향했다. 하지만 그곳엔 여전히 4년 전과 똑같은 삶을 사는 엄마가 있었다. 머릿속에 오로지 ‘열심히’ 라는 단어밖에 모르는 엄마. 그런 엄마를 보는 것이 싫으면서도, 나는 계속 그녀의 삶을 지켜보고 다가간다. 아주 긴 시간을 돌아서 나는 ‘엄마와 나는 왜 이렇게 됐을까’ 라는 질문 앞에 선다. 그 질문에 답을 찾아가며 나는 ‘엄마’를 ‘엄마의 엄마’를 그리고 그들 안의 ‘나’를 마주한다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (91,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (57, 91,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(92,1,true,"선화의 근황","김소형","센트럴파크","https://www.indieground.kr/fileFolder/p045.png",null,"한국","2018",null,21,2,"<p>선화는 어렵게 취업한 빵집에서 중학교 동창 진경을 만난다. 진경이가 빵집 내에서 따돌림 당하고 있다는 사실을 알게 된 선화는 갈등에 빠진다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (92,1);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (58, 92,1);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(93,1,true,"그림자들의 섬","부산민주언론시민연합사업단미디토리","시네마달","https://www.indieground.kr/fileFolder/2fa34a9d-7953-4ee0-9b61-f9fbb2c995da_jpg","https://serieson.naver.com/v2/movie/158407?isWebtoonAgreePopUp=true","한국","2014",null,99,3,"<p>“마음을 잃지 않았으면 좋겠어요”</p><p>이 시대의 모든 그림자들을 위한 감동의 드라마</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (93,6);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (59, 93,6);
 INSERT INTO `board` (id, user_id, is_approve, title, producer, distributor, poster_img, view_link, info_country, info_created_year, info_created_date, info_time, info_limit, info_story, info_subtitle) VALUES(94,1,true,"내가 사는 세상","대구경북영화영상협동조합","인디스토리","https://www.indieground.kr/fileFolder/p005.jpg",null,"한국","2018",null,67,2,"<p>퀵서비스를 하고 있는 민규는 디제이가 되는 것이 꿈이다. 민규는 친한 형인 지홍이 운영하는 클럽에서의 첫 공연을 앞두고 있지만, 지홍은 친하다는 이유로 민규를 아는 동생 이상으로 대우해주지 않는다. 민규의 연인인 시은은 이러한 지홍과 그에 대해 아무 말 못하는 민규가 못 마땅하다. 한편 학교 선배가 운영하는 미술학원에서 입시반 강사를 하고 있는 시은 역시 정해진 일보다 더 많은 일을 요구하는 선배로 인해 학원 생활이 점점 힘들어 진다.</p>",false);
-INSERT INTO `board_genre` (board_id, genre_id) VALUES (94,3);
+INSERT INTO `board_genre` (id, board_id, genre_id) VALUES (60, 94,3);
 
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("강길우",2,"https://cdn.topstarnews.net/news/photo/201904/608104_294474_1340.jpg",90);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("강애심",2,null,77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("강유가람",1,"https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcTP43DhUF8pDn2EaQH_sKY9D96gKjruN00u2g&usqp=CAU",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("강진아",2,"https://file.mk.co.kr/mkde/N0/2018/04/20180411_3668694_1523407723.jpeg",90);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("고민시",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201911%2F20191129175928421.jpg",59);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("고민시",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201911%2F20191129175928421.jpg",59);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("고보결",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202010%2F20201015173132304-2945329.jpg",57);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("고형동",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F016A533651B538B329",41);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("공민정",2,"https://t1.daumcdn.net/movie/dd3d2142391e3bb977b383704bda3d2c8588bdf4",80);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("곽민규",2,"http://t1.daumcdn.net/movie/2b106e1d413dde83e79d2472f0b744771a8e9153",94);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("구교환",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",57);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("구교환",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",57);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("구교환",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",58);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("구교환",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",58);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김기천",3,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fa4ac3d137586c308ad2fc9c077456c1014bce70e",44);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김나연",1,"https://t1.daumcdn.net/movie/2f4d3278079e9faa98e773a1ceceeb2da7706083",76);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김뢰하",2,"https://image.cine21.com/resize/cine21/still/2017/1218/11_11_36__5a3723d887f49[X252,310].jpg",81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김명선",2,null,75);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김민석",2,null,67);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김민주",2,null,56);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김민지",1,null,64);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김병석",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F12407A394D01B9361E",46);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김보람",1,"http://t1.daumcdn.net/movie/46d40451db6e3014bf7c96ca8943f9d215c25996",77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김성민",1,"https://lh3.googleusercontent.com/proxy/RJDej22PTNN6TvzEgV9ffd7dyu9IwpNw2mccNeBRuzgCogIeuGsdUVIeJqk4BgRrwEoeuuLZJNqbBjU-Xk10QV-MAvKfZwq-2A",84);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김소영",1,"http://t1.daumcdn.net/cfile/152EFB10AD8AAE175C",83);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김소형",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Ff93f6164230308c4a8da49731bd30d8f11180870",92);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김솔이",2,null,66);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김시은",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fc1b459ea77541349aa699f772bf7d8871f3cb757",94);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김신영",2,null,45);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김아람",1,null,63);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김아람",2,null,63);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김용순",2,null,85);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김자영",2,null,67);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김재만",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F1b2e6e3e3bc68a8697fa82dd7059cb848fe1bb2b",70);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김재식",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5a7ee4c234ea65fc685ae2bea2687178d3f95df9",53);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김정근",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F53fed0042a3440c7e957fe473f8b395c0aff3057",93);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김진숙",2,null,93);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김진희",2,null,83);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김태양",1,null,79);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김하리",2,null,78);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김현",2,null,75);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김형석",3,null,65);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김혜정",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd040bd920a24dc26a6666aa121bc494594803291",54);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("김홍준",1,"https://image.cine21.com/resize/IMGDB/people/2001/0214/medium/144921_spe28[H800-].jpg",82);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("남미정",2,null,77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("노도연",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F231CE74253B0330101",46);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("명소희",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F03493bea510ca4326e5b25d2419e9aa3300180e0",91);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("문혜인",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd6edba3b6513bbd127306c360ac72b6bb069bb91",38);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("문혜인",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd6edba3b6513bbd127306c360ac72b6bb069bb91",80);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("문혜인",2,null,92);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박광진",3,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F14182E10AE00755DD2",81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박근영",1,"https://www.pointn.net/data/photos/201903/5769_6535_3449.jpg",90);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박성일",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fe3b0edfc7feb123d0c62a3d769d868ff664c63c7",70);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박성호",2,"https://img1.daumcdn.net/thumb/S640x360/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1118C534501A89A825",93);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박소담",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202105%2F20210519235734847.jpg",64);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박송열",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fb6e6ea08caf15eb4e0fd7bc881dcc92ef0fa017b",89);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박승준",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F27a13b7926e2eec0a24405c4302ca1b292060a53",87);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박은경",2,null,83);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박재현",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_181%2F1589431790517Qe7y8_JPEG%2Fmovie_430500.jpg",67);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박정언",3,"https://t1.daumcdn.net/movie/56397ca4faf0e3c138e61862b995ad0da470d25c",76);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박종철",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1519204B4E39333529",70);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박지홍",2,null,94);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박해정",1,"http://t1.daumcdn.net/cfile/1341104E50AE2C4324",69);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박현영",2,"https://mblogthumb-phinf.pstatic.net/MjAyMDA4MTlfNDQg/MDAxNTk3ODQ0NzY0Mjg5.5gU3XwIWHNJHbFQQ-vWLy7s6gpnjozlTCNCR8KSMFKAg.iznat-ogLyPBbSUfWE0kfemnRRf5RIS9yIy89WMPOcAg.JPEG.mythvoice/DSC08977.jpg?type=w800",87);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박현지",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F96492dd3b92fd92dd51b29fb7dfa66b184ff0993",38);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박형식",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F3f047a12611c7f5f7ba0a4abf84bfc2659dffced",44);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("박희찬",2,null,93);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("배꽃나래",1,"https://t1.daumcdn.net/thumb/R720x0/?fname=http://t1.daumcdn.net/brunch/service/user/7bME/image/rhQeFjs2eIbSZM92rbzoGnOPko0.jpg",85);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("배문섭",2,null,67);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("변중희",2,null,75);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("변중희",2,"http://t1.daumcdn.net/movie/51de22633c4d011784ee52b0900a58aa611907a7",76);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("변현아",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_149%2F1589428505747L4JzC_JPEG%2Fmovie_314671.jpg",66);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("봉준호",1,"https://image.cine21.com/resize/cine21/person/2019/0612/11_02_44__5d005d448734b[X252,310].jpg",81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("서승현",2,null,66);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("소재웅",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F22281A4E53AD96382AA",38);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("송정우",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1569472F4CEF2B8B40",70);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("신신애",3,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F6b192bc15f91535100cd1accedefcd03aed38919",44);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("신지우",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202104%2F20210418190211843.png",65);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("안치연",2,null,85);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("양흥주",2,"https://cdn.kado.net/news/photo/202006/1026277_456963_2021.jpg",87);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("어라",2,"https://post-phinf.pstatic.net/MjAyMTA1MjhfMjk3/MDAxNjIyMTkwNjc3Mjgy.NXw9TjIwHSfoE72_zzGGu1yvQmXzErPsp1j3l48NOX4g.lzpL0AvkV9tecASidY3Zior5jrn21GySDh4VEpuJyi4g.JPEG/%EB%9F%B0%EC%B9%AD%ED%8F%AC%EC%8A%A4%ED%84%B0003%28%EC%88%98%EC%A0%95%29.jpg?type=w1200",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("오매",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfNzAg/MDAxNjIyMDk1ODI4NDEz.FtHZ6NvjuHY1VT2bHWVn01qpJAhqjlnZbKV6zhNlCJYg.sTVYslSTyx18hxIikqAKRufV1U7XoFwzAgUBregyVXsg.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_04.jpg?type=w1200",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("오선주",1,null,56);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("오지영",2,null,77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("오태경",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F23725C47537D52072E",46);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("오희준",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201310%2F20131007105246369-9974455.jpg",74);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("원향라",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F175cff339d87930ba53ea10cbd34ef5497d26227",89);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("원호섭",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F153A0510AE2CFFC161",45);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("유명희",2,null,91);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("유연수",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F114A5410ADF990BBAE",81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("유재선",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_120%2F15894299281554qOQu_JPEG%2Fmovie_369664.jpg",74);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("윤단비",1,"http://images.khan.co.kr/article/2020/08/17/l_2020081302000560700114021.jpg",87);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("윤일주",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1358CE10AE04506E5E",81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("윤진",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_201%2F1589429746815reLeC_PNG%2Fmovie_362333.png",65);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이경성",2,null,77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이나연",1,"http://siff.kr/wp-content/uploads/2021/09/2010267993.jpg",75);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이대영",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1154D84D4EC07A5017",38);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이명하",2,"https://an2-img.amz.wtchn.net/image/v2/80856945e3bdee400d61e9193e80a357.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPamN3TUN3aWNHRjBhQ0k2SWk5Mk1TOTVabWhxYnpkeGMzSjJkM0ZtYW1ac2IzQTRhU0lzSW5GMVlXeHBkSGtpT2pnd0xDSjNhV1IwYUNJNk5Ea3dmUS43UUxVQTZ0LXk5bmM3SXpiUWFRQUpoYTJOZDBTbTkydEZkTXgwdDhNamcw",79);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이선주",2,null,77);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이성경",2,null,78);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이양희",2,null,74);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이옥섭",1,"https://w.namu.la/s/bfbe0a41454308d249c66461f91cfc04bb23c9b33dc480f4f83fb48a0f6d4b9ca9ac5ab84fd6093d4921965600d61eed29f6b64524012c6728aab51b59721c70eaebf2e288c13e26d9e1b800a3473dd759ed03afe5b17f8ed78d16e2b9f68482",58);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이용훈",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fdf987b5a9fc350f6b9fad374bf5bcd4a45d72ae9",45);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이재웅",2,null,67);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이지수",2,null,64);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이현지",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F68ce8643bf85ce6bf00560f6c10a82e12de4f0a3",73);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("이효은",2,null,69);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("임상효",3,null,81);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("임수형",3,"https://search.pstatic.net/common/?src=http%3A%2F%2Fblogfiles.naver.net%2FMjAyMTA2MTVfOTEg%2FMDAxNjIzNzI1ODAxNjAw.AeKRjDt80UmXXeIRqJSE4EZioMSbVrRMcSarIiqHtoIg.Jep3mOzPB00AIGGxJlO7XoIb6fLmfYrvHG_B-ury5-cg.JPEG.initialenter%2F%25C0%25D3%25BC%25F6%25C7%25FC_11.jpg&type=a340",64);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("임지연",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F1824f266b9a74ba09a501546087f1b1a1567960753106",41);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("임투철",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202110%2F20211024161525382.jpg",59);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("임호준",2,null,92);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("장샘이",2,null,56);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("장승욱",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2F123%2F201903261732256091.png",72);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("전민정",3,null,65);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("정수지",2,null,79);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("정지인",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F2055d7f7b947025a273d56c4a3fdb5b35e18f01a",54);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("정진여",2,null,85);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("조민재",1,"http://siff.kr/wp-content/uploads/2021/09/2010268161.png",75);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("조복례",2,null,85);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("조현철",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F51590caa742bd3f29f483f5c3ab19b9d41176cb7",41);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("조희영",1,"https://lh3.googleusercontent.com/proxy/piNipha_KFBryAMb4ufkZypvYSMzZQzOrglXErNLLQXZViuYve6mAoWwNIzRb_O1jV0Uf6xPPtTb9q8YHTZpYGsmKUdohXYJ_aHyHSPjzuYG",80);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("주예진",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202101%2F20210118134104799.jpg",66);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("짜투리",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfODQg/MDAxNjIyMDk1MDM0Nzcz.WMiJnoX0EgSbjrnozc5FlbMwJldvz4nUvg12fPBYhMgg.G0TavQ2OX61MudNKx2IQtRl7OjLDKU6BxSIzoYLXPbUg.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_02.jpg?type=w1200",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("차경훈",1,null,55);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("차선희",2,null,83);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("차지원",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F42eff0d92d377fe187c7c2e76fde6c72621985522",46);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최미경",2,"https://t1.daumcdn.net/movie/ba8861d2eea6780e219f15d48ae141a7dbad71ce",88);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최용진",2,"https://newsimg.sedaily.com/2020/11/02/1ZA942DQAZ_1.jpg",84);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최정운",2,"https://img1.daumcdn.net/thumb/S1200x630/?fname=https://t1.daumcdn.net/news/202105/12/newsen/20210512084746594rdsq.jpg",87);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최준선",2,null,84);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최준원",2,"https://t1.daumcdn.net/movie/2f475ea99e52bbc082f93f77710ce1e66184152c",84);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("최창환",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5a6f35c73d4e6fcfd4931f2caea2945ae2262095",94);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("추정훈",3,null,64);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("키라",2,"https://post-phinf.pstatic.net/MjAyMTA1MjhfMjc3/MDAxNjIyMTkwNjQwMjcx.pHHhGNBuP7ukEAHLYSc9uXMUfvRkXS5YOIzvvpg6g-Ag.bavm20hwcSvI2PvLxJIKh6bVxZfqWcKlDkG_nw4wXkwg.JPEG/%EB%9F%B0%EC%B9%AD%ED%8F%AC%EC%8A%A4%ED%84%B0001%28%EC%88%98%EC%A0%95%29.jpg?type=w1200",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("하성국",2,"https://an2-img.amz.wtchn.net/image/v2/ba3c9d074c08edcb2931946878c847c3.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKamNtOXdJanAwY25WbExDSm9aV2xuYUhRaU9qSTBNQ3dpY0dGMGFDSTZJaTkyTVM5d1pXOXdiR1V2YldWa2FYVnRMMlV5WXpSa1l6UTFaakJqT1RJNVpESTJNemd5TG1wd1p5SXNJbmRwWkhSb0lqb3lOREI5LjJZNnBvMG9FS2RaX2x6RG10eHpCN1NTMEtLbm5SSUJRR01fR3VSNTM5TWM",79);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("하준호",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2F189%2F201006301450531521.jpg",57);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("하지웅",2,null,78);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("한기윤",2,"http://image.cine21.com/resize/cine21/still/2019/0327/14_53_12__5c9b0fc8b78d6[X230,230].jpg",90);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("한서준",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5c1ba5a2d389fa5799855d3a6a69642a50614b28",45);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("한지민",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fce5a5c9d5fbef8c6e5427212ed85f8839b8e7811",44);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("한태의",1,"https://static.ebs.co.kr/images/public/2020/08/7/18/15/23/37c1133d-0e87-42ce-89d5-d5bb4d2d8f87.jpeg",88);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("한흥만",2,"https://t1.daumcdn.net/movie/8aa52ffaaee59d7c23ad4c8a509bf099948f3c9a",88);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("허수영",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F250b592e0788b5a2768b5c1af6b492cb2ce6f858",78);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("허진호",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fe2fe5a0317524087245e7af756adc82183cf82c55",44);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("황주호",1,null,82);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("흐른",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfNDAg/MDAxNjIyMDk2MTA5Njgy.N0UtxgDMIMkY4SMDjHInRT9H_fOwDJvedTbxJ35hhu8g.w12G5pWb9B2RZQ5g7JIwNGNyFZOxG8kNrfmBeBCo9x4g.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_05.jpg?type=w1200",86);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Allyn Carrell",2,"https://m.media-amazon.com/images/M/MV5BY2MzMjBiMjAtMjcxNC00NjAyLTkwZTYtMDI0OWViNjFlYmIyXkEyXkFqcGdeQXVyMzY0MjYyOQ@@._V1_FMjpg_UX1000_.jpg",43);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Bryan Massey",2,"https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcShjUKkvOM9X-NoHhbMgpf5KmJWwr95THwoYnGWjmsYF2MeiBH6",43);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Josh Schell",2,"https://m.media-amazon.com/images/M/MV5BYTRhNzMzN2YtNzIzNy00MDIyLWI5NzctZjE0M2Y2OWE3NjlhXkEyXkFqcGdeQXVyNjA2NDY3NzA@._V1_UX178_CR0,0,178,264_AL_.jpg",48);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Julianne Nicholson",2,"https://t1.daumcdn.net/cfile/blog/124B1F0B4C63D25B03",60);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Justin Tagg",1,"https://0.academia-photos.com/253205/168293/3756208/s200_justin.tagg.jpg",60);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Laura Jane Turner",2,"https://m.media-amazon.com/images/M/MV5BNWNlYzczNzEtZTg3Ni00MjJmLWEzYWQtMzRlZGIxNDM5YWMzXkEyXkFqcGdeQXVyMjEwNjIxMTY@._V1_UY317_CR12,0,214,317_AL_.jpg",42);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Meredith Younger",2,null,61);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("michael formanski",1,"https://s3-eu-west-1.amazonaws.com/images.castcall.blue-compass.com/portfolio/5944/5944957x300.webp",61);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Mykle McCoslin",2,"https://m.media-amazon.com/images/M/MV5BNmEyNjNhMWYtYThiZS00N2E2LTgzODEtNmFkODZlMDBiMTE5XkEyXkFqcGdeQXVyNzQ1OTQ5NA@@._V1_.jpg",43);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Natalie Balents",2,"https://yt3.ggpht.com/ytc/AKedOLRMjCovvR2PYakCT2E_HhGD3LvF42fF9mAkQEnxSQ=s900-c-k-c0x00ffffff-no-rj",61);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Nick Tag",2,"https://m.media-amazon.com/images/M/MV5BNjMyODgwYzYtZWQ5MC00N2ZjLWE5ZjAtYzQ5NzRlYmE3MjVkXkEyXkFqcGdeQXVyMjQwMDg0Ng@@._V1_UY180_CR70,0,180,180_AL_.jpg",48);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Teagan Rose",2,"https://superset.imgix.net/p8w3hgnxpgpy6fd97dkuwguvfvik?ixlib=rails-4.2.0&w=400&h=400",48);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Tyler Pochop",2,"https://m.media-amazon.com/images/M/MV5BZjU4YjlkZTgtOTZmYS00NDI3LWI3M2ItMGY3ZGM2YTU2ODNlXkEyXkFqcGdeQXVyNTgxNjEwNDM@._V1_UY1200_CR751,0,630,1200_AL_.jpg",48);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("Valeska Miller",2,"https://m.media-amazon.com/images/M/MV5BMjdjMzc4NWEtZDdmMC00NDI4LTk5YWYtZTEwMzI1OTc2ZWVjXkEyXkFqcGdeQXVyMjQwMDg0Ng@@._V1_.jpg",47);
-INSERT INTO `casting` (name, `position`, image, board_id) VALUES ("손정은",1,null,36);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (2, "강길우",2,"https://cdn.topstarnews.net/news/photo/201904/608104_294474_1340.jpg",90);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (3, "강애심",2,null,77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (4, "강유가람",1,"https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcTP43DhUF8pDn2EaQH_sKY9D96gKjruN00u2g&usqp=CAU",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (5, "강진아",2,"https://file.mk.co.kr/mkde/N0/2018/04/20180411_3668694_1523407723.jpeg",90);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (6, "고민시",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201911%2F20191129175928421.jpg",59);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (7, "고민시",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201911%2F20191129175928421.jpg",59);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (8, "고보결",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202010%2F20201015173132304-2945329.jpg",57);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (9, "고형동",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F016A533651B538B329",41);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (10, "공민정",2,"https://t1.daumcdn.net/movie/dd3d2142391e3bb977b383704bda3d2c8588bdf4",80);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (11, "곽민규",2,"http://t1.daumcdn.net/movie/2b106e1d413dde83e79d2472f0b744771a8e9153",94);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (12, "구교환",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",57);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (13, "구교환",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",57);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (14, "구교환",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",58);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (15, "구교환",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202106%2F20210607161645168.jpg",58);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (16, "김기천",3,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fa4ac3d137586c308ad2fc9c077456c1014bce70e",44);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (17, "김나연",1,"https://t1.daumcdn.net/movie/2f4d3278079e9faa98e773a1ceceeb2da7706083",76);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (18, "김뢰하",2,"https://image.cine21.com/resize/cine21/still/2017/1218/11_11_36__5a3723d887f49[X252,310].jpg",81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (19, "김명선",2,null,75);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (20, "김민석",2,null,67);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (21, "김민주",2,null,56);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (22, "김민지",1,null,64);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (23, "김병석",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F12407A394D01B9361E",46);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (24, "김보람",1,"http://t1.daumcdn.net/movie/46d40451db6e3014bf7c96ca8943f9d215c25996",77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (25, "김성민",1,"https://lh3.googleusercontent.com/proxy/RJDej22PTNN6TvzEgV9ffd7dyu9IwpNw2mccNeBRuzgCogIeuGsdUVIeJqk4BgRrwEoeuuLZJNqbBjU-Xk10QV-MAvKfZwq-2A",84);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (26, "김소영",1,"http://t1.daumcdn.net/cfile/152EFB10AD8AAE175C",83);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (27, "김소형",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Ff93f6164230308c4a8da49731bd30d8f11180870",92);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (28, "김솔이",2,null,66);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (29, "김시은",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fc1b459ea77541349aa699f772bf7d8871f3cb757",94);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (30, "김신영",2,null,45);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (31, "김아람",1,null,63);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (32, "김아람",2,null,63);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (33, "김용순",2,null,85);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (34, "김자영",2,null,67);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (35, "김재만",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F1b2e6e3e3bc68a8697fa82dd7059cb848fe1bb2b",70);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (36, "김재식",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5a7ee4c234ea65fc685ae2bea2687178d3f95df9",53);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (37, "김정근",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F53fed0042a3440c7e957fe473f8b395c0aff3057",93);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (38, "김진숙",2,null,93);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (39, "김진희",2,null,83);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (40, "김태양",1,null,79);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (41, "김하리",2,null,78);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (42, "김현",2,null,75);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (43, "김형석",3,null,65);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (44, "김혜정",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd040bd920a24dc26a6666aa121bc494594803291",54);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (45, "김홍준",1,"https://image.cine21.com/resize/IMGDB/people/2001/0214/medium/144921_spe28[H800-].jpg",82);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (46, "남미정",2,null,77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (47, "노도연",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F231CE74253B0330101",46);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (48, "명소희",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F03493bea510ca4326e5b25d2419e9aa3300180e0",91);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (49, "문혜인",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd6edba3b6513bbd127306c360ac72b6bb069bb91",38);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (50, "문혜인",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fd6edba3b6513bbd127306c360ac72b6bb069bb91",80);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (51, "문혜인",2,null,92);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (52, "박광진",3,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F14182E10AE00755DD2",81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (53, "박근영",1,"https://www.pointn.net/data/photos/201903/5769_6535_3449.jpg",90);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (54, "박성일",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fe3b0edfc7feb123d0c62a3d769d868ff664c63c7",70);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (55, "박성호",2,"https://img1.daumcdn.net/thumb/S640x360/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1118C534501A89A825",93);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (56, "박소담",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202105%2F20210519235734847.jpg",64);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (57, "박송열",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fb6e6ea08caf15eb4e0fd7bc881dcc92ef0fa017b",89);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (58, "박승준",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F27a13b7926e2eec0a24405c4302ca1b292060a53",87);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (59, "박은경",2,null,83);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (60, "박재현",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_181%2F1589431790517Qe7y8_JPEG%2Fmovie_430500.jpg",67);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (61, "박정언",3,"https://t1.daumcdn.net/movie/56397ca4faf0e3c138e61862b995ad0da470d25c",76);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (62, "박종철",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1519204B4E39333529",70);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (63, "박지홍",2,null,94);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (64, "박해정",1,"http://t1.daumcdn.net/cfile/1341104E50AE2C4324",69);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (65, "박현영",2,"https://mblogthumb-phinf.pstatic.net/MjAyMDA4MTlfNDQg/MDAxNTk3ODQ0NzY0Mjg5.5gU3XwIWHNJHbFQQ-vWLy7s6gpnjozlTCNCR8KSMFKAg.iznat-ogLyPBbSUfWE0kfemnRRf5RIS9yIy89WMPOcAg.JPEG.mythvoice/DSC08977.jpg?type=w800",87);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (66, "박현지",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F96492dd3b92fd92dd51b29fb7dfa66b184ff0993",38);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (67, "박형식",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F3f047a12611c7f5f7ba0a4abf84bfc2659dffced",44);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (68, "박희찬",2,null,93);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (69, "배꽃나래",1,"https://t1.daumcdn.net/thumb/R720x0/?fname=http://t1.daumcdn.net/brunch/service/user/7bME/image/rhQeFjs2eIbSZM92rbzoGnOPko0.jpg",85);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (70, "배문섭",2,null,67);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (71, "변중희",2,null,75);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (72, "변중희",2,"http://t1.daumcdn.net/movie/51de22633c4d011784ee52b0900a58aa611907a7",76);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (73, "변현아",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_149%2F1589428505747L4JzC_JPEG%2Fmovie_314671.jpg",66);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (74, "봉준호",1,"https://image.cine21.com/resize/cine21/person/2019/0612/11_02_44__5d005d448734b[X252,310].jpg",81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (75, "서승현",2,null,66);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (76, "소재웅",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F22281A4E53AD96382AA",38);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (77, "송정우",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1569472F4CEF2B8B40",70);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (78, "신신애",3,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F6b192bc15f91535100cd1accedefcd03aed38919",44);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (79, "신지우",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202104%2F20210418190211843.png",65);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (80, "안치연",2,null,85);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (81, "양흥주",2,"https://cdn.kado.net/news/photo/202006/1026277_456963_2021.jpg",87);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (82, "어라",2,"https://post-phinf.pstatic.net/MjAyMTA1MjhfMjk3/MDAxNjIyMTkwNjc3Mjgy.NXw9TjIwHSfoE72_zzGGu1yvQmXzErPsp1j3l48NOX4g.lzpL0AvkV9tecASidY3Zior5jrn21GySDh4VEpuJyi4g.JPEG/%EB%9F%B0%EC%B9%AD%ED%8F%AC%EC%8A%A4%ED%84%B0003%28%EC%88%98%EC%A0%95%29.jpg?type=w1200",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (83, "오매",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfNzAg/MDAxNjIyMDk1ODI4NDEz.FtHZ6NvjuHY1VT2bHWVn01qpJAhqjlnZbKV6zhNlCJYg.sTVYslSTyx18hxIikqAKRufV1U7XoFwzAgUBregyVXsg.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_04.jpg?type=w1200",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (84, "오선주",1,null,56);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (85, "오지영",2,null,77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (86, "오태경",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F23725C47537D52072E",46);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (87, "오희준",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F201310%2F20131007105246369-9974455.jpg",74);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (88, "원향라",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F175cff339d87930ba53ea10cbd34ef5497d26227",89);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (89, "원호섭",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F153A0510AE2CFFC161",45);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (90, "유명희",2,null,91);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (91, "유연수",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F114A5410ADF990BBAE",81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (92, "유재선",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_120%2F15894299281554qOQu_JPEG%2Fmovie_369664.jpg",74);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (93, "윤단비",1,"http://images.khan.co.kr/article/2020/08/17/l_2020081302000560700114021.jpg",87);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (94, "윤일주",2,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1358CE10AE04506E5E",81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (95, "윤진",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fpeople.phinf.naver.net%2F20200514_201%2F1589429746815reLeC_PNG%2Fmovie_362333.png",65);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (96, "이경성",2,null,77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (97, "이나연",1,"http://siff.kr/wp-content/uploads/2021/09/2010267993.jpg",75);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (98, "이대영",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fcfile%2F1154D84D4EC07A5017",38);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (99, "이명하",2,"https://an2-img.amz.wtchn.net/image/v2/80856945e3bdee400d61e9193e80a357.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPamN3TUN3aWNHRjBhQ0k2SWk5Mk1TOTVabWhxYnpkeGMzSjJkM0ZtYW1ac2IzQTRhU0lzSW5GMVlXeHBkSGtpT2pnd0xDSjNhV1IwYUNJNk5Ea3dmUS43UUxVQTZ0LXk5bmM3SXpiUWFRQUpoYTJOZDBTbTkydEZkTXgwdDhNamcw",79);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (100, "이선주",2,null,77);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (101, "이성경",2,null,78);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (102, "이양희",2,null,74);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (103, "이옥섭",1,"https://w.namu.la/s/bfbe0a41454308d249c66461f91cfc04bb23c9b33dc480f4f83fb48a0f6d4b9ca9ac5ab84fd6093d4921965600d61eed29f6b64524012c6728aab51b59721c70eaebf2e288c13e26d9e1b800a3473dd759ed03afe5b17f8ed78d16e2b9f68482",58);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (104, "이용훈",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fdf987b5a9fc350f6b9fad374bf5bcd4a45d72ae9",45);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (105, "이재웅",2,null,67);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (106, "이지수",2,null,64);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (107, "이현지",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F68ce8643bf85ce6bf00560f6c10a82e12de4f0a3",73);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (108, "이효은",2,null,69);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (109, "임상효",3,null,81);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (110, "임수형",3,"https://search.pstatic.net/common/?src=http%3A%2F%2Fblogfiles.naver.net%2FMjAyMTA2MTVfOTEg%2FMDAxNjIzNzI1ODAxNjAw.AeKRjDt80UmXXeIRqJSE4EZioMSbVrRMcSarIiqHtoIg.Jep3mOzPB00AIGGxJlO7XoIb6fLmfYrvHG_B-ury5-cg.JPEG.initialenter%2F%25C0%25D3%25BC%25F6%25C7%25FC_11.jpg&type=a340",64);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (111, "임지연",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F1824f266b9a74ba09a501546087f1b1a1567960753106",41);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (112, "임투철",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202110%2F20211024161525382.jpg",59);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (113, "임호준",2,null,92);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (114, "장샘이",2,null,56);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (115, "장승욱",1,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2F123%2F201903261732256091.png",72);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (116, "전민정",3,null,65);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (117, "정수지",2,null,79);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (118, "정지인",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F2055d7f7b947025a273d56c4a3fdb5b35e18f01a",54);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (119, "정진여",2,null,85);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (120, "조민재",1,"http://siff.kr/wp-content/uploads/2021/09/2010268161.png",75);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (121, "조복례",2,null,85);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (122, "조현철",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F51590caa742bd3f29f483f5c3ab19b9d41176cb7",41);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (123, "조희영",1,"https://lh3.googleusercontent.com/proxy/piNipha_KFBryAMb4ufkZypvYSMzZQzOrglXErNLLQXZViuYve6mAoWwNIzRb_O1jV0Uf6xPPtTb9q8YHTZpYGsmKUdohXYJ_aHyHSPjzuYG",80);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (124, "주예진",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2Fportrait%2F202101%2F20210118134104799.jpg",66);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (125, "짜투리",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfODQg/MDAxNjIyMDk1MDM0Nzcz.WMiJnoX0EgSbjrnozc5FlbMwJldvz4nUvg12fPBYhMgg.G0TavQ2OX61MudNKx2IQtRl7OjLDKU6BxSIzoYLXPbUg.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_02.jpg?type=w1200",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (126, "차경훈",1,null,55);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (127, "차선희",2,null,83);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (128, "차지원",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F42eff0d92d377fe187c7c2e76fde6c72621985522",46);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (129, "최미경",2,"https://t1.daumcdn.net/movie/ba8861d2eea6780e219f15d48ae141a7dbad71ce",88);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (130, "최용진",2,"https://newsimg.sedaily.com/2020/11/02/1ZA942DQAZ_1.jpg",84);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (131, "최정운",2,"https://img1.daumcdn.net/thumb/S1200x630/?fname=https://t1.daumcdn.net/news/202105/12/newsen/20210512084746594rdsq.jpg",87);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (132, "최준선",2,null,84);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (133, "최준원",2,"https://t1.daumcdn.net/movie/2f475ea99e52bbc082f93f77710ce1e66184152c",84);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (134, "최창환",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5a6f35c73d4e6fcfd4931f2caea2945ae2262095",94);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (135, "추정훈",3,null,64);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (136, "키라",2,"https://post-phinf.pstatic.net/MjAyMTA1MjhfMjc3/MDAxNjIyMTkwNjQwMjcx.pHHhGNBuP7ukEAHLYSc9uXMUfvRkXS5YOIzvvpg6g-Ag.bavm20hwcSvI2PvLxJIKh6bVxZfqWcKlDkG_nw4wXkwg.JPEG/%EB%9F%B0%EC%B9%AD%ED%8F%AC%EC%8A%A4%ED%84%B0001%28%EC%88%98%EC%A0%95%29.jpg?type=w1200",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (137, "하성국",2,"https://an2-img.amz.wtchn.net/image/v2/ba3c9d074c08edcb2931946878c847c3.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKamNtOXdJanAwY25WbExDSm9aV2xuYUhRaU9qSTBNQ3dpY0dGMGFDSTZJaTkyTVM5d1pXOXdiR1V2YldWa2FYVnRMMlV5WXpSa1l6UTFaakJqT1RJNVpESTJNemd5TG1wd1p5SXNJbmRwWkhSb0lqb3lOREI5LjJZNnBvMG9FS2RaX2x6RG10eHpCN1NTMEtLbm5SSUJRR01fR3VSNTM5TWM",79);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (138, "하준호",2,"https://search.pstatic.net/common?type=b&size=216&expire=1&refresh=true&quality=100&direct=true&src=http%3A%2F%2Fsstatic.naver.net%2Fpeople%2F189%2F201006301450531521.jpg",57);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (139, "하지웅",2,null,78);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (140, "한기윤",2,"http://image.cine21.com/resize/cine21/still/2019/0327/14_53_12__5c9b0fc8b78d6[X230,230].jpg",90);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (141, "한서준",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F5c1ba5a2d389fa5799855d3a6a69642a50614b28",45);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (142, "한지민",2,"https://img1.daumcdn.net/thumb/C408x596/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fce5a5c9d5fbef8c6e5427212ed85f8839b8e7811",44);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (143, "한태의",1,"https://static.ebs.co.kr/images/public/2020/08/7/18/15/23/37c1133d-0e87-42ce-89d5-d5bb4d2d8f87.jpeg",88);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (144, "한흥만",2,"https://t1.daumcdn.net/movie/8aa52ffaaee59d7c23ad4c8a509bf099948f3c9a",88);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (145, "허수영",1,"https://img1.daumcdn.net/thumb/C200x210/?fname=http%3A%2F%2Ft1.daumcdn.net%2Fmovie%2F250b592e0788b5a2768b5c1af6b492cb2ce6f858",78);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (146, "허진호",1,"https://img1.daumcdn.net/thumb/C408x596/?fname=https%3A%2F%2Ft1.daumcdn.net%2Fmovie%2Fe2fe5a0317524087245e7af756adc82183cf82c55",44);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (147, "황주호",1,null,82);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (148, "흐른",2,"https://post-phinf.pstatic.net/MjAyMTA1MjdfNDAg/MDAxNjIyMDk2MTA5Njgy.N0UtxgDMIMkY4SMDjHInRT9H_fOwDJvedTbxJ35hhu8g.w12G5pWb9B2RZQ5g7JIwNGNyFZOxG8kNrfmBeBCo9x4g.JPEG/%EC%9A%B0%EB%A6%AC%EB%8A%94_%EB%A7%A4%EC%9D%BC%EB%A7%A4%EC%9D%BC_%EB%9F%B0%EC%B9%AD_%ED%8F%AC%EC%8A%A4%ED%84%B0_05.jpg?type=w1200",86);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (149, "Allyn Carrell",2,"https://m.media-amazon.com/images/M/MV5BY2MzMjBiMjAtMjcxNC00NjAyLTkwZTYtMDI0OWViNjFlYmIyXkEyXkFqcGdeQXVyMzY0MjYyOQ@@._V1_FMjpg_UX1000_.jpg",43);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (150, "Bryan Massey",2,"https://encrypted-tbn0.gstatic.com/images?q=tbn:ANd9GcShjUKkvOM9X-NoHhbMgpf5KmJWwr95THwoYnGWjmsYF2MeiBH6",43);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (151, "Josh Schell",2,"https://m.media-amazon.com/images/M/MV5BYTRhNzMzN2YtNzIzNy00MDIyLWI5NzctZjE0M2Y2OWE3NjlhXkEyXkFqcGdeQXVyNjA2NDY3NzA@._V1_UX178_CR0,0,178,264_AL_.jpg",48);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (152, "Julianne Nicholson",2,"https://t1.daumcdn.net/cfile/blog/124B1F0B4C63D25B03",60);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (153, "Justin Tagg",1,"https://0.academia-photos.com/253205/168293/3756208/s200_justin.tagg.jpg",60);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (154, "Laura Jane Turner",2,"https://m.media-amazon.com/images/M/MV5BNWNlYzczNzEtZTg3Ni00MjJmLWEzYWQtMzRlZGIxNDM5YWMzXkEyXkFqcGdeQXVyMjEwNjIxMTY@._V1_UY317_CR12,0,214,317_AL_.jpg",42);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (155, "Meredith Younger",2,null,61);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (156, "michael formanski",1,"https://s3-eu-west-1.amazonaws.com/images.castcall.blue-compass.com/portfolio/5944/5944957x300.webp",61);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (157, "Mykle McCoslin",2,"https://m.media-amazon.com/images/M/MV5BNmEyNjNhMWYtYThiZS00N2E2LTgzODEtNmFkODZlMDBiMTE5XkEyXkFqcGdeQXVyNzQ1OTQ5NA@@._V1_.jpg",43);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (158, "Natalie Balents",2,"https://yt3.ggpht.com/ytc/AKedOLRMjCovvR2PYakCT2E_HhGD3LvF42fF9mAkQEnxSQ=s900-c-k-c0x00ffffff-no-rj",61);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (159, "Nick Tag",2,"https://m.media-amazon.com/images/M/MV5BNjMyODgwYzYtZWQ5MC00N2ZjLWE5ZjAtYzQ5NzRlYmE3MjVkXkEyXkFqcGdeQXVyMjQwMDg0Ng@@._V1_UY180_CR70,0,180,180_AL_.jpg",48);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (160, "Teagan Rose",2,"https://superset.imgix.net/p8w3hgnxpgpy6fd97dkuwguvfvik?ixlib=rails-4.2.0&w=400&h=400",48);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (161, "Tyler Pochop",2,"https://m.media-amazon.com/images/M/MV5BZjU4YjlkZTgtOTZmYS00NDI3LWI3M2ItMGY3ZGM2YTU2ODNlXkEyXkFqcGdeQXVyNTgxNjEwNDM@._V1_UY1200_CR751,0,630,1200_AL_.jpg",48);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (162, "Valeska Miller",2,"https://m.media-amazon.com/images/M/MV5BMjdjMzc4NWEtZDdmMC00NDI4LTk5YWYtZTEwMzI1OTc2ZWVjXkEyXkFqcGdeQXVyMjQwMDg0Ng@@._V1_.jpg",47);
+INSERT INTO `casting` (id, name, `position`, image, board_id) VALUES (163, "손정은",1,null,36);
 
-INSERT INTO `still` (image, board_id) VALUES ("https://mblogthumb-phinf.pstatic.net/MjAxNzAyMTdfMTk2/MDAxNDg3MzAzOTIxNTA0.rJY-4dGy7JcMJzM4yYWIr9AOPnHRfjdEwNGFsrl6ySMg.2zwvdnWUg60ONdTVMMoao08EWu9WfFPTt9pJlG1kcRQg.JPEG.zzzzpig/13.jpg?type=w2", 41);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/2179564B51B537DA2B", 41);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/daumtop_chanel/op/20180629021751634", 41);
-INSERT INTO `still` (image, board_id) VALUES ("https://cdn.indiepost.co.kr/uploads/images/2018/01/03/lVMb3s-700x338.png", 40);
-INSERT INTO `still` (image, board_id) VALUES ("https://pbs.twimg.com/media/Etw5MeOUcAM--JD.jpg", 38);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/0a49cfb72abb101193cb659840c8281f4e51e221", 38);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/5f4da858ee6441a883443fbac75386c71561867715680", 36);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/cd5363a80fcf45dd9e5c734c68b358ad1561867715936", 36);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/42c97f27f8d648ccacb62eb4f78d5dfb1561867715397", 36);
-INSERT INTO `still` (image, board_id) VALUES ("https://1.bp.blogspot.com/-eDzOYodz_6U/XRl4JFjHFaI/AAAAAAAAMRc/aori6jRFpR4zS07F68vk-u3VFmt2P6mTACEwYBhgL/s1600/maxresdefault.jpg", 42);
-INSERT INTO `still` (image, board_id) VALUES ("https://a.ltrbxd.com/resized/film-poster/3/2/5/8/4/1/325841-curve-0-230-0-345-crop.jpg?k=2d182ffd72", 42);
-INSERT INTO `still` (image, board_id) VALUES ("https://blog.kakaocdn.net/dn/coUFuj/btqFNEXGeJv/GAHsEXaBVtLeucwIEkwg01/img.jpg", 42);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/237F5C365277D8E714", 57);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/247F5C365277D8E715", 57);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/movie/ca09311e7e5754ca7c7a5f71f59c098dae6bd7a0", 57);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/9e7b66bffbdaf01633077b5e9dc130cf3e3f9c1d", 58);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/afd0d9f773df79088ea0073231d4397324811640", 58);
-INSERT INTO `still` (image, board_id) VALUES ("http://artinsight.co.kr/data/tmp/1801/8a7aa7b2cc1c8658726cc7a2df93418f_FMkBxLYDEivaijzTy.jpg", 44);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/6d70f5e4b71d41a90b9b86ffd1f601f529a14321", 44);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/6ee43d0989001272ecd40d8a6c5a7917aa673a88", 44);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/5ea7fd3864a8afca00d6d2fee52dfc870410cc16", 44);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/4e114664e66c826ff1769aa6b3dbdc5d5033813a", 44);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/fe3305fa7ddb36e7e079ece9c0f52a9a447129c1", 44);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/movie/e6fa1385f25c163ed7f9344a2a1cfe7817500b62", 76);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/movie/2d6891d0ad76131f5c653dd97cb53a4df1c89ebd", 76);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/movie/0688b327f25f4a54b4f89f7a83d5c014919206c4", 76);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/728826b3e31a1601973b051a5f3c8cf92c40c47c", 45);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/9633fa4d807d40ac93fb7e19aeaf62a88f42069c", 45);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/movie/5deeb878c08c048e989f224b0679ff373a2f6199", 77);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/ec609157-9205-42a6-823d-152313513110_jpg", 77);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/daumtop_chanel/op/20180518101818606", 46);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/b6b478f3e9a1a1635949a87e9b63a68af63d49ab", 46);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e5c993b7-f4f3-4589-b06d-cfb37f48713a_jpg", 77);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/d77c6a6c-9513-4151-9355-0c4e566ac5d2_jpg", 77);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/c86e5970-367b-4359-84aa-4775f4e3f78a_jpg", 78);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/d9b565b0-468b-4216-8821-877f7c817d00_jpg", 78);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/64116239-4e38-4813-9468-8b1b45a3cc2e_jpg", 78);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/38252893-65fc-4a97-89b3-b0a5e6d4de09_jpg", 78);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/13098bc1-1628-42c1-99e8-dc60460db919_jpg", 79);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/0051a0a4-af36-4387-aa94-d39127e180ed_jpg", 79);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/8ea4d02e-548c-4ced-8bad-6f4ced3a861e_jpg", 79);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/aa5393b2-7873-4d60-93c9-a1f0fd30f63e_jpg", 79);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/a8ba5693-ce81-404b-9c6c-03fc0d747ecb_jpg", 79);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/4f770850-1ce0-4067-abf6-2388e3da9471_jpg", 80);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/5a5a16f0-a880-4ce1-8ae5-4051ca42b9a7_jpg", 80);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/8fec16bc-7a3b-46cf-8279-1fd0bdab9273_jpg", 80);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/a9b433aa-f317-46af-8aaf-ca0f0d7eff83_jpg", 80);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/df1b795a-cda4-4a7f-b27a-8bda1811933f_jpg", 80);
-INSERT INTO `still` (image, board_id) VALUES ("https://images.squarespace-cdn.com/content/v1/5f0ab9423a28cd44b42c8b4c/1618279148814-B4USBSKIK8UOEJAQ2D4A/Screen+Shot+2021-04-12+at+6.58.36+PM.png", 47);
-INSERT INTO `still` (image, board_id) VALUES ("https://itsybitsyfilms.com/wp-content/uploads/2021/06/the-ballerina-2021.jpg", 47);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.vimeocdn.com/video/888697959-4bb67fd9380fb6ad3911ce110db6ffa4607b691acab2ef82614e48fc5e362f30-d?mw=1100&mh=619&q=70", 48);
-INSERT INTO `still` (image, board_id) VALUES ("https://horrornews.net/wp-content/uploads/2020/12/Other-Side-of-the-Box-A-Horror-Short-from-Caleb-J.-Phillips-5.jpg", 48);
-INSERT INTO `still` (image, board_id) VALUES ("https://images.mubicdn.net/images/film/229394/cache-413501-1550508900/image-w1280.jpg", 48);
-INSERT INTO `still` (image, board_id) VALUES ("https://mblogthumb-phinf.pstatic.net/MjAyMDA5MjFfMTMg/MDAxNjAwNjg4NDU0OTQx.VlaaFIr4yiKmNiygh8YyqN1L-Y2kLlU88D58WB9O0AAg.gPsvwUhhlnuR2N6A38wp6xQWj3HPklcr7fHj7Ew-nHIg.JPEG.jjjysy34/SE-7110d6c2-bea2-41f6-81f9-a32fba29d70c.jpg?type=w800", 48);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/4f2d6995-c647-4839-81e2-7eb7fbeba4fd_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/42ebe9a7-7854-4b29-b31b-aef9001bf44d_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/3fe8a3b9-256b-486b-a248-00bc64c55540_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/a95f123b-191a-48f8-b5e2-48aefb5f055a_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/9522838d-0246-447f-9b17-e91dfb2a4dba_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/542ef4e6-46ba-4e7d-a996-9aa5edc121f2_jpg", 81);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/44faed4d26e7496180eedfb1936c09121573584199590", 82);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/d9c99e5565e941e3afff9a48dc03470e1573585103306", 83);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/7a6526614592410ba95f131bc4e422641565528868854", 83);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/36b5119713c1487ab787514204219ee31565528868634", 83);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/d264557a38ea46eaa800b40671a8b5ea1565528868379", 83);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/afb96e0ada244ccb94b5765a8fc0330e1565528868131", 83);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/c1221cb506b8486ebf5e57083b118a211565528867728", 83);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/77cfe5a1-0b53-4623-ba4e-6e2492bc4173_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e9133e15-276e-4892-a58d-3ce5d2d5b675_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e2c51862-baa1-4b95-8dfe-cb9cfe012589_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/892b3fe9-48ca-4154-91e2-7bac876eef36_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/3996c19b-9f11-44bc-b446-4e52a4435309_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e8993f05-2976-42b9-bca6-1147c6da3cbc_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/561c9d5c-6ef8-43cf-9580-8b12ec723a76_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e5beb2c9-3332-4f07-a5ee-d7b6ef87c400_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/84da8024-3695-45ed-9165-68e164e0d388_jpg", 84);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/1d620e5f-cd1c-4558-b054-5418832d8304_jpg", 85);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/5d708f36-7481-424b-b33b-d8d14be7baf8_jpg", 85);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/51bea985-fc53-4f9f-a98c-454007feb36d_jpg", 85);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/38ca7a1e-27d3-48aa-81ed-e281c78b85ce_jpg", 85);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/25eeaf64-f28f-4187-b4e2-6437bde89693_jpg", 85);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/2fb06bbc-a20e-49e6-8f6f-e99077eba6a1_png", 86);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/c5f5f716-2ce9-4f7c-b3bc-640806e5af32_png", 86);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e67b05bd-0555-4cf3-9255-f4512f75bd6a_png", 86);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/3001fc5b-7460-4cd6-92d7-9be40c8117d9_png", 86);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/95f4c267-c16b-4753-93df-27e6a0dc57f3_png", 86);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/6479e8f7-6796-4d27-8658-ee7638282394_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/2a5c5f51-9cd9-455e-ae17-97e64ad11738_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/f81f0f27-4ae9-47f4-8d88-07af53db7acc_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/b56a2666-e7e4-4246-aecd-5b06efa0f65e_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/394b0f91-8658-4bbd-beaf-7ced9eaa9094_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/01b302e8-7316-495a-8952-84541b363f61_jpg", 63);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/78qw9yZ4woE/maxresdefault.jpg", 50);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/78qw9yZ4woE/maxresdefault.jpg", 50);
-INSERT INTO `still` (image, board_id) VALUES ("https://user-images.githubusercontent.com/45745049/141710223-b1a2723d-416e-47bc-8171-b002f8335421.png", 51);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/1ee86043f006ee203dd45f4d218739927ad6424b", 64);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/c6561819476720c33f709e9dab6b97d32ee1be3d", 64);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/2cd6077b3c853a2456986e5d21b2397bda317421", 64);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/NXPsKHqkuEM/maxresdefault.jpg", 52);
-INSERT INTO `still` (image, board_id) VALUES ("https://cdn.indiepost.co.kr/uploads/images/2018/01/17/zicgSt-700x340.png", 52);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/57ee461e-81d0-4bf3-b4cd-d8966c05d519_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/cdc0e9b3-2e2b-4f05-a076-0cdedd139cb8_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/556a2f81-695c-4d86-ac53-78abe445fda3_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/fe4afa0e-ff27-4b57-b660-12b6f13fd9b2_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/ab1f123e-577c-4487-b502-56dfbe9fea0b_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/4611887e-ef17-45fd-9850-3095ca70d30f_jpg", 87);
-INSERT INTO `still` (image, board_id) VALUES ("https://nujhrcqkiwag1408085.cdn.ntruss.com/static/upload/movie_poster_images/movie_84191_1597020971.png", 65);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/ab50f86b38118ca9c38f514502ed56cd9bc9a0b5", 53);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/fdcceac2447bb453241d60affad1ebf16a39dbba", 53);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/1418A2345049F70319", 66);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/1718A2345049F7071B", 66);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/1818A2345049F70A1C", 66);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/1318A2345049F7041A", 66);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/5cf324f04fe43e76a99d7ea3a8e3bac75ee6549b", 54);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/91b824cbacc1d486130cbaa8749454f2b256fdea", 54);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/9e7a1fab0b352cc336aa1553b57f8f4750c1ba77", 54);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/e9cbf9937661455198eef8f1745554951541473857691", 54);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/ae07bbe473e3444abe14c36bebe7dc4c1541473857341", 54);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/f9360ed32be545fa9593da54d669837b1560349740054", 67);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/b2be1c2e8a744756abf9292dc59443d81560349739174", 67);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/f6e7fc1ef3cf431c8160915f8cc65c841560349738869", 67);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/32a856191f964981a1903ecb39b98c701560349738372", 67);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/mB0FiOY1S3Q/hqdefault.jpg", 68);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/cafeattach/1IHuH/a7be0bc97ab2f2e7ef600ea1fb94e4c932f5d9f9", 68);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/cafeattach/1IHuH/42f39747a81d9b276595fdda74493ad0e273811a", 68);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/af88b954-120e-48e9-807e-afd4aa16e268_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/b548d09e-c6c4-4b93-8a1e-56777f8c46f7_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/ef5db5bc-ea0e-4018-b4d6-190410df9047_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/92f5e044-ecf7-451b-a4ac-f41d4fa0e44f_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/dd85ff22-677b-4ae3-ac35-42bf4b761033_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/0a7aaa8f-548a-4d7a-95ad-30d72f37e55e_jpg", 88);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_01.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_02.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_03.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_04.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_05.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_06.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s001_07.jpg", 89);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/1864A23B50AB740F12", 69);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/20093D2E4C9070F014", 70);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/143694484E3933541B", 70);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/193694484E3933501A", 70);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/cfile/202C6D3C4DB7CC6D0C", 70);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/6a2c5a98-75e5-4beb-89b8-5cd817db3d46_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/0d08b80d-19fd-4f7d-9a04-9736e0960433_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/af5860cd-00ee-4bad-bf0a-679a415ce3bf_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/f69c716f-1b0f-47d1-ac3f-6d577414f40e_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/a10d8bbe-9cfa-45ee-b61e-83e79ad52b0f_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/c29e2902-a0d0-4490-9f8c-38534c58bb2c_jpg", 90);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/4164cd4f-1dd5-4212-a2c1-0b979a44722f_jpg", 91);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/1cdde80b-b7d8-4f11-9330-a646586a0b69_jpg", 91);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/deb016fc-3526-47e2-92d2-a760e2eb2316_jpg", 91);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e4dd9f91-8b70-48a1-8eda-16c271629d81_jpg", 91);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/daumtop_chanel/op/20180116055326791", 71);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/daumtop_chanel/op/20180116055438539", 71);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/0e10d886-3d17-445d-ab89-ce32d808d207_jpg", 92);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/1b89cb97-ff21-4273-bc1b-5e037fca13fa_jpg", 92);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/e16379bc-9829-47ea-ac39-a073dcb50885_jpg", 92);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/f4697514-6fdb-49d4-961f-c1e362e5f925_jpg", 72);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/233fb2ac-3033-4ce2-b704-58b3dedc59ed_jpg", 72);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/782f9ba5-1cb5-4cab-ab49-06d3b58976f4_jpg", 72);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/60e52125-3fc6-4709-be46-db9e1a41d590_jpg", 72);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/619c3f0a-8add-4ccc-96ce-4e60aaaba4f6_jpg", 72);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/14fca7588cccd6a904435340f5dde6a215cf4cd5", 73);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/50fda2a57194b1868a3626c5dfe53e62717e81d8", 73);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/13fddb52a4fb2cf23f327b448a62b1ad4a40c31e", 73);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/4196aefb-18fb-4bbb-a296-2939efd16381_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/8bee12aa-5950-4737-8954-532039d8e189_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/61fad9c2-89ba-4902-b5f5-e6d4dfb9e68f_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/68fcbded-7cc8-4e18-82e4-2a8f5bc9432f_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/65f8e3ea-b5a7-42ac-a8c9-7f2652a133c4_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/movieImgFolder/dae50ad0-9ba7-4eec-90c8-6aa4af4cec3c_jpg", 93);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/95087005e24c50c82a8b3621926929263f36fc1c", 74);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/84cbe0e0ee544872a9a38b771f476891c2f848ee", 74);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/148c6c170e52aa323671c14536a94d35453946a4", 74);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/8eb68ab6f006b25f7e3d6f8b4903573291d78835", 74);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_01.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_02.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_03.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_04.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_05.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_06.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_07.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_08.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_09.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_10.jpg", 94);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.indieground.kr/fileFolder/s005_11.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (7, "https://mblogthumb-phinf.pstatic.net/MjAxNzAyMTdfMTk2/MDAxNDg3MzAzOTIxNTA0.rJY-4dGy7JcMJzM4yYWIr9AOPnHRfjdEwNGFsrl6ySMg.2zwvdnWUg60ONdTVMMoao08EWu9WfFPTt9pJlG1kcRQg.JPEG.zzzzpig/13.jpg?type=w2", 41);
+INSERT INTO `still` (id, image, board_id) VALUES (8, "http://t1.daumcdn.net/cfile/2179564B51B537DA2B", 41);
+INSERT INTO `still` (id, image, board_id) VALUES (9, "https://t1.daumcdn.net/daumtop_chanel/op/20180629021751634", 41);
+INSERT INTO `still` (id, image, board_id) VALUES (10, "https://cdn.indiepost.co.kr/uploads/images/2018/01/03/lVMb3s-700x338.png", 40);
+INSERT INTO `still` (id, image, board_id) VALUES (11, "https://pbs.twimg.com/media/Etw5MeOUcAM--JD.jpg", 38);
+INSERT INTO `still` (id, image, board_id) VALUES (12, "http://t1.daumcdn.net/movie/0a49cfb72abb101193cb659840c8281f4e51e221", 38);
+INSERT INTO `still` (id, image, board_id) VALUES (13, "http://t1.daumcdn.net/movie/5f4da858ee6441a883443fbac75386c71561867715680", 36);
+INSERT INTO `still` (id, image, board_id) VALUES (14, "http://t1.daumcdn.net/movie/cd5363a80fcf45dd9e5c734c68b358ad1561867715936", 36);
+INSERT INTO `still` (id, image, board_id) VALUES (15, "http://t1.daumcdn.net/movie/42c97f27f8d648ccacb62eb4f78d5dfb1561867715397", 36);
+INSERT INTO `still` (id, image, board_id) VALUES (16, "https://1.bp.blogspot.com/-eDzOYodz_6U/XRl4JFjHFaI/AAAAAAAAMRc/aori6jRFpR4zS07F68vk-u3VFmt2P6mTACEwYBhgL/s1600/maxresdefault.jpg", 42);
+INSERT INTO `still` (id, image, board_id) VALUES (17, "https://a.ltrbxd.com/resized/film-poster/3/2/5/8/4/1/325841-curve-0-230-0-345-crop.jpg?k=2d182ffd72", 42);
+INSERT INTO `still` (id, image, board_id) VALUES (18, "https://blog.kakaocdn.net/dn/coUFuj/btqFNEXGeJv/GAHsEXaBVtLeucwIEkwg01/img.jpg", 42);
+INSERT INTO `still` (id, image, board_id) VALUES (19, "http://t1.daumcdn.net/cfile/237F5C365277D8E714", 57);
+INSERT INTO `still` (id, image, board_id) VALUES (20, "http://t1.daumcdn.net/cfile/247F5C365277D8E715", 57);
+INSERT INTO `still` (id, image, board_id) VALUES (21, "https://t1.daumcdn.net/movie/ca09311e7e5754ca7c7a5f71f59c098dae6bd7a0", 57);
+INSERT INTO `still` (id, image, board_id) VALUES (22, "http://t1.daumcdn.net/movie/9e7b66bffbdaf01633077b5e9dc130cf3e3f9c1d", 58);
+INSERT INTO `still` (id, image, board_id) VALUES (23, "http://t1.daumcdn.net/movie/afd0d9f773df79088ea0073231d4397324811640", 58);
+INSERT INTO `still` (id, image, board_id) VALUES (24, "http://artinsight.co.kr/data/tmp/1801/8a7aa7b2cc1c8658726cc7a2df93418f_FMkBxLYDEivaijzTy.jpg", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (25, "http://t1.daumcdn.net/movie/6d70f5e4b71d41a90b9b86ffd1f601f529a14321", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (26, "http://t1.daumcdn.net/movie/6ee43d0989001272ecd40d8a6c5a7917aa673a88", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (27, "http://t1.daumcdn.net/movie/5ea7fd3864a8afca00d6d2fee52dfc870410cc16", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (28, "http://t1.daumcdn.net/movie/4e114664e66c826ff1769aa6b3dbdc5d5033813a", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (29, "http://t1.daumcdn.net/movie/fe3305fa7ddb36e7e079ece9c0f52a9a447129c1", 44);
+INSERT INTO `still` (id, image, board_id) VALUES (30, "https://t1.daumcdn.net/movie/e6fa1385f25c163ed7f9344a2a1cfe7817500b62", 76);
+INSERT INTO `still` (id, image, board_id) VALUES (31, "https://t1.daumcdn.net/movie/2d6891d0ad76131f5c653dd97cb53a4df1c89ebd", 76);
+INSERT INTO `still` (id, image, board_id) VALUES (32, "https://t1.daumcdn.net/movie/0688b327f25f4a54b4f89f7a83d5c014919206c4", 76);
+INSERT INTO `still` (id, image, board_id) VALUES (33, "http://t1.daumcdn.net/movie/728826b3e31a1601973b051a5f3c8cf92c40c47c", 45);
+INSERT INTO `still` (id, image, board_id) VALUES (34, "http://t1.daumcdn.net/movie/9633fa4d807d40ac93fb7e19aeaf62a88f42069c", 45);
+INSERT INTO `still` (id, image, board_id) VALUES (35, "https://t1.daumcdn.net/movie/5deeb878c08c048e989f224b0679ff373a2f6199", 77);
+INSERT INTO `still` (id, image, board_id) VALUES (36, "https://www.indieground.kr/movieImgFolder/ec609157-9205-42a6-823d-152313513110_jpg", 77);
+INSERT INTO `still` (id, image, board_id) VALUES (37, "https://t1.daumcdn.net/daumtop_chanel/op/20180518101818606", 46);
+INSERT INTO `still` (id, image, board_id) VALUES (38, "http://t1.daumcdn.net/movie/b6b478f3e9a1a1635949a87e9b63a68af63d49ab", 46);
+INSERT INTO `still` (id, image, board_id) VALUES (39, "https://www.indieground.kr/movieImgFolder/e5c993b7-f4f3-4589-b06d-cfb37f48713a_jpg", 77);
+INSERT INTO `still` (id, image, board_id) VALUES (40, "https://www.indieground.kr/movieImgFolder/d77c6a6c-9513-4151-9355-0c4e566ac5d2_jpg", 77);
+INSERT INTO `still` (id, image, board_id) VALUES (41, "https://www.indieground.kr/movieImgFolder/c86e5970-367b-4359-84aa-4775f4e3f78a_jpg", 78);
+INSERT INTO `still` (id, image, board_id) VALUES (42, "https://www.indieground.kr/movieImgFolder/d9b565b0-468b-4216-8821-877f7c817d00_jpg", 78);
+INSERT INTO `still` (id, image, board_id) VALUES (43, "https://www.indieground.kr/movieImgFolder/64116239-4e38-4813-9468-8b1b45a3cc2e_jpg", 78);
+INSERT INTO `still` (id, image, board_id) VALUES (44, "https://www.indieground.kr/movieImgFolder/38252893-65fc-4a97-89b3-b0a5e6d4de09_jpg", 78);
+INSERT INTO `still` (id, image, board_id) VALUES (45, "https://www.indieground.kr/movieImgFolder/13098bc1-1628-42c1-99e8-dc60460db919_jpg", 79);
+INSERT INTO `still` (id, image, board_id) VALUES (46, "https://www.indieground.kr/movieImgFolder/0051a0a4-af36-4387-aa94-d39127e180ed_jpg", 79);
+INSERT INTO `still` (id, image, board_id) VALUES (47, "https://www.indieground.kr/movieImgFolder/8ea4d02e-548c-4ced-8bad-6f4ced3a861e_jpg", 79);
+INSERT INTO `still` (id, image, board_id) VALUES (48, "https://www.indieground.kr/movieImgFolder/aa5393b2-7873-4d60-93c9-a1f0fd30f63e_jpg", 79);
+INSERT INTO `still` (id, image, board_id) VALUES (49, "https://www.indieground.kr/movieImgFolder/a8ba5693-ce81-404b-9c6c-03fc0d747ecb_jpg", 79);
+INSERT INTO `still` (id, image, board_id) VALUES (50, "https://www.indieground.kr/movieImgFolder/4f770850-1ce0-4067-abf6-2388e3da9471_jpg", 80);
+INSERT INTO `still` (id, image, board_id) VALUES (51, "https://www.indieground.kr/movieImgFolder/5a5a16f0-a880-4ce1-8ae5-4051ca42b9a7_jpg", 80);
+INSERT INTO `still` (id, image, board_id) VALUES (52, "https://www.indieground.kr/movieImgFolder/8fec16bc-7a3b-46cf-8279-1fd0bdab9273_jpg", 80);
+INSERT INTO `still` (id, image, board_id) VALUES (53, "https://www.indieground.kr/movieImgFolder/a9b433aa-f317-46af-8aaf-ca0f0d7eff83_jpg", 80);
+INSERT INTO `still` (id, image, board_id) VALUES (54, "https://www.indieground.kr/movieImgFolder/df1b795a-cda4-4a7f-b27a-8bda1811933f_jpg", 80);
+INSERT INTO `still` (id, image, board_id) VALUES (55, "https://images.squarespace-cdn.com/content/v1/5f0ab9423a28cd44b42c8b4c/1618279148814-B4USBSKIK8UOEJAQ2D4A/Screen+Shot+2021-04-12+at+6.58.36+PM.png", 47);
+INSERT INTO `still` (id, image, board_id) VALUES (56, "https://itsybitsyfilms.com/wp-content/uploads/2021/06/the-ballerina-2021.jpg", 47);
+INSERT INTO `still` (id, image, board_id) VALUES (57, "https://i.vimeocdn.com/video/888697959-4bb67fd9380fb6ad3911ce110db6ffa4607b691acab2ef82614e48fc5e362f30-d?mw=1100&mh=619&q=70", 48);
+INSERT INTO `still` (id, image, board_id) VALUES (58, "https://horrornews.net/wp-content/uploads/2020/12/Other-Side-of-the-Box-A-Horror-Short-from-Caleb-J.-Phillips-5.jpg", 48);
+INSERT INTO `still` (id, image, board_id) VALUES (59, "https://images.mubicdn.net/images/film/229394/cache-413501-1550508900/image-w1280.jpg", 48);
+INSERT INTO `still` (id, image, board_id) VALUES (60, "https://mblogthumb-phinf.pstatic.net/MjAyMDA5MjFfMTMg/MDAxNjAwNjg4NDU0OTQx.VlaaFIr4yiKmNiygh8YyqN1L-Y2kLlU88D58WB9O0AAg.gPsvwUhhlnuR2N6A38wp6xQWj3HPklcr7fHj7Ew-nHIg.JPEG.jjjysy34/SE-7110d6c2-bea2-41f6-81f9-a32fba29d70c.jpg?type=w800", 48);
+INSERT INTO `still` (id, image, board_id) VALUES (61, "https://www.indieground.kr/movieImgFolder/4f2d6995-c647-4839-81e2-7eb7fbeba4fd_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (62, "https://www.indieground.kr/movieImgFolder/42ebe9a7-7854-4b29-b31b-aef9001bf44d_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (63, "https://www.indieground.kr/movieImgFolder/3fe8a3b9-256b-486b-a248-00bc64c55540_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (64, "https://www.indieground.kr/movieImgFolder/a95f123b-191a-48f8-b5e2-48aefb5f055a_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (65, "https://www.indieground.kr/movieImgFolder/9522838d-0246-447f-9b17-e91dfb2a4dba_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (66, "https://www.indieground.kr/movieImgFolder/542ef4e6-46ba-4e7d-a996-9aa5edc121f2_jpg", 81);
+INSERT INTO `still` (id, image, board_id) VALUES (67, "http://t1.daumcdn.net/movie/44faed4d26e7496180eedfb1936c09121573584199590", 82);
+INSERT INTO `still` (id, image, board_id) VALUES (68, "http://t1.daumcdn.net/movie/d9c99e5565e941e3afff9a48dc03470e1573585103306", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (69, "http://t1.daumcdn.net/movie/7a6526614592410ba95f131bc4e422641565528868854", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (70, "http://t1.daumcdn.net/movie/36b5119713c1487ab787514204219ee31565528868634", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (71, "http://t1.daumcdn.net/movie/d264557a38ea46eaa800b40671a8b5ea1565528868379", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (72, "http://t1.daumcdn.net/movie/afb96e0ada244ccb94b5765a8fc0330e1565528868131", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (73, "http://t1.daumcdn.net/movie/c1221cb506b8486ebf5e57083b118a211565528867728", 83);
+INSERT INTO `still` (id, image, board_id) VALUES (74, "https://www.indieground.kr/movieImgFolder/77cfe5a1-0b53-4623-ba4e-6e2492bc4173_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (75, "https://www.indieground.kr/movieImgFolder/e9133e15-276e-4892-a58d-3ce5d2d5b675_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (76, "https://www.indieground.kr/movieImgFolder/e2c51862-baa1-4b95-8dfe-cb9cfe012589_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (77, "https://www.indieground.kr/movieImgFolder/892b3fe9-48ca-4154-91e2-7bac876eef36_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (78, "https://www.indieground.kr/movieImgFolder/3996c19b-9f11-44bc-b446-4e52a4435309_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (79, "https://www.indieground.kr/movieImgFolder/e8993f05-2976-42b9-bca6-1147c6da3cbc_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (80, "https://www.indieground.kr/movieImgFolder/561c9d5c-6ef8-43cf-9580-8b12ec723a76_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (81, "https://www.indieground.kr/movieImgFolder/e5beb2c9-3332-4f07-a5ee-d7b6ef87c400_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (82, "https://www.indieground.kr/movieImgFolder/84da8024-3695-45ed-9165-68e164e0d388_jpg", 84);
+INSERT INTO `still` (id, image, board_id) VALUES (83, "https://www.indieground.kr/movieImgFolder/1d620e5f-cd1c-4558-b054-5418832d8304_jpg", 85);
+INSERT INTO `still` (id, image, board_id) VALUES (84, "https://www.indieground.kr/movieImgFolder/5d708f36-7481-424b-b33b-d8d14be7baf8_jpg", 85);
+INSERT INTO `still` (id, image, board_id) VALUES (85, "https://www.indieground.kr/movieImgFolder/51bea985-fc53-4f9f-a98c-454007feb36d_jpg", 85);
+INSERT INTO `still` (id, image, board_id) VALUES (86, "https://www.indieground.kr/movieImgFolder/38ca7a1e-27d3-48aa-81ed-e281c78b85ce_jpg", 85);
+INSERT INTO `still` (id, image, board_id) VALUES (87, "https://www.indieground.kr/movieImgFolder/25eeaf64-f28f-4187-b4e2-6437bde89693_jpg", 85);
+INSERT INTO `still` (id, image, board_id) VALUES (88, "https://www.indieground.kr/movieImgFolder/2fb06bbc-a20e-49e6-8f6f-e99077eba6a1_png", 86);
+INSERT INTO `still` (id, image, board_id) VALUES (89, "https://www.indieground.kr/movieImgFolder/c5f5f716-2ce9-4f7c-b3bc-640806e5af32_png", 86);
+INSERT INTO `still` (id, image, board_id) VALUES (90, "https://www.indieground.kr/movieImgFolder/e67b05bd-0555-4cf3-9255-f4512f75bd6a_png", 86);
+INSERT INTO `still` (id, image, board_id) VALUES (91, "https://www.indieground.kr/movieImgFolder/3001fc5b-7460-4cd6-92d7-9be40c8117d9_png", 86);
+INSERT INTO `still` (id, image, board_id) VALUES (92, "https://www.indieground.kr/movieImgFolder/95f4c267-c16b-4753-93df-27e6a0dc57f3_png", 86);
+INSERT INTO `still` (id, image, board_id) VALUES (93, "https://www.indieground.kr/movieImgFolder/6479e8f7-6796-4d27-8658-ee7638282394_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (94, "https://www.indieground.kr/movieImgFolder/2a5c5f51-9cd9-455e-ae17-97e64ad11738_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (95, "https://www.indieground.kr/movieImgFolder/f81f0f27-4ae9-47f4-8d88-07af53db7acc_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (96, "https://www.indieground.kr/movieImgFolder/b56a2666-e7e4-4246-aecd-5b06efa0f65e_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (97, "https://www.indieground.kr/movieImgFolder/394b0f91-8658-4bbd-beaf-7ced9eaa9094_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (98, "https://www.indieground.kr/movieImgFolder/01b302e8-7316-495a-8952-84541b363f61_jpg", 63);
+INSERT INTO `still` (id, image, board_id) VALUES (99, "https://i.ytimg.com/vi/78qw9yZ4woE/maxresdefault.jpg", 50);
+INSERT INTO `still` (id, image, board_id) VALUES (100, "https://i.ytimg.com/vi/78qw9yZ4woE/maxresdefault.jpg", 50);
+INSERT INTO `still` (id, image, board_id) VALUES (101, "https://user-images.githubusercontent.com/45745049/141710223-b1a2723d-416e-47bc-8171-b002f8335421.png", 51);
+INSERT INTO `still` (id, image, board_id) VALUES (102, "http://t1.daumcdn.net/movie/1ee86043f006ee203dd45f4d218739927ad6424b", 64);
+INSERT INTO `still` (id, image, board_id) VALUES (103, "http://t1.daumcdn.net/movie/c6561819476720c33f709e9dab6b97d32ee1be3d", 64);
+INSERT INTO `still` (id, image, board_id) VALUES (104, "http://t1.daumcdn.net/movie/2cd6077b3c853a2456986e5d21b2397bda317421", 64);
+INSERT INTO `still` (id, image, board_id) VALUES (105, "https://i.ytimg.com/vi/NXPsKHqkuEM/maxresdefault.jpg", 52);
+INSERT INTO `still` (id, image, board_id) VALUES (106, "https://cdn.indiepost.co.kr/uploads/images/2018/01/17/zicgSt-700x340.png", 52);
+INSERT INTO `still` (id, image, board_id) VALUES (107, "https://www.indieground.kr/movieImgFolder/57ee461e-81d0-4bf3-b4cd-d8966c05d519_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (108, "https://www.indieground.kr/movieImgFolder/cdc0e9b3-2e2b-4f05-a076-0cdedd139cb8_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (109, "https://www.indieground.kr/movieImgFolder/556a2f81-695c-4d86-ac53-78abe445fda3_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (110, "https://www.indieground.kr/movieImgFolder/fe4afa0e-ff27-4b57-b660-12b6f13fd9b2_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (111, "https://www.indieground.kr/movieImgFolder/ab1f123e-577c-4487-b502-56dfbe9fea0b_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (112, "https://www.indieground.kr/movieImgFolder/4611887e-ef17-45fd-9850-3095ca70d30f_jpg", 87);
+INSERT INTO `still` (id, image, board_id) VALUES (113, "https://nujhrcqkiwag1408085.cdn.ntruss.com/static/upload/movie_poster_images/movie_84191_1597020971.png", 65);
+INSERT INTO `still` (id, image, board_id) VALUES (114, "http://t1.daumcdn.net/movie/ab50f86b38118ca9c38f514502ed56cd9bc9a0b5", 53);
+INSERT INTO `still` (id, image, board_id) VALUES (115, "http://t1.daumcdn.net/movie/fdcceac2447bb453241d60affad1ebf16a39dbba", 53);
+INSERT INTO `still` (id, image, board_id) VALUES (116, "http://t1.daumcdn.net/cfile/1418A2345049F70319", 66);
+INSERT INTO `still` (id, image, board_id) VALUES (117, "http://t1.daumcdn.net/cfile/1718A2345049F7071B", 66);
+INSERT INTO `still` (id, image, board_id) VALUES (118, "http://t1.daumcdn.net/cfile/1818A2345049F70A1C", 66);
+INSERT INTO `still` (id, image, board_id) VALUES (119, "http://t1.daumcdn.net/cfile/1318A2345049F7041A", 66);
+INSERT INTO `still` (id, image, board_id) VALUES (120, "http://t1.daumcdn.net/movie/5cf324f04fe43e76a99d7ea3a8e3bac75ee6549b", 54);
+INSERT INTO `still` (id, image, board_id) VALUES (121, "http://t1.daumcdn.net/movie/91b824cbacc1d486130cbaa8749454f2b256fdea", 54);
+INSERT INTO `still` (id, image, board_id) VALUES (122, "http://t1.daumcdn.net/movie/9e7a1fab0b352cc336aa1553b57f8f4750c1ba77", 54);
+INSERT INTO `still` (id, image, board_id) VALUES (123, "http://t1.daumcdn.net/movie/e9cbf9937661455198eef8f1745554951541473857691", 54);
+INSERT INTO `still` (id, image, board_id) VALUES (124, "http://t1.daumcdn.net/movie/ae07bbe473e3444abe14c36bebe7dc4c1541473857341", 54);
+INSERT INTO `still` (id, image, board_id) VALUES (125, "http://t1.daumcdn.net/movie/f9360ed32be545fa9593da54d669837b1560349740054", 67);
+INSERT INTO `still` (id, image, board_id) VALUES (126, "http://t1.daumcdn.net/movie/b2be1c2e8a744756abf9292dc59443d81560349739174", 67);
+INSERT INTO `still` (id, image, board_id) VALUES (127, "http://t1.daumcdn.net/movie/f6e7fc1ef3cf431c8160915f8cc65c841560349738869", 67);
+INSERT INTO `still` (id, image, board_id) VALUES (128, "http://t1.daumcdn.net/movie/32a856191f964981a1903ecb39b98c701560349738372", 67);
+INSERT INTO `still` (id, image, board_id) VALUES (129, "https://i.ytimg.com/vi/mB0FiOY1S3Q/hqdefault.jpg", 68);
+INSERT INTO `still` (id, image, board_id) VALUES (130, "https://t1.daumcdn.net/cafeattach/1IHuH/a7be0bc97ab2f2e7ef600ea1fb94e4c932f5d9f9", 68);
+INSERT INTO `still` (id, image, board_id) VALUES (131, "https://t1.daumcdn.net/cafeattach/1IHuH/42f39747a81d9b276595fdda74493ad0e273811a", 68);
+INSERT INTO `still` (id, image, board_id) VALUES (132, "https://www.indieground.kr/movieImgFolder/af88b954-120e-48e9-807e-afd4aa16e268_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (133, "https://www.indieground.kr/movieImgFolder/b548d09e-c6c4-4b93-8a1e-56777f8c46f7_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (134, "https://www.indieground.kr/movieImgFolder/ef5db5bc-ea0e-4018-b4d6-190410df9047_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (135, "https://www.indieground.kr/movieImgFolder/92f5e044-ecf7-451b-a4ac-f41d4fa0e44f_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (136, "https://www.indieground.kr/movieImgFolder/dd85ff22-677b-4ae3-ac35-42bf4b761033_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (137, "https://www.indieground.kr/movieImgFolder/0a7aaa8f-548a-4d7a-95ad-30d72f37e55e_jpg", 88);
+INSERT INTO `still` (id, image, board_id) VALUES (138, "https://www.indieground.kr/fileFolder/s001_01.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (139, "https://www.indieground.kr/fileFolder/s001_02.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (140, "https://www.indieground.kr/fileFolder/s001_03.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (141, "https://www.indieground.kr/fileFolder/s001_04.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (142, "https://www.indieground.kr/fileFolder/s001_05.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (143, "https://www.indieground.kr/fileFolder/s001_06.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (144, "https://www.indieground.kr/fileFolder/s001_07.jpg", 89);
+INSERT INTO `still` (id, image, board_id) VALUES (145, "http://t1.daumcdn.net/cfile/1864A23B50AB740F12", 69);
+INSERT INTO `still` (id, image, board_id) VALUES (146, "http://t1.daumcdn.net/cfile/20093D2E4C9070F014", 70);
+INSERT INTO `still` (id, image, board_id) VALUES (147, "http://t1.daumcdn.net/cfile/143694484E3933541B", 70);
+INSERT INTO `still` (id, image, board_id) VALUES (148, "http://t1.daumcdn.net/cfile/193694484E3933501A", 70);
+INSERT INTO `still` (id, image, board_id) VALUES (149, "http://t1.daumcdn.net/cfile/202C6D3C4DB7CC6D0C", 70);
+INSERT INTO `still` (id, image, board_id) VALUES (150, "https://www.indieground.kr/movieImgFolder/6a2c5a98-75e5-4beb-89b8-5cd817db3d46_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (151, "https://www.indieground.kr/movieImgFolder/0d08b80d-19fd-4f7d-9a04-9736e0960433_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (152, "https://www.indieground.kr/movieImgFolder/af5860cd-00ee-4bad-bf0a-679a415ce3bf_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (153, "https://www.indieground.kr/movieImgFolder/f69c716f-1b0f-47d1-ac3f-6d577414f40e_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (154, "https://www.indieground.kr/movieImgFolder/a10d8bbe-9cfa-45ee-b61e-83e79ad52b0f_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (155, "https://www.indieground.kr/movieImgFolder/c29e2902-a0d0-4490-9f8c-38534c58bb2c_jpg", 90);
+INSERT INTO `still` (id, image, board_id) VALUES (156, "https://www.indieground.kr/movieImgFolder/4164cd4f-1dd5-4212-a2c1-0b979a44722f_jpg", 91);
+INSERT INTO `still` (id, image, board_id) VALUES (157, "https://www.indieground.kr/movieImgFolder/1cdde80b-b7d8-4f11-9330-a646586a0b69_jpg", 91);
+INSERT INTO `still` (id, image, board_id) VALUES (158, "https://www.indieground.kr/movieImgFolder/deb016fc-3526-47e2-92d2-a760e2eb2316_jpg", 91);
+INSERT INTO `still` (id, image, board_id) VALUES (159, "https://www.indieground.kr/movieImgFolder/e4dd9f91-8b70-48a1-8eda-16c271629d81_jpg", 91);
+INSERT INTO `still` (id, image, board_id) VALUES (160, "https://t1.daumcdn.net/daumtop_chanel/op/20180116055326791", 71);
+INSERT INTO `still` (id, image, board_id) VALUES (161, "https://t1.daumcdn.net/daumtop_chanel/op/20180116055438539", 71);
+INSERT INTO `still` (id, image, board_id) VALUES (162, "https://www.indieground.kr/movieImgFolder/0e10d886-3d17-445d-ab89-ce32d808d207_jpg", 92);
+INSERT INTO `still` (id, image, board_id) VALUES (163, "https://www.indieground.kr/movieImgFolder/1b89cb97-ff21-4273-bc1b-5e037fca13fa_jpg", 92);
+INSERT INTO `still` (id, image, board_id) VALUES (164, "https://www.indieground.kr/movieImgFolder/e16379bc-9829-47ea-ac39-a073dcb50885_jpg", 92);
+INSERT INTO `still` (id, image, board_id) VALUES (165, "https://www.indieground.kr/movieImgFolder/f4697514-6fdb-49d4-961f-c1e362e5f925_jpg", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (166, "https://www.indieground.kr/movieImgFolder/233fb2ac-3033-4ce2-b704-58b3dedc59ed_jpg", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (167, "https://www.indieground.kr/movieImgFolder/782f9ba5-1cb5-4cab-ab49-06d3b58976f4_jpg", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (168, "https://www.indieground.kr/movieImgFolder/60e52125-3fc6-4709-be46-db9e1a41d590_jpg", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (169, "https://www.indieground.kr/movieImgFolder/619c3f0a-8add-4ccc-96ce-4e60aaaba4f6_jpg", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (170, "http://t1.daumcdn.net/movie/14fca7588cccd6a904435340f5dde6a215cf4cd5", 73);
+INSERT INTO `still` (id, image, board_id) VALUES (171, "http://t1.daumcdn.net/movie/50fda2a57194b1868a3626c5dfe53e62717e81d8", 73);
+INSERT INTO `still` (id, image, board_id) VALUES (172, "http://t1.daumcdn.net/movie/13fddb52a4fb2cf23f327b448a62b1ad4a40c31e", 73);
+INSERT INTO `still` (id, image, board_id) VALUES (173, "https://www.indieground.kr/movieImgFolder/4196aefb-18fb-4bbb-a296-2939efd16381_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (174, "https://www.indieground.kr/movieImgFolder/8bee12aa-5950-4737-8954-532039d8e189_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (175, "https://www.indieground.kr/movieImgFolder/61fad9c2-89ba-4902-b5f5-e6d4dfb9e68f_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (176, "https://www.indieground.kr/movieImgFolder/68fcbded-7cc8-4e18-82e4-2a8f5bc9432f_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (177, "https://www.indieground.kr/movieImgFolder/65f8e3ea-b5a7-42ac-a8c9-7f2652a133c4_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (178, "https://www.indieground.kr/movieImgFolder/dae50ad0-9ba7-4eec-90c8-6aa4af4cec3c_jpg", 93);
+INSERT INTO `still` (id, image, board_id) VALUES (179, "http://t1.daumcdn.net/movie/95087005e24c50c82a8b3621926929263f36fc1c", 74);
+INSERT INTO `still` (id, image, board_id) VALUES (180, "http://t1.daumcdn.net/movie/84cbe0e0ee544872a9a38b771f476891c2f848ee", 74);
+INSERT INTO `still` (id, image, board_id) VALUES (181, "http://t1.daumcdn.net/movie/148c6c170e52aa323671c14536a94d35453946a4", 74);
+INSERT INTO `still` (id, image, board_id) VALUES (182, "http://t1.daumcdn.net/movie/8eb68ab6f006b25f7e3d6f8b4903573291d78835", 74);
+INSERT INTO `still` (id, image, board_id) VALUES (183, "https://www.indieground.kr/fileFolder/s005_01.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (184, "https://www.indieground.kr/fileFolder/s005_02.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (185, "https://www.indieground.kr/fileFolder/s005_03.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (186, "https://www.indieground.kr/fileFolder/s005_04.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (187, "https://www.indieground.kr/fileFolder/s005_05.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (188, "https://www.indieground.kr/fileFolder/s005_06.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (189, "https://www.indieground.kr/fileFolder/s005_07.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (190, "https://www.indieground.kr/fileFolder/s005_08.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (191, "https://www.indieground.kr/fileFolder/s005_09.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (192, "https://www.indieground.kr/fileFolder/s005_10.jpg", 94);
+INSERT INTO `still` (id, image, board_id) VALUES (193, "https://www.indieground.kr/fileFolder/s005_11.jpg", 94);
 <<<<<<< HEAD
 =======
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/_dApFdx_psg/hq720.jpg?sqp=-oaymwEcCOgCEMoBSFXyq4qpAw4IARUAAIhCGAFwAcABBg==&rs=AOn4CLDlgs_qUfenghs2bk3mvCVEczdieg", 37);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/zrsUszuLZ0I/maxresdefault.jpg", 39);
-INSERT INTO `still` (image, board_id) VALUES ("https://an2-img.amz.wtchn.net/image/v2/12f5638c95ab97e31a0422a5fdb96828.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPakV3T0RBc0luQmhkR2dpT2lJdmRqSXZjM1J2Y21VdmFXMWhaMlV2TVRZeE5UZ3pOak15T1RRek1qVTBNVEEwTmlJc0luRjFZV3hwZEhraU9qZ3dMQ0ozYVdSMGFDSTZNVGt5TUgwLnAyeFVaWF95NEl5MnlrWkdQTFBjcWhPSjhVckZsWHRBdW85RWRhTmVKOTg", 40);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.cinequest.org/sites/default/files/styles/1000x316/public/alternativemath_1000x316.jpg?itok=eR6dGBPt", 43);
-INSERT INTO `still` (image, board_id) VALUES ("https://3.bp.blogspot.com/-oB1Dg690Szw/WyTI5IRm81I/AAAAAAAA9R0/VY0dYzjBAX0vxPaTL89juGR2avsKWRJpgCLcBGAs/s1600/Alternative_Math_Short_Film_cover_Bored_Teachers_1024x1024.jpg", 43);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.awn.com/sites/default/files/styles/original/public/image/attached/1051082-thewrongrockheromation50-1280.jpg?itok=-hbW_rfr", 49);
-INSERT INTO `still` (image, board_id) VALUES ("https://user-images.githubusercontent.com/45745049/141714628-3593309a-17fe-418a-b42e-e783c9be2be0.png", 55);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/P2X93az89y8/original.jpg", 55);
-INSERT INTO `still` (image, board_id) VALUES ("https://www.purplay.co.kr/uploads/purplay/movie/280/b0.jpg", 56);
-INSERT INTO `still` (image, board_id) VALUES ("https://i.ytimg.com/vi/Guc4QrdHUKY/maxresdefault.jpg", 59);
-INSERT INTO `still` (image, board_id) VALUES ("https://t1.daumcdn.net/thumb/R720x0/?fname=http://t1.daumcdn.net/brunch/service/user/25s7/image/-2ccDxEKF-DozsDn-94wwYTDCK0.png", 59);
-INSERT INTO `still` (image, board_id) VALUES ("http://cdn.indiepost.co.kr/uploads/images/2017/02/4ylhjg-1093x531.jpeg", 59);
-INSERT INTO `still` (image, board_id) VALUES ("https://m.media-amazon.com/images/M/MV5BMTM5NDU2NDA1MF5BMl5BanBnXkFtZTgwMDM4MTUzMTE@._V1_.jpg", 60);
-INSERT INTO `still` (image, board_id) VALUES ("https://meganmclatchiea2mediastudies.files.wordpress.com/2014/10/1.jpg", 60);
-INSERT INTO `still` (image, board_id) VALUES ("https://search3.kakaocdn.net/argon/0x200_85_hr/KCUBSPpA9Mc", 61);
-INSERT INTO `still` (image, board_id) VALUES ("https://post-phinf.pstatic.net/MjAxNzAyMjdfMjY5/MDAxNDg4MTM0MTEzOTcw.OoZW9yuAZJTwE23NwkLAxSX3WT7PWBidm-KPo9uXHHAg.RlAroTBNgWS7lzgLG_u5VnrPQQhX29r6giL77xOq6pog.JPEG/%EC%96%BC%EC%9D%8C%EA%BD%83%282016%29_%EC%A0%80%EC%9A%A9%EB%9F%89__0000031313ms.jpg?type=w1200", 62);
-INSERT INTO `still` (image, board_id) VALUES ("http://ojsfile.ohmynews.com/CRI_T_IMG/2020/0613/A0002649804_T.jpg", 75);
-INSERT INTO `still` (image, board_id) VALUES ("http://t1.daumcdn.net/movie/ab26d1340337da6b13fff7bd624e8349538e51e8", 72);
+INSERT INTO `still` (id, image, board_id) VALUES (194, "https://i.ytimg.com/vi/_dApFdx_psg/hq720.jpg?sqp=-oaymwEcCOgCEMoBSFXyq4qpAw4IARUAAIhCGAFwAcABBg==&rs=AOn4CLDlgs_qUfenghs2bk3mvCVEczdieg", 37);
+INSERT INTO `still` (id, image, board_id) VALUES (195, "https://i.ytimg.com/vi/zrsUszuLZ0I/maxresdefault.jpg", 39);
+INSERT INTO `still` (id, image, board_id) VALUES (196, "https://an2-img.amz.wtchn.net/image/v2/12f5638c95ab97e31a0422a5fdb96828.jpg?jwt=ZXlKaGJHY2lPaUpJVXpJMU5pSjkuZXlKaVlXTnJaM0p2ZFc1a0lqcDdJbklpT2pJMU5Td2laeUk2TWpVMUxDSmlJam95TlRWOUxDSmpjbTl3SWpwMGNuVmxMQ0pvWldsbmFIUWlPakV3T0RBc0luQmhkR2dpT2lJdmRqSXZjM1J2Y21VdmFXMWhaMlV2TVRZeE5UZ3pOak15T1RRek1qVTBNVEEwTmlJc0luRjFZV3hwZEhraU9qZ3dMQ0ozYVdSMGFDSTZNVGt5TUgwLnAyeFVaWF95NEl5MnlrWkdQTFBjcWhPSjhVckZsWHRBdW85RWRhTmVKOTg", 40);
+INSERT INTO `still` (id, image, board_id) VALUES (197, "https://www.cinequest.org/sites/default/files/styles/1000x316/public/alternativemath_1000x316.jpg?itok=eR6dGBPt", 43);
+INSERT INTO `still` (id, image, board_id) VALUES (198, "https://3.bp.blogspot.com/-oB1Dg690Szw/WyTI5IRm81I/AAAAAAAA9R0/VY0dYzjBAX0vxPaTL89juGR2avsKWRJpgCLcBGAs/s1600/Alternative_Math_Short_Film_cover_Bored_Teachers_1024x1024.jpg", 43);
+INSERT INTO `still` (id, image, board_id) VALUES (199, "https://www.awn.com/sites/default/files/styles/original/public/image/attached/1051082-thewrongrockheromation50-1280.jpg?itok=-hbW_rfr", 49);
+INSERT INTO `still` (id, image, board_id) VALUES (200, "https://user-images.githubusercontent.com/45745049/141714628-3593309a-17fe-418a-b42e-e783c9be2be0.png", 55);
+INSERT INTO `still` (id, image, board_id) VALUES (201, "https://i.ytimg.com/vi/P2X93az89y8/original.jpg", 55);
+INSERT INTO `still` (id, image, board_id) VALUES (202, "https://www.purplay.co.kr/uploads/purplay/movie/280/b0.jpg", 56);
+INSERT INTO `still` (id, image, board_id) VALUES (203, "https://i.ytimg.com/vi/Guc4QrdHUKY/maxresdefault.jpg", 59);
+INSERT INTO `still` (id, image, board_id) VALUES (204, "https://t1.daumcdn.net/thumb/R720x0/?fname=http://t1.daumcdn.net/brunch/service/user/25s7/image/-2ccDxEKF-DozsDn-94wwYTDCK0.png", 59);
+INSERT INTO `still` (id, image, board_id) VALUES (205, "http://cdn.indiepost.co.kr/uploads/images/2017/02/4ylhjg-1093x531.jpeg", 59);
+INSERT INTO `still` (id, image, board_id) VALUES (206, "https://m.media-amazon.com/images/M/MV5BMTM5NDU2NDA1MF5BMl5BanBnXkFtZTgwMDM4MTUzMTE@._V1_.jpg", 60);
+INSERT INTO `still` (id, image, board_id) VALUES (207, "https://meganmclatchiea2mediastudies.files.wordpress.com/2014/10/1.jpg", 60);
+INSERT INTO `still` (id, image, board_id) VALUES (208, "https://search3.kakaocdn.net/argon/0x200_85_hr/KCUBSPpA9Mc", 61);
+INSERT INTO `still` (id, image, board_id) VALUES (209, "https://post-phinf.pstatic.net/MjAxNzAyMjdfMjY5/MDAxNDg4MTM0MTEzOTcw.OoZW9yuAZJTwE23NwkLAxSX3WT7PWBidm-KPo9uXHHAg.RlAroTBNgWS7lzgLG_u5VnrPQQhX29r6giL77xOq6pog.JPEG/%EC%96%BC%EC%9D%8C%EA%BD%83%282016%29_%EC%A0%80%EC%9A%A9%EB%9F%89__0000031313ms.jpg?type=w1200", 62);
+INSERT INTO `still` (id, image, board_id) VALUES (210, "http://ojsfile.ohmynews.com/CRI_T_IMG/2020/0613/A0002649804_T.jpg", 75);
+INSERT INTO `still` (id, image, board_id) VALUES (211, "http://t1.daumcdn.net/movie/ab26d1340337da6b13fff7bd624e8349538e51e8", 72);
 >>>>>>> 85c8a2028124956c1fb8a08dd8b2e7e9faebe310
@@ -0,0 +1,76 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 나머지 행까지 전부 들어가는지, commitRows 마다 commit 되는지 H2 로 확인한다.
+class MultiRowInsertTest {
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:multi-row;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id BIGINT PRIMARY KEY, name VARCHAR(20), `like` INT)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try(Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void writesFullStatementsAndTail() throws SQLException {
+        try(MultiRowInsert insert = new MultiRowInsert(connection, "item", new String[] { "id", "name", "`like`" }, 100, 250)) {
+            for(long id = 1 ; id <= 1234 ; id++) insert.row(id, "이름 " + id, (int) (id % 7));
+            assertThat(insert.written()).isEqualTo(1200);
+        }
+
+        assertThat(count("SELECT COUNT(*) FROM item")).isEqualTo(1234);
+        assertThat(count("SELECT SUM(`like`) FROM item")).isEqualTo(sumOfLikes(1234));
+    }
+
+    @Test
+    void commitsEveryCommitRows() throws SQLException {
+        MultiRowInsert insert = new MultiRowInsert(connection, "item", new String[] { "id", "name", "`like`" }, 10, 30);
+        for(long id = 1 ; id <= 45 ; id++) insert.row(id, null, 0);
+
+        // 다른 connection 에서는 commit 된 30 행만 보인다.
+        try(Connection other = DriverManager.getConnection("jdbc:h2:mem:multi-row", "sa", "")) {
+            assertThat(count(other, "SELECT COUNT(*) FROM item")).isEqualTo(30);
+        }
+        insert.close();
+        assertThat(count("SELECT COUNT(*) FROM item")).isEqualTo(45);
+    }
+
+    private long count(String sql) throws SQLException {
+        return count(connection, sql);
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try(Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static long sumOfLikes(int rows) {
+        long sum = 0;
+        for(int id = 1 ; id <= rows ; id++) sum += id % 7;
+        return sum;
+    }
+}
@@ -0,0 +1,79 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedAppendLogTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysSegmentsInOrderAfterCrash() throws IOException {
+        SegmentedAppendLog log = new SegmentedAppendLog(dir, "test", false);
+        log.open(line -> {});
+        log.append("a");
+        log.rotate();
+        log.append("b");
+        log.append("c");
+        // close 하지 않고 다시 연다. (프로세스가 죽은 경우)
+
+        List<String> replayed = new ArrayList<>();
+        SegmentedAppendLog reopened = new SegmentedAppendLog(dir, "test", false);
+        reopened.open(replayed::add);
+        reopened.close();
+
+        assertThat(replayed).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void dropsTornLastLine() throws IOException {
+        SegmentedAppendLog log = new SegmentedAppendLog(dir, "test", false);
+        log.open(line -> {});
+        log.append("1,2,1,100");
+        log.close();
+
+        // 쓰다가 끊긴 줄
+        Path segment = Files.list(dir).findFirst().orElseThrow();
+        Files.write(segment, "3,4,1,1".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        List<String> replayed = new ArrayList<>();
+        SegmentedAppendLog reopened = new SegmentedAppendLog(dir, "test", false);
+        reopened.open(replayed::add);
+        // 이어서 쓰는 줄은 새 segment 에 가므로 잘린 줄과 붙지 않는다.
+        reopened.append("5,6,0,200");
+        reopened.close();
+
+        List<String> again = new ArrayList<>();
+        new SegmentedAppendLog(dir, "test", false).open(again::add);
+
+        assertThat(replayed).containsExactly("1,2,1,100");
+        assertThat(again).containsExactly("1,2,1,100", "5,6,0,200");
+    }
+
+    @Test
+    void deletingRotatedSegmentsKeepsLaterAppends() throws IOException {
+        SegmentedAppendLog log = new SegmentedAppendLog(dir, "test", false);
+        log.open(line -> {});
+        log.append("old");
+        List<Path> closed = log.rotate();
+        log.append("new");
+        log.delete(closed);
+        log.close();
+
+        List<String> replayed = new ArrayList<>();
+        new SegmentedAppendLog(dir, "test", false).open(replayed::add);
+
+        assertThat(closed).hasSize(1);
+        assertThat(replayed).containsExactly("new");
+    }
+}
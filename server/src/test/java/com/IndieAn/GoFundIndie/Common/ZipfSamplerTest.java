@@ -0,0 +1,32 @@
+package com.IndieAn.GoFundIndie.Common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZipfSamplerTest {
+
+    @Test
+    void skewsTowardsTopRanks() {
+        SplittableRandom random = new SplittableRandom(1);
+        ZipfSampler sampler = new ZipfSampler(1000, 1.0, random);
+        int[] hits = new int[1001];
+        for(int i = 0 ; i < 100_000 ; i++) hits[sampler.sample(random)]++;
+
+        // rank 1 의 기대 비율은 1 / H(1000) ≈ 13%, rank 1000 은 0.01%
+        assertThat(hits[sampler.idAt(0)]).isBetween(12_000, 15_000);
+        assertThat(hits[sampler.idAt(999)]).isLessThan(100);
+        assertThat(hits[0]).isZero();
+    }
+
+    @Test
+    void sameSeedSameSequence() {
+        ZipfSampler a = new ZipfSampler(500, 0.8, new SplittableRandom(7));
+        ZipfSampler b = new ZipfSampler(500, 0.8, new SplittableRandom(7));
+        SplittableRandom ra = new SplittableRandom(3), rb = new SplittableRandom(3);
+
+        for(int i = 0 ; i < 1000 ; i++) assertThat(a.sample(ra)).isEqualTo(b.sample(rb));
+    }
+}
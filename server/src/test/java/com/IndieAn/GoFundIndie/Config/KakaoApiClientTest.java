@@ -0,0 +1,173 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 HTTP 서버를 Kakao 대신 두고 timeout / circuit breaker / bulkhead 동작을 확인한다.
+class KakaoApiClientTest {
+    private static final int READ_TIMEOUT_MS = 200;
+
+    private HttpServer server;
+    private String host;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private KakaoApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> {
+            hits.incrementAndGet();
+            String form = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, 200, "{\"form\":\"" + form + "\",\"authorization\":\"" +
+                    exchange.getRequestHeaders().getFirst("Authorization") + "\"}");
+        });
+        server.createContext("/slow", exchange -> {
+            hits.incrementAndGet();
+            sleep(READ_TIMEOUT_MS * 3);
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/bad", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 400, "{\"code\":-780}");
+        });
+        server.createContext("/hold", exchange -> {
+            hits.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+        host = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        release.countDown();
+        if(client != null) client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void postsFormAndReadsJson() {
+        client = client(10);
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("total_amount", "5000");
+
+        EchoResponse response = client.post("/ok", "KakaoAK key", form, EchoResponse.class);
+
+        assertThat(response.getForm()).isEqualTo("total_amount=5000");
+        assertThat(response.getAuthorization()).isEqualTo("KakaoAK key");
+    }
+
+    @Test
+    void timeoutsOpenCircuitAndLaterCallsAreRejectedWithoutCalling() {
+        client = client(10);
+        for(int i = 0 ; i < 4 ; i++) {
+            assertThatThrownBy(() -> client.post("/slow", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class))
+                    .isInstanceOf(KakaoApiClient.UnavailableException.class);
+        }
+        assertThat(client.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int before = hits.get();
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.post("/ok", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class))
+                .isInstanceOf(KakaoApiClient.UnavailableException.class);
+        assertThat(hits.get()).isEqualTo(before);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(READ_TIMEOUT_MS);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        client = client(10);
+        for(int i = 0 ; i < 6 ; i++) {
+            assertThatThrownBy(() -> client.post("/bad", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+        assertThat(client.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void callsOverBulkheadLimitAreRejected() throws InterruptedException {
+        client = client(1);
+        Thread holder = new Thread(() -> client.post("/hold", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class));
+        holder.start();
+        while(hits.get() == 0) Thread.sleep(5);
+
+        assertThatThrownBy(() -> client.post("/ok", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class))
+                .isInstanceOf(KakaoApiClient.UnavailableException.class);
+
+        release.countDown();
+        holder.join();
+        assertThat(client.post("/ok", "KakaoAK key", new LinkedMultiValueMap<>(), EchoResponse.class)).isNotNull();
+    }
+
+    // /ok 가 받은 form 과 Authorization header 를 그대로 돌려준다.
+    public static class EchoResponse {
+        private String form;
+        private String authorization;
+
+        public String getForm() {
+            return form;
+        }
+
+        public void setForm(String form) {
+            this.form = form;
+        }
+
+        public String getAuthorization() {
+            return authorization;
+        }
+
+        public void setAuthorization(String authorization) {
+            this.authorization = authorization;
+        }
+    }
+
+    private KakaoApiClient client(int maxConcurrentCalls) {
+        // 창 4 개 중 절반이 실패하면 연다.
+        return new KakaoApiClient(new SimpleMeterRegistry(), host, 10, 500, READ_TIMEOUT_MS, 30000,
+                maxConcurrentCalls, 0, 50, 10000, 4, 10000);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
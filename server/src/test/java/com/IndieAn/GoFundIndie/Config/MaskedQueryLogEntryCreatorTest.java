@@ -0,0 +1,39 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MaskedQueryLogEntryCreatorTest {
+
+    @Test
+    void logsParameterTypesInsteadOfValues() throws NoSuchMethodException {
+        QueryInfo query = new QueryInfo("UPDATE user SET password = ?, id = ?, nickname = ? WHERE email = ?");
+        query.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[] { 1, "secret-password" }),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                        new Object[] { 2, 42L }),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                        new Object[] { 3, Types.VARCHAR }),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[] { 4, "someone@gofundindie.com" })));
+
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setStatementType(StatementType.PREPARED);
+
+        String entry = new MaskedQueryLogEntryCreator().getLogEntry(execInfo, List.of(query), false, false);
+
+        assertThat(entry).contains("UPDATE user SET password = ?")
+                .contains("String", "Long", "NULL")
+                .doesNotContain("secret-password", "42", "someone@gofundindie.com");
+    }
+}
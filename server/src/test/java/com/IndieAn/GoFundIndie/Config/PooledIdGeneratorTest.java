@@ -0,0 +1,102 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.Still;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary pool 보다 많은 요청이 동시에 insert 해도, id 블록을 받는 connection 은 isolated pool 에서 나오므로 멈추지 않는다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PooledIdGeneratorTest {
+    private static final String URL = "jdbc:h2:mem:pooled-id;DB_CLOSE_DELAY=-1";
+    private static final int THREADS = 8;
+    private static final int ROWS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestConfiguration
+    static class Pools {
+        @Bean
+        @Primary
+        DataSource dataSource() {
+            return new LazyConnectionDataSourceProxy(new RoutingDataSource(
+                    pool("primary"), pool("replica"), pool("isolated"), new ReplicaStickiness(0, 10)));
+        }
+
+        private static DataSource pool(String name) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(URL);
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(2);
+            dataSource.setConnectionTimeout(3000);
+            return dataSource;
+        }
+    }
+
+    @Test
+    void concurrentInsertsDoNotExhaustThePrimaryPool() throws Exception {
+        TransactionTemplate writeTx = new TransactionTemplate(transactionManager);
+        long boardId = writeTx.execute(status -> {
+            Board board = new Board();
+            board.setInfoCountry("TEMP");
+            entityManager.persist(board);
+            return board.getId();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for(int t = 0 ; t < THREADS ; t++) {
+                futures.add(executor.submit(() -> writeTx.executeWithoutResult(status -> {
+                    // 요청처럼 먼저 읽어서 connection 을 쥔 상태로 id 를 받는다.
+                    entityManager.createQuery("SELECT COUNT(s) FROM Still s", Long.class).getSingleResult();
+                    for(int i = 0 ; i < ROWS ; i++) {
+                        Still still = new Still();
+                        still.setImage("still/" + i + ".png");
+                        still.setBoardId(entityManager.getReference(Board.class, boardId));
+                        entityManager.persist(still);
+                    }
+                })));
+            }
+            for(Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long rows = entityManager.createQuery("SELECT COUNT(DISTINCT s.id) FROM Still s", Long.class).getSingleResult();
+        assertThat(rows).isEqualTo(THREADS * ROWS);
+    }
+}
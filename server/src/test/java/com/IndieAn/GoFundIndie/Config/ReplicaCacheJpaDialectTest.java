@@ -0,0 +1,127 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// replica 로 가는 readOnly transaction 은 2차 캐시에 올리지 않고, sticky / 쓰기 transaction 은 그대로 올린다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:replicacache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+@Import(ReplicaCacheJpaDialectTest.Dialect.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaCacheJpaDialectTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaStickiness stickiness;
+
+    private TransactionTemplate readOnlyTx;
+    private long boardId;
+
+    @TestConfiguration
+    static class Dialect {
+        @Bean
+        ReplicaStickiness replicaStickiness() {
+            return new ReplicaStickiness(60000, 10);
+        }
+
+        @Bean
+        JpaVendorAdapter jpaVendorAdapter(JpaProperties properties, ReplicaStickiness stickiness) {
+            return new DataSourceConfig().jpaVendorAdapter(properties, stickiness);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Board board = new Board();
+            board.setInfoCountry("TEMP");
+            currentEntityManager().persist(board);
+            boardId = board.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stickiness.end();
+    }
+
+    @Test
+    void replicaReadDoesNotPopulateSecondLevelCache() {
+        stickiness.begin("token-a");
+
+        readOnlyTx.executeWithoutResult(status -> assertThat(currentEntityManager().find(Board.class, boardId)).isNotNull());
+        assertThat(entityManagerFactory.getCache().contains(Board.class, boardId)).isFalse();
+    }
+
+    @Test
+    void stickyReadPopulatesSecondLevelCache() {
+        stickiness.begin("token-b");
+        stickiness.markWrite();
+
+        readOnlyTx.executeWithoutResult(status -> currentEntityManager().find(Board.class, boardId));
+        assertThat(entityManagerFactory.getCache().contains(Board.class, boardId)).isTrue();
+    }
+
+    @Test
+    void cacheModeIsRestoredForTheNextTransaction() {
+        stickiness.begin("token-c");
+
+        // OSIV 처럼 요청 동안 같은 EntityManager 를 쓴다.
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            CacheMode inside = readOnlyTx.execute(status -> entityManager.unwrap(Session.class).getCacheMode());
+            assertThat(inside).isEqualTo(CacheMode.GET);
+            assertThat(entityManager.unwrap(Session.class).getCacheMode()).isEqualTo(CacheMode.NORMAL);
+
+            // 같은 EntityManager 의 다음 쓰기 transaction 은 다시 캐시에 올린다.
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.find(Board.class, boardId));
+            assertThat(entityManagerFactory.getCache().contains(Board.class, boardId)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private EntityManager currentEntityManager() {
+        return ((EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory)).getEntityManager();
+    }
+}
@@ -0,0 +1,161 @@
+package com.IndieAn.GoFundIndie.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 두 개를 primary / replica 로 두고 transaction 종류에 따라 어느 쪽에서 읽는지 확인한다.
+class RoutingDataSourceTest {
+    private static final long STICKY_MS = 300;
+
+    private ReplicaStickiness stickiness;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate newTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+
+        stickiness = new ReplicaStickiness(STICKY_MS, 100);
+        dataSource = new LazyConnectionDataSourceProxy(new RoutingDataSource(primary, replica, node("isolated"), stickiness));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        newTx = new TransactionTemplate(transactionManager);
+        newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stickiness.end();
+    }
+
+    @Test
+    void readOnlyTransactionReadsReplica() {
+        stickiness.begin("token-a");
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+        assertThat(nodeName()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsAfterWriteStayOnPrimary() throws InterruptedException {
+        stickiness.begin("token-a");
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        // 다음 요청, 같은 클라이언트
+        stickiness.begin("token-a");
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        // 다른 클라이언트
+        stickiness.begin("token-b");
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        Thread.sleep(STICKY_MS * 2);
+        stickiness.begin("token-a");
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void wrappedTaskKeepsRequestState() throws InterruptedException {
+        stickiness.begin(null);
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET hits = hits + 1"));
+
+        String[] name = new String[1];
+        Thread worker = new Thread(stickiness.wrap(() -> name[0] = readOnlyNode()));
+        worker.start();
+        worker.join();
+
+        assertThat(name[0]).isEqualTo("primary");
+    }
+
+    @Test
+    void nestedConnectionUsesIsolatedPool() {
+        stickiness.begin("token-a");
+
+        String[] names = writeTx.execute(status -> new String[] {
+                nodeName(), RoutingDataSource.isolated(() -> newTx.execute(inner -> nodeName())), nodeName() });
+        assertThat(names).containsExactly("primary", "isolated", "primary");
+
+        // isolated(...) 밖에서는 다시 primary
+        assertThat(writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void unclosedConnectionDoesNotMoveThreadToIsolatedPool() throws SQLException {
+        stickiness.begin("token-a");
+
+        Connection leaked = dataSource.getConnection();
+        try {
+            leaked.createStatement().execute("SELECT 1");
+            assertThat(readOnlyNode()).isEqualTo("replica");
+            assertThat(writeNode()).isEqualTo("primary");
+        } finally {
+            leaked.close();
+        }
+    }
+
+    @Test
+    void isolatedWorkUsesIsolatedPool() {
+        stickiness.begin("token-a");
+
+        String[] names = writeTx.execute(status -> new String[] {
+                nodeName(), RoutingDataSource.isolated(this::nodeNameOnNewConnection) });
+        assertThat(names).containsExactly("primary", "isolated");
+    }
+
+    // hibernate isolated work 처럼 transaction 과 상관없이 connection 을 직접 가져온다.
+    private String nodeNameOnNewConnection() {
+        try(Connection connection = dataSource.getConnection();
+            ResultSet rs = connection.createStatement().executeQuery("SELECT name FROM node")) {
+            rs.next();
+            return rs.getString(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTx.execute(status -> nodeName());
+    }
+
+    private String writeNode() {
+        return writeTx.execute(status -> nodeName());
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), hits INT)");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
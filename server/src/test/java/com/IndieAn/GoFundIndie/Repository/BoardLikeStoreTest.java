@@ -0,0 +1,223 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Config.ReplicaStickiness;
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 찜 write-behind : 죽었다 살아난 뒤 log 재반영, flush 와 찜이 겹칠 때 마지막 상태가 DB 에 남는지 확인한다.
+// flush 바로 뒤의 찜이 flush 전 snapshot 으로 상태를 되돌리지 않는지, 깨진 log 줄이 시작을 막지 않는지도 확인한다.
+// board 카운터는 native UPDATE 라서 앱과 같은 소문자 H2 를 쓴다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:boardlike;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+@Import({CounterRepository.class, LikeMembershipRepository.class, BoardLikeStoreTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardLikeStoreTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CounterRepository counterRepository;
+
+    @Autowired
+    private LikeMembershipRepository likeMembershipRepository;
+
+    @TempDir
+    Path dir;
+
+    private long userId;
+    private long[] boardIds;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ReplicaStickiness replicaStickiness() {
+            return new ReplicaStickiness(0, 10);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        boardIds = new long[4];
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = new User();
+            user.setEmail("liker-" + System.nanoTime() + "@gofundindie.com");
+            user.setPassword("1111");
+            user.setNickname("liker");
+            entityManager.persist(user);
+            userId = user.getId();
+
+            for(int i = 0 ; i < boardIds.length ; i++) {
+                Board board = new Board();
+                board.setInfoCountry("TEMP");
+                entityManager.persist(board);
+                boardIds[i] = board.getId();
+            }
+        });
+    }
+
+    private BoardLikeStore open() throws IOException {
+        BoardLikeStore store = new BoardLikeStore(entityManager, counterRepository, likeMembershipRepository,
+                transactionManager, true, 2, dir.toAbsolutePath().toString(), false);
+        store.Open();
+        return store;
+    }
+
+    @Test
+    void replaysUnflushedLikesAfterCrash() throws IOException {
+        BoardLikeStore crashed = open();
+        assertThat(crashed.Toggle(userId, boardIds[0])).isTrue();
+        assertThat(crashed.Toggle(userId, boardIds[1])).isTrue();
+        assertThat(crashed.Toggle(userId, boardIds[1])).isFalse();
+        assertThat(crashed.Toggle(userId, boardIds[2])).isTrue();
+        // Flush / Close 없이 버린다.
+
+        BoardLikeStore restarted = open();
+        assertThat(restarted.PendingLiked(userId, boardIds[0])).isTrue();
+        assertThat(restarted.PendingLiked(userId, boardIds[1])).isFalse();
+
+        restarted.Flush();
+        assertThat(likeRows(boardIds[0])).isEqualTo(1);
+        assertThat(likeRows(boardIds[1])).isZero();
+        assertThat(likeRows(boardIds[2])).isEqualTo(1);
+        assertThat(likeAmount(boardIds[0])).isEqualTo(1);
+
+        // 반영이 끝난 log 는 지워졌으므로 다시 열어도 남은 찜이 없다.
+        restarted.Close();
+        BoardLikeStore again = open();
+        assertThat(again.PendingLiked(userId, boardIds[0])).isNull();
+        again.Close();
+    }
+
+    @Test
+    void lastToggleWinsWhileFlushing() throws Exception {
+        BoardLikeStore store = open();
+        Map<Long, Boolean> last = new ConcurrentHashMap<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread flusher = new Thread(() -> {
+            while(running.get()) store.Flush();
+        });
+        flusher.start();
+
+        SplittableRandom random = new SplittableRandom(5);
+        for(int i = 0 ; i < 400 ; i++) {
+            long boardId = boardIds[random.nextInt(boardIds.length)];
+            last.put(boardId, store.Toggle(userId, boardId));
+        }
+        running.set(false);
+        flusher.join();
+        store.Flush();
+
+        for(long boardId : boardIds) {
+            boolean liked = last.getOrDefault(boardId, false);
+            assertThat(store.PendingLiked(userId, boardId)).isNull();
+            assertThat(likeRows(boardId)).isEqualTo(liked ? 1 : 0);
+            assertThat(likeAmount(boardId)).isEqualTo(liked ? 1 : 0);
+        }
+        store.Close();
+    }
+
+    @Test
+    void toggleAfterFlushReadsCommittedState() throws Exception {
+        BoardLikeStore store = open();
+        assertThat(store.Toggle(userId, boardIds[0])).isTrue();
+
+        // 찜을 취소하는 요청의 transaction 은 flush 가 commit 하기 전에 snapshot 을 잡았다.
+        TransactionTemplate request = new TransactionTemplate(transactionManager);
+        request.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Boolean liked = request.execute(status -> {
+            assertThat(likeRows(boardIds[0])).isZero();
+
+            Thread flusher = new Thread(store::Flush);
+            flusher.start();
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            assertThat(store.PendingLiked(userId, boardIds[0])).isNull();
+
+            return store.Toggle(userId, boardIds[0]);
+        });
+
+        assertThat(liked).isFalse();
+        store.Flush();
+        assertThat(likeRows(boardIds[0])).isZero();
+        assertThat(likeAmount(boardIds[0])).isZero();
+        store.Close();
+    }
+
+    @Test
+    void skipsCorruptLogLines() throws IOException {
+        BoardLikeStore crashed = open();
+        assertThat(crashed.Toggle(userId, boardIds[0])).isTrue();
+        assertThat(crashed.Toggle(userId, boardIds[1])).isTrue();
+
+        try(var logs = Files.list(dir)) {
+            Path segment = logs.filter(Files::isRegularFile).findFirst().orElseThrow();
+            Files.write(segment, "1x,2,1,3\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        }
+
+        BoardLikeStore restarted = open();
+        assertThat(restarted.PendingLiked(userId, boardIds[0])).isTrue();
+        assertThat(restarted.PendingLiked(userId, boardIds[1])).isTrue();
+        restarted.Close();
+    }
+
+    private long likeRows(long boardId) {
+        return entityManager.createQuery(
+                "SELECT COUNT(l) FROM BoardLike l WHERE l.userId.id = :userId AND l.boardId.id = :boardId", Long.class)
+                .setParameter("userId", userId)
+                .setParameter("boardId", boardId)
+                .getSingleResult();
+    }
+
+    private int likeAmount(long boardId) {
+        entityManager.clear();
+        return entityManager.find(Board.class, boardId).getLikeAmount();
+    }
+}
@@ -0,0 +1,81 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.Casting;
+import com.IndieAn.GoFundIndie.Resolvers.DTO.Casting.CreateCastingCompleteDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 mutation(transaction) 안에서 casting 을 만들고 / 고치고 / 지울 때 나가는 statement 수 비교
+// flush-each-operation=true (예전 방식) 과 commit 때 한 번 flush 하는 방식
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CastingRepository.class)
+class EntityManagerExtendBatchTest {
+    private static final int CASTINGS = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CastingRepository castingRepository;
+
+    @Test
+    void unitOfWorkSendsFewerStatementsPerMutation() {
+        long[] before = runMutation(true);
+        long[] after = runMutation(false);
+
+        assertThat(after[0]).isLessThan(before[0]);
+        assertThat(after[1]).isLessThan(before[1]);
+    }
+
+    // { prepared statement 수, flush 수 }
+    private long[] runMutation(boolean flushEachOperation) {
+        CastingRepository target = AopTestUtils.getTargetObject(castingRepository);
+        ReflectionTestUtils.setField(target, "flushEachOperation", flushEachOperation);
+
+        Board board = new Board();
+        board.setInfoCountry("TEMP");
+        entityManager.persist(board);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Casting> castings = new ArrayList<>();
+        for(int i = 0 ; i < CASTINGS ; i++) {
+            castings.add(castingRepository.findCastingById(castingRepository.RegisterTempCasting(board)));
+        }
+        for(int i = 0 ; i < CASTINGS ; i++) {
+            Casting casting = castings.get(i);
+            castingRepository.CompleteCasting(casting, new CreateCastingCompleteDTO(casting.getId(), "actor " + i, i));
+            castingRepository.updateCastingImage(casting, "casting/" + i + ".png");
+        }
+        for(int i = 0 ; i < CASTINGS ; i += 2) {
+            castingRepository.RemoveCasting(castings.get(i));
+        }
+
+        // transaction commit
+        entityManager.flush();
+        long[] result = { statistics.getPrepareStatementCount(), statistics.getFlushCount() };
+        entityManager.clear();
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Config.ReplicaStickiness;
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.BoardLike;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 찜 bitmap 은 요청의 transaction 밖에서 읽는다 : 요청의 예전 snapshot 이나 rollback 될 행이 캐시에 남지 않는지 확인한다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:likemembership;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+@Import({LikeMembershipRepository.class, LikeMembershipRepositoryTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeMembershipRepositoryTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LikeMembershipRepository likeMembershipRepository;
+
+    private long userId;
+    private long boardId;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ReplicaStickiness replicaStickiness() {
+            return new ReplicaStickiness(0, 10);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = new User();
+            user.setEmail("member-" + System.nanoTime() + "@gofundindie.com");
+            user.setPassword("1111");
+            user.setNickname("member");
+            entityManager.persist(user);
+            userId = user.getId();
+
+            Board board = new Board();
+            board.setInfoCountry("TEMP");
+            entityManager.persist(board);
+            boardId = board.getId();
+        });
+    }
+
+    @Test
+    void loadSeesCommitsAfterRequestSnapshot() {
+        TransactionTemplate request = new TransactionTemplate(transactionManager);
+        request.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        Boolean liked = request.execute(status -> {
+            // 요청의 snapshot 을 잡은 뒤 다른 유저 요청이 찜을 commit 한다. (캐시에 없으므로 afterCommit 은 아무것도 바꾸지 않는다)
+            entityManager.createQuery("SELECT COUNT(l) FROM BoardLike l", Long.class).getSingleResult();
+            Thread other = new Thread(this::like);
+            other.start();
+            try {
+                other.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return likeMembershipRepository.IsBoardLiked(userId, boardId);
+        });
+
+        assertThat(liked).isTrue();
+        assertThat(likeMembershipRepository.IsBoardLiked(userId, boardId)).isTrue();
+    }
+
+    @Test
+    void rolledBackLikeIsNotCached() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            persistLike();
+            entityManager.flush();
+            likeMembershipRepository.IsBoardLiked(userId, boardId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(likeMembershipRepository.IsBoardLiked(userId, boardId)).isFalse();
+    }
+
+    private void like() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            persistLike();
+            likeMembershipRepository.SetBoardLikedAfterCommit(userId, boardId, true);
+        });
+    }
+
+    private void persistLike() {
+        BoardLike like = new BoardLike();
+        like.setUserId(entityManager.getReference(User.class, userId));
+        like.setBoardId(entityManager.getReference(Board.class, boardId));
+        entityManager.persist(like);
+    }
+}
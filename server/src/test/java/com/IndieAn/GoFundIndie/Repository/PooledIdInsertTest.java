@@ -0,0 +1,60 @@
+package com.IndieAn.GoFundIndie.Repository;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.Still;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// pooled-lo id + JDBC batch : 1000 행마다 flush / clear 하는 bulk insert 가 batch 로 나가고 id 가 겹치지 않는지 확인한다.
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PooledIdInsertTest {
+    private static final int ROWS = 5_000;
+    private static final int CHUNK = 1000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void bulkInsertIsBatchedWithUniqueIds() {
+        Board board = new Board();
+        board.setInfoCountry("TEMP");
+        entityManager.persist(board);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for(int i = 0 ; i < ROWS ; i++) {
+            Still still = new Still();
+            still.setImage("still/" + i + ".png");
+            still.setBoardId(entityManager.getReference(Board.class, board.getId()));
+            entityManager.persist(still);
+
+            if((i + 1) % CHUNK == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // insert 는 batch 로 나가므로 statement 수가 행 수보다 훨씬 적다.
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+        assertThat(entityManager.createQuery("SELECT COUNT(DISTINCT s.id) FROM Still s", Long.class).getSingleResult())
+                .isEqualTo(ROWS);
+    }
+}
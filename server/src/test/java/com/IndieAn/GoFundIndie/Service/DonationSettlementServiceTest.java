@@ -0,0 +1,134 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.IndieAn.GoFundIndie.Domain.Entity.Board;
+import com.IndieAn.GoFundIndie.Domain.Entity.Comment;
+import com.IndieAn.GoFundIndie.Domain.Entity.DonationLedger;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import com.IndieAn.GoFundIndie.Repository.CounterRepository;
+import com.IndieAn.GoFundIndie.Repository.DonationLedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 결제 승인 때 쌓인 ledger 가 comment / user / board 후원 금액에 한 번씩만 반영되는지 확인한다.
+// board 카운터는 native UPDATE 라서 앱과 같은 소문자 H2 를 쓴다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:donation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=",
+        "gofundindie.donation.batch-size=2"
+})
+@Import({DonationLedgerRepository.class, CounterRepository.class, DonationSettlementService.class,
+        DonationSettlementServiceTest.Metrics.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DonationSettlementServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DonationLedgerRepository donationLedgerRepository;
+
+    @Autowired
+    private DonationSettlementService donationSettlementService;
+
+    private TransactionTemplate tx;
+    private long userId;
+    private long boardId;
+    private long commentId;
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            User user = new User();
+            user.setEmail("donor-" + System.nanoTime() + "@gofundindie.com");
+            user.setPassword("1111");
+            user.setNickname("donor");
+            entityManager.persist(user);
+
+            Board board = new Board();
+            board.setInfoCountry("TEMP");
+            entityManager.persist(board);
+
+            Comment comment = new Comment();
+            comment.setRating(8);
+            comment.setUserId(user);
+            comment.setBoardId(board);
+            entityManager.persist(comment);
+
+            userId = user.getId();
+            boardId = board.getId();
+            commentId = comment.getId();
+        });
+    }
+
+    @Test
+    void settlesEachApprovalOnce() {
+        String key = "T" + System.nanoTime();
+        assertThat(donationLedgerRepository.CreateDonation(key + "-1", commentId, userId, boardId, 1000)).isTrue();
+        assertThat(donationLedgerRepository.CreateDonation(key + "-2", commentId, userId, boardId, 5000)).isTrue();
+        // 같은 결제를 한 번 더 승인해도 기록되지 않는다.
+        assertThat(donationLedgerRepository.CreateDonation(key + "-2", commentId, userId, boardId, 5000)).isFalse();
+        // comment 없이 한 후원은 user / board 에만 반영된다.
+        assertThat(donationLedgerRepository.CreateDonation(key + "-3", null, userId, boardId, 3000)).isTrue();
+
+        // batch-size 2 : 두 batch 에 나눠 반영
+        assertThat(donationSettlementService.Settle()).isEqualTo(3);
+        assertThat(donationSettlementService.Settle()).isZero();
+        assertThat(donationLedgerRepository.CountPendingDonations()).isZero();
+
+        entityManager.clear();
+        assertThat(entityManager.find(Comment.class, commentId).getDonation()).isEqualTo(6000);
+        assertThat(entityManager.find(User.class, userId).getTotalDonation()).isEqualTo(9000);
+        assertThat(entityManager.find(Board.class, boardId).getDonationAmount()).isEqualTo(9000);
+    }
+
+    @Test
+    void rowsTakenByAnotherWorkerAreNotSettledAgain() {
+        donationSettlementService.Settle();
+        String key = "T" + System.nanoTime();
+        donationLedgerRepository.CreateDonation(key + "-1", commentId, userId, boardId, 1000);
+        donationLedgerRepository.CreateDonation(key + "-2", commentId, userId, boardId, 2000);
+        List<DonationLedger> pending = donationLedgerRepository.FindPendingDonations(10);
+        assertThat(pending).hasSize(2);
+
+        // 다른 인스턴스가 첫 행을 먼저 가져갔다.
+        donationLedgerRepository.ModifySettled(List.of(pending.get(0).getId()), new Date());
+        int taken = donationLedgerRepository.ModifySettled(
+                List.of(pending.get(0).getId(), pending.get(1).getId()), new Date());
+
+        assertThat(taken).isEqualTo(1);
+    }
+}
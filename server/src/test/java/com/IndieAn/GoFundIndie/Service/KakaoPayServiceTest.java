@@ -0,0 +1,213 @@
+package com.IndieAn.GoFundIndie.Service;
+
+import com.IndieAn.GoFundIndie.Config.KakaoApiClient;
+import com.IndieAn.GoFundIndie.Domain.DTO.KakaoPayApproveInputDTO;
+import com.IndieAn.GoFundIndie.Domain.Entity.DonationLedger;
+import com.IndieAn.GoFundIndie.Domain.Entity.PayRequest;
+import com.IndieAn.GoFundIndie.Domain.Entity.User;
+import com.IndieAn.GoFundIndie.Repository.DonationLedgerRepository;
+import com.IndieAn.GoFundIndie.Repository.PayRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 HTTP 서버를 Kakao 대신 두고, 승인 응답을 받지 못한 뒤 다시 승인할 때 결제가 한 번만 기록되는지 확인한다.
+// 같은 tid 의 승인이 동시에 commit 될 때와, 승인이 다른 결제 요청을 지우지 않는지도 확인한다.
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:kakaopay;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+@Import({PayRepository.class, DonationLedgerRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class KakaoPayServiceTest {
+    private static final String REDIRECT_URL = "https://mockup.kakaopay.com/redirect";
+
+    @Autowired
+    private PayRepository payRepository;
+
+    @Autowired
+    private DonationLedgerRepository donationLedgerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private HttpServer server;
+    private KakaoApiClient client;
+    private KakaoPayService kakaoPayService;
+
+    private final AtomicReference<String> approveResponse = new AtomicReference<>();
+    private final AtomicInteger approveStatus = new AtomicInteger(200);
+    private final AtomicReference<String> orderStatus = new AtomicReference<>("SUCCESS_PAYMENT");
+
+    private User user;
+    private String tid;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/payment/approve", exchange ->
+                respond(exchange, approveStatus.get(), approveResponse.get()));
+        server.createContext("/v1/payment/order", exchange ->
+                respond(exchange, 200, "{\"tid\":\"" + tid + "\",\"status\":\"" + orderStatus.get() + "\",\"amount\":{\"total\":5000}}"));
+        server.start();
+
+        client = new KakaoApiClient(new SimpleMeterRegistry(), "http://127.0.0.1:" + server.getAddress().getPort(),
+                10, 500, 500, 30000, 10, 0, 50, 10000, 4, 10000);
+        kakaoPayService = new KakaoPayService(payRepository, null, null, null, client, donationLedgerRepository,
+                transactionManager);
+        ReflectionTestUtils.setField(kakaoPayService, "KKO_ADMIN_KEY", "key");
+
+        user = new User();
+        user.setId(System.nanoTime());
+        user.setEmail("payer-" + user.getId() + "@gofundindie.com");
+        tid = "T" + user.getId();
+        payRepository.CreatePayRequest(user.getEmail(), tid, 5000, REDIRECT_URL);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void retryOfApprovedPaymentRecordsItOnce() {
+        // 첫 승인은 Kakao 에서 끝났지만 응답을 받지 못했다. 다시 승인하면 Kakao 는 4xx 로 답한다.
+        approveStatus.set(400);
+        approveResponse.set("{\"code\":-702,\"msg\":\"payment is already done!\"}");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(2000);
+
+        DonationLedger ledger = donationLedgerRepository.FindDonationByKey(tid);
+        assertThat(ledger).isNotNull();
+        assertThat(ledger.getAmount()).isEqualTo(5000);
+        assertThat(payRepository.FindPayRequestByEmail(user.getEmail())).isEmpty();
+    }
+
+    @Test
+    void rejectedApprovalIsClientError() {
+        approveStatus.set(400);
+        approveResponse.set("{\"code\":-780,\"msg\":\"invalid pg_token\"}");
+        orderStatus.set("FAIL_AUTH_PASSWORD");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(4018);
+
+        assertThat(donationLedgerRepository.FindDonationByKey(tid)).isNull();
+        assertThat(payRepository.FindPayRequestByEmail(user.getEmail())).hasSize(1);
+    }
+
+    @Test
+    void emptyApprovalKeepsPayRequest() {
+        approveResponse.set("{}");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(5003);
+
+        assertThat(donationLedgerRepository.FindDonationByKey(tid)).isNull();
+        assertThat(payRepository.FindPayRequestByEmail(user.getEmail())).hasSize(1);
+    }
+
+    @Test
+    void approvalRecordsDonation() {
+        approveResponse.set("{\"tid\":\"" + tid + "\",\"amount\":{\"total\":5000}}");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(2000);
+
+        assertThat(donationLedgerRepository.FindDonationByKey(tid)).isNotNull();
+        assertThat(payRepository.FindPayRequestByEmail(user.getEmail())).isEmpty();
+    }
+
+    @Test
+    void approvalKeepsOtherPayRequests() {
+        // 같은 유저가 다른 board 에 걸어둔 결제 요청은 승인과 상관없이 남는다.
+        String otherTid = "U" + user.getId();
+        payRepository.CreatePayRequest(user.getEmail(), otherTid, 3000, REDIRECT_URL + "/other");
+        approveResponse.set("{\"tid\":\"" + tid + "\",\"amount\":{\"total\":5000}}");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(2000);
+
+        assertThat(payRepository.FindPayRequestByEmail(user.getEmail()))
+                .extracting(PayRequest::getTid).containsExactly(otherTid);
+    }
+
+    @Test
+    void concurrentApprovalIsRecordedOnce() {
+        // 다른 승인이 기록이 없다는 확인과 commit 사이에 같은 tid 를 먼저 commit 한 경우
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                donationLedgerRepository.CreateDonation(tid, 2L, user.getId(), 1L, 5000));
+        DonationLedgerRepository racedLedger = new DonationLedgerRepository(entityManager) {
+            private boolean checked;
+
+            @Override
+            public DonationLedger FindDonationByKey(String idempotencyKey) {
+                if(checked) return super.FindDonationByKey(idempotencyKey);
+                checked = true;
+                return null;
+            }
+        };
+        kakaoPayService = new KakaoPayService(payRepository, null, null, null, client, racedLedger, transactionManager);
+        ReflectionTestUtils.setField(kakaoPayService, "KKO_ADMIN_KEY", "key");
+        approveResponse.set("{\"tid\":\"" + tid + "\",\"amount\":{\"total\":5000}}");
+
+        Map<String, Object> body = kakaoPayService.kakaoPayInfo(approveInput(), user, 1L, 2L);
+        assertThat(body.get("code")).isEqualTo(2000);
+
+        assertThat(entityManager.createQuery(
+                "SELECT COUNT(l) FROM DonationLedger l WHERE l.idempotencyKey = :key", Long.class)
+                .setParameter("key", tid)
+                .getSingleResult()).isEqualTo(1L);
+    }
+
+    private KakaoPayApproveInputDTO approveInput() {
+        KakaoPayApproveInputDTO input = new KakaoPayApproveInputDTO();
+        input.setPg_token("pg-token");
+        input.setBoardId(1L);
+        input.setNext_redirect_pc_url(REDIRECT_URL);
+        return input;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}